@@ -0,0 +1,96 @@
+package me.ryleykimmel.brandywine.common.rsa;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.RSAPrivateKeySpec;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how many login blocks a single thread can decrypt per second, with and without the CRT
+ * parameters of the private key. Run with {@code -t} set to the amount of login decryption threads
+ * to find the logins per second a server can sustain.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RsaDecryptorBenchmark {
+
+  /**
+   * The length of the modulus in bits.
+   */
+  @Param({"1024", "2048"})
+  public int bits;
+
+  /**
+   * Whether or not the CRT parameters of the private key are used.
+   */
+  @Param({"true", "false"})
+  public boolean crt;
+
+  /**
+   * The RsaDecryptor being measured.
+   */
+  private RsaDecryptor decryptor;
+
+  /**
+   * A ciphertext of a typical login block.
+   */
+  private BigInteger ciphertext;
+
+  /**
+   * Generates the key pair and encrypts a login block sized plaintext.
+   *
+   * @throws GeneralSecurityException If the key pair could not be generated.
+   */
+  @Setup
+  public void setup() throws GeneralSecurityException {
+    KeyPairGenerator generator = KeyPairGenerator.getInstance(RsaKeyGenerator.RSA);
+    generator.initialize(bits);
+    KeyPair pair = generator.generateKeyPair();
+
+    RSAPrivateCrtKey crtKey = (RSAPrivateCrtKey) pair.getPrivate();
+    RSAPrivateKey key = crt ? crtKey : (RSAPrivateKey) KeyFactory.getInstance(RsaKeyGenerator.RSA)
+        .generatePrivate(new RSAPrivateKeySpec(crtKey.getModulus(), crtKey.getPrivateExponent()));
+    decryptor = new RsaDecryptor(key);
+
+    byte[] plaintext = new byte[64];
+    new Random(317).nextBytes(plaintext);
+    plaintext[0] = 10;
+
+    RSAPublicKey publicKey = (RSAPublicKey) pair.getPublic();
+    ciphertext = new BigInteger(plaintext)
+        .modPow(publicKey.getPublicExponent(), publicKey.getModulus());
+  }
+
+  /**
+   * Decrypts a single login block.
+   *
+   * @return The plaintext, to defeat dead code elimination.
+   */
+  @Benchmark
+  public BigInteger decrypt() {
+    return decryptor.decrypt(ciphertext);
+  }
+
+}
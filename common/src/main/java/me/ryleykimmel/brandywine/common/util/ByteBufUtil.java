@@ -101,4 +101,61 @@ public final class ByteBufUtil {
     return new String(os.toByteArray());
   }
 
+  /**
+   * Writes the specified int as a variable-length quantity, seven bits per byte with the high bit
+   * set on every byte but the last. Values below {@code 128} take a single byte, negative values
+   * take five.
+   *
+   * @param buffer The ByteBuf to write to.
+   * @param value The value to write.
+   */
+  public static void writeVarInt(ByteBuf buffer, int value) {
+    while ((value & ~0x7F) != 0) {
+      buffer.writeByte(value & 0x7F | 0x80);
+      value >>>= 7;
+    }
+    buffer.writeByte(value);
+  }
+
+  /**
+   * Reads an int written by {@link #writeVarInt(ByteBuf, int)}.
+   *
+   * @param buffer The ByteBuf to read from.
+   * @return The value.
+   * @throws IllegalArgumentException If the value is longer than five bytes.
+   */
+  public static int readVarInt(ByteBuf buffer) {
+    int value = 0;
+    for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+      int read = buffer.readUnsignedByte();
+      value |= (read & 0x7F) << shift;
+      if ((read & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IllegalArgumentException("Variable-length int is longer than 5 bytes.");
+  }
+
+  /**
+   * Writes the specified int as a zig-zag encoded variable-length quantity, so values close to
+   * zero take a single byte whatever their sign.
+   *
+   * @param buffer The ByteBuf to write to.
+   * @param value The value to write.
+   */
+  public static void writeSignedVarInt(ByteBuf buffer, int value) {
+    writeVarInt(buffer, value << 1 ^ value >> 31);
+  }
+
+  /**
+   * Reads an int written by {@link #writeSignedVarInt(ByteBuf, int)}.
+   *
+   * @param buffer The ByteBuf to read from.
+   * @return The value.
+   */
+  public static int readSignedVarInt(ByteBuf buffer) {
+    int value = readVarInt(buffer);
+    return value >>> 1 ^ -(value & 1);
+  }
+
 }
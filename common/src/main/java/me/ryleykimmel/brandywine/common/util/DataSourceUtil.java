@@ -0,0 +1,70 @@
+package me.ryleykimmel.brandywine.common.util;
+
+import com.google.common.base.Preconditions;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import javax.sql.DataSource;
+
+/**
+ * A static-utility class containing helper/utility methods for {@link DataSource data sources}.
+ */
+public final class DataSourceUtil {
+
+  /**
+   * The prefix of JDBC urls served by the MySQL driver.
+   */
+  private static final String MYSQL_URL_PREFIX = "jdbc:mysql:";
+
+  /**
+   * The amount of prepared statements the MySQL driver caches per connection.
+   */
+  private static final int PREPARED_STATEMENT_CACHE_SIZE = 250;
+
+  /**
+   * The length of the longest SQL statement the MySQL driver will cache.
+   */
+  private static final int PREPARED_STATEMENT_CACHE_SQL_LIMIT = 2048;
+
+  /**
+   * Sole private constructor to discourage instantiation of this class.
+   */
+  private DataSourceUtil() {
+  }
+
+  /**
+   * Creates a pool of at most {@code poolSize} connections to the specified JDBC url.
+   * <p>
+   * MySQL connections keep their prepared statements cached on the server, so repeating a query
+   * on a pooled connection skips parsing and planning it again.
+   * </p>
+   *
+   * @param name The name of the pool, used for its threads and logging.
+   * @param url The JDBC url of the database.
+   * @param username The username to connect as.
+   * @param password The password to connect with.
+   * @param poolSize The maximum amount of pooled connections.
+   * @return The new pooled DataSource, never {@code null}. It should be closed once no longer used.
+   */
+  public static HikariDataSource createPooled(String name, String url, String username,
+      String password, int poolSize) {
+    Preconditions.checkNotNull(url, "Url may not be null.");
+    Preconditions.checkArgument(poolSize > 0, "Pool size must be positive.");
+
+    HikariConfig config = new HikariConfig();
+    config.setPoolName(name);
+    config.setJdbcUrl(url);
+    config.setUsername(username);
+    config.setPassword(password);
+    config.setMaximumPoolSize(poolSize);
+
+    if (url.startsWith(MYSQL_URL_PREFIX)) {
+      config.addDataSourceProperty("cachePrepStmts", true);
+      config.addDataSourceProperty("prepStmtCacheSize", PREPARED_STATEMENT_CACHE_SIZE);
+      config.addDataSourceProperty("prepStmtCacheSqlLimit", PREPARED_STATEMENT_CACHE_SQL_LIMIT);
+      config.addDataSourceProperty("useServerPrepStmts", true);
+    }
+
+    return new HikariDataSource(config);
+  }
+
+}
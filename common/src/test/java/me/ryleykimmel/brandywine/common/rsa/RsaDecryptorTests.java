@@ -0,0 +1,53 @@
+package me.ryleykimmel.brandywine.common.rsa;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.math.BigInteger;
+import java.security.KeyFactory;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.spec.RSAPrivateKeySpec;
+import java.util.Random;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Tests the {@link RsaDecryptor} class.
+ */
+@RunWith(JUnit4.class)
+public final class RsaDecryptorTests {
+
+  /**
+   * Tests that decrypting with the CRT form of a key matches exponentiating with the private
+   * exponent, for positive and negative signed ciphertexts alike.
+   *
+   * @throws Exception If the key could not be generated.
+   */
+  @Test
+  public void crtMatchesModPow() throws Exception {
+    KeyPairGenerator generator = KeyPairGenerator.getInstance(RsaKeyGenerator.RSA);
+    generator.initialize(1024);
+    RSAPrivateCrtKey crtKey = (RSAPrivateCrtKey) generator.generateKeyPair().getPrivate();
+    RSAPrivateKey plainKey = (RSAPrivateKey) KeyFactory.getInstance(RsaKeyGenerator.RSA)
+        .generatePrivate(new RSAPrivateKeySpec(crtKey.getModulus(), crtKey.getPrivateExponent()));
+
+    RsaDecryptor crt = new RsaDecryptor(crtKey);
+    RsaDecryptor plain = new RsaDecryptor(plainKey);
+    assertThat(crt.isCrt()).isTrue();
+    assertThat(plain.isCrt()).isFalse();
+
+    Random random = new Random(317);
+    for (int index = 0; index < 32; index++) {
+      byte[] ciphertext = new byte[64];
+      random.nextBytes(ciphertext);
+      assertThat(crt.decrypt(ciphertext)).isEqualTo(plain.decrypt(ciphertext));
+
+      BigInteger value = new BigInteger(ciphertext);
+      assertThat(crt.decrypt(value))
+          .isEqualTo(value.modPow(crtKey.getPrivateExponent(), crtKey.getModulus()));
+    }
+  }
+
+}
@@ -0,0 +1,154 @@
+package me.ryleykimmel.brandywine.game.persistence;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import me.ryleykimmel.brandywine.game.model.Position;
+import me.ryleykimmel.brandywine.game.model.skill.SkillUtil;
+import me.ryleykimmel.brandywine.game.persistence.impl.LogPlayerSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how long a {@link PlayerRecord} takes to encode and decode, and to save to and load
+ * from a {@link LogPlayerSerializer}. Saving forces the log to disk, so its time is dominated by
+ * the disk rather than the format.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerRecordCodecBenchmark {
+
+  /**
+   * The experience of every Skill of the record.
+   */
+  @Param({"0", "200000000"})
+  public double experience;
+
+  /**
+   * The record being measured.
+   */
+  private PlayerRecord record;
+
+  /**
+   * The ByteBuf records are encoded to.
+   */
+  private ByteBuf buffer;
+
+  /**
+   * The encoded record.
+   */
+  private ByteBuf encoded;
+
+  /**
+   * The directory holding the log.
+   */
+  private Path directory;
+
+  /**
+   * The LogPlayerSerializer being measured.
+   */
+  private LogPlayerSerializer serializer;
+
+  /**
+   * Creates the record and the log it is saved to.
+   *
+   * @throws IOException If the log could not be created.
+   */
+  @Setup
+  public void setup() throws IOException {
+    int[] skillIds = new int[21];
+    double[] skillExperience = new double[skillIds.length];
+    int[] currentLevels = new int[skillIds.length];
+    for (int id = 0; id < skillIds.length; id++) {
+      skillIds[id] = id;
+      skillExperience[id] = experience;
+      currentLevels[id] = SkillUtil.levelOf(experience);
+    }
+
+    record = new PlayerRecord("alice", new Position(3222, 3218).pack(), 0, 0,
+        new int[] {0, 10, 18, 26, 33, 36, 42, -1}, new int[] {7, 8, 9, 5, 0, 0, 0, 0}, skillIds,
+        skillExperience, currentLevels);
+
+    buffer = Unpooled.buffer(256);
+    encoded = Unpooled.buffer(256);
+    PlayerRecordCodec.encode(record, encoded);
+
+    directory = Files.createTempDirectory("players");
+    serializer = new LogPlayerSerializer(directory.resolve("players.log"));
+    serializer.save(record);
+  }
+
+  /**
+   * Closes and deletes the log.
+   *
+   * @throws IOException If the log could not be deleted.
+   */
+  @TearDown
+  public void tearDown() throws IOException {
+    serializer.close();
+    Files.deleteIfExists(directory.resolve("players.log"));
+    Files.deleteIfExists(directory);
+  }
+
+  /**
+   * Encodes the record.
+   *
+   * @return The ByteBuf holding the encoded record, to defeat dead code elimination.
+   */
+  @Benchmark
+  public ByteBuf encode() {
+    buffer.clear();
+    PlayerRecordCodec.encode(record, buffer);
+    return buffer;
+  }
+
+  /**
+   * Decodes the record.
+   *
+   * @return The decoded record, to defeat dead code elimination.
+   */
+  @Benchmark
+  public PlayerRecord decode() {
+    return PlayerRecordCodec.decode(encoded.duplicate());
+  }
+
+  /**
+   * Saves the record to the log, forcing it to disk.
+   *
+   * @throws IOException If the record could not be saved.
+   */
+  @Benchmark
+  public void save() throws IOException {
+    serializer.save(record);
+  }
+
+  /**
+   * Loads the record from the log.
+   *
+   * @return The loaded record, to defeat dead code elimination.
+   * @throws IOException If the record could not be loaded.
+   */
+  @Benchmark
+  public Optional<PlayerRecord> load() throws IOException {
+    return serializer.load("alice");
+  }
+
+}
@@ -1,10 +1,5 @@
 package me.ryleykimmel.brandywine;
 
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
-import me.ryleykimmel.brandywine.common.util.ThreadFactoryUtil;
-import me.ryleykimmel.brandywine.game.GamePulseHandler;
 import me.ryleykimmel.brandywine.game.model.World;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -30,11 +25,13 @@ public final class Server {
 
     try {
       world.registerService(server.gameService());
+      world.registerService(server.persistenceService());
       world.registerService(server.authenticationService());
+      world.registerService(server.loginThrottleService());
+      world.registerService(server.networkMemoryService());
+      world.registerService(server.messageStatisticsService());
 
-      GamePulseHandler pulseHandler = server.gamePulseHandler();
-      ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(ThreadFactoryUtil.create(pulseHandler).build());
-      executor.scheduleAtFixedRate(pulseHandler, GamePulseHandler.PULSE_DELAY, GamePulseHandler.PULSE_DELAY, TimeUnit.MILLISECONDS);
+      server.gameLoop().start();
 
       server.bootstrap()
           .bind(43594)
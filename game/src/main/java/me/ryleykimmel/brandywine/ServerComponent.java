@@ -3,12 +3,16 @@ package me.ryleykimmel.brandywine;
 import dagger.Component;
 import io.netty.bootstrap.ServerBootstrap;
 import javax.inject.Singleton;
-import me.ryleykimmel.brandywine.game.GamePulseHandler;
+import me.ryleykimmel.brandywine.game.GameLoop;
 import me.ryleykimmel.brandywine.game.GameService;
+import me.ryleykimmel.brandywine.game.MessageStatisticsService;
+import me.ryleykimmel.brandywine.game.NetworkMemoryService;
 import me.ryleykimmel.brandywine.game.auth.AuthenticationService;
 import me.ryleykimmel.brandywine.game.auth.AuthenticationStrategy;
+import me.ryleykimmel.brandywine.game.auth.LoginThrottleService;
 import me.ryleykimmel.brandywine.game.event.EventConsumerChainSet;
 import me.ryleykimmel.brandywine.game.model.World;
+import me.ryleykimmel.brandywine.game.persistence.PersistenceService;
 import me.ryleykimmel.brandywine.network.message.GameMessages;
 import me.ryleykimmel.brandywine.network.message.LoginMessages;
 import me.ryleykimmel.brandywine.network.message.MessageReceivedListener;
@@ -25,9 +29,13 @@ public interface ServerComponent {
 
   AuthenticationStrategy authenticationStrategy();
   AuthenticationService authenticationService();
+  LoginThrottleService loginThrottleService();
 
   GameService gameService();
-  GamePulseHandler gamePulseHandler();
+  PersistenceService persistenceService();
+  NetworkMemoryService networkMemoryService();
+  MessageStatisticsService messageStatisticsService();
+  GameLoop gameLoop();
 
   ServerBootstrap bootstrap();
   ServerChannelInitializer initializer();
@@ -3,25 +3,180 @@ package me.ryleykimmel.brandywine;
 import dagger.Module;
 import dagger.Provides;
 import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.WriteBufferWaterMark;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import javax.inject.Singleton;
+import javax.sql.DataSource;
+import me.ryleykimmel.brandywine.common.rsa.RsaDecryptor;
+import me.ryleykimmel.brandywine.common.rsa.RsaKeyPairSupplier;
+import me.ryleykimmel.brandywine.common.util.DataSourceUtil;
+import me.ryleykimmel.brandywine.common.util.ThreadFactoryUtil;
+import me.ryleykimmel.brandywine.game.GameLoop;
 import me.ryleykimmel.brandywine.game.GamePulseHandler;
 import me.ryleykimmel.brandywine.game.GameService;
+import me.ryleykimmel.brandywine.game.MessageStatisticsService;
+import me.ryleykimmel.brandywine.game.NetworkMemoryService;
 import me.ryleykimmel.brandywine.game.auth.AuthenticationService;
 import me.ryleykimmel.brandywine.game.auth.AuthenticationStrategy;
+import me.ryleykimmel.brandywine.game.auth.LoginDecrypter;
+import me.ryleykimmel.brandywine.game.auth.LoginThrottleService;
+import me.ryleykimmel.brandywine.game.auth.LoginThrottler;
+import me.ryleykimmel.brandywine.game.auth.impl.SqlAuthenticationStrategy;
+import me.ryleykimmel.brandywine.game.auth.impl.SqlLoginThrottleStore;
 import me.ryleykimmel.brandywine.game.event.EventConsumerChainSet;
 import me.ryleykimmel.brandywine.game.message.GameMessageRegistrar;
 import me.ryleykimmel.brandywine.game.message.LoginMessageRegistrar;
 import me.ryleykimmel.brandywine.game.model.World;
+import me.ryleykimmel.brandywine.game.persistence.PersistenceService;
+import me.ryleykimmel.brandywine.game.persistence.PlayerSerializer;
+import me.ryleykimmel.brandywine.game.persistence.impl.LogPlayerSerializer;
+import me.ryleykimmel.brandywine.game.persistence.impl.SqlPlayerSerializer;
+import me.ryleykimmel.brandywine.game.update.ParallelUpdater;
+import me.ryleykimmel.brandywine.game.update.SequentialUpdater;
+import me.ryleykimmel.brandywine.game.update.Updater;
+import me.ryleykimmel.brandywine.network.Transport;
+import me.ryleykimmel.brandywine.network.frame.FrameMetadataSet;
 import me.ryleykimmel.brandywine.network.message.GameMessages;
 import me.ryleykimmel.brandywine.network.message.LoginMessages;
 import me.ryleykimmel.brandywine.network.message.MessageRegistrar;
+import org.sql2o.Sql2o;
 
 @Module
 public final class ServerModule {
 
+  /**
+   * The system property which, when {@code true}, selects the {@link SequentialUpdater} instead of the {@link ParallelUpdater}.
+   */
+  private static final String SEQUENTIAL_UPDATER_PROPERTY = "brandywine.updater.sequential";
+
+  /**
+   * The system property naming the {@link Transport} to bootstrap with, the best available Transport is used if absent.
+   */
+  private static final String TRANSPORT_PROPERTY = "brandywine.network.transport";
+
+  /**
+   * The system property specifying the amount of threads accepting connections.
+   */
+  private static final String BOSS_THREADS_PROPERTY = "brandywine.network.bossThreads";
+
+  /**
+   * The system property specifying the amount of threads serving connections, {@code 0} for the Netty default.
+   */
+  private static final String WORKER_THREADS_PROPERTY = "brandywine.network.workerThreads";
+
+  /**
+   * The system property specifying the socket receive buffer size in bytes, {@code 0} for the platform default.
+   */
+  private static final String RECEIVE_BUFFER_PROPERTY = "brandywine.network.receiveBufferSize";
+
+  /**
+   * The system property specifying the socket send buffer size in bytes, {@code 0} for the platform default.
+   */
+  private static final String SEND_BUFFER_PROPERTY = "brandywine.network.sendBufferSize";
+
+  /**
+   * The system property specifying the pending outbound bytes below which a channel becomes writable again.
+   */
+  private static final String LOW_WATER_MARK_PROPERTY = "brandywine.network.writeBufferLowWaterMark";
+
+  /**
+   * The system property specifying the pending outbound bytes above which a channel becomes unwritable.
+   */
+  private static final String HIGH_WATER_MARK_PROPERTY = "brandywine.network.writeBufferHighWaterMark";
+
+  /**
+   * The system property specifying the milliseconds after which handling a message is logged as slow.
+   */
+  private static final String SLOW_HANDLER_PROPERTY = "brandywine.network.slowHandlerMillis";
+
+  /**
+   * The system property specifying the amount of threads decrypting login blocks.
+   */
+  private static final String LOGIN_DECRYPT_THREADS_PROPERTY = "brandywine.login.decryptThreads";
+
+  /**
+   * The system property specifying the maximum amount of login blocks waiting to be decrypted.
+   */
+  private static final String LOGIN_DECRYPT_QUEUE_PROPERTY = "brandywine.login.decryptQueueLimit";
+
+  /**
+   * The system property specifying the maximum amount of logins authenticated at once.
+   */
+  private static final String AUTH_CONCURRENCY_PROPERTY = "brandywine.auth.concurrency";
+
+  /**
+   * The system property specifying the maximum amount of logins waiting to be authenticated.
+   */
+  private static final String AUTH_QUEUE_PROPERTY = "brandywine.auth.queueLimit";
+
+  /**
+   * The system property which, when {@code false}, authenticates on platform threads even if virtual threads are supported.
+   */
+  private static final String AUTH_VIRTUAL_THREADS_PROPERTY = "brandywine.auth.virtualThreads";
+
+  /**
+   * The system property specifying the JDBC url of the login database, logins are not authenticated if absent.
+   */
+  private static final String SQL_URL_PROPERTY = "brandywine.sql.url";
+
+  /**
+   * The system property specifying the username to connect to the login database as.
+   */
+  private static final String SQL_USERNAME_PROPERTY = "brandywine.sql.username";
+
+  /**
+   * The system property specifying the password to connect to the login database with.
+   */
+  private static final String SQL_PASSWORD_PROPERTY = "brandywine.sql.password";
+
+  /**
+   * The system property specifying the maximum amount of pooled connections to the login database.
+   */
+  private static final String SQL_POOL_SIZE_PROPERTY = "brandywine.sql.poolSize";
+
+  /**
+   * The system property specifying the amount of failed logins within the window after which an address or username is throttled.
+   */
+  private static final String LOGIN_MAXIMUM_FAILURES_PROPERTY = "brandywine.login.maximumFailures";
+
+  /**
+   * The system property specifying the length of the login throttling window, in seconds.
+   */
+  private static final String LOGIN_FAILURE_WINDOW_PROPERTY = "brandywine.login.failureWindowSeconds";
+
+  /**
+   * The system property which, when {@code true}, persists failed logins to the login database so throttling survives a restart.
+   */
+  private static final String LOGIN_PERSIST_FAILURES_PROPERTY = "brandywine.login.persistFailures";
+
+  /**
+   * The system property specifying the log file players are saved to when there is no login database.
+   */
+  private static final String PERSISTENCE_FILE_PROPERTY = "brandywine.persistence.file";
+
+  /**
+   * The system property specifying the interval in which every online player is autosaved, in seconds, {@code 0} to disable.
+   */
+  private static final String AUTOSAVE_INTERVAL_PROPERTY = "brandywine.persistence.autosaveSeconds";
+
+  /**
+   * The system property specifying the maximum amount of missed game pulses run back to back to catch up, {@code 0} to skip them.
+   */
+  private static final String MAXIMUM_CATCH_UP_PROPERTY = "brandywine.loop.maximumCatchUpPulses";
+
+  /**
+   * The system property specifying the amount of threads pulsing Services outside of the game affinity group.
+   */
+  private static final String SERVICE_THREADS_PROPERTY = "brandywine.loop.serviceThreads";
+
   @Provides
   @Singleton
   EventConsumerChainSet providesEventConsumerChainSet() {
@@ -30,8 +185,14 @@ public final class ServerModule {
 
   @Provides
   @Singleton
-  World providesWorld(EventConsumerChainSet events) {
-    return new World(events);
+  Updater providesUpdater() {
+    return Boolean.getBoolean(SEQUENTIAL_UPDATER_PROPERTY) ? new SequentialUpdater() : new ParallelUpdater();
+  }
+
+  @Provides
+  @Singleton
+  World providesWorld(EventConsumerChainSet events, Updater updater) {
+    return new World(events, updater);
   }
 
   @Provides
@@ -44,20 +205,113 @@ public final class ServerModule {
   @Provides
   @Singleton
   @LoginMessages
-  MessageRegistrar providesLoginMessageRegistrar(World world) {
-    return new LoginMessageRegistrar(world);
+  MessageRegistrar providesLoginMessageRegistrar(World world, LoginDecrypter decrypter) {
+    return new LoginMessageRegistrar(world, decrypter);
+  }
+
+  @Provides
+  @Singleton
+  LoginDecrypter providesLoginDecrypter() {
+    RsaDecryptor decryptor = new RsaDecryptor(RsaKeyPairSupplier.create().getPrivateKey());
+    int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    return new LoginDecrypter(decryptor, Integer.getInteger(LOGIN_DECRYPT_THREADS_PROPERTY, threads),
+        Integer.getInteger(LOGIN_DECRYPT_QUEUE_PROPERTY, 512));
   }
 
   @Provides
   @Singleton
-  AuthenticationStrategy providesAuthenticationStrategy() {
-    return AuthenticationService.DEFAULT_STRATEGY;
+  @GameMessages
+  FrameMetadataSet providesGameFrameMetadataSet(@GameMessages MessageRegistrar registrar) {
+    return buildFrameMetadataSet(registrar, "game");
+  }
+
+  @Provides
+  @Singleton
+  @LoginMessages
+  FrameMetadataSet providesLoginFrameMetadataSet(@LoginMessages MessageRegistrar registrar) {
+    return buildFrameMetadataSet(registrar, "login");
+  }
+
+  /**
+   * Builds the FrameMetadataSet of the specified registrar and exposes its statistics through JMX.
+   *
+   * @param registrar The MessageRegistrar to build.
+   * @param name The name of the FrameMetadataSet's statistics.
+   * @return The built FrameMetadataSet.
+   */
+  private static FrameMetadataSet buildFrameMetadataSet(MessageRegistrar registrar, String name) {
+    FrameMetadataSet metadata = registrar.build();
+    metadata.getStatistics().setSlowHandlerThreshold(Integer.getInteger(SLOW_HANDLER_PROPERTY, 10), TimeUnit.MILLISECONDS);
+    metadata.getStatistics().register(name);
+    return metadata;
+  }
+
+  @Provides
+  @Singleton
+  Optional<Sql2o> providesSql2o() {
+    String url = System.getProperty(SQL_URL_PROPERTY);
+    if (url == null) {
+      return Optional.empty();
+    }
+
+    // Every authenticating thread may hold a connection, so size the pool to match by default.
+    int poolSize = Integer.getInteger(SQL_POOL_SIZE_PROPERTY, Integer.getInteger(AUTH_CONCURRENCY_PROPERTY, 16));
+    DataSource dataSource = DataSourceUtil.createPooled("login-sql", url,
+        System.getProperty(SQL_USERNAME_PROPERTY), System.getProperty(SQL_PASSWORD_PROPERTY), poolSize);
+    return Optional.of(new Sql2o(dataSource));
+  }
+
+  @Provides
+  @Singleton
+  LoginThrottler providesLoginThrottler() {
+    return new LoginThrottler(Integer.getInteger(LOGIN_MAXIMUM_FAILURES_PROPERTY, 5),
+        TimeUnit.SECONDS.toMillis(Integer.getInteger(LOGIN_FAILURE_WINDOW_PROPERTY, 60)));
+  }
+
+  @Provides
+  @Singleton
+  LoginThrottleService providesLoginThrottleService(LoginThrottler throttler, Optional<Sql2o> sql2o) {
+    if (sql2o.isPresent() && Boolean.getBoolean(LOGIN_PERSIST_FAILURES_PROPERTY)) {
+      return new LoginThrottleService(throttler, new SqlLoginThrottleStore(sql2o.get()));
+    }
+    return new LoginThrottleService(throttler);
+  }
+
+  @Provides
+  @Singleton
+  AuthenticationStrategy providesAuthenticationStrategy(Optional<Sql2o> sql2o, LoginThrottler throttler) {
+    return sql2o.<AuthenticationStrategy>map(value -> new SqlAuthenticationStrategy(value, throttler))
+        .orElse(AuthenticationService.DEFAULT_STRATEGY);
   }
 
   @Provides
   @Singleton
   AuthenticationService providesAuthenticationService(GameService gameService, AuthenticationStrategy strategy) {
-    return new AuthenticationService(gameService, strategy);
+    return new AuthenticationService(gameService, strategy,
+        Integer.getInteger(AUTH_CONCURRENCY_PROPERTY, 16),
+        Integer.getInteger(AUTH_QUEUE_PROPERTY, 1024),
+        Boolean.parseBoolean(System.getProperty(AUTH_VIRTUAL_THREADS_PROPERTY, "true")));
+  }
+
+  @Provides
+  @Singleton
+  PlayerSerializer providesPlayerSerializer(Optional<Sql2o> sql2o) {
+    if (sql2o.isPresent()) {
+      return new SqlPlayerSerializer(sql2o.get());
+    }
+
+    try {
+      return new LogPlayerSerializer(Paths.get(System.getProperty(PERSISTENCE_FILE_PROPERTY, "data/players.log")));
+    } catch (IOException cause) {
+      throw new UncheckedIOException(cause);
+    }
+  }
+
+  @Provides
+  @Singleton
+  PersistenceService providesPersistenceService(World world, PlayerSerializer serializer) {
+    return new PersistenceService(world, serializer,
+        TimeUnit.SECONDS.toMillis(Integer.getInteger(AUTOSAVE_INTERVAL_PROPERTY, 300)));
   }
 
   @Provides
@@ -66,30 +320,79 @@ public final class ServerModule {
     return new GameService(world);
   }
 
+  @Provides
+  @Singleton
+  NetworkMemoryService providesNetworkMemoryService(World world) {
+    return new NetworkMemoryService(world);
+  }
+
+  @Provides
+  @Singleton
+  MessageStatisticsService providesMessageStatisticsService(@GameMessages FrameMetadataSet metadata) {
+    return new MessageStatisticsService(metadata);
+  }
+
   @Provides
   @Singleton
   GamePulseHandler providesGamePulseHandler(World world) {
-    return new GamePulseHandler(world.getServices());
+    return new GamePulseHandler(world.getServices(), Executors.newFixedThreadPool(Integer.getInteger(SERVICE_THREADS_PROPERTY, 2),
+        ThreadFactoryUtil.create("service").setDaemon(true).build()));
+  }
+
+  @Provides
+  @Singleton
+  GameLoop providesGameLoop(GamePulseHandler handler) {
+    GameLoop loop = new GameLoop(handler, GamePulseHandler.PULSE_DELAY, Integer.getInteger(MAXIMUM_CATCH_UP_PROPERTY, 5));
+    loop.register();
+    return loop;
   }
 
   @Provides
   @Singleton
   ServerChannelInitializer providesChannelInitializer(
-      @LoginMessages MessageRegistrar loginMessageRegistrar,
-      @GameMessages MessageRegistrar gameMessageRegistrar) {
-    return new ServerChannelInitializer(gameMessageRegistrar.build(), loginMessageRegistrar.build());
+      @LoginMessages FrameMetadataSet loginFrameMetadataSet,
+      @GameMessages FrameMetadataSet gameFrameMetadataSet) {
+    return new ServerChannelInitializer(gameFrameMetadataSet, loginFrameMetadataSet);
+  }
+
+  @Provides
+  @Singleton
+  Transport providesTransport() {
+    return Transport.select(System.getProperty(TRANSPORT_PROPERTY));
   }
 
   @Provides
   @Singleton
-  ServerBootstrap providesBootstrap(ServerChannelInitializer initializer) {
-    EventLoopGroup parentGroup = new NioEventLoopGroup();
-    EventLoopGroup childGroup = new NioEventLoopGroup();
+  ServerBootstrap providesBootstrap(Transport transport, ServerChannelInitializer initializer) {
+    EventLoopGroup parentGroup = transport.newEventLoopGroup(Integer.getInteger(BOSS_THREADS_PROPERTY, 1), "network-boss");
+    EventLoopGroup childGroup = transport.newEventLoopGroup(Integer.getInteger(WORKER_THREADS_PROPERTY, 0), "network-worker");
+
+    WriteBufferWaterMark waterMark = new WriteBufferWaterMark(
+        Integer.getInteger(LOW_WATER_MARK_PROPERTY, 32 * 1024),
+        Integer.getInteger(HIGH_WATER_MARK_PROPERTY, 64 * 1024));
 
-    return new ServerBootstrap()
-        .channel(NioServerSocketChannel.class)
+    ServerBootstrap bootstrap = new ServerBootstrap()
+        .channel(transport.getServerChannelClass())
         .group(parentGroup, childGroup)
+        .option(ChannelOption.SO_BACKLOG, 1024)
+        .option(ChannelOption.SO_REUSEADDR, true)
+        .childOption(ChannelOption.TCP_NODELAY, true)
+        .childOption(ChannelOption.SO_KEEPALIVE, true)
+        .childOption(ChannelOption.WRITE_BUFFER_WATER_MARK, waterMark)
+        .childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
         .childHandler(initializer);
+
+    int receiveBufferSize = Integer.getInteger(RECEIVE_BUFFER_PROPERTY, 0);
+    if (receiveBufferSize > 0) {
+      bootstrap.childOption(ChannelOption.SO_RCVBUF, receiveBufferSize);
+    }
+
+    int sendBufferSize = Integer.getInteger(SEND_BUFFER_PROPERTY, 0);
+    if (sendBufferSize > 0) {
+      bootstrap.childOption(ChannelOption.SO_SNDBUF, sendBufferSize);
+    }
+
+    return bootstrap;
   }
 
-}
\ No newline at end of file
+}
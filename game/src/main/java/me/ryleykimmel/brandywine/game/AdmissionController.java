@@ -0,0 +1,98 @@
+package me.ryleykimmel.brandywine.game;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * Sizes a batch of work, such as Player registrations, from the time left in a pulse.
+ * <p>
+ * The cost of a single admission is measured from every batch and smoothed, so the batch grows
+ * while admissions are cheap and shrinks as soon as they are not. A minimum amount is always
+ * admitted, so a queue is still drained when the pulse has no time to spare.
+ * </p>
+ */
+final class AdmissionController {
+
+  /**
+   * The amount of bits the difference between a sample and the estimate is shifted by when
+   * smoothing, weighting each sample by one eighth.
+   */
+  private static final int SMOOTHING_SHIFT = 3;
+
+  /**
+   * The minimum amount of admissions per batch.
+   */
+  private final int minimum;
+
+  /**
+   * The maximum amount of admissions per batch.
+   */
+  private final int maximum;
+
+  /**
+   * The estimated cost of a single admission, in nanoseconds.
+   */
+  private long cost;
+
+  /**
+   * Constructs a new {@link AdmissionController}.
+   *
+   * @param minimum The minimum amount of admissions per batch.
+   * @param maximum The maximum amount of admissions per batch.
+   * @param initialCost The estimated cost of a single admission before any has been measured, in
+   *     nanoseconds.
+   */
+  AdmissionController(int minimum, int maximum, long initialCost) {
+    Preconditions.checkArgument(minimum >= 0 && maximum >= minimum,
+        "Expected 0 <= minimum <= maximum.");
+    Preconditions.checkArgument(initialCost > 0, "Initial cost must be positive.");
+    this.minimum = minimum;
+    this.maximum = maximum;
+    this.cost = initialCost;
+  }
+
+  /**
+   * Gets the amount of admissions which fit in the specified time.
+   *
+   * @param remaining The time left in the pulse, in nanoseconds, which may be negative.
+   * @return The amount of admissions, between the minimum and the maximum inclusive.
+   */
+  int limit(long remaining) {
+    if (remaining <= 0) {
+      return minimum;
+    }
+    return (int) Math.max(minimum, Math.min(maximum, remaining / cost));
+  }
+
+  /**
+   * Records how long a batch took, updating the estimated cost of an admission.
+   *
+   * @param admitted The amount of admissions in the batch.
+   * @param elapsed The time the batch took, in nanoseconds.
+   */
+  void record(int admitted, long elapsed) {
+    if (admitted > 0) {
+      cost = smooth(cost, Math.max(1, elapsed / admitted));
+    }
+  }
+
+  /**
+   * Gets the estimated cost of a single admission.
+   *
+   * @return The estimated cost, in nanoseconds.
+   */
+  long getCost() {
+    return cost;
+  }
+
+  /**
+   * Smooths the specified sample into an estimate.
+   *
+   * @param estimate The current estimate.
+   * @param sample The sample.
+   * @return The new estimate.
+   */
+  static long smooth(long estimate, long sample) {
+    return estimate + (sample - estimate >> SMOOTHING_SHIFT);
+  }
+
+}
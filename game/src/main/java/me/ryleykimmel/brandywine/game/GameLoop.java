@@ -0,0 +1,257 @@
+package me.ryleykimmel.brandywine.game;
+
+import com.google.common.base.Preconditions;
+import io.netty.util.internal.StringUtil;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import me.ryleykimmel.brandywine.common.util.ThreadFactoryUtil;
+import me.ryleykimmel.brandywine.network.stats.LatencyHistogram;
+import me.ryleykimmel.brandywine.service.Service;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Runs the {@link GamePulseHandler} on a dedicated thread, once every pulse delay.
+ * <p>
+ * Pulses are scheduled on a fixed grid of {@link System#nanoTime()} deadlines from the first
+ * pulse, so lateness never accumulates into drift. A pulse which runs long delays the next, and
+ * pulses whose deadlines passed entirely are caught up by running them back to back, up to the
+ * catch-up limit. Any more are skipped, keeping the grid, so a limit of {@code 0} skips every
+ * missed pulse rather than catching up.
+ * </p>
+ * <p>
+ * Pulse durations, how late pulses start and how much long pulses overran are recorded into
+ * histograms, published through JMX along with the durations and budget overruns of every
+ * Service.
+ * </p>
+ */
+public final class GameLoop implements Runnable, GameLoopMXBean {
+
+  /**
+   * The Logger for this class.
+   */
+  private static final Logger logger = LogManager.getLogger(GameLoop.class);
+
+  /**
+   * The time each pulse took, in nanoseconds.
+   */
+  private final LatencyHistogram durations = new LatencyHistogram();
+
+  /**
+   * How late each pulse started, in nanoseconds.
+   */
+  private final LatencyHistogram jitter = new LatencyHistogram();
+
+  /**
+   * How much each pulse which took longer than the period overran it, in nanoseconds.
+   */
+  private final LatencyHistogram overruns = new LatencyHistogram();
+
+  /**
+   * The amount of pulses skipped because the loop fell too far behind.
+   */
+  private final LongAdder skippedPulses = new LongAdder();
+
+  /**
+   * The GamePulseHandler run every pulse.
+   */
+  private final GamePulseHandler handler;
+
+  /**
+   * The time between pulses, in nanoseconds.
+   */
+  private final long period;
+
+  /**
+   * The maximum amount of missed pulses run back to back to catch up.
+   */
+  private final int maximumCatchUp;
+
+  /**
+   * Whether or not this loop is running.
+   */
+  private volatile boolean running;
+
+  /**
+   * The thread running this loop, or {@code null} if it has not been started.
+   */
+  private volatile Thread thread;
+
+  /**
+   * Constructs a new {@link GameLoop}.
+   *
+   * @param handler The GamePulseHandler run every pulse.
+   * @param period The time between pulses, in milliseconds.
+   * @param maximumCatchUp The maximum amount of missed pulses run back to back to catch up, or
+   *     {@code 0} to skip every missed pulse.
+   */
+  public GameLoop(GamePulseHandler handler, long period, int maximumCatchUp) {
+    Preconditions.checkArgument(period > 0, "Period must be positive.");
+    Preconditions.checkArgument(maximumCatchUp >= 0, "Maximum catch up may not be negative.");
+    this.handler = Preconditions.checkNotNull(handler, "GamePulseHandler may not be null.");
+    this.period = TimeUnit.MILLISECONDS.toNanos(period);
+    this.maximumCatchUp = maximumCatchUp;
+  }
+
+  /**
+   * Starts this loop on a new thread.
+   */
+  public synchronized void start() {
+    Preconditions.checkState(thread == null, "Game loop has already been started.");
+    running = true;
+    thread = ThreadFactoryUtil.create(this).build().newThread(this);
+    thread.start();
+  }
+
+  /**
+   * Stops this loop once the current pulse, if any, completes.
+   */
+  public void stop() {
+    running = false;
+    Thread current = thread;
+    if (current != null) {
+      LockSupport.unpark(current);
+    }
+  }
+
+  /**
+   * Registers this loop with the platform MBeanServer.
+   */
+  public void register() {
+    try {
+      ManagementFactory.getPlatformMBeanServer().registerMBean(this,
+          new ObjectName("me.ryleykimmel.brandywine:type=GameLoop"));
+    } catch (JMException cause) {
+      logger.warn("Unable to register the game loop with JMX.", cause);
+    }
+  }
+
+  @Override
+  public void run() {
+    long deadline = System.nanoTime() + period;
+    while (running) {
+      long start = awaitDeadline(deadline);
+      if (!running) {
+        break;
+      }
+      jitter.record(start - deadline);
+
+      handler.run();
+
+      long end = System.nanoTime();
+      long duration = end - start;
+      durations.record(duration);
+      if (duration > period) {
+        overruns.record(duration - period);
+      }
+
+      deadline = nextDeadline(deadline, end);
+    }
+  }
+
+  /**
+   * Parks until the specified deadline, or until this loop is stopped.
+   *
+   * @param deadline The deadline, in {@link System#nanoTime()} nanoseconds.
+   * @return The time the park ended, in nanoseconds.
+   */
+  private long awaitDeadline(long deadline) {
+    long now;
+    while (running && (now = System.nanoTime()) - deadline < 0) {
+      LockSupport.parkNanos(this, deadline - now);
+    }
+    return System.nanoTime();
+  }
+
+  /**
+   * Gets the deadline of the pulse after the specified one, skipping any missed pulses beyond the
+   * catch-up limit.
+   *
+   * @param deadline The deadline of the pulse which just ran, in nanoseconds.
+   * @param now The time that pulse completed, in nanoseconds.
+   * @return The deadline of the next pulse, in nanoseconds.
+   */
+  long nextDeadline(long deadline, long now) {
+    long next = deadline + period;
+    long missed = (now - next) / period;
+    if (missed > maximumCatchUp) {
+      long skipped = missed - maximumCatchUp;
+      skippedPulses.add(skipped);
+      next += skipped * period;
+      logger.warn("Game loop fell {}ms behind, skipping {} pulses.",
+          TimeUnit.NANOSECONDS.toMillis(now - deadline - period), skipped);
+    }
+    return next;
+  }
+
+  @Override
+  public long getPulses() {
+    return durations.getCount();
+  }
+
+  @Override
+  public long getPulseDurationP99() {
+    return TimeUnit.NANOSECONDS.toMicros(durations.getPercentile(0.99));
+  }
+
+  @Override
+  public long getPulseDurationMax() {
+    return TimeUnit.NANOSECONDS.toMicros(durations.getMax());
+  }
+
+  @Override
+  public long getJitterP99() {
+    return TimeUnit.NANOSECONDS.toMicros(jitter.getPercentile(0.99));
+  }
+
+  @Override
+  public long getOverrunP99() {
+    return TimeUnit.NANOSECONDS.toMicros(overruns.getPercentile(0.99));
+  }
+
+  @Override
+  public long getOverruns() {
+    return overruns.getCount();
+  }
+
+  @Override
+  public long getSkippedPulses() {
+    return skippedPulses.sum();
+  }
+
+  @Override
+  public Map<String, Long> getServiceDurationP99() {
+    Map<String, Long> percentiles = new LinkedHashMap<>();
+    for (Service service : handler.getServices().getServices()) {
+      percentiles.put(StringUtil.simpleClassName(service),
+          TimeUnit.NANOSECONDS.toMicros(service.getDurations().getPercentile(0.99)));
+    }
+    return percentiles;
+  }
+
+  @Override
+  public Map<String, Long> getServiceBudgetOverruns() {
+    Map<String, Long> budgetOverruns = new LinkedHashMap<>();
+    for (Service service : handler.getServices().getServices()) {
+      budgetOverruns.put(StringUtil.simpleClassName(service), service.getBudgetOverruns());
+    }
+    return budgetOverruns;
+  }
+
+  @Override
+  public void reset() {
+    durations.reset();
+    jitter.reset();
+    overruns.reset();
+    for (Service service : handler.getServices().getServices()) {
+      service.getDurations().reset();
+    }
+  }
+
+}
@@ -0,0 +1,80 @@
+package me.ryleykimmel.brandywine.game;
+
+import java.util.Map;
+
+/**
+ * The JMX view of the {@link GameLoop}. Times are in microseconds.
+ */
+public interface GameLoopMXBean {
+
+  /**
+   * Gets the amount of game pulses run.
+   *
+   * @return The amount of pulses.
+   */
+  long getPulses();
+
+  /**
+   * Gets the 99th percentile of the time a game pulse took.
+   *
+   * @return The pulse duration percentile, in microseconds.
+   */
+  long getPulseDurationP99();
+
+  /**
+   * Gets the longest time a game pulse took.
+   *
+   * @return The maximum pulse duration, in microseconds.
+   */
+  long getPulseDurationMax();
+
+  /**
+   * Gets the 99th percentile of how late game pulses started.
+   *
+   * @return The jitter percentile, in microseconds.
+   */
+  long getJitterP99();
+
+  /**
+   * Gets the 99th percentile of how much game pulses which took longer than the pulse delay
+   * overran it.
+   *
+   * @return The overrun percentile, in microseconds.
+   */
+  long getOverrunP99();
+
+  /**
+   * Gets the amount of game pulses which took longer than the pulse delay.
+   *
+   * @return The amount of overruns.
+   */
+  long getOverruns();
+
+  /**
+   * Gets the amount of game pulses skipped because the loop fell too far behind.
+   *
+   * @return The amount of skipped pulses.
+   */
+  long getSkippedPulses();
+
+  /**
+   * Gets the 99th percentile of the time each Service took, keyed by Service name.
+   *
+   * @return The Service duration percentiles, in microseconds.
+   */
+  Map<String, Long> getServiceDurationP99();
+
+  /**
+   * Gets the amount of executions of each Service which exceeded its budget, keyed by Service
+   * name.
+   *
+   * @return The Service budget overruns.
+   */
+  Map<String, Long> getServiceBudgetOverruns();
+
+  /**
+   * Resets every histogram.
+   */
+  void reset();
+
+}
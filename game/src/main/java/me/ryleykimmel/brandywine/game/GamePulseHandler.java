@@ -1,12 +1,30 @@
 package me.ryleykimmel.brandywine.game;
 
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.Uninterruptibles;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import me.ryleykimmel.brandywine.service.Service;
 import me.ryleykimmel.brandywine.service.ServiceSet;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 /**
- * Pulses game functions at a fixed rate.
+ * Pulses every {@link Service} once per game pulse.
+ * <p>
+ * Services are pulsed by {@link Service#getAffinity() affinity group}, in registration order
+ * within each group. The {@link Service#GAME_AFFINITY game group} is pulsed on the calling thread
+ * while every other group is pulsed concurrently on the executor, and a pulse only completes once
+ * every group has, so no group is pulsed twice at once.
+ * </p>
  */
 public final class GamePulseHandler implements Runnable {
 
@@ -26,24 +44,103 @@ public final class GamePulseHandler implements Runnable {
   private final ServiceSet services;
 
   /**
-   * Constructs a new {@link GamePulseHandler}.
+   * The Executor which pulses every group other than the game group.
+   */
+  private final Executor executor;
+
+  /**
+   * The Services the groups were last built from, only accessed on the game thread.
+   */
+  private List<Service> groupedServices = ImmutableList.of();
+
+  /**
+   * The Services of the game group, only accessed on the game thread.
+   */
+  private List<Service> gameGroup = ImmutableList.of();
+
+  /**
+   * The Services of every other group, only accessed on the game thread.
+   */
+  private List<List<Service>> otherGroups = ImmutableList.of();
+
+  /**
+   * Constructs a new {@link GamePulseHandler} which pulses every group on the calling thread.
    *
    * @param services The mapping of Services.
    */
   public GamePulseHandler(ServiceSet services) {
-    this.services = services;
+    this(services, MoreExecutors.directExecutor());
+  }
+
+  /**
+   * Constructs a new {@link GamePulseHandler}.
+   *
+   * @param services The mapping of Services.
+   * @param executor The Executor which pulses every group other than the game group.
+   */
+  public GamePulseHandler(ServiceSet services, Executor executor) {
+    this.services = Preconditions.checkNotNull(services, "ServiceSet may not be null.");
+    this.executor = Preconditions.checkNotNull(executor, "Executor may not be null.");
   }
 
   @Override
   public void run() {
-    for (Service service : services.getServices()) {
+    List<Service> registered = services.getServices();
+    if (registered != groupedServices) {
+      group(registered);
+    }
+
+    CountDownLatch remaining = new CountDownLatch(otherGroups.size());
+    for (List<Service> group : otherGroups) {
+      Runnable task = () -> {
+        try {
+          pulse(group);
+        } finally {
+          remaining.countDown();
+        }
+      };
+
+      try {
+        executor.execute(task);
+      } catch (RejectedExecutionException cause) {
+        task.run();
+      }
+    }
+
+    pulse(gameGroup);
+    Uninterruptibles.awaitUninterruptibly(remaining);
+  }
+
+  /**
+   * Splits the specified Services into their affinity groups, keeping registration order.
+   *
+   * @param registered The registered Services.
+   */
+  private void group(List<Service> registered) {
+    Map<String, List<Service>> groups = new LinkedHashMap<>();
+    for (Service service : registered) {
+      groups.computeIfAbsent(service.getAffinity(), affinity -> new ArrayList<>()).add(service);
+    }
+
+    List<Service> game = groups.remove(Service.GAME_AFFINITY);
+    gameGroup = game == null ? ImmutableList.of() : ImmutableList.copyOf(game);
+    otherGroups = ImmutableList.copyOf(groups.values());
+    groupedServices = registered;
+  }
+
+  /**
+   * Pulses the specified group of Services, one after another.
+   *
+   * @param group The group of Services.
+   */
+  private static void pulse(List<Service> group) {
+    for (Service service : group) {
       try {
         long elapsed = service.pulse();
-        long diff = service.getInterval() - elapsed;
-        if (diff < 0) {
-          logger
-              .warn("{} is being overloaded by {}% total {}ms", service.toString(), Math.abs(diff),
-                  elapsed);
+        if (elapsed > service.getBudget()) {
+          logger.warn("{} overran its budget of {}ms, taking {}ms.", service,
+              TimeUnit.NANOSECONDS.toMillis(service.getBudget()),
+              TimeUnit.NANOSECONDS.toMillis(elapsed));
         }
       } catch (Exception cause) {
         logger.error("Error occurred while executing service.", cause);
@@ -51,4 +148,13 @@ public final class GamePulseHandler implements Runnable {
     }
   }
 
+  /**
+   * Gets the Services pulsed by this handler.
+   *
+   * @return The ServiceSet.
+   */
+  public ServiceSet getServices() {
+    return services;
+  }
+
 }
@@ -2,12 +2,20 @@ package me.ryleykimmel.brandywine.game;
 
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import me.ryleykimmel.brandywine.service.Service;
 import me.ryleykimmel.brandywine.game.model.World;
 import me.ryleykimmel.brandywine.game.model.player.Player;
+import me.ryleykimmel.brandywine.game.persistence.PersistenceService;
 
 /**
  * Services the game every pulse.
+ * <p>
+ * Players are registered and unregistered in batches sized by {@link AdmissionController}s from
+ * the time left in the pulse, after reserving the estimated time of the World pulse. Everything
+ * else a login needs is prepared by the authentication workers before a Player is queued.
+ * </p>
  */
 public final class GameService extends Service {
 
@@ -17,14 +25,45 @@ public final class GameService extends Service {
   private static final long PULSE_INTERVAL = 600L;
 
   /**
-   * The maximum amount of Players registered per pulse.
+   * The budget of a single execution, most of a game pulse, in milliseconds.
    */
-  private static final int REGISTERS_PER_PULSE = 10;
+  private static final long EXECUTION_BUDGET = GamePulseHandler.PULSE_DELAY * 3 / 4;
 
   /**
-   * The maximum amount of unregisters per pulse.
+   * The time registrations, unregistrations and the World pulse may take per pulse, half of a
+   * game pulse, in nanoseconds.
    */
-  private static final int UNREGISTERS_PER_PULSE = 10;
+  private static final long PULSE_BUDGET = TimeUnit.MILLISECONDS
+      .toNanos(GamePulseHandler.PULSE_DELAY) / 2;
+
+  /**
+   * The minimum amount of Players registered or unregistered per pulse.
+   */
+  private static final int MINIMUM_ADMISSIONS = 10;
+
+  /**
+   * The estimated cost of registering or unregistering a Player before any has been measured, in
+   * nanoseconds.
+   */
+  private static final long INITIAL_ADMISSION_COST = TimeUnit.MICROSECONDS.toNanos(100);
+
+  /**
+   * Sizes the batches of Players registered per pulse.
+   */
+  private final AdmissionController registrations = new AdmissionController(MINIMUM_ADMISSIONS,
+      World.MAXIMUM_PLAYERS, INITIAL_ADMISSION_COST);
+
+  /**
+   * Sizes the batches of Players unregistered per pulse.
+   */
+  private final AdmissionController unregistrations = new AdmissionController(MINIMUM_ADMISSIONS,
+      World.MAXIMUM_PLAYERS, INITIAL_ADMISSION_COST);
+
+  /**
+   * The amount of Players awaiting registration, as the size of a ConcurrentLinkedQueue is not a
+   * constant time operation.
+   */
+  private final AtomicInteger queuedPlayerCount = new AtomicInteger();
 
   /**
    * A {@link Queue} of Players awaiting registration.
@@ -41,13 +80,18 @@ public final class GameService extends Service {
    */
   private final World world;
 
+  /**
+   * The estimated time of a World pulse, in nanoseconds.
+   */
+  private long worldPulseTime;
+
   /**
    * Constructs a new {@link GameService}.
    *
    * @param world The game World.
    */
   public GameService(World world) {
-    super(PULSE_INTERVAL);
+    super(PULSE_INTERVAL, EXECUTION_BUDGET);
     this.world = world;
   }
 
@@ -58,7 +102,8 @@ public final class GameService extends Service {
    * @return {@code true} if and only if the Player can be registered otherwise {@code false}.
    */
   public boolean queuePlayer(Player player) {
-    if (queuedPlayers.size() + world.getPlayerCount() > World.MAXIMUM_PLAYERS) {
+    if (queuedPlayerCount.incrementAndGet() + world.getPlayerCount() > World.MAXIMUM_PLAYERS) {
+      queuedPlayerCount.decrementAndGet();
       return false;
     }
 
@@ -95,23 +140,35 @@ public final class GameService extends Service {
 
   @Override
   public void execute() {
-    for (int count = 0; count < UNREGISTERS_PER_PULSE; count++) {
+    long start = System.nanoTime();
+    long deadline = start + PULSE_BUDGET - worldPulseTime;
+
+    PersistenceService persistence = world.getService(PersistenceService.class);
+    int limit = unregistrations.limit(deadline - start);
+    int count = 0;
+    while (count < limit) {
       Player player = oldPlayers.poll();
       if (player == null) {
         break;
       }
 
-      // TODO: Serialize player, which should in turn call 'finalizePlayerRemoval(Player)'
-      // when serialization is complete.
-      // For now, we will just remove, forcefully.
-      finalizePlayerRemoval(player);
+      // The Player stays online until saved, so it cannot log in again before then.
+      persistence.save(player, () -> finalizePlayerRemoval(player));
+      count++;
     }
 
-    for (int count = 0; count < REGISTERS_PER_PULSE; count++) {
+    long registrationStart = System.nanoTime();
+    unregistrations.record(count, registrationStart - start);
+
+    limit = registrations.limit(deadline - registrationStart);
+    count = 0;
+    while (count < limit) {
       Player player = queuedPlayers.poll();
       if (player == null) {
         break;
       }
+      queuedPlayerCount.decrementAndGet();
+      count++;
 
       // Forward to IO service -- everything is verified and ready to go!
       if (!world.addPlayer(player)) {
@@ -122,8 +179,13 @@ public final class GameService extends Service {
       player.login();
     }
 
+    long worldPulseStart = System.nanoTime();
+    registrations.record(count, worldPulseStart - registrationStart);
+
     // Pulse the world
     world.pulse();
+    worldPulseTime = AdmissionController.smooth(worldPulseTime,
+        System.nanoTime() - worldPulseStart);
   }
 
   /**
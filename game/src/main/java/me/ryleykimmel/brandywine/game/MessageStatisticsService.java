@@ -0,0 +1,79 @@
+package me.ryleykimmel.brandywine.game;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+import me.ryleykimmel.brandywine.network.frame.FrameMetadataSet;
+import me.ryleykimmel.brandywine.network.stats.MessageMetric;
+import me.ryleykimmel.brandywine.network.stats.MessageStatistics;
+import me.ryleykimmel.brandywine.service.Service;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Periodically logs the game Messages which dominate bandwidth and handling time, from the
+ * {@link MessageStatistics} of the game FrameMetadataSet. The same statistics are available
+ * through JMX at any time.
+ */
+public final class MessageStatisticsService extends Service {
+
+  /**
+   * The interval in milliseconds between dumps.
+   */
+  private static final long DUMP_INTERVAL = 300_000L;
+
+  /**
+   * The affinity group of this Service, which only reads message statistics.
+   */
+  private static final String AFFINITY = "statistics";
+
+  /**
+   * The amount of metrics logged of each kind.
+   */
+  private static final int TOP_METRICS = 5;
+
+  /**
+   * The Logger for this class.
+   */
+  private static final Logger logger = LogManager.getLogger(MessageStatisticsService.class);
+
+  /**
+   * The MessageStatistics which are dumped.
+   */
+  private final MessageStatistics statistics;
+
+  /**
+   * Constructs a new {@link MessageStatisticsService}.
+   *
+   * @param metadata The FrameMetadataSet whose statistics are dumped.
+   */
+  public MessageStatisticsService(FrameMetadataSet metadata) {
+    super(DUMP_INTERVAL, DEFAULT_BUDGET, AFFINITY);
+    this.statistics = metadata.getStatistics();
+  }
+
+  @Override
+  public void execute() {
+    logger.info("Most decoded bytes: {}", top(statistics.getDecoded(), MessageMetric::getBytes));
+    logger.info("Most encoded bytes: {}", top(statistics.getEncoded(), MessageMetric::getBytes));
+    logger.info("Most handling time: {}, slow handled: {}",
+        top(statistics.getHandled(), MessageMetric::getTotalNanos), statistics.getSlowHandled());
+  }
+
+  /**
+   * Selects the largest metrics by the specified value.
+   *
+   * @param metrics The metrics to select from.
+   * @param value The value to order the metrics by.
+   * @return The {@link #TOP_METRICS} largest metrics, largest first.
+   */
+  private static List<MessageMetric> top(List<MessageMetric> metrics,
+      ToLongFunction<MessageMetric> value) {
+    return metrics.stream()
+        .sorted(Comparator.comparingLong(value).reversed())
+        .limit(TOP_METRICS)
+        .collect(Collectors.toList());
+  }
+
+}
@@ -0,0 +1,135 @@
+package me.ryleykimmel.brandywine.game;
+
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocatorMetric;
+import me.ryleykimmel.brandywine.game.model.World;
+import me.ryleykimmel.brandywine.game.model.player.Player;
+import me.ryleykimmel.brandywine.service.Service;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Periodically samples the memory of the shared {@link PooledByteBufAllocator} and the pooled
+ * memory held by each Player's Session, so leaks and slow clients can be tracked in production.
+ * The peak depth of each Session's received message queue is sampled alongside, as a flooding
+ * client holds memory in its queue rather than its outbound buffer.
+ */
+public final class NetworkMemoryService extends Service {
+
+  /**
+   * The interval in milliseconds between samples.
+   */
+  private static final long SAMPLE_INTERVAL = 60_000L;
+
+  /**
+   * The Logger for this class.
+   */
+  private static final Logger logger = LogManager.getLogger(NetworkMemoryService.class);
+
+  /**
+   * The metric of the allocator shared by every Session.
+   */
+  private final PooledByteBufAllocatorMetric metric = PooledByteBufAllocator.DEFAULT.metric();
+
+  /**
+   * The World whose Players are sampled.
+   */
+  private final World world;
+
+  /**
+   * The direct memory used by the shared allocator at the last sample, in bytes.
+   */
+  private volatile long usedDirectMemory;
+
+  /**
+   * The pending write bytes of every Session at the last sample.
+   */
+  private volatile long totalPendingWriteBytes;
+
+  /**
+   * The largest pending write bytes of a single Session at the last sample.
+   */
+  private volatile long largestPendingWriteBytes;
+
+  /**
+   * The deepest received message queue of a single Session since the previous sample.
+   */
+  private volatile int peakQueuedMessages;
+
+  /**
+   * Constructs a new {@link NetworkMemoryService}.
+   *
+   * @param world The World whose Players are sampled.
+   */
+  public NetworkMemoryService(World world) {
+    super(SAMPLE_INTERVAL);
+    this.world = world;
+  }
+
+  @Override
+  public void execute() {
+    long total = 0;
+    long largest = 0;
+    int peakQueued = 0;
+    Player largestPlayer = null;
+
+    for (Player player : world.getPlayers()) {
+      long pending = player.getSession().getPendingWriteBytes();
+      total += pending;
+      if (pending > largest) {
+        largest = pending;
+        largestPlayer = player;
+      }
+
+      peakQueued = Math.max(peakQueued,
+          player.getSession().getReceivedMessages().getAndResetPeakSize());
+    }
+
+    usedDirectMemory = metric.usedDirectMemory();
+    totalPendingWriteBytes = total;
+    largestPendingWriteBytes = largest;
+    peakQueuedMessages = peakQueued;
+
+    logger.info("Direct memory: {} bytes, pending writes: {} bytes across {} players, largest: {} "
+            + "bytes ({}), deepest message queue: {}", usedDirectMemory, total,
+        world.getPlayerCount(), largest,
+        largestPlayer == null ? "none" : largestPlayer.getUsername(), peakQueued);
+  }
+
+  /**
+   * Gets the direct memory used by the shared allocator at the last sample.
+   *
+   * @return The used direct memory, in bytes.
+   */
+  public long getUsedDirectMemory() {
+    return usedDirectMemory;
+  }
+
+  /**
+   * Gets the pending write bytes of every Session at the last sample.
+   *
+   * @return The total pending write bytes.
+   */
+  public long getTotalPendingWriteBytes() {
+    return totalPendingWriteBytes;
+  }
+
+  /**
+   * Gets the largest pending write bytes of a single Session at the last sample.
+   *
+   * @return The largest pending write bytes.
+   */
+  public long getLargestPendingWriteBytes() {
+    return largestPendingWriteBytes;
+  }
+
+  /**
+   * Gets the deepest received message queue of a single Session between the last two samples.
+   *
+   * @return The peak amount of queued messages.
+   */
+  public int getPeakQueuedMessages() {
+    return peakQueuedMessages;
+  }
+
+}
@@ -2,15 +2,12 @@ package me.ryleykimmel.brandywine.game.area;
 
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.HashSet;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import me.ryleykimmel.brandywine.game.model.Entity;
 import me.ryleykimmel.brandywine.game.model.EntityType;
@@ -18,6 +15,10 @@ import me.ryleykimmel.brandywine.game.model.Position;
 
 /**
  * An 8x8 area of the map.
+ * <p>
+ * Adding and removing Entities is synchronized, as Entities may cross between Regions from
+ * several updater threads at once. Queries are not synchronized and must not overlap with moves.
+ * </p>
  */
 public final class Region {
 
@@ -47,9 +48,13 @@ public final class Region {
   private final RegionCoordinates coordinates;
 
   /**
-   * The Map of Positions to Entities in that Position.
+   * The Entities within this Region, grouped by {@link EntityType} and indexed by its ordinal.
+   * <p>
+   * Entities are not indexed by tile: an Entity moving within this Region requires no update to
+   * this Region at all.
+   * </p>
    */
-  private final Map<Position, Set<Entity>> entities = new ConcurrentHashMap<>();
+  private final List<List<Entity>> entities;
 
   /**
    * A List of RegionListeners registered to this Region.
@@ -73,6 +78,13 @@ public final class Region {
    */
   public Region(RegionCoordinates coordinates) {
     this.coordinates = coordinates;
+
+    EntityType[] types = EntityType.values();
+    entities = new ArrayList<>(types.length);
+    for (int index = 0; index < types.length; index++) {
+      entities.add(new ArrayList<>(DEFAULT_LIST_SIZE));
+    }
+
     listeners.add(new UpdateRegionListener());
   }
 
@@ -84,11 +96,11 @@ public final class Region {
    * @throws IllegalArgumentException If the Entity does not belong in this Region.
    */
   public void addEntity(Entity entity, boolean notify) {
-    Position position = entity.getPosition();
-    checkPosition(position);
+    checkPosition(entity.getPackedPosition());
 
-    Set<Entity> local = entities.computeIfAbsent(position, key -> new HashSet<>(DEFAULT_LIST_SIZE));
-    local.add(entity);
+    synchronized (this) {
+      entities.get(entity.getType().ordinal()).add(entity);
+    }
 
     if (notify) {
       notifyListeners(entity, EntityUpdateType.ADD);
@@ -110,16 +122,13 @@ public final class Region {
   /**
    * Checks if this Region contains the specified Entity.
    * <p>
-   * This method operates in constant time.
+   * This method operates in linear time over the Entities of the same type within this Region.
    *
    * @param entity The Entity.
    * @return {@code true} if this Region contains the Entity, otherwise {@code false}.
    */
   public boolean contains(Entity entity) {
-    Position position = entity.getPosition();
-    Set<Entity> local = entities.get(position);
-
-    return local != null && local.contains(entity);
+    return entities.get(entity.getType().ordinal()).contains(entity);
   }
 
   /**
@@ -129,7 +138,18 @@ public final class Region {
    * @return {@code true} iff the specified Position is inside this Region.
    */
   public boolean contains(Position position) {
-    return coordinates.equals(position.getRegionCoordinates());
+    return contains(position.pack());
+  }
+
+  /**
+   * Returns whether or not the specified packed {@link Position} is inside this Region.
+   *
+   * @param position The packed Position.
+   * @return {@code true} iff the specified packed Position is inside this Region.
+   */
+  public boolean contains(int position) {
+    return Position.getTopLeftRegionX(position) == coordinates.getX()
+        && Position.getTopLeftRegionY(position) == coordinates.getY();
   }
 
   /**
@@ -141,6 +161,33 @@ public final class Region {
     return coordinates;
   }
 
+  /**
+   * Adds every {@link Entity} with the specified {@link EntityType} that is on the same height
+   * level and within the specified distance (on both axes) of the specified {@link Position} to the
+   * specified List. Type will be inferred from the call, so ensure that the Entity type and the
+   * reference correspond, or this method will fail at runtime.
+   * <p>
+   * This method does not allocate and must not be called while Entities within this Region are
+   * being moved. The updater guarantees this by moving Entities in a separate phase.
+   * </p>
+   *
+   * @param type The EntityType.
+   * @param position The packed Position to measure distance from.
+   * @param distance The maximum distance, in tiles.
+   * @param found The List to add every found Entity to.
+   */
+  @SuppressWarnings("unchecked")
+  public <T extends Entity> void collectEntities(EntityType type, int position, int distance,
+      List<? super T> found) {
+    List<Entity> local = entities.get(type.ordinal());
+    for (int index = 0, size = local.size(); index < size; index++) {
+      Entity entity = local.get(index);
+      if (Position.isWithinDistance(entity.getPackedPosition(), position, distance)) {
+        found.add((T) entity);
+      }
+    }
+  }
+
   /**
    * Gets an intermediate {@link Stream} from the {@link Set} of {@link Entity}s with the specified {@link EntityType} (s). Type will be inferred from the call, so ensure that the
    * Entity type and the reference correspond, or this method will fail at runtime.
@@ -150,9 +197,8 @@ public final class Region {
    */
   @SuppressWarnings("unchecked")
   public <T extends Entity> Stream<T> getEntities(EntityType... types) {
-    Set<EntityType> set = ImmutableSet.copyOf(types);
-    return (Stream<T>) entities.values().stream().flatMap(Collection::stream)
-        .filter(entity -> set.contains(entity.getType()));
+    return (Stream<T>) Arrays.stream(types).distinct()
+        .flatMap(type -> ImmutableList.copyOf(entities.get(type.ordinal())).stream());
   }
 
   /**
@@ -162,8 +208,7 @@ public final class Region {
    * @return The Set. Will be immutable.
    */
   public Set<Entity> getEntities(Position position) {
-    Set<Entity> set = entities.get(position);
-    return (set == null) ? ImmutableSet.of() : ImmutableSet.copyOf(set);
+    return getEntities(position, EntityType.values());
   }
 
   /**
@@ -175,35 +220,13 @@ public final class Region {
    * @return The Set of Entity objects.
    */
   public <T extends Entity> Set<T> getEntities(Position position, EntityType... types) {
-    Set<Entity> local = entities.get(position);
-    if (local == null) {
-      return ImmutableSet.of();
-    }
-
-    Set<EntityType> set = ImmutableSet.copyOf(types);
-    @SuppressWarnings("unchecked")
-    Stream<T> filtered = (Stream<T>) local.stream()
-        .filter(entity -> set.contains(entity.getType()));
-    return ImmutableSet.copyOf(filtered.collect(Collectors.toSet()));
-  }
-
-  /**
-   * Gets the {@link Set} of {@link RegionCoordinates} of Regions that are viewable from the specified {@link Position}.
-   *
-   * @return The Set of RegionCoordinates.
-   */
-  public Set<RegionCoordinates> getSurrounding() {
-    int localX = coordinates.getX(), localY = coordinates.getY();
-    int maxX = localX + VIEWABLE_REGION_RADIUS, maxY = localY + VIEWABLE_REGION_RADIUS;
-
-    Set<RegionCoordinates> viewable = new HashSet<>();
-    for (int x = localX - VIEWABLE_REGION_RADIUS; x < maxX; x++) {
-      for (int y = localY - VIEWABLE_REGION_RADIUS; y < maxY; y++) {
-        viewable.add(new RegionCoordinates(x, y));
-      }
+    ImmutableSet.Builder<T> builder = ImmutableSet.builder();
+    for (EntityType type : types) {
+      List<T> found = new ArrayList<>();
+      collectEntities(type, position.pack(), 0, found);
+      builder.addAll(found);
     }
-
-    return viewable;
+    return builder.build();
   }
 
   /**
@@ -223,12 +246,14 @@ public final class Region {
    * @throws IllegalArgumentException If the Entity does not belong in this Region, or if it was never added.
    */
   public void removeEntity(Entity entity) {
-    Position position = entity.getPosition();
-    checkPosition(position);
+    checkPosition(entity.getPackedPosition());
 
-    Set<Entity> local = entities.get(position);
+    boolean removed;
+    synchronized (this) {
+      removed = remove(entities.get(entity.getType().ordinal()), entity);
+    }
 
-    if (local == null || !local.remove(entity)) {
+    if (!removed) {
       throw new IllegalArgumentException("Entity (" + entity + ") belongs in (" + toString()
           + ") but does not exist.");
     }
@@ -246,12 +271,31 @@ public final class Region {
   /**
    * Checks that the specified {@link Position} is included in this Region.
    *
-   * @param position The position.
+   * @param position The packed position.
    * @throws IllegalArgumentException If the specified position is not included in this Region.
    */
-  private void checkPosition(Position position) {
-    Preconditions.checkArgument(coordinates.equals(RegionCoordinates.fromPosition(position)),
-        "Position is not included in this Region.");
+  private void checkPosition(int position) {
+    Preconditions.checkArgument(contains(position), "Position is not included in this Region.");
+  }
+
+  /**
+   * Removes the specified Entity from the specified List by swapping the last element into its
+   * place, as the order of Entities within a Region is insignificant.
+   *
+   * @param local The List to remove the Entity from.
+   * @param entity The Entity to remove.
+   * @return {@code true} if the Entity was removed, otherwise {@code false}.
+   */
+  private static boolean remove(List<Entity> local, Entity entity) {
+    int index = local.indexOf(entity);
+    if (index == -1) {
+      return false;
+    }
+
+    int last = local.size() - 1;
+    local.set(index, local.get(last));
+    local.remove(last);
+    return true;
   }
 
 
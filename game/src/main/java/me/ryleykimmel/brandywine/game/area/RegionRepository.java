@@ -1,21 +1,50 @@
 package me.ryleykimmel.brandywine.game.area;
 
+import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import me.ryleykimmel.brandywine.game.model.Entity;
+import me.ryleykimmel.brandywine.game.model.EntityType;
 import me.ryleykimmel.brandywine.game.model.Position;
 
 /**
- * A repository of {@link Region}s, backed by a {@link HashMap} of {@link RegionCoordinates} that correspond to their appropriate regions.
+ * A repository of {@link Region}s, backed by a two-level array indexed directly by region
+ * coordinates.
+ * <p>
+ * The map is split into square chunks of Regions which are only allocated once a Region within
+ * them is first requested, so lookups perform no hashing, boxing or allocation. Regions and chunks
+ * are published with compare-and-set, so this repository may be used from any thread.
+ * </p>
  */
 public final class RegionRepository {
 
   /**
-   * The map of RegionCoordinates that correspond to the appropriate Regions.
+   * The offset between top-left region coordinates and central region coordinates, which are
+   * never negative.
    */
-  private final Map<RegionCoordinates, Region> regions = new ConcurrentHashMap<>();
+  private static final int CENTRAL_OFFSET = 6;
+
+  /**
+   * The width and length of a chunk, in Regions.
+   */
+  private static final int CHUNK_SIZE = 64;
+
+  /**
+   * The width and length of the map, in chunks.
+   */
+  private static final int CHUNKS = 64;
+
+  /**
+   * The width and length of the map, in Regions.
+   */
+  private static final int MAP_SIZE = CHUNK_SIZE * CHUNKS;
+
+  /**
+   * The chunks of Regions, allocated on demand.
+   */
+  private final AtomicReferenceArray<AtomicReferenceArray<Region>> chunks =
+      new AtomicReferenceArray<>(CHUNKS * CHUNKS);
 
   /**
    * Indicates whether the supplied value (i.e. the {@link Region}) has a mapping.
@@ -34,7 +63,7 @@ public final class RegionRepository {
    * @return {@code true} if the key is already mapped to a value (i.e. a {@link Region}), otherwise {@code false}.
    */
   public boolean contains(RegionCoordinates coordinates) {
-    return regions.containsKey(coordinates);
+    return getIfPresent(coordinates.getX(), coordinates.getY()) != null;
   }
 
   /**
@@ -45,7 +74,7 @@ public final class RegionRepository {
    * @return The Region.
    */
   public Region fromPosition(Position position) {
-    return get(RegionCoordinates.fromPosition(position));
+    return get(position.getTopLeftRegionX(), position.getTopLeftRegionY());
   }
 
   /**
@@ -56,7 +85,86 @@ public final class RegionRepository {
    * @return The Region. Will never be null.
    */
   public Region get(RegionCoordinates coordinates) {
-    return regions.computeIfAbsent(coordinates, Region::new);
+    return get(coordinates.getX(), coordinates.getY());
+  }
+
+  /**
+   * Gets the {@link Region} with the specified coordinates. If the Region does not exist in this
+   * repository then a new Region is created, submitted to the repository, and returned.
+   *
+   * @param x The x coordinate of the Region.
+   * @param y The y coordinate of the Region.
+   * @return The Region. Will never be null.
+   * @throws IndexOutOfBoundsException If the coordinates lie outside of the map.
+   */
+  public Region get(int x, int y) {
+    int centralX = Preconditions.checkElementIndex(x + CENTRAL_OFFSET, MAP_SIZE, "x");
+    int centralY = Preconditions.checkElementIndex(y + CENTRAL_OFFSET, MAP_SIZE, "y");
+
+    int chunkIndex = chunkIndex(centralX, centralY);
+    AtomicReferenceArray<Region> chunk = chunks.get(chunkIndex);
+    if (chunk == null) {
+      AtomicReferenceArray<Region> created = new AtomicReferenceArray<>(CHUNK_SIZE * CHUNK_SIZE);
+      chunk = chunks.compareAndSet(chunkIndex, null, created) ? created : chunks.get(chunkIndex);
+    }
+
+    int regionIndex = regionIndex(centralX, centralY);
+    Region region = chunk.get(regionIndex);
+    if (region == null) {
+      Region created = new Region(x, y);
+      region = chunk.compareAndSet(regionIndex, null, created) ? created : chunk.get(regionIndex);
+    }
+
+    return region;
+  }
+
+  /**
+   * Gets the {@link Region} with the specified coordinates, if it exists. No Region is created.
+   *
+   * @param x The x coordinate of the Region.
+   * @param y The y coordinate of the Region.
+   * @return The Region, or {@code null} if it does not exist or lies outside of the map.
+   */
+  public Region getIfPresent(int x, int y) {
+    int centralX = x + CENTRAL_OFFSET;
+    int centralY = y + CENTRAL_OFFSET;
+    if (centralX < 0 || centralX >= MAP_SIZE || centralY < 0 || centralY >= MAP_SIZE) {
+      return null;
+    }
+
+    AtomicReferenceArray<Region> chunk = chunks.get(chunkIndex(centralX, centralY));
+    return chunk == null ? null : chunk.get(regionIndex(centralX, centralY));
+  }
+
+  /**
+   * Adds every {@link Entity} with the specified {@link EntityType} that is on the same height
+   * level and within the specified distance (on both axes) of the specified {@link Position} to the
+   * specified List. Only existing Regions overlapping the area are visited; none are created.
+   *
+   * @param type The EntityType.
+   * @param position The packed Position to measure distance from.
+   * @param distance The maximum distance, in tiles.
+   * @param found The List to add every found Entity to.
+   * @see Region#collectEntities(EntityType, int, int, List)
+   */
+  public <T extends Entity> void collectEntities(EntityType type, int position, int distance,
+      List<? super T> found) {
+    int x = Position.getX(position);
+    int y = Position.getY(position);
+
+    int minX = Math.max(x - distance, 0) / Region.SIZE - CENTRAL_OFFSET;
+    int minY = Math.max(y - distance, 0) / Region.SIZE - CENTRAL_OFFSET;
+    int maxX = (x + distance) / Region.SIZE - CENTRAL_OFFSET;
+    int maxY = (y + distance) / Region.SIZE - CENTRAL_OFFSET;
+
+    for (int regionX = minX; regionX <= maxX; regionX++) {
+      for (int regionY = minY; regionY <= maxY; regionY++) {
+        Region region = getIfPresent(regionX, regionY);
+        if (region != null) {
+          region.<T>collectEntities(type, position, distance, found);
+        }
+      }
+    }
   }
 
   /**
@@ -65,7 +173,43 @@ public final class RegionRepository {
    * @return The List.
    */
   public List<Region> getRegions() {
-    return ImmutableList.copyOf(regions.values());
+    ImmutableList.Builder<Region> builder = ImmutableList.builder();
+    for (int chunkIndex = 0; chunkIndex < chunks.length(); chunkIndex++) {
+      AtomicReferenceArray<Region> chunk = chunks.get(chunkIndex);
+      if (chunk == null) {
+        continue;
+      }
+
+      for (int regionIndex = 0; regionIndex < chunk.length(); regionIndex++) {
+        Region region = chunk.get(regionIndex);
+        if (region != null) {
+          builder.add(region);
+        }
+      }
+    }
+    return builder.build();
+  }
+
+  /**
+   * Gets the index of the chunk containing the specified central region coordinates.
+   *
+   * @param centralX The central x coordinate of the Region.
+   * @param centralY The central y coordinate of the Region.
+   * @return The index of the chunk.
+   */
+  private static int chunkIndex(int centralX, int centralY) {
+    return centralX / CHUNK_SIZE * CHUNKS + centralY / CHUNK_SIZE;
+  }
+
+  /**
+   * Gets the index of a Region within its chunk from the specified central region coordinates.
+   *
+   * @param centralX The central x coordinate of the Region.
+   * @param centralY The central y coordinate of the Region.
+   * @return The index of the Region within its chunk.
+   */
+  private static int regionIndex(int centralX, int centralY) {
+    return centralX % CHUNK_SIZE * CHUNK_SIZE + centralY % CHUNK_SIZE;
   }
 
 }
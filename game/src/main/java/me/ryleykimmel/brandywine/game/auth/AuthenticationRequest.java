@@ -19,6 +19,11 @@ public final class AuthenticationRequest {
    */
   private final PlayerCredentials credentials;
 
+  /**
+   * The time this request was created, in nanoseconds.
+   */
+  private final long creationTime = System.nanoTime();
+
   /**
    * Constructs a new {@link AuthenticationRequest} with the specified LoginSession and PlayerCredentials.
    *
@@ -48,6 +53,15 @@ public final class AuthenticationRequest {
     return credentials;
   }
 
+  /**
+   * Gets the time this request was created, as measured by {@link System#nanoTime()}.
+   *
+   * @return The creation time of this request, in nanoseconds.
+   */
+  public long getCreationTime() {
+    return creationTime;
+  }
+
   @Override
   public String toString() {
     return MoreObjects.toStringHelper(this)
@@ -1,18 +1,34 @@
 package me.ryleykimmel.brandywine.game.auth;
 
 import com.google.common.base.Preconditions;
+import io.netty.channel.ChannelFutureListener;
+import java.lang.reflect.Method;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import javax.inject.Inject;
-import me.ryleykimmel.brandywine.service.Service;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import me.ryleykimmel.brandywine.common.util.ThreadFactoryUtil;
 import me.ryleykimmel.brandywine.game.GameService;
+import me.ryleykimmel.brandywine.game.message.LoginResponseMessage;
 import me.ryleykimmel.brandywine.network.ResponseCode;
+import me.ryleykimmel.brandywine.network.stats.LatencyHistogram;
+import me.ryleykimmel.brandywine.service.Service;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 /**
- * Services AuthenticationRequests every pulse.
+ * Services AuthenticationRequests as soon as they are submitted.
+ * <p>
+ * At most {@code concurrency} requests are authenticated at once, each on a virtual thread where
+ * the JVM supports them and on a fixed pool of platform threads otherwise. Further requests wait
+ * in a queue of at most {@code queueLimit} requests. Once that is full, further logins are turned
+ * away with {@link ResponseCode#STATUS_LOGIN_SERVER_OFFLINE} rather than left waiting on a
+ * saturated {@link AuthenticationStrategy}. Every pulse the queue wait and authentication
+ * latencies are logged.
+ * </p>
  */
 public final class AuthenticationService extends Service {
 
@@ -22,25 +38,54 @@ public final class AuthenticationService extends Service {
   public static final AuthenticationStrategy DEFAULT_STRATEGY = p -> ResponseCode.STATUS_OK;
 
   /**
-   * How often the requests are serviced, in milliseconds.
+   * How often the latencies are logged, in milliseconds.
+   */
+  private static final long PULSE_INTERVAL = 60_000L;
+
+  /**
+   * The affinity group of this Service, which only reads its own statistics.
    */
-  private static final long PULSE_INTERVAL = 100L;
+  private static final String AFFINITY = "authentication";
 
   /**
-   * The maximum number of requests allowed to be serviced per pulse.
+   * The Logger for this class.
    */
-  private static final int REQUESTS_PER_PULSE = 50;
+  private static final Logger logger = LogManager.getLogger(AuthenticationService.class);
 
   /**
    * A Queue of AuthenticationRequests.
    */
   private final Queue<AuthenticationRequest> requests = new ConcurrentLinkedQueue<>();
 
+  /**
+   * The amount of requests which are either queued or being authenticated.
+   */
+  private final AtomicInteger outstandingRequests = new AtomicInteger();
+
+  /**
+   * The amount of requests being authenticated.
+   */
+  private final AtomicInteger activeRequests = new AtomicInteger();
+
+  /**
+   * The time requests spent queued, in nanoseconds.
+   */
+  private final LatencyHistogram queueLatency = new LatencyHistogram();
+
+  /**
+   * The time requests spent being authenticated, in nanoseconds.
+   */
+  private final LatencyHistogram authenticationLatency = new LatencyHistogram();
+
+  /**
+   * The amount of requests turned away because the queue was full.
+   */
+  private final LongAdder shedRequests = new LongAdder();
+
   /**
    * An {@link ExecutorService} for executing {@link AuthenticationWorker}s.
    */
-  private final ExecutorService executor = Executors.newCachedThreadPool(
-      ThreadFactoryUtil.create(this).build());
+  private final ExecutorService executor;
 
   /**
    * The service used to queue game requests.
@@ -52,37 +97,156 @@ public final class AuthenticationService extends Service {
    */
   private final AuthenticationStrategy strategy;
 
+  /**
+   * The maximum amount of requests authenticated at once.
+   */
+  private final int concurrency;
+
+  /**
+   * The maximum amount of queued requests.
+   */
+  private final int queueLimit;
+
   /**
    * Constructs a new {@link AuthenticationService}.
    *
    * @param service The service used to queue game requests.
    * @param strategy The strategy used to authenticate {@link AuthenticationRequest}s.
+   * @param concurrency The maximum amount of requests authenticated at once.
+   * @param queueLimit The maximum amount of requests waiting to be authenticated.
+   * @param virtualThreads Whether or not to authenticate on virtual threads, if supported.
    */
-  public AuthenticationService(GameService service, AuthenticationStrategy strategy) {
-    super(PULSE_INTERVAL);
+  public AuthenticationService(GameService service, AuthenticationStrategy strategy,
+      int concurrency, int queueLimit, boolean virtualThreads) {
+    super(PULSE_INTERVAL, DEFAULT_BUDGET, AFFINITY);
+    Preconditions.checkArgument(concurrency > 0, "Concurrency must be positive.");
+    Preconditions.checkArgument(queueLimit >= 0, "Queue limit may not be negative.");
     this.service = Preconditions.checkNotNull(service, "GameService may not be null.");
     this.strategy = Preconditions.checkNotNull(strategy, "AuthenticationStrategy may not be null.");
+    this.concurrency = concurrency;
+    this.queueLimit = queueLimit;
+
+    ExecutorService virtual = virtualThreads ? newVirtualThreadExecutor() : null;
+    this.executor = virtual != null ? virtual : Executors.newFixedThreadPool(concurrency,
+        ThreadFactoryUtil.create(this).setDaemon(true).build());
   }
 
   /**
-   * Submits the specified AuthenticationRequest.
+   * Creates an ExecutorService which starts a virtual thread per task, if the JVM supports them.
+   *
+   * @return The ExecutorService, or {@code null} if virtual threads are unsupported.
+   */
+  private static ExecutorService newVirtualThreadExecutor() {
+    try {
+      Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      return (ExecutorService) factory.invoke(null);
+    } catch (ReflectiveOperationException | UnsupportedOperationException cause) {
+      return null;
+    }
+  }
+
+  /**
+   * Submits the specified AuthenticationRequest, or turns it away if the queue is full.
    *
    * @param request The AuthenticationRequest to submit.
    */
   public void submit(AuthenticationRequest request) {
+    if (outstandingRequests.incrementAndGet() > concurrency + queueLimit) {
+      outstandingRequests.decrementAndGet();
+      shedRequests.increment();
+      request.getSession().writeAndFlush(
+          new LoginResponseMessage(ResponseCode.STATUS_LOGIN_SERVER_OFFLINE))
+          .addListener(ChannelFutureListener.CLOSE);
+      return;
+    }
+
     requests.offer(request);
+    drain();
   }
 
-  @Override
-  public void execute() {
-    for (int count = 0; count < REQUESTS_PER_PULSE; count++) {
+  /**
+   * Starts authenticating queued requests until either the queue is empty or the concurrency
+   * limit is reached.
+   */
+  private void drain() {
+    while (true) {
+      int active = activeRequests.get();
+      if (active >= concurrency) {
+        return;
+      }
+
+      if (!activeRequests.compareAndSet(active, active + 1)) {
+        continue;
+      }
+
       AuthenticationRequest request = requests.poll();
       if (request == null) {
-        break;
+        // A request offered after our poll may have seen our slot taken, so check again.
+        activeRequests.decrementAndGet();
+        if (requests.isEmpty()) {
+          return;
+        }
+        continue;
       }
 
-      executor.submit(new AuthenticationWorker(service, strategy, request));
+      executor.execute(() -> authenticate(request));
     }
   }
 
+  /**
+   * Authenticates the specified request, then starts the next queued request.
+   *
+   * @param request The AuthenticationRequest to authenticate.
+   */
+  private void authenticate(AuthenticationRequest request) {
+    long start = System.nanoTime();
+    queueLatency.record(start - request.getCreationTime());
+
+    try {
+      new AuthenticationWorker(service, strategy, request).run();
+    } finally {
+      authenticationLatency.record(System.nanoTime() - start);
+      activeRequests.decrementAndGet();
+      outstandingRequests.decrementAndGet();
+      drain();
+    }
+  }
+
+  @Override
+  public void execute() {
+    logger.info("Authentication queue: {}, active: {}, shed: {}, queue wait p99: {} ms, "
+            + "authentication p99: {} ms", getQueuedRequests(), activeRequests.get(),
+        shedRequests.sum(), TimeUnit.NANOSECONDS.toMillis(queueLatency.getPercentile(0.99)),
+        TimeUnit.NANOSECONDS.toMillis(authenticationLatency.getPercentile(0.99)));
+    queueLatency.reset();
+    authenticationLatency.reset();
+  }
+
+  /**
+   * Gets the amount of requests waiting to be authenticated.
+   *
+   * @return The amount of queued requests.
+   */
+  public int getQueuedRequests() {
+    return Math.max(0, outstandingRequests.get() - activeRequests.get());
+  }
+
+  /**
+   * Gets the amount of requests being authenticated.
+   *
+   * @return The amount of active requests.
+   */
+  public int getActiveRequests() {
+    return activeRequests.get();
+  }
+
+  /**
+   * Gets the amount of requests turned away because the queue was full.
+   *
+   * @return The amount of shed requests.
+   */
+  public long getShedRequests() {
+    return shedRequests.sum();
+  }
+
 }
@@ -5,6 +5,7 @@ import io.netty.channel.ChannelFutureListener;
 import me.ryleykimmel.brandywine.game.GameService;
 import me.ryleykimmel.brandywine.game.message.LoginResponseMessage;
 import me.ryleykimmel.brandywine.game.model.player.Player;
+import me.ryleykimmel.brandywine.game.persistence.PersistenceService;
 import me.ryleykimmel.brandywine.network.ResponseCode;
 import me.ryleykimmel.brandywine.network.Session;
 import org.apache.logging.log4j.LogManager;
@@ -67,6 +68,11 @@ public final class AuthenticationWorker implements Runnable {
         return;
       }
 
+      service.getWorld().getService(PersistenceService.class).load(player);
+
+      // Encode the initial appearance here, rather than on the game thread once registered.
+      player.getAppearanceBlock().cache();
+
       if (!service.queuePlayer(player)) {
         closeWithResponse(session, ResponseCode.STATUS_SERVER_FULL);
         return;
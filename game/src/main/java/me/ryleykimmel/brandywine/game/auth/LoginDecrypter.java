@@ -0,0 +1,139 @@
+package me.ryleykimmel.brandywine.game.auth;
+
+import com.google.common.base.Preconditions;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import me.ryleykimmel.brandywine.common.rsa.RsaDecryptor;
+import me.ryleykimmel.brandywine.common.util.ByteBufUtil;
+import me.ryleykimmel.brandywine.common.util.ThreadFactoryUtil;
+import me.ryleykimmel.brandywine.game.message.LoginMessage;
+import me.ryleykimmel.brandywine.game.message.SecureLoginBlock;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Decrypts the secure blocks of {@link LoginMessage}s on a bounded pool of worker threads, so a
+ * burst of logins never stalls the network threads with RSA.
+ * <p>
+ * Decryptions wait in a queue of fixed capacity. Once the queue is full further logins are
+ * rejected immediately, rather than queueing for longer than the client is willing to wait.
+ * </p>
+ */
+public final class LoginDecrypter {
+
+  /**
+   * The Logger for this class.
+   */
+  private static final Logger logger = LogManager.getLogger(LoginDecrypter.class);
+
+  /**
+   * The RsaDecryptor of the server's private key.
+   */
+  private final RsaDecryptor decryptor;
+
+  /**
+   * The executor performing decryptions.
+   */
+  private final ThreadPoolExecutor executor;
+
+  /**
+   * The amount of decryptions rejected because the queue was full.
+   */
+  private final LongAdder rejectedDecryptions = new LongAdder();
+
+  /**
+   * Constructs a new {@link LoginDecrypter}.
+   *
+   * @param decryptor The RsaDecryptor of the server's private key.
+   * @param threads The amount of worker threads.
+   * @param queueLimit The maximum amount of decryptions waiting for a worker thread.
+   */
+  public LoginDecrypter(RsaDecryptor decryptor, int threads, int queueLimit) {
+    Preconditions.checkArgument(threads > 0, "Threads must be positive.");
+    Preconditions.checkArgument(queueLimit > 0, "Queue limit must be positive.");
+    this.decryptor = Preconditions.checkNotNull(decryptor, "RsaDecryptor may not be null.");
+    this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueLimit),
+        ThreadFactoryUtil.create(this).setDaemon(true).build(),
+        new ThreadPoolExecutor.AbortPolicy());
+  }
+
+  /**
+   * Submits the secure block of the specified LoginMessage to be decrypted.
+   *
+   * @param message The LoginMessage to decrypt.
+   * @param decrypted Accepts the decrypted block, on a worker thread.
+   * @param failed Accepts the cause if the block is malformed, on a worker thread.
+   * @return {@code true} if the decryption was queued, {@code false} if it was rejected because
+   *     the queue is full.
+   */
+  public boolean submit(LoginMessage message, Consumer<SecureLoginBlock> decrypted,
+      Consumer<RuntimeException> failed) {
+    try {
+      executor.execute(() -> {
+        SecureLoginBlock block;
+        try {
+          block = decrypt(message);
+        } catch (RuntimeException cause) {
+          logger.debug("Malformed secure login block.", cause);
+          failed.accept(cause);
+          return;
+        }
+        decrypted.accept(block);
+      });
+      return true;
+    } catch (RejectedExecutionException cause) {
+      rejectedDecryptions.increment();
+      return false;
+    }
+  }
+
+  /**
+   * Decrypts the secure block of the specified LoginMessage on the calling thread.
+   *
+   * @param message The LoginMessage to decrypt.
+   * @return The decrypted block, never {@code null}.
+   * @throws IndexOutOfBoundsException If the decrypted block is truncated.
+   */
+  public SecureLoginBlock decrypt(LoginMessage message) {
+    ByteBuf buffer = Unpooled.wrappedBuffer(decryptor.decrypt(message.getSecureBlock()));
+
+    int blockOperationCode = buffer.readUnsignedByte();
+
+    long clientSessionId = buffer.readLong();
+    long serverSessionId = buffer.readLong();
+
+    int userId = buffer.readInt();
+
+    String username = ByteBufUtil.readJString(buffer);
+    String password = ByteBufUtil.readJString(buffer);
+
+    return new SecureLoginBlock(blockOperationCode, clientSessionId, serverSessionId, userId,
+        username, password);
+  }
+
+  /**
+   * Gets the amount of decryptions waiting for a worker thread.
+   *
+   * @return The amount of queued decryptions.
+   */
+  public int getQueuedDecryptions() {
+    return executor.getQueue().size();
+  }
+
+  /**
+   * Gets the amount of decryptions rejected because the queue was full.
+   *
+   * @return The amount of rejected decryptions.
+   */
+  public long getRejectedDecryptions() {
+    return rejectedDecryptions.sum();
+  }
+
+}
@@ -0,0 +1,74 @@
+package me.ryleykimmel.brandywine.game.auth;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+
+/**
+ * The recent failed logins of a single subject, an address or a username, as persisted by a
+ * {@link LoginThrottleStore}.
+ */
+public final class LoginFailures {
+
+  /**
+   * The subject which failed to login.
+   */
+  private final String subject;
+
+  /**
+   * The amount of recent failed logins.
+   */
+  private final int count;
+
+  /**
+   * The time of the latest failed login, in milliseconds since the epoch.
+   */
+  private final long lastFailure;
+
+  /**
+   * Constructs a new {@link LoginFailures}.
+   *
+   * @param subject The subject which failed to login.
+   * @param count The amount of recent failed logins.
+   * @param lastFailure The time of the latest failed login, in milliseconds since the epoch.
+   */
+  public LoginFailures(String subject, int count, long lastFailure) {
+    Preconditions.checkArgument(count > 0, "Count must be positive.");
+    this.subject = Preconditions.checkNotNull(subject, "Subject may not be null.");
+    this.count = count;
+    this.lastFailure = lastFailure;
+  }
+
+  /**
+   * Gets the subject which failed to login.
+   *
+   * @return The subject.
+   */
+  public String getSubject() {
+    return subject;
+  }
+
+  /**
+   * Gets the amount of recent failed logins.
+   *
+   * @return The amount of failed logins.
+   */
+  public int getCount() {
+    return count;
+  }
+
+  /**
+   * Gets the time of the latest failed login.
+   *
+   * @return The time of the latest failed login, in milliseconds since the epoch.
+   */
+  public long getLastFailure() {
+    return lastFailure;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this).add("subject", subject).add("count", count)
+        .add("last_failure", lastFailure).toString();
+  }
+
+}
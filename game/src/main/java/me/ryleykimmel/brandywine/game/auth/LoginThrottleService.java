@@ -0,0 +1,121 @@
+package me.ryleykimmel.brandywine.game.auth;
+
+import com.google.common.base.Preconditions;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import me.ryleykimmel.brandywine.common.util.ThreadFactoryUtil;
+import me.ryleykimmel.brandywine.service.Service;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Evicts expired failed logins from a {@link LoginThrottler} and, if a {@link LoginThrottleStore}
+ * is present, persists the remaining failed logins in the background.
+ * <p>
+ * Persistence never blocks the pulse. If the previous save is still running when the next pulse
+ * comes around, that pulse skips saving.
+ * </p>
+ */
+public final class LoginThrottleService extends Service {
+
+  /**
+   * How often expired failed logins are evicted and the rest are persisted, in milliseconds.
+   */
+  private static final long PULSE_INTERVAL = 30_000L;
+
+  /**
+   * The affinity group of this Service, which only touches the thread-safe LoginThrottler.
+   */
+  private static final String AFFINITY = "login-throttle";
+
+  /**
+   * The Logger for this class.
+   */
+  private static final Logger logger = LogManager.getLogger(LoginThrottleService.class);
+
+  /**
+   * Whether or not a save is running.
+   */
+  private final AtomicBoolean saving = new AtomicBoolean();
+
+  /**
+   * The LoginThrottler of this service.
+   */
+  private final LoginThrottler throttler;
+
+  /**
+   * The store failed logins are persisted to, or {@code null} if they are kept in memory only.
+   */
+  private final LoginThrottleStore store;
+
+  /**
+   * The executor saving failed logins, or {@code null} if they are kept in memory only.
+   */
+  private final ExecutorService executor;
+
+  /**
+   * Constructs a new {@link LoginThrottleService} which keeps failed logins in memory only.
+   *
+   * @param throttler The LoginThrottler of this service.
+   */
+  public LoginThrottleService(LoginThrottler throttler) {
+    this(throttler, null);
+  }
+
+  /**
+   * Constructs a new {@link LoginThrottleService}, restoring the failed logins persisted in the
+   * specified store.
+   *
+   * @param throttler The LoginThrottler of this service.
+   * @param store The store failed logins are persisted to, or {@code null} to keep them in memory
+   *     only.
+   */
+  public LoginThrottleService(LoginThrottler throttler, LoginThrottleStore store) {
+    super(PULSE_INTERVAL, DEFAULT_BUDGET, AFFINITY);
+    this.throttler = Preconditions.checkNotNull(throttler, "LoginThrottler may not be null.");
+    this.store = store;
+    this.executor = store == null ? null : Executors.newSingleThreadExecutor(
+        ThreadFactoryUtil.create(this).setDaemon(true).build());
+
+    if (store != null) {
+      try {
+        throttler.restore(store.load(System.currentTimeMillis() - throttler.getWindow()));
+      } catch (Exception cause) {
+        logger.warn("Unable to restore failed logins, starting without them.", cause);
+      }
+    }
+  }
+
+  @Override
+  public void execute() {
+    int subjects = throttler.evictExpired();
+    logger.debug("Login throttler tracking {} subjects.", subjects);
+
+    if (store == null || !saving.compareAndSet(false, true)) {
+      return;
+    }
+
+    List<LoginFailures> failures = throttler.snapshot();
+    executor.execute(() -> {
+      try {
+        store.save(failures);
+      } catch (Exception cause) {
+        logger.warn("Unable to persist failed logins.", cause);
+      } finally {
+        saving.set(false);
+      }
+    });
+  }
+
+  /**
+   * Gets the LoginThrottler of this service.
+   *
+   * @return The LoginThrottler.
+   */
+  public LoginThrottler getThrottler() {
+    return throttler;
+  }
+
+}
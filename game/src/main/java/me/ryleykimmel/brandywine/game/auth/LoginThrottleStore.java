@@ -0,0 +1,28 @@
+package me.ryleykimmel.brandywine.game.auth;
+
+import java.util.List;
+
+/**
+ * Persists the state of a {@link LoginThrottler}, so throttling survives a restart.
+ */
+public interface LoginThrottleStore {
+
+  /**
+   * Loads the failed logins which occurred after the specified time.
+   *
+   * @param since The time before which failed logins have expired, in milliseconds since the
+   *     epoch.
+   * @return The failed logins, never {@code null}.
+   * @throws Exception If the failed logins could not be loaded.
+   */
+  List<LoginFailures> load(long since) throws Exception;
+
+  /**
+   * Replaces the persisted failed logins with the specified failed logins.
+   *
+   * @param failures The failed logins to persist.
+   * @throws Exception If the failed logins could not be persisted.
+   */
+  void save(List<LoginFailures> failures) throws Exception;
+
+}
@@ -0,0 +1,361 @@
+package me.ryleykimmel.brandywine.game.auth;
+
+import com.google.common.base.Preconditions;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Throttles logins by address and by username, entirely in memory.
+ * <p>
+ * Each address and username keeps the times of its latest {@code maximumFailures} failed logins.
+ * Once all of them fall within the sliding window, further logins of that address or username are
+ * refused until the oldest one leaves the window. Throttling an address stops a single host from
+ * guessing passwords, throttling a username stops many hosts from guessing the password of one
+ * account.
+ * </p>
+ * <p>
+ * The failed logins are spread over a fixed amount of stripes, each guarded by its own lock, so
+ * concurrent logins rarely contend.
+ * </p>
+ */
+public final class LoginThrottler {
+
+  /**
+   * The amount of stripes, a power of two.
+   */
+  private static final int STRIPES = 64;
+
+  /**
+   * The prefix of address subjects.
+   */
+  private static final String ADDRESS_PREFIX = "address:";
+
+  /**
+   * The prefix of username subjects.
+   */
+  private static final String USERNAME_PREFIX = "username:";
+
+  /**
+   * The stripes, mapping subjects to their failed logins.
+   */
+  private final Stripe[] stripes = new Stripe[STRIPES];
+
+  /**
+   * The amount of failed logins within the window after which a subject is throttled.
+   */
+  private final int maximumFailures;
+
+  /**
+   * The length of the sliding window, in milliseconds.
+   */
+  private final long window;
+
+  /**
+   * Constructs a new {@link LoginThrottler}.
+   *
+   * @param maximumFailures The amount of failed logins within the window after which a subject is
+   *     throttled.
+   * @param window The length of the sliding window, in milliseconds.
+   */
+  public LoginThrottler(int maximumFailures, long window) {
+    Preconditions.checkArgument(maximumFailures > 0, "Maximum failures must be positive.");
+    Preconditions.checkArgument(window > 0, "Window must be positive.");
+    this.maximumFailures = maximumFailures;
+    this.window = window;
+
+    for (int index = 0; index < STRIPES; index++) {
+      stripes[index] = new Stripe();
+    }
+  }
+
+  /**
+   * Tests whether or not logins from the specified address or of the specified username are
+   * throttled.
+   *
+   * @param address The address logging in.
+   * @param username The username logging in.
+   * @return {@code true} iff either the address or the username is throttled.
+   */
+  public boolean isThrottled(String address, String username) {
+    return isThrottled(address, username, System.currentTimeMillis());
+  }
+
+  /**
+   * Tests whether or not logins from the specified address or of the specified username are
+   * throttled at the specified time.
+   *
+   * @param address The address logging in.
+   * @param username The username logging in.
+   * @param now The current time, in milliseconds since the epoch.
+   * @return {@code true} iff either the address or the username is throttled.
+   */
+  boolean isThrottled(String address, String username, long now) {
+    return isThrottled(addressSubject(address), now) || isThrottled(usernameSubject(username), now);
+  }
+
+  /**
+   * Records a failed login from the specified address of the specified username.
+   *
+   * @param address The address which failed to login.
+   * @param username The username which failed to login.
+   */
+  public void recordFailure(String address, String username) {
+    recordFailure(address, username, System.currentTimeMillis());
+  }
+
+  /**
+   * Records a failed login from the specified address of the specified username at the specified
+   * time.
+   *
+   * @param address The address which failed to login.
+   * @param username The username which failed to login.
+   * @param now The current time, in milliseconds since the epoch.
+   */
+  void recordFailure(String address, String username, long now) {
+    recordFailures(addressSubject(address), 1, now);
+    recordFailures(usernameSubject(username), 1, now);
+  }
+
+  /**
+   * Restores previously persisted failed logins. Each is restored as if every failure occurred at
+   * the time of the latest, so a subject is throttled at least as long as before.
+   *
+   * @param failures The failed logins to restore.
+   */
+  public void restore(List<LoginFailures> failures) {
+    for (LoginFailures failure : failures) {
+      recordFailures(failure.getSubject(), failure.getCount(), failure.getLastFailure());
+    }
+  }
+
+  /**
+   * Removes every subject whose failed logins have all left the window.
+   *
+   * @return The amount of subjects which remain.
+   */
+  public int evictExpired() {
+    return evictExpired(System.currentTimeMillis());
+  }
+
+  /**
+   * Removes every subject whose failed logins have all left the window at the specified time.
+   *
+   * @param now The current time, in milliseconds since the epoch.
+   * @return The amount of subjects which remain.
+   */
+  int evictExpired(long now) {
+    int remaining = 0;
+    for (Stripe stripe : stripes) {
+      synchronized (stripe) {
+        Iterator<FailureWindow> iterator = stripe.windows.values().iterator();
+        while (iterator.hasNext()) {
+          if (iterator.next().getLatest() <= now - window) {
+            iterator.remove();
+          }
+        }
+        remaining += stripe.windows.size();
+      }
+    }
+    return remaining;
+  }
+
+  /**
+   * Takes a snapshot of the failed logins which are still within the window.
+   *
+   * @return The failed logins, never {@code null}.
+   */
+  public List<LoginFailures> snapshot() {
+    long since = System.currentTimeMillis() - window;
+    List<LoginFailures> failures = new ArrayList<>();
+
+    for (Stripe stripe : stripes) {
+      synchronized (stripe) {
+        for (Map.Entry<String, FailureWindow> entry : stripe.windows.entrySet()) {
+          FailureWindow failureWindow = entry.getValue();
+          int count = failureWindow.countAfter(since);
+          if (count > 0) {
+            failures.add(new LoginFailures(entry.getKey(), count, failureWindow.getLatest()));
+          }
+        }
+      }
+    }
+
+    return failures;
+  }
+
+  /**
+   * Gets the length of the sliding window.
+   *
+   * @return The length of the window, in milliseconds.
+   */
+  public long getWindow() {
+    return window;
+  }
+
+  /**
+   * Tests whether or not the specified subject is throttled at the specified time.
+   *
+   * @param subject The subject.
+   * @param now The current time, in milliseconds since the epoch.
+   * @return {@code true} iff the subject is throttled.
+   */
+  private boolean isThrottled(String subject, long now) {
+    Stripe stripe = stripeFor(subject);
+    synchronized (stripe) {
+      FailureWindow failureWindow = stripe.windows.get(subject);
+      return failureWindow != null && failureWindow.isFull()
+          && failureWindow.getOldest() > now - window;
+    }
+  }
+
+  /**
+   * Records failed logins of the specified subject at the specified time.
+   *
+   * @param subject The subject.
+   * @param count The amount of failed logins.
+   * @param time The time of the failed logins, in milliseconds since the epoch.
+   */
+  private void recordFailures(String subject, int count, long time) {
+    Stripe stripe = stripeFor(subject);
+    synchronized (stripe) {
+      FailureWindow failureWindow = stripe.windows
+          .computeIfAbsent(subject, key -> new FailureWindow(maximumFailures));
+      for (int index = 0; index < Math.min(count, maximumFailures); index++) {
+        failureWindow.add(time);
+      }
+    }
+  }
+
+  /**
+   * Gets the Stripe of the specified subject.
+   *
+   * @param subject The subject.
+   * @return The Stripe.
+   */
+  private Stripe stripeFor(String subject) {
+    int hash = subject.hashCode();
+    return stripes[(hash ^ hash >>> 16) & STRIPES - 1];
+  }
+
+  /**
+   * Gets the subject of the specified address.
+   *
+   * @param address The address.
+   * @return The subject.
+   */
+  private static String addressSubject(String address) {
+    return ADDRESS_PREFIX.concat(address);
+  }
+
+  /**
+   * Gets the subject of the specified username, usernames are case-insensitive.
+   *
+   * @param username The username.
+   * @return The subject.
+   */
+  private static String usernameSubject(String username) {
+    return USERNAME_PREFIX.concat(username.toLowerCase(Locale.ROOT));
+  }
+
+  /**
+   * A stripe of subjects, guarded by its own monitor.
+   */
+  private static final class Stripe {
+
+    /**
+     * The failed logins of each subject in this stripe.
+     */
+    private final Map<String, FailureWindow> windows = new HashMap<>();
+
+  }
+
+  /**
+   * The times of the latest failed logins of a single subject, in a ring buffer.
+   */
+  private static final class FailureWindow {
+
+    /**
+     * The times of the failed logins, in milliseconds since the epoch.
+     */
+    private final long[] times;
+
+    /**
+     * The index the next failed login is written to.
+     */
+    private int next;
+
+    /**
+     * The amount of failed logins recorded, up to the capacity.
+     */
+    private int size;
+
+    /**
+     * Constructs a new {@link FailureWindow}.
+     *
+     * @param capacity The amount of failed logins kept.
+     */
+    FailureWindow(int capacity) {
+      this.times = new long[capacity];
+    }
+
+    /**
+     * Adds a failed login, replacing the oldest if this window is full.
+     *
+     * @param time The time of the failed login, in milliseconds since the epoch.
+     */
+    void add(long time) {
+      times[next] = time;
+      next = (next + 1) % times.length;
+      size = Math.min(size + 1, times.length);
+    }
+
+    /**
+     * Tests whether or not this window holds as many failed logins as it can.
+     *
+     * @return {@code true} iff this window is full.
+     */
+    boolean isFull() {
+      return size == times.length;
+    }
+
+    /**
+     * Gets the time of the oldest failed login kept.
+     *
+     * @return The time of the oldest failed login.
+     */
+    long getOldest() {
+      return times[(next - size + times.length) % times.length];
+    }
+
+    /**
+     * Gets the time of the latest failed login.
+     *
+     * @return The time of the latest failed login.
+     */
+    long getLatest() {
+      return times[(next - 1 + times.length) % times.length];
+    }
+
+    /**
+     * Counts the failed logins after the specified time.
+     *
+     * @param since The time, in milliseconds since the epoch.
+     * @return The amount of failed logins after the time.
+     */
+    int countAfter(long since) {
+      int count = 0;
+      for (int index = 0; index < size; index++) {
+        if (times[index] > since) {
+          count++;
+        }
+      }
+      return count;
+    }
+
+  }
+
+}
@@ -2,21 +2,27 @@ package me.ryleykimmel.brandywine.game.auth.impl;
 
 import com.google.common.base.Preconditions;
 import com.lambdaworks.crypto.SCryptUtil;
-import java.time.Instant;
-import java.time.temporal.ChronoUnit;
 import java.util.List;
+import me.ryleykimmel.brandywine.common.util.DataSourceUtil;
 import me.ryleykimmel.brandywine.game.auth.AuthenticationStrategy;
+import me.ryleykimmel.brandywine.game.auth.LoginThrottler;
 import me.ryleykimmel.brandywine.game.model.player.Player;
 import me.ryleykimmel.brandywine.game.model.player.PlayerCredentials;
 import me.ryleykimmel.brandywine.network.ResponseCode;
 import org.sql2o.Connection;
-import org.sql2o.Query;
 import org.sql2o.Sql2o;
 import org.sql2o.Sql2oException;
 import org.sql2o.data.Row;
 
 /**
  * An {@link AuthenticationStrategy} which utilizes jdbc-SQL to validate requests.
+ * <p>
+ * Failed logins are throttled in memory by a {@link LoginThrottler}, so a throttled login is
+ * refused without touching the database and each other login costs a single query. The Sql2o
+ * should be backed by a pooled DataSource, such as one created by
+ * {@link DataSourceUtil#createPooled(String, String, String, String, int)}, so requests reuse
+ * connections and their prepared statements rather than connecting anew.
+ * </p>
  */
 public final class SqlAuthenticationStrategy implements AuthenticationStrategy {
 
@@ -30,18 +36,31 @@ public final class SqlAuthenticationStrategy implements AuthenticationStrategy {
    */
   private static final int MAXIMUM_PASSWORD_LENGTH = 20;
 
+  /**
+   * Fetches only the columns needed to check the password of a player.
+   */
+  private static final String SELECT_PLAYER = "SELECT id, password FROM players "
+      + "WHERE username = :username";
+
   /**
    * The Sql2o used to create JDBC {@link Connection}s.
    */
   private final Sql2o sql2o;
 
+  /**
+   * The LoginThrottler which refuses logins after repeated wrong passwords.
+   */
+  private final LoginThrottler throttler;
+
   /**
    * Constructs a new {@link SqlAuthenticationStrategy}.
    *
    * @param sql2o The Sql2o used to create JDBC {@link Connection}s.
+   * @param throttler The LoginThrottler which refuses logins after repeated wrong passwords.
    */
-  public SqlAuthenticationStrategy(Sql2o sql2o) {
+  public SqlAuthenticationStrategy(Sql2o sql2o, LoginThrottler throttler) {
     this.sql2o = Preconditions.checkNotNull(sql2o, "Sql2o may not be null.");
+    this.throttler = Preconditions.checkNotNull(throttler, "LoginThrottler may not be null.");
   }
 
   @Override
@@ -59,37 +78,15 @@ public final class SqlAuthenticationStrategy implements AuthenticationStrategy {
       return ResponseCode.STATUS_INVALID_CREDENTIALS;
     }
 
-    try (Connection connection = sql2o.open()) {
-      String remoteAddress = player.getSession().getRemoteAddress().getHostString();
-
-      Query select = connection
-          .createQuery("SELECT * FROM failed_logins WHERE remote_addr = :remote_addr");
-      select.addParameter("remote_addr", remoteAddress);
-
-      List<Row> results = select.executeAndFetchTable().rows();
-
-      int count = 0;
-      for (Row result : results) {
-        count = result.getInteger("count");
-        long date = result.getLong("timestamp");
-
-        Instant expire = Instant.ofEpochMilli(date).plus(1, ChronoUnit.MINUTES);
-        Instant now = Instant.now();
-
-        if (now.isAfter(expire)) {
-          Query delete = connection.createQuery(
-              "DELETE FROM failed_logins WHERE remote_addr = :remote_addr");
-          delete.addParameter("remote_addr", remoteAddress);
-          delete.executeUpdate();
-        } else if (count >= 5) {
-          return ResponseCode.STATUS_TOO_MANY_LOGINS;
-        }
-      }
-
-      select = connection.createQuery("SELECT * FROM players WHERE username = :username");
-      select.addParameter("username", username);
+    String remoteAddress = player.getSession().getRemoteAddress().getHostString();
+    if (throttler.isThrottled(remoteAddress, username)) {
+      return ResponseCode.STATUS_TOO_MANY_LOGINS;
+    }
 
-      results = select.executeAndFetchTable().rows();
+    try (Connection connection = sql2o.open()) {
+      List<Row> results = connection.createQuery(SELECT_PLAYER)
+          .addParameter("username", username)
+          .executeAndFetchTable().rows();
 
       if (results.isEmpty()) {
         // Account does not exist, maybe create response code for 'you must create an
@@ -97,23 +94,13 @@ public final class SqlAuthenticationStrategy implements AuthenticationStrategy {
         return ResponseCode.STATUS_OK;
       }
 
-      for (Row result : results) {
-        int id = result.getInteger("id");
-        String remotePassword = result.getString("password");
-
-        if (!SCryptUtil.check(password, remotePassword)) {
-          Query insert = connection.createQuery(
-              "INSERT INTO failed_logins (count, timestamp, remote_addr) VALUES (:count, :timestamp, :remote_addr) ON DUPLICATE KEY UPDATE count = VALUES(count), timestamp = VALUES(timestamp), remote_addr = VALUES(remote_addr)");
-          insert.addParameter("count", count + 1);
-          insert.addParameter("timestamp", System.currentTimeMillis());
-          insert.addParameter("remote_addr", remoteAddress);
-          insert.executeUpdate();
-
-          return ResponseCode.STATUS_INVALID_CREDENTIALS;
-        }
-
-        player.setDatabaseId(id);
+      Row result = results.get(0);
+      if (!SCryptUtil.check(password, result.getString("password"))) {
+        throttler.recordFailure(remoteAddress, username);
+        return ResponseCode.STATUS_INVALID_CREDENTIALS;
       }
+
+      player.setDatabaseId(result.getInteger("id"));
     } catch (Sql2oException cause) { // SQL server offline
       return ResponseCode.STATUS_LOGIN_SERVER_OFFLINE;
     }
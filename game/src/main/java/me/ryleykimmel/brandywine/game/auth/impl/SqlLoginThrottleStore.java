@@ -0,0 +1,85 @@
+package me.ryleykimmel.brandywine.game.auth.impl;
+
+import com.google.common.base.Preconditions;
+import java.util.ArrayList;
+import java.util.List;
+import me.ryleykimmel.brandywine.game.auth.LoginFailures;
+import me.ryleykimmel.brandywine.game.auth.LoginThrottleStore;
+import org.sql2o.Connection;
+import org.sql2o.Query;
+import org.sql2o.Sql2o;
+import org.sql2o.data.Row;
+
+/**
+ * A {@link LoginThrottleStore} which persists failed logins to the {@code login_failures} table.
+ */
+public final class SqlLoginThrottleStore implements LoginThrottleStore {
+
+  /**
+   * Selects the failed logins which have not expired.
+   */
+  private static final String SELECT_FAILURES = "SELECT subject, count, last_failure "
+      + "FROM login_failures WHERE last_failure > :since";
+
+  /**
+   * Deletes every failed login.
+   */
+  private static final String DELETE_FAILURES = "DELETE FROM login_failures";
+
+  /**
+   * Inserts a failed login.
+   */
+  private static final String INSERT_FAILURES = "INSERT INTO login_failures "
+      + "(subject, count, last_failure) VALUES (:subject, :count, :last_failure)";
+
+  /**
+   * The Sql2o used to create JDBC {@link Connection}s.
+   */
+  private final Sql2o sql2o;
+
+  /**
+   * Constructs a new {@link SqlLoginThrottleStore}.
+   *
+   * @param sql2o The Sql2o used to create JDBC {@link Connection}s.
+   */
+  public SqlLoginThrottleStore(Sql2o sql2o) {
+    this.sql2o = Preconditions.checkNotNull(sql2o, "Sql2o may not be null.");
+  }
+
+  @Override
+  public List<LoginFailures> load(long since) {
+    try (Connection connection = sql2o.open()) {
+      List<Row> rows = connection.createQuery(SELECT_FAILURES)
+          .addParameter("since", since)
+          .executeAndFetchTable().rows();
+
+      List<LoginFailures> failures = new ArrayList<>(rows.size());
+      for (Row row : rows) {
+        failures.add(new LoginFailures(row.getString("subject"), row.getInteger("count"),
+            row.getLong("last_failure")));
+      }
+      return failures;
+    }
+  }
+
+  @Override
+  public void save(List<LoginFailures> failures) {
+    try (Connection connection = sql2o.beginTransaction()) {
+      connection.createQuery(DELETE_FAILURES).executeUpdate();
+
+      if (!failures.isEmpty()) {
+        Query insert = connection.createQuery(INSERT_FAILURES);
+        for (LoginFailures failure : failures) {
+          insert.addParameter("subject", failure.getSubject())
+              .addParameter("count", failure.getCount())
+              .addParameter("last_failure", failure.getLastFailure())
+              .addToBatch();
+        }
+        insert.executeBatch();
+      }
+
+      connection.commit();
+    }
+  }
+
+}
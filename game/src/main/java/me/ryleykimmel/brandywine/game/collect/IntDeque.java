@@ -0,0 +1,142 @@
+package me.ryleykimmel.brandywine.game.collect;
+
+import com.google.common.base.MoreObjects;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A resizable, array backed double-ended queue of primitive ints, used where an {@link
+ * java.util.ArrayDeque} would otherwise box every element.
+ */
+public final class IntDeque {
+
+  /**
+   * The default capacity of an IntDeque, must be a power of two.
+   */
+  private static final int DEFAULT_CAPACITY = 16;
+
+  /**
+   * The elements of this IntDeque, whose length is always a power of two.
+   */
+  private int[] elements = new int[DEFAULT_CAPACITY];
+
+  /**
+   * The index of the first element.
+   */
+  private int head;
+
+  /**
+   * The amount of elements within this IntDeque.
+   */
+  private int size;
+
+  /**
+   * Adds the specified value to the end of this IntDeque.
+   *
+   * @param value The value to add.
+   */
+  public void addLast(int value) {
+    if (size == elements.length) {
+      grow();
+    }
+    elements[(head + size) & elements.length - 1] = value;
+    size++;
+  }
+
+  /**
+   * Removes and returns the first value of this IntDeque.
+   *
+   * @return The first value.
+   * @throws NoSuchElementException If this IntDeque is empty.
+   */
+  public int pollFirst() {
+    checkNotEmpty();
+    int value = elements[head];
+    head = (head + 1) & elements.length - 1;
+    size--;
+    return value;
+  }
+
+  /**
+   * Returns the last value of this IntDeque, without removing it.
+   *
+   * @return The last value.
+   * @throws NoSuchElementException If this IntDeque is empty.
+   */
+  public int peekLast() {
+    checkNotEmpty();
+    return elements[(head + size - 1) & elements.length - 1];
+  }
+
+  /**
+   * Gets the value at the specified index, where {@code 0} is the first value.
+   *
+   * @param index The index of the value.
+   * @return The value.
+   * @throws IndexOutOfBoundsException If the index is out of bounds.
+   */
+  public int get(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+    }
+    return elements[(head + index) & elements.length - 1];
+  }
+
+  /**
+   * Removes every value from this IntDeque.
+   */
+  public void clear() {
+    head = size = 0;
+  }
+
+  /**
+   * Tests whether or not this IntDeque is empty.
+   *
+   * @return {@code true} if and only if this IntDeque contains no values.
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Gets the amount of values within this IntDeque.
+   *
+   * @return The amount of values.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Doubles the capacity of this IntDeque, moving the first value to index {@code 0}.
+   */
+  private void grow() {
+    int[] grown = new int[elements.length << 1];
+    int leading = elements.length - head;
+    System.arraycopy(elements, head, grown, 0, leading);
+    System.arraycopy(elements, 0, grown, leading, head);
+    elements = grown;
+    head = 0;
+  }
+
+  /**
+   * Checks that this IntDeque is not empty.
+   *
+   * @throws NoSuchElementException If this IntDeque is empty.
+   */
+  private void checkNotEmpty() {
+    if (size == 0) {
+      throw new NoSuchElementException("IntDeque is empty.");
+    }
+  }
+
+  @Override
+  public String toString() {
+    int[] values = new int[size];
+    for (int index = 0; index < size; index++) {
+      values[index] = get(index);
+    }
+    return MoreObjects.toStringHelper(this).add("values", Arrays.toString(values)).toString();
+  }
+
+}
@@ -32,6 +32,22 @@ import me.ryleykimmel.brandywine.network.message.MessageRegistrar;
  */
 public final class GameMessageRegistrar implements MessageRegistrar {
 
+  /**
+   * The maximum length of a movement frame: a 2 byte x, 25 steps of 2 bytes, a 2 byte y and a
+   * 1 byte run flag.
+   */
+  private static final int MAXIMUM_MOVEMENT_LENGTH = 2 + 25 * 2 + 2 + 1;
+
+  /**
+   * The length of the anti-cheat data trailing minimap movement frames.
+   */
+  private static final int MINIMAP_MOVEMENT_TRAILER_LENGTH = 14;
+
+  /**
+   * The maximum amount of queued chat and command messages per Session.
+   */
+  private static final int CHAT_QUEUE_LIMIT = 4;
+
   /**
    * The World of this MessageRegistrar.
    */
@@ -64,13 +80,18 @@ public final class GameMessageRegistrar implements MessageRegistrar {
 
     MovementMessageCodec movementMessageCodec = new MovementMessageCodec();
     MovementMessageListener movementMessageListener = new MovementMessageListener(world);
-    metadata.register(MovementMessage.class, movementMessageCodec, movementMessageListener, 164, VARIABLE_BYTE_LENGTH); // game movement
-    metadata.register(MovementMessage.class, movementMessageCodec, movementMessageListener, 248, VARIABLE_BYTE_LENGTH); // minimap movement
-    metadata.register(MovementMessage.class, movementMessageCodec, movementMessageListener, 98, VARIABLE_BYTE_LENGTH); // command movement
+    metadata.register(MovementMessage.class, movementMessageCodec, movementMessageListener, 164, VARIABLE_BYTE_LENGTH, MAXIMUM_MOVEMENT_LENGTH); // game movement
+    metadata.register(MovementMessage.class, movementMessageCodec, movementMessageListener, 248, VARIABLE_BYTE_LENGTH,
+        MAXIMUM_MOVEMENT_LENGTH + MINIMAP_MOVEMENT_TRAILER_LENGTH); // minimap movement
+    metadata.register(MovementMessage.class, movementMessageCodec, movementMessageListener, 98, VARIABLE_BYTE_LENGTH, MAXIMUM_MOVEMENT_LENGTH); // command movement
 
     metadata.register(ChatMessage.class, new ChatMessageCodec(), new ChatMessageListener(world), 4, VARIABLE_BYTE_LENGTH);
     metadata.register(CommandMessage.class, new CommandMessageCodec(), new CommandMessageListener(world), 103, VARIABLE_BYTE_LENGTH);
 
+    metadata.setLatestOnly(MovementMessage.class); // only the latest path is walked
+    metadata.setQueueLimit(ChatMessage.class, CHAT_QUEUE_LIMIT);
+    metadata.setQueueLimit(CommandMessage.class, CHAT_QUEUE_LIMIT);
+
     SpamPacketMessageCodec spamMessageCodec = new SpamPacketMessageCodec();
     metadata.register(SpamPacketMessage.class, spamMessageCodec, 77, VARIABLE_BYTE_LENGTH);
     metadata.register(SpamPacketMessage.class, spamMessageCodec, 78, 0);
@@ -33,34 +33,9 @@ public final class LoginMessage extends Message {
   private final int blockLength;
 
   /**
-   * The block operation code of the connecting client.
+   * The RSA encrypted block of the connecting client.
    */
-  private final int blockOperationCode;
-
-  /**
-   * The session id of the connecting client.
-   */
-  private final long clientSessionId;
-
-  /**
-   * The server session id of the connecting client.
-   */
-  private final long serverSessionId;
-
-  /**
-   * The user id of the connecting client.
-   */
-  private final int userId;
-
-  /**
-   * The username of the connecting client.
-   */
-  private final String username;
-
-  /**
-   * The password of the connecting client.
-   */
-  private final String password;
+  private final byte[] secureBlock;
 
   /**
    * Constructs a new {@link LoginMessage}.
@@ -70,35 +45,20 @@ public final class LoginMessage extends Message {
    * @param detail The detail level of the connecting client.
    * @param archiveChecksums The archive checksums of the connecting client.
    * @param blockLength The block length of the connecting client.
-   * @param blockOperationCode The block operation code of the connecting client.
-   * @param clientSessionId The session id of the connecting client.
-   * @param serverSessionId The server session id of the connecting client.
-   * @param userId The user id of the connecting client.
-   * @param username The username of the connecting client.
-   * @param password The password of the connecting client.
+   * @param secureBlock The RSA encrypted block of the connecting client.
    */
   public LoginMessage(int dummy,
       int clientVersion,
       int detail,
       int[] archiveChecksums,
       int blockLength,
-      int blockOperationCode,
-      long clientSessionId,
-      long serverSessionId,
-      int userId,
-      String username,
-      String password) {
+      byte[] secureBlock) {
     this.dummy = dummy;
     this.clientVersion = clientVersion;
     this.detail = detail;
     this.archiveChecksums = archiveChecksums;
     this.blockLength = blockLength;
-    this.blockOperationCode = blockOperationCode;
-    this.clientSessionId = clientSessionId;
-    this.serverSessionId = serverSessionId;
-    this.userId = userId;
-    this.username = username;
-    this.password = password;
+    this.secureBlock = secureBlock;
   }
 
   /**
@@ -147,57 +107,12 @@ public final class LoginMessage extends Message {
   }
 
   /**
-   * Gets the block operation code.
-   *
-   * @return The block operation code of the connecting client.
-   */
-  public int getBlockOperationCode() {
-    return blockOperationCode;
-  }
-
-  /**
-   * Gets the session id of the connecting client.
-   *
-   * @return The client session id.
-   */
-  public long getClientSessionId() {
-    return clientSessionId;
-  }
-
-  /**
-   * Gets the server session id of the connecting client.
-   *
-   * @return The server session id.
-   */
-  public long getServerSessionId() {
-    return serverSessionId;
-  }
-
-  /**
-   * Gets the user id.
-   *
-   * @return The user id of the connecting client.
-   */
-  public int getUserId() {
-    return userId;
-  }
-
-  /**
-   * Gets the username.
-   *
-   * @return The username of the connecting client.
-   */
-  public String getUsername() {
-    return username;
-  }
-
-  /**
-   * Gets the password.
+   * Gets the RSA encrypted block, which is decrypted off the network threads.
    *
-   * @return The password of the connecting client.
+   * @return The RSA encrypted block of the connecting client.
    */
-  public String getPassword() {
-    return password;
+  public byte[] getSecureBlock() {
+    return secureBlock;
   }
 
 }
@@ -1,5 +1,6 @@
 package me.ryleykimmel.brandywine.game.message;
 
+import me.ryleykimmel.brandywine.game.auth.LoginDecrypter;
 import me.ryleykimmel.brandywine.game.message.codec.LoginHandshakeMessageCodec;
 import me.ryleykimmel.brandywine.game.message.codec.LoginHandshakeResponseMessageCodec;
 import me.ryleykimmel.brandywine.game.message.codec.LoginMessageCodec;
@@ -22,13 +23,20 @@ public final class LoginMessageRegistrar implements MessageRegistrar {
    */
   private final World world;
 
+  /**
+   * The LoginDecrypter of this MessageRegistrar.
+   */
+  private final LoginDecrypter decrypter;
+
   /**
    * Constructs a new {@link LoginMessageRegistrar}.
    *
    * @param world The World of this MessageRegistrar.
+   * @param decrypter The LoginDecrypter of this MessageRegistrar.
    */
-  public LoginMessageRegistrar(World world) {
+  public LoginMessageRegistrar(World world, LoginDecrypter decrypter) {
     this.world = world;
+    this.decrypter = decrypter;
   }
 
   @Override
@@ -40,7 +48,7 @@ public final class LoginMessageRegistrar implements MessageRegistrar {
     metadata.register(LoginHandshakeMessage.class, new LoginHandshakeMessageCodec(), new LoginHandshakeMessageListener(), 14, 1);
 
     LoginMessageCodec loginMessageCodec = new LoginMessageCodec();
-    LoginMessageListener loginMessageListener = new LoginMessageListener(world);
+    LoginMessageListener loginMessageListener = new LoginMessageListener(world, decrypter);
     metadata.register(LoginMessage.class, loginMessageCodec, loginMessageListener, 16, FrameMetadata.VARIABLE_SHORT_LENGTH);
     metadata.register(LoginMessage.class, loginMessageCodec, loginMessageListener, 18, FrameMetadata.VARIABLE_SHORT_LENGTH);
     return metadata;
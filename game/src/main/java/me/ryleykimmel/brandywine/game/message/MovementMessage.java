@@ -1,6 +1,5 @@
 package me.ryleykimmel.brandywine.game.message;
 
-import java.util.Queue;
 import me.ryleykimmel.brandywine.game.model.Position;
 import me.ryleykimmel.brandywine.network.message.Message;
 
@@ -15,27 +14,27 @@ public final class MovementMessage extends Message {
   private final boolean running;
 
   /**
-   * A {@link Queue} of Positions the client is attempting to move to.
+   * The packed {@link Position}s the client is attempting to move to, in order.
    */
-  private final Queue<Position> steps;
+  private final int[] steps;
 
   /**
-   * Constructs a new {@link MovementMessage} with the specified Queue of Positions and the running flag.
+   * Constructs a new {@link MovementMessage} with the specified packed Positions and the running flag.
    *
-   * @param steps A {@link Queue} of Positions the client is attempting to move to.
+   * @param steps The packed Positions the client is attempting to move to, in order.
    * @param running Whether or not we should run.
    */
-  public MovementMessage(Queue<Position> steps, boolean running) {
+  public MovementMessage(int[] steps, boolean running) {
     this.steps = steps;
     this.running = running;
   }
 
   /**
-   * Gets the Queue of Positions the client is attempting to move to.
+   * Gets the packed Positions the client is attempting to move to, in order.
    *
-   * @return The Queue of Positions the client is attempting to move to.
+   * @return The packed Positions the client is attempting to move to.
    */
-  public Queue<Position> getSteps() {
+  public int[] getSteps() {
     return steps;
   }
 
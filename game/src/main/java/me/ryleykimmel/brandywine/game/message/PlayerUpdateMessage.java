@@ -1,5 +1,8 @@
 package me.ryleykimmel.brandywine.game.message;
 
+import io.netty.util.Recycler;
+import io.netty.util.Recycler.Handle;
+import java.util.ArrayList;
 import java.util.List;
 import me.ryleykimmel.brandywine.game.model.Position;
 import me.ryleykimmel.brandywine.game.update.PlayerDescriptor;
@@ -7,67 +10,120 @@ import me.ryleykimmel.brandywine.network.message.Message;
 
 /**
  * A {@link Message} which updates Players.
+ * <p>
+ * PlayerUpdateMessages are pooled, as are the PlayerDescriptors they hold. A message and all of
+ * its descriptors are recycled by {@link #recycle()} once the message has been encoded.
+ * </p>
  */
 public final class PlayerUpdateMessage extends Message {
 
   /**
-   * The last known region.
+   * The Recycler which pools PlayerUpdateMessages.
    */
-  private final Position lastKnownRegion;
+  private static final Recycler<PlayerUpdateMessage> RECYCLER =
+      new Recycler<PlayerUpdateMessage>() {
+        @Override
+        protected PlayerUpdateMessage newObject(Handle<PlayerUpdateMessage> handle) {
+          return new PlayerUpdateMessage(handle);
+        }
+      };
 
   /**
-   * The current Position.
+   * The Handle used to recycle this PlayerUpdateMessage.
    */
-  private final Position position;
+  private final Handle<PlayerUpdateMessage> handle;
+
+  /**
+   * The surrounding Players descriptors.
+   */
+  private final List<PlayerDescriptor> descriptors = new ArrayList<>();
+
+  /**
+   * The packed last known region.
+   */
+  private int lastKnownRegion;
+
+  /**
+   * The packed current {@link Position}.
+   */
+  private int position;
 
   /**
    * The local player count.
    */
-  private final int localPlayerCount;
+  private int localPlayerCount;
 
   /**
    * This Players descriptor.
    */
-  private final PlayerDescriptor descriptor;
+  private PlayerDescriptor descriptor;
 
   /**
-   * The surrounding Players descriptors.
+   * Constructs a new {@link PlayerUpdateMessage}.
+   *
+   * @param handle The Handle used to recycle this PlayerUpdateMessage.
    */
-  private final List<PlayerDescriptor> descriptors;
+  private PlayerUpdateMessage(Handle<PlayerUpdateMessage> handle) {
+    this.handle = handle;
+  }
 
   /**
-   * Constructs a new {@link PlayerUpdateMessage}.
+   * Creates a {@link PlayerUpdateMessage} without any surrounding Players descriptors.
    *
-   * @param lastKnownRegion The last known region.
-   * @param position The current position.
+   * @param lastKnownRegion The packed last known region.
+   * @param position The packed current position.
    * @param localPlayerCount The local player count.
    * @param descriptor This Players descriptor.
-   * @param descriptors The surrounding Players descriptors.
-   */
-  public PlayerUpdateMessage(Position lastKnownRegion, Position position, int localPlayerCount,
-      PlayerDescriptor descriptor, List<PlayerDescriptor> descriptors) {
-    this.lastKnownRegion = lastKnownRegion;
-    this.position = position;
-    this.localPlayerCount = localPlayerCount;
-    this.descriptor = descriptor;
-    this.descriptors = descriptors;
+   * @return The PlayerUpdateMessage, never {@code null}.
+   */
+  public static PlayerUpdateMessage create(int lastKnownRegion, int position,
+      int localPlayerCount, PlayerDescriptor descriptor) {
+    PlayerUpdateMessage message = RECYCLER.get();
+    message.lastKnownRegion = lastKnownRegion;
+    message.position = position;
+    message.localPlayerCount = localPlayerCount;
+    message.descriptor = descriptor;
+    return message;
+  }
+
+  /**
+   * Adds a surrounding Players descriptor.
+   *
+   * @param descriptor The descriptor to add.
+   */
+  public void addDescriptor(PlayerDescriptor descriptor) {
+    descriptors.add(descriptor);
+  }
+
+  /**
+   * Recycles this PlayerUpdateMessage and every PlayerDescriptor it holds. This message must not be
+   * used again after it has been recycled.
+   */
+  public void recycle() {
+    descriptor.recycle();
+    for (int index = 0, size = descriptors.size(); index < size; index++) {
+      descriptors.get(index).recycle();
+    }
+    descriptors.clear();
+    descriptor = null;
+    handle.recycle(this);
   }
 
   /**
-   * Gets the last known region.
+   * Gets the packed last known region.
    *
-   * @return The last know region.
+   * @return The packed last know region.
    */
-  public Position getLastKnownRegion() {
+  public int getLastKnownRegion() {
     return lastKnownRegion;
   }
 
   /**
-   * Gets the current position.
+   * Gets the packed current position.
    *
-   * @return The currnet position.
+   * @return The packed currnet position.
    */
-  public Position getPosition() {
+  public int getPosition() {
     return position;
   }
 
@@ -0,0 +1,116 @@
+package me.ryleykimmel.brandywine.game.message;
+
+/**
+ * The decrypted secure block of a {@link LoginMessage}.
+ */
+public final class SecureLoginBlock {
+
+  /**
+   * The block operation code of the connecting client.
+   */
+  private final int blockOperationCode;
+
+  /**
+   * The session id of the connecting client.
+   */
+  private final long clientSessionId;
+
+  /**
+   * The server session id of the connecting client.
+   */
+  private final long serverSessionId;
+
+  /**
+   * The user id of the connecting client.
+   */
+  private final int userId;
+
+  /**
+   * The username of the connecting client.
+   */
+  private final String username;
+
+  /**
+   * The password of the connecting client.
+   */
+  private final String password;
+
+  /**
+   * Constructs a new {@link SecureLoginBlock}.
+   *
+   * @param blockOperationCode The block operation code of the connecting client.
+   * @param clientSessionId The session id of the connecting client.
+   * @param serverSessionId The server session id of the connecting client.
+   * @param userId The user id of the connecting client.
+   * @param username The username of the connecting client.
+   * @param password The password of the connecting client.
+   */
+  public SecureLoginBlock(int blockOperationCode,
+      long clientSessionId,
+      long serverSessionId,
+      int userId,
+      String username,
+      String password) {
+    this.blockOperationCode = blockOperationCode;
+    this.clientSessionId = clientSessionId;
+    this.serverSessionId = serverSessionId;
+    this.userId = userId;
+    this.username = username;
+    this.password = password;
+  }
+
+  /**
+   * Gets the block operation code.
+   *
+   * @return The block operation code of the connecting client.
+   */
+  public int getBlockOperationCode() {
+    return blockOperationCode;
+  }
+
+  /**
+   * Gets the session id of the connecting client.
+   *
+   * @return The client session id.
+   */
+  public long getClientSessionId() {
+    return clientSessionId;
+  }
+
+  /**
+   * Gets the server session id of the connecting client.
+   *
+   * @return The server session id.
+   */
+  public long getServerSessionId() {
+    return serverSessionId;
+  }
+
+  /**
+   * Gets the user id.
+   *
+   * @return The user id of the connecting client.
+   */
+  public int getUserId() {
+    return userId;
+  }
+
+  /**
+   * Gets the username.
+   *
+   * @return The username of the connecting client.
+   */
+  public String getUsername() {
+    return username;
+  }
+
+  /**
+   * Gets the password.
+   *
+   * @return The password of the connecting client.
+   */
+  public String getPassword() {
+    return password;
+  }
+
+}
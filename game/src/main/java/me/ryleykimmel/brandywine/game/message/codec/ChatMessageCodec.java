@@ -4,7 +4,6 @@ import me.ryleykimmel.brandywine.common.Strings;
 import me.ryleykimmel.brandywine.common.util.TextUtil;
 import me.ryleykimmel.brandywine.game.message.ChatMessage;
 import me.ryleykimmel.brandywine.network.frame.DataTransformation;
-import me.ryleykimmel.brandywine.network.frame.DataType;
 import me.ryleykimmel.brandywine.network.frame.FrameReader;
 import me.ryleykimmel.brandywine.network.message.MessageCodec;
 
@@ -15,8 +14,8 @@ public final class ChatMessageCodec extends MessageCodec<ChatMessage> {
 
   @Override
   public ChatMessage decode(FrameReader reader) {
-    int effects = (int) reader.getUnsigned(DataType.BYTE, DataTransformation.SUBTRACT);
-    int color = (int) reader.getUnsigned(DataType.BYTE, DataTransformation.SUBTRACT);
+    int effects = reader.getUnsignedByteSubtract();
+    int color = reader.getUnsignedByteSubtract();
     int length = reader.readableBytes();
     byte[] originalCompressed = reader.getBytesReverse(DataTransformation.ADD, length);
 
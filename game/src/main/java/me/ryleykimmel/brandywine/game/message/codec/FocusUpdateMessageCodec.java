@@ -1,7 +1,6 @@
 package me.ryleykimmel.brandywine.game.message.codec;
 
 import me.ryleykimmel.brandywine.game.message.FocusUpdateMessage;
-import me.ryleykimmel.brandywine.network.frame.DataType;
 import me.ryleykimmel.brandywine.network.frame.FrameReader;
 import me.ryleykimmel.brandywine.network.message.MessageCodec;
 
@@ -12,7 +11,7 @@ public final class FocusUpdateMessageCodec extends MessageCodec<FocusUpdateMessa
 
   @Override
   public FocusUpdateMessage decode(FrameReader frame) {
-    boolean focused = (byte) frame.getUnsigned(DataType.BYTE) == 1;
+    boolean focused = frame.getUnsignedByte() == 1;
     return new FocusUpdateMessage(focused);
   }
 
@@ -1,7 +1,6 @@
 package me.ryleykimmel.brandywine.game.message.codec;
 
 import me.ryleykimmel.brandywine.game.message.LoginHandshakeMessage;
-import me.ryleykimmel.brandywine.network.frame.DataType;
 import me.ryleykimmel.brandywine.network.frame.FrameReader;
 import me.ryleykimmel.brandywine.network.message.MessageCodec;
 
@@ -12,7 +11,7 @@ public final class LoginHandshakeMessageCodec extends MessageCodec<LoginHandshak
 
   @Override
   public LoginHandshakeMessage decode(FrameReader reader) {
-    int nameHash = (int) reader.getUnsigned(DataType.BYTE);
+    int nameHash = reader.getUnsignedByte();
     return new LoginHandshakeMessage(nameHash);
   }
 
@@ -1,7 +1,6 @@
 package me.ryleykimmel.brandywine.game.message.codec;
 
 import me.ryleykimmel.brandywine.game.message.LoginHandshakeResponseMessage;
-import me.ryleykimmel.brandywine.network.frame.DataType;
 import me.ryleykimmel.brandywine.network.frame.FrameBuilder;
 import me.ryleykimmel.brandywine.network.message.MessageCodec;
 
@@ -14,8 +13,8 @@ public final class LoginHandshakeResponseMessageCodec extends
   @Override
   public void encode(LoginHandshakeResponseMessage message, FrameBuilder builder) {
     builder.putBytes(message.getDummy());
-    builder.put(DataType.BYTE, message.getStatus());
-    builder.put(DataType.LONG, message.getSessionKey());
+    builder.putByte(message.getStatus());
+    builder.putLong(message.getSessionKey());
   }
 
 }
@@ -2,7 +2,6 @@ package me.ryleykimmel.brandywine.game.message.codec;
 
 import me.ryleykimmel.brandywine.game.message.LoginResponseMessage;
 import me.ryleykimmel.brandywine.network.ResponseCode;
-import me.ryleykimmel.brandywine.network.frame.DataType;
 import me.ryleykimmel.brandywine.network.frame.FrameBuilder;
 import me.ryleykimmel.brandywine.network.message.MessageCodec;
 
@@ -14,10 +13,10 @@ public final class LoginResponseMessageCodec extends MessageCodec<LoginResponseM
   @Override
   public void encode(LoginResponseMessage message, FrameBuilder builder) {
     ResponseCode response = message.getResponse();
-    builder.put(DataType.BYTE, response.getCode());
+    builder.putByte(response.getCode());
     if (response == ResponseCode.STATUS_OK) {
-      builder.put(DataType.BYTE, message.getPrivilege());
-      builder.put(DataType.BYTE, message.isFlagged() ? 1 : 0);
+      builder.putByte(message.getPrivilege());
+      builder.putByte(message.isFlagged() ? 1 : 0);
     }
   }
 
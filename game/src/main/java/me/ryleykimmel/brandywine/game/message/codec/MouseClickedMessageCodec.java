@@ -1,7 +1,6 @@
 package me.ryleykimmel.brandywine.game.message.codec;
 
 import me.ryleykimmel.brandywine.game.message.MouseClickedMessage;
-import me.ryleykimmel.brandywine.network.frame.DataType;
 import me.ryleykimmel.brandywine.network.frame.FrameReader;
 import me.ryleykimmel.brandywine.network.message.MessageCodec;
 
@@ -12,7 +11,7 @@ public final class MouseClickedMessageCodec extends MessageCodec<MouseClickedMes
 
   @Override
   public MouseClickedMessage decode(FrameReader frame) {
-    int value = (int) frame.getUnsigned(DataType.INT);
+    int value = frame.getInt();
 
     long delay = (value >> 20) * 50;
     boolean right = (value >> 19 & 0x1) == 1;
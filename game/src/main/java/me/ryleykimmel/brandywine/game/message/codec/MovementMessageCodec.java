@@ -1,12 +1,7 @@
 package me.ryleykimmel.brandywine.game.message.codec;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
 import me.ryleykimmel.brandywine.game.message.MovementMessage;
 import me.ryleykimmel.brandywine.game.model.Position;
-import me.ryleykimmel.brandywine.network.frame.DataOrder;
-import me.ryleykimmel.brandywine.network.frame.DataTransformation;
-import me.ryleykimmel.brandywine.network.frame.DataType;
 import me.ryleykimmel.brandywine.network.frame.FrameReader;
 import me.ryleykimmel.brandywine.network.message.MessageCodec;
 
@@ -23,24 +18,23 @@ public final class MovementMessageCodec extends MessageCodec<MovementMessage> {
     }
 
     int steps = (length - 5) / 2;
-    int[][] path = new int[steps][2];
+    int[] path = new int[steps * 2];
 
-    int x = (int) reader.getUnsigned(DataType.SHORT, DataOrder.LITTLE, DataTransformation.ADD);
+    int x = reader.getUnsignedShortLEAdd();
 
-    for (int i = 0; i < steps; i++) {
-      path[i][0] = (int) reader.getSigned(DataType.BYTE);
-      path[i][1] = (int) reader.getSigned(DataType.BYTE);
+    for (int i = 0; i < path.length; i++) {
+      path[i] = reader.getSignedByte();
     }
 
-    int y = (int) reader.getUnsigned(DataType.SHORT, DataOrder.LITTLE);
+    int y = reader.getUnsignedShortLE();
 
-    boolean run = reader.getUnsigned(DataType.BYTE, DataTransformation.NEGATE) == 1;
+    boolean run = reader.getUnsignedByteNegate() == 1;
 
-    Deque<Position> positions = new ArrayDeque<>();
+    int[] positions = new int[steps + 1];
 
-    positions.offerFirst(new Position(x, y));
+    positions[0] = Position.pack(x, y, 0);
     for (int i = 0; i < steps; i++) {
-      positions.offer(new Position(path[i][0] + x, path[i][1] + y));
+      positions[i + 1] = Position.pack(path[i * 2] + x, path[i * 2 + 1] + y, 0);
     }
 
     return new MovementMessage(positions, run);
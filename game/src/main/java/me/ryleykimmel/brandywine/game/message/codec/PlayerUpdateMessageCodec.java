@@ -1,5 +1,6 @@
 package me.ryleykimmel.brandywine.game.message.codec;
 
+import java.util.List;
 import me.ryleykimmel.brandywine.game.message.PlayerUpdateMessage;
 import me.ryleykimmel.brandywine.game.update.PlayerDescriptor;
 import me.ryleykimmel.brandywine.network.frame.FrameBuilder;
@@ -19,8 +20,9 @@ public final class PlayerUpdateMessageCodec extends MessageCodec<PlayerUpdateMes
       message.getDescriptor().encode(builder, blockBuilder);
       builder.putBits(8, message.getLocalPlayerCount());
 
-      for (PlayerDescriptor descriptor : message.getDescriptors()) {
-        descriptor.encode(builder, blockBuilder);
+      List<PlayerDescriptor> descriptors = message.getDescriptors();
+      for (int index = 0, size = descriptors.size(); index < size; index++) {
+        descriptors.get(index).encode(builder, blockBuilder);
       }
 
       if (blockBuilder.getLength() > 0) {
@@ -32,6 +34,7 @@ public final class PlayerUpdateMessageCodec extends MessageCodec<PlayerUpdateMes
       }
     } finally {
       blockBuilder.release();
+      message.recycle();
     }
   }
 
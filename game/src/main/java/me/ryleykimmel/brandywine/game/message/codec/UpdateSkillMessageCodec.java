@@ -2,8 +2,6 @@ package me.ryleykimmel.brandywine.game.message.codec;
 
 import me.ryleykimmel.brandywine.game.message.UpdateSkillMessage;
 import me.ryleykimmel.brandywine.game.model.skill.Skill;
-import me.ryleykimmel.brandywine.network.frame.DataOrder;
-import me.ryleykimmel.brandywine.network.frame.DataType;
 import me.ryleykimmel.brandywine.network.frame.FrameBuilder;
 import me.ryleykimmel.brandywine.network.message.MessageCodec;
 
@@ -15,9 +13,9 @@ public final class UpdateSkillMessageCodec extends MessageCodec<UpdateSkillMessa
   @Override
   public void encode(UpdateSkillMessage message, FrameBuilder builder) {
     Skill skill = message.getSkill();
-    builder.put(DataType.BYTE, skill.getId());
-    builder.put(DataType.INT, DataOrder.MIDDLE, (int) skill.getExperience());
-    builder.put(DataType.BYTE, skill.getCurrentLevel());
+    builder.putByte(skill.getId());
+    builder.putIntMiddle((int) skill.getExperience());
+    builder.putByte(skill.getCurrentLevel());
   }
 
 }
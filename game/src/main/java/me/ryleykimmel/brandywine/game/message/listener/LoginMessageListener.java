@@ -3,8 +3,10 @@ package me.ryleykimmel.brandywine.game.message.listener;
 import io.netty.channel.ChannelFutureListener;
 import me.ryleykimmel.brandywine.game.auth.AuthenticationRequest;
 import me.ryleykimmel.brandywine.game.auth.AuthenticationService;
+import me.ryleykimmel.brandywine.game.auth.LoginDecrypter;
 import me.ryleykimmel.brandywine.game.message.LoginMessage;
 import me.ryleykimmel.brandywine.game.message.LoginResponseMessage;
+import me.ryleykimmel.brandywine.game.message.SecureLoginBlock;
 import me.ryleykimmel.brandywine.game.model.World;
 import me.ryleykimmel.brandywine.game.model.player.PlayerCredentials;
 import me.ryleykimmel.brandywine.network.ResponseCode;
@@ -12,7 +14,8 @@ import me.ryleykimmel.brandywine.network.Session;
 import me.ryleykimmel.brandywine.network.message.MessageListener;
 
 /**
- * Listener for the {@link LoginMessage}.
+ * Listener for the {@link LoginMessage}. The plain part of the message is validated on the network
+ * thread, the secure block is decrypted and validated by a {@link LoginDecrypter}.
  */
 public final class LoginMessageListener implements MessageListener<LoginMessage> {
 
@@ -36,13 +39,20 @@ public final class LoginMessageListener implements MessageListener<LoginMessage>
    */
   private final World world;
 
+  /**
+   * The LoginDecrypter for decrypting secure blocks.
+   */
+  private final LoginDecrypter decrypter;
+
   /**
    * Constructs a new {@link LoginMessageListener}.
    *
    * @param world The World for submitting authentication requests.
+   * @param decrypter The LoginDecrypter for decrypting secure blocks.
    */
-  public LoginMessageListener(World world) {
+  public LoginMessageListener(World world, LoginDecrypter decrypter) {
     this.world = world;
+    this.decrypter = decrypter;
   }
 
   @Override
@@ -62,13 +72,27 @@ public final class LoginMessageListener implements MessageListener<LoginMessage>
       return;
     }
 
-    if (message.getBlockOperationCode() != EXPECTED_BLOCK_OPCODE) {
+    boolean queued = decrypter.submit(message, block -> handle(session, block),
+        cause -> closeWithResponse(session, ResponseCode.STATUS_LOGIN_SERVER_REJECTED_SESSION));
+    if (!queued) {
+      closeWithResponse(session, ResponseCode.STATUS_LOGIN_SERVER_OFFLINE);
+    }
+  }
+
+  /**
+   * Handles the decrypted secure block of a LoginMessage, on a LoginDecrypter thread.
+   *
+   * @param session The Session that the LoginMessage was received from.
+   * @param block The decrypted secure block.
+   */
+  private void handle(Session session, SecureLoginBlock block) {
+    if (block.getBlockOperationCode() != EXPECTED_BLOCK_OPCODE) {
       closeWithResponse(session, ResponseCode.STATUS_LOGIN_SERVER_REJECTED_SESSION);
       return;
     }
 
-    long serverSessionId = message.getServerSessionId();
-    long clientSessionId = message.getClientSessionId();
+    long serverSessionId = block.getServerSessionId();
+    long clientSessionId = block.getClientSessionId();
 
     if (serverSessionId != session.getId()) {
       closeWithResponse(session, ResponseCode.STATUS_BAD_SESSION_ID);
@@ -83,7 +107,7 @@ public final class LoginMessageListener implements MessageListener<LoginMessage>
     };
 
     world.getService(AuthenticationService.class).submit(new AuthenticationRequest(session,
-        new PlayerCredentials(message.getUserId(), message.getUsername(), message.getPassword(),
+        new PlayerCredentials(block.getUserId(), block.getUsername(), block.getPassword(),
             sessionIds)));
   }
 
@@ -1,9 +1,7 @@
 package me.ryleykimmel.brandywine.game.message.listener;
 
-import java.util.Queue;
 import me.ryleykimmel.brandywine.game.message.MovementMessage;
 import me.ryleykimmel.brandywine.game.model.MovementQueue;
-import me.ryleykimmel.brandywine.game.model.Position;
 import me.ryleykimmel.brandywine.game.model.World;
 import me.ryleykimmel.brandywine.game.model.player.Player;
 
@@ -24,17 +22,16 @@ public final class MovementMessageListener extends GameMessageListener<MovementM
   @Override
   public void handle(Player player, MovementMessage message) {
     MovementQueue queue = player.getMovementQueue();
-    Queue<Position> steps = message.getSteps();
+    int[] steps = message.getSteps();
 
-    Position step = steps.poll();
-    if (step == null) {
+    if (steps.length == 0) {
       return;
     }
 
-    queue.addFirstStep(step);
+    queue.addFirstStep(steps[0]);
 
-    while ((step = steps.poll()) != null) {
-      queue.addStep(step);
+    for (int index = 1; index < steps.length; index++) {
+      queue.addStep(steps[index]);
     }
 
     queue.setRunning(message.isRunning() || player.isRunning());
@@ -72,8 +72,19 @@ public enum Direction {
    * @return The Direction between the two Positions.
    */
   public static Direction between(Position current, Position next) {
-    int deltaX = next.getDeltaX(current);
-    int deltaY = next.getDeltaY(current);
+    return between(current.pack(), next.pack());
+  }
+
+  /**
+   * Gets the Direction between the two packed {@link Position positions}.
+   *
+   * @param current The current packed Position.
+   * @param next The next packed Position.
+   * @return The Direction between the two Positions.
+   */
+  public static Direction between(int current, int next) {
+    int deltaX = Position.getX(next) - Position.getX(current);
+    int deltaY = Position.getY(next) - Position.getY(current);
 
     switch (deltaY) {
       case 1:
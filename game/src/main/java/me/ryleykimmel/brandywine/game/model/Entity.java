@@ -24,9 +24,15 @@ public abstract class Entity {
   protected final EntityType type;
 
   /**
-   * The current Position of this Entity.
+   * The current packed Position of this Entity.
    */
-  protected Position position = DEFAULT_POSITION;
+  private int packedPosition = DEFAULT_POSITION.pack();
+
+  /**
+   * The current Position of this Entity, or {@code null} if it has not been created since the
+   * packed Position last changed.
+   */
+  private Position position = DEFAULT_POSITION;
 
   /**
    * Constructs a new {@link Entity} with the specified World.
@@ -40,12 +46,27 @@ public abstract class Entity {
   }
 
   /**
-   * Gets this Entity's current Position.
+   * Gets this Entity's current Position. Hot paths should prefer {@link #getPackedPosition()},
+   * which never allocates.
    *
    * @return This Entity's current Position.
    */
   public final Position getPosition() {
-    return position;
+    Position current = position;
+    if (current == null) {
+      position = current = Position.unpack(packedPosition);
+    }
+    return current;
+  }
+
+  /**
+   * Gets this Entity's current packed Position.
+   *
+   * @return This Entity's current packed Position.
+   * @see Position#pack(int, int, int)
+   */
+  public final int getPackedPosition() {
+    return packedPosition;
   }
 
   /**
@@ -53,21 +74,52 @@ public abstract class Entity {
    *
    * @param position The new Position of this Entity.
    */
-  public void setPosition(Position position) {
-    Position current = this.position;
-    if (current.equals(position)) {
+  public final void setPosition(Position position) {
+    setPosition(position.pack());
+    this.position = position;
+  }
+
+  /**
+   * Sets the packed Position of this Entity.
+   *
+   * @param position The new packed Position of this Entity.
+   */
+  public final void setPosition(int position) {
+    int current = packedPosition;
+    if (current == position) {
+      return;
+    }
+
+    // Regions do not index by tile, so moving within the same Region requires no update to it.
+    if (Position.isSameRegion(current, position)) {
+      packedPosition = position;
+      this.position = null;
       return;
     }
 
     RegionRepository repository = world.getRegionRepository();
-    Region currentRegion = repository.fromPosition(current);
-    Region next = repository.fromPosition(position);
+    Region currentRegion = repository.get(Position.getTopLeftRegionX(current),
+        Position.getTopLeftRegionY(current));
+    Region next = repository.get(Position.getTopLeftRegionX(position),
+        Position.getTopLeftRegionY(position));
 
     currentRegion.removeEntity(this);
-    this.position = position;
+    packedPosition = position;
+    this.position = null;
     next.addEntity(this);
   }
 
+  /**
+   * Places this Entity at the specified packed Position without updating any Region, for an Entity
+   * which has not been added to the World yet.
+   *
+   * @param position The packed Position of this Entity.
+   */
+  public final void setInitialPosition(int position) {
+    packedPosition = position;
+    this.position = null;
+  }
+
   /**
    * Gets the World this Entity is in.
    *
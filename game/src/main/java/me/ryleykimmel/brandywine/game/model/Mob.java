@@ -5,6 +5,7 @@ import java.util.Set;
 import me.ryleykimmel.brandywine.game.model.player.Player;
 import me.ryleykimmel.brandywine.game.model.skill.SkillSet;
 import me.ryleykimmel.brandywine.game.update.UpdateBlock;
+import me.ryleykimmel.brandywine.game.update.UpdateBlockSet;
 import me.ryleykimmel.brandywine.network.message.Message;
 
 /**
@@ -28,9 +29,9 @@ public abstract class Mob extends Entity {
   private final Set<Player> localPlayers = new HashSet<>();
 
   /**
-   * A {@link Set} of pending {@link UpdateBlock}s.
+   * The pending {@link UpdateBlock}s, at most one per update mask.
    */
-  private final Set<UpdateBlock> pendingUpdates = new HashSet<>();
+  private final UpdateBlockSet pendingUpdates = new UpdateBlockSet();
 
   /**
    * The index of this Mob.
@@ -198,20 +199,20 @@ public abstract class Mob extends Entity {
   }
 
   /**
-   * Flags an UpdateBlock.
+   * Flags an UpdateBlock, replacing any pending UpdateBlock with the same mask.
    *
    * @param block The UpdateBlock to flag.
    */
   public final void flagUpdate(UpdateBlock block) {
-    pendingUpdates.add(block);
+    pendingUpdates.put(block);
   }
 
   /**
-   * Gets the {@link Set} of pending {@link UpdateBlock}s.
+   * Gets the {@link UpdateBlockSet} of pending {@link UpdateBlock}s.
    *
-   * @return The Set of pending UpdateBlocks.
+   * @return The UpdateBlockSet of pending UpdateBlocks.
    */
-  public final Set<UpdateBlock> getPendingUpdates() {
+  public final UpdateBlockSet getPendingUpdates() {
     return pendingUpdates;
   }
 
@@ -1,8 +1,6 @@
 package me.ryleykimmel.brandywine.game.model;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
-import java.util.Queue;
+import me.ryleykimmel.brandywine.game.collect.IntDeque;
 import me.ryleykimmel.brandywine.game.message.ResetDestinationMessage;
 
 /**
@@ -16,14 +14,14 @@ public final class MovementQueue {
   private final Mob mob;
 
   /**
-   * A {@link Deque} of Points in this MovementQueue.
+   * The packed {@link Position}s of the points in this MovementQueue.
    */
-  private final Deque<Position> points = new ArrayDeque<>();
+  private final IntDeque points = new IntDeque();
 
   /**
-   * A {@link Deque} of previously visited Points in this MovementQueue.
+   * The packed {@link Position}s of previously visited points in this MovementQueue.
    */
-  private final Deque<Position> previousPoints = new ArrayDeque<>();
+  private final IntDeque previousPoints = new IntDeque();
 
   /**
    * Flag indicating running status of this queue.
@@ -45,6 +43,15 @@ public final class MovementQueue {
    * @param next The Position to add.
    */
   public void addFirstStep(Position next) {
+    addFirstStep(next.pack());
+  }
+
+  /**
+   * Adds the first step into the MovementQueue.
+   *
+   * @param next The packed Position to add.
+   */
+  public void addFirstStep(int next) {
     points.clear();
     running = false;
 
@@ -52,16 +59,13 @@ public final class MovementQueue {
      * We need to connect 'current' and 'next' whilst accounting for the fact that the client and
      * server might be out of sync (i.e. what the client thinks is 'current' is different to what
      * the server thinks is 'current'). First try to connect them via points from the previous
-     * queue.
+     * queue, backtracking from the most recently visited point.
      */
-    Queue<Position> backtrack = new ArrayDeque<>();
-
-    while (!previousPoints.isEmpty()) {
-      Position position = previousPoints.pollLast();
-      backtrack.add(position);
-
-      if (position.equals(next)) {
-        backtrack.forEach(this::addStep);
+    for (int index = previousPoints.size() - 1; index >= 0; index--) {
+      if (previousPoints.get(index) == next) {
+        for (int backtrack = previousPoints.size() - 1; backtrack >= index; backtrack--) {
+          addStep(previousPoints.get(backtrack));
+        }
         previousPoints.clear();
         return;
       }
@@ -78,30 +82,35 @@ public final class MovementQueue {
    * @param next The {@link Position} of the step.
    */
   public void addStep(Position next) {
-    Position current = points.peekLast();
+    addStep(next.pack());
+  }
 
+  /**
+   * Adds a step to this MovementQueue.
+   *
+   * @param next The packed {@link Position} of the step.
+   */
+  public void addStep(int next) {
     /*
-     * If current equals next, addFirstStep doesn't end up adding anything points queue. This makes
-     * peekLast() return null. If it does, the correct behavior is to fill it in with
-     * mob.getPosition().
+     * If current equals next, addFirstStep doesn't end up adding anything points queue. If the
+     * queue is empty, the correct behavior is to fill it in with mob.getPackedPosition().
      */
-    if (current == null) {
-      current = mob.getPosition();
-    }
-
+    int current = points.isEmpty() ? mob.getPackedPosition() : points.peekLast();
     addStep(current, next);
   }
 
   /**
    * Adds the {@code next} step to this MovementQueue.
    *
-   * @param current The current {@link Position}.
-   * @param next The next Position.
+   * @param current The current packed {@link Position}.
+   * @param next The next packed Position.
    */
-  private void addStep(Position current, Position next) {
-    int nextX = next.getX(), nextY = next.getY();
-    int deltaX = nextX - current.getX();
-    int deltaY = nextY - current.getY();
+  private void addStep(int current, int next) {
+    int nextX = Position.getX(next);
+    int nextY = Position.getY(next);
+    int height = Position.getHeight(next);
+    int deltaX = nextX - Position.getX(current);
+    int deltaY = nextY - Position.getY(current);
 
     int max = Math.max(Math.abs(deltaX), Math.abs(deltaY));
 
@@ -118,7 +127,7 @@ public final class MovementQueue {
         deltaY--;
       }
 
-      points.add(new Position(nextX - deltaX, nextY - deltaY, next.getHeight()));
+      points.addLast(Position.pack(nextX - deltaX, nextY - deltaY, height));
     }
   }
 
@@ -136,25 +145,23 @@ public final class MovementQueue {
    * Called every pulse, updates the queue.
    */
   public void pulse() {
-    Position position = mob.getPosition();
-    int height = position.getHeight();
+    int position = mob.getPackedPosition();
+    int height = Position.getHeight(position);
 
     Direction firstDirection = Direction.NONE;
     Direction secondDirection = Direction.NONE;
 
-    Position next = points.poll();
-    if (next != null) {
-      previousPoints.add(next);
+    if (!points.isEmpty()) {
+      int next = points.pollFirst();
+      previousPoints.addLast(next);
       firstDirection = Direction.between(position, next);
-      position = new Position(next.getX(), next.getY(), height);
-
-      if (running) {
-        next = points.poll();
-        if (next != null) {
-          previousPoints.add(next);
-          secondDirection = Direction.between(position, next);
-          position = new Position(next.getX(), next.getY(), height);
-        }
+      position = Position.pack(Position.getX(next), Position.getY(next), height);
+
+      if (running && !points.isEmpty()) {
+        next = points.pollFirst();
+        previousPoints.addLast(next);
+        secondDirection = Direction.between(position, next);
+        position = Position.pack(Position.getX(next), Position.getY(next), height);
       }
     }
 
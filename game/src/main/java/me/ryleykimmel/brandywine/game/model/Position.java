@@ -20,6 +20,16 @@ public final class Position {
    */
   public static final int MAX_DISTANCE = 15;
 
+  /**
+   * The exclusive upper bound of the x and y coordinates, which are packed into 15 bits each.
+   */
+  public static final int MAXIMUM_COORDINATE = 1 << 15;
+
+  /**
+   * The mask of a packed x or y coordinate.
+   */
+  private static final int COORDINATE_MASK = MAXIMUM_COORDINATE - 1;
+
   /**
    * The height plane.
    */
@@ -53,12 +63,158 @@ public final class Position {
    * @param height The height.
    */
   public Position(int x, int y, int height) {
-    this.x = x;
-    this.y = y;
+    this.x = Preconditions.checkElementIndex(x, MAXIMUM_COORDINATE, "x");
+    this.y = Preconditions.checkElementIndex(y, MAXIMUM_COORDINATE, "y");
     this.height = Preconditions.checkElementIndex(height, HEIGHT_LEVELS,
         "Height must be [0, 3), received " + height + ".");
   }
 
+  /**
+   * Packs the specified coordinates into a single int, laid out as
+   * {@code height << 30 | y << 15 | x}. Packed Positions let hot paths such as movement and
+   * updating work on positions without allocating.
+   *
+   * @param x The x coordinate.
+   * @param y The y coordinate.
+   * @param height The height.
+   * @return The packed Position.
+   */
+  public static int pack(int x, int y, int height) {
+    return height << 30 | (y & COORDINATE_MASK) << 15 | x & COORDINATE_MASK;
+  }
+
+  /**
+   * Creates a Position from the specified packed Position.
+   *
+   * @param packed The packed Position.
+   * @return The Position.
+   */
+  public static Position unpack(int packed) {
+    return new Position(getX(packed), getY(packed), getHeight(packed));
+  }
+
+  /**
+   * Gets the x coordinate of the specified packed Position.
+   *
+   * @param packed The packed Position.
+   * @return The x coordinate.
+   */
+  public static int getX(int packed) {
+    return packed & COORDINATE_MASK;
+  }
+
+  /**
+   * Gets the y coordinate of the specified packed Position.
+   *
+   * @param packed The packed Position.
+   * @return The y coordinate.
+   */
+  public static int getY(int packed) {
+    return packed >>> 15 & COORDINATE_MASK;
+  }
+
+  /**
+   * Gets the height of the specified packed Position.
+   *
+   * @param packed The packed Position.
+   * @return The height.
+   */
+  public static int getHeight(int packed) {
+    return packed >>> 30;
+  }
+
+  /**
+   * Gets the x coordinate of the top-left region of the specified packed Position.
+   *
+   * @param packed The packed Position.
+   * @return The x coordinate of the top-left region.
+   */
+  public static int getTopLeftRegionX(int packed) {
+    return getX(packed) / 8 - 6;
+  }
+
+  /**
+   * Gets the y coordinate of the top-left region of the specified packed Position.
+   *
+   * @param packed The packed Position.
+   * @return The y coordinate of the top-left region.
+   */
+  public static int getTopLeftRegionY(int packed) {
+    return getY(packed) / 8 - 6;
+  }
+
+  /**
+   * Gets the local x coordinate of the specified packed Position relative to the specified packed
+   * base Position.
+   *
+   * @param packed The packed Position.
+   * @param base The packed base Position.
+   * @return The local x coordinate.
+   */
+  public static int getLocalX(int packed, int base) {
+    return getX(packed) - getTopLeftRegionX(base) * 8;
+  }
+
+  /**
+   * Gets the local y coordinate of the specified packed Position relative to the specified packed
+   * base Position.
+   *
+   * @param packed The packed Position.
+   * @param base The packed base Position.
+   * @return The local y coordinate.
+   */
+  public static int getLocalY(int packed, int base) {
+    return getY(packed) - getTopLeftRegionY(base) * 8;
+  }
+
+  /**
+   * Gets the longest horizontal or vertical delta between the two packed Positions.
+   *
+   * @param first The first packed Position.
+   * @param second The second packed Position.
+   * @return The longest horizontal or vertical delta.
+   */
+  public static int getLongestDelta(int first, int second) {
+    int deltaX = Math.abs(getX(first) - getX(second));
+    int deltaY = Math.abs(getY(first) - getY(second));
+    return Math.max(deltaX, deltaY);
+  }
+
+  /**
+   * Checks if the two packed Positions are on the same height level and within the specified
+   * distance of each other on both axes.
+   *
+   * @param first The first packed Position.
+   * @param second The second packed Position.
+   * @param distance The distance.
+   * @return {@code true} if so, {@code false} if not.
+   */
+  public static boolean isWithinDistance(int first, int second, int distance) {
+    return getHeight(first) == getHeight(second) && getLongestDelta(first, second) <= distance;
+  }
+
+  /**
+   * Tests whether or not the two packed Positions lie within the same Region.
+   *
+   * @param first The first packed Position.
+   * @param second The second packed Position.
+   * @return {@code true} if both packed Positions lie within the same Region.
+   */
+  public static boolean isSameRegion(int first, int second) {
+    return getTopLeftRegionX(first) == getTopLeftRegionX(second)
+        && getTopLeftRegionY(first) == getTopLeftRegionY(second);
+  }
+
+  /**
+   * Packs this Position into a single int.
+   *
+   * @return The packed Position.
+   * @see #pack(int, int, int)
+   */
+  public int pack() {
+    return pack(x, y, height);
+  }
+
   /**
    * Gets the x coordinate of the central region.
    *
@@ -258,14 +414,14 @@ public final class Position {
 
   @Override
   public int hashCode() {
-    return height << 30 | (y & 0x7FFF) << 15 | x & 0x7FFF;
+    return pack();
   }
 
   @Override
   public boolean equals(Object obj) {
     if (obj instanceof Position) {
       Position other = (Position) obj;
-      return x == other.x && y == other.y && height == other.y;
+      return x == other.x && y == other.y && height == other.height;
     }
 
     return false;
@@ -14,7 +14,6 @@ import me.ryleykimmel.brandywine.game.event.EventConsumerChain;
 import me.ryleykimmel.brandywine.game.event.EventConsumerChainSet;
 import me.ryleykimmel.brandywine.game.model.npc.Npc;
 import me.ryleykimmel.brandywine.game.model.player.Player;
-import me.ryleykimmel.brandywine.game.update.ParallelUpdater;
 import me.ryleykimmel.brandywine.game.update.Updater;
 
 /**
@@ -50,7 +49,7 @@ public final class World {
   /**
    * The {@link Updater} for this World.
    */
-  private final Updater updater = new ParallelUpdater();
+  private final Updater updater;
 
   /**
    * The {@link RegionRepository} for this World.
@@ -71,9 +70,11 @@ public final class World {
    * Constructs a new {@link World}.
    *
    * @param events The {@link EventConsumerChainSet} for this World.
+   * @param updater The {@link Updater} for this World.
    */
-  public World(EventConsumerChainSet events) {
+  public World(EventConsumerChainSet events, Updater updater) {
     this.events = events;
+    this.updater = updater;
   }
 
   /**
@@ -149,6 +149,16 @@ public final class Appearance {
     return get(id).getStyle() | STYLE_MASK;
   }
 
+  /**
+   * Gets the style of the specified Feature, as set by {@link #setStyle(int, int)}.
+   *
+   * @param id The Features id.
+   * @return The style of the Feature, without the mask sent to clients.
+   */
+  public int getRawStyle(int id) {
+    return get(id).getStyle();
+  }
+
   /**
    * Gets a Feature for the specified id.
    *
@@ -21,7 +21,7 @@ import me.ryleykimmel.brandywine.network.Session;
 import me.ryleykimmel.brandywine.network.frame.codec.CipheredFrameCodec;
 import me.ryleykimmel.brandywine.network.frame.codec.FrameCodec;
 import me.ryleykimmel.brandywine.network.frame.codec.FrameMessageCodec;
-import me.ryleykimmel.brandywine.network.isaac.IsaacRandomPair;
+import me.ryleykimmel.brandywine.network.isaac.IsaacCipherPair;
 import me.ryleykimmel.brandywine.network.message.Message;
 
 /**
@@ -94,6 +94,11 @@ public final class Player extends Mob {
    */
   private int appearanceTicket = nextAppearanceTicket();
 
+  /**
+   * The AppearancePlayerBlock for the current appearance ticket of this Player.
+   */
+  private AppearancePlayerBlock appearanceBlock;
+
   /**
    * Constructs a new {@link Player}.
    *
@@ -109,7 +114,8 @@ public final class Player extends Mob {
     appearance.init();
     skills.init();
 
-    flagUpdate(AppearancePlayerBlock.create(this));
+    appearanceBlock = AppearancePlayerBlock.create(this);
+    flagUpdate(appearanceBlock);
   }
 
   /**
@@ -133,6 +139,7 @@ public final class Player extends Mob {
    * Logs this Player into the World.
    */
   public void login() {
+    Position position = getPosition();
     lastKnownRegion = position;
     teleport(position);
 
@@ -143,8 +150,9 @@ public final class Player extends Mob {
     future.addListener(listener -> {
       ChannelPipeline pipeline = session.getChannel().pipeline();
       pipeline.replace(FrameCodec.class, "ciphered_frame_codec",
-          new CipheredFrameCodec(session, IsaacRandomPair.fromSeed(credentials.getSessionIds())));
-      pipeline.replace(FrameMessageCodec.class, "message_codec", new FrameMessageCodec(session));
+          new CipheredFrameCodec(session, IsaacCipherPair.fromSeed(credentials.getSessionIds())));
+      pipeline.replace(FrameMessageCodec.class, "message_codec",
+          new FrameMessageCodec(session, true));
 
       session.onClose(__ -> world.getService(GameService.class).removePlayer(this));
       session.setActivePlayer(getEncodedUsername());
@@ -172,7 +180,8 @@ public final class Player extends Mob {
    */
   public void updateAppearance() {
     appearanceTicket = nextAppearanceTicket();
-    flagUpdate(AppearancePlayerBlock.create(this));
+    appearanceBlock = AppearancePlayerBlock.create(this);
+    flagUpdate(appearanceBlock);
   }
 
   /**
@@ -229,6 +238,16 @@ public final class Player extends Mob {
     return appearanceTicket;
   }
 
+  /**
+   * Gets the AppearancePlayerBlock for the current appearance ticket of this Player. The block is
+   * only recreated when the appearance ticket changes.
+   *
+   * @return The AppearancePlayerBlock, never {@code null}.
+   */
+  public AppearancePlayerBlock getAppearanceBlock() {
+    return appearanceBlock;
+  }
+
   /**
    * Gets the credentials of this Player.
    *
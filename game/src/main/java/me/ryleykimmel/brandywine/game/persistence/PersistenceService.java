@@ -0,0 +1,334 @@
+package me.ryleykimmel.brandywine.game.persistence;
+
+import com.google.common.base.Preconditions;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import me.ryleykimmel.brandywine.common.util.ThreadFactoryUtil;
+import me.ryleykimmel.brandywine.game.collect.MobRepository;
+import me.ryleykimmel.brandywine.game.model.World;
+import me.ryleykimmel.brandywine.game.model.player.Player;
+import me.ryleykimmel.brandywine.service.Service;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Persists {@link Player}s through a {@link PlayerSerializer} without blocking the game thread.
+ * <p>
+ * Records are taken on the game thread and written behind by a single I/O thread, which saves
+ * whatever has queued up in batches of at most {@link #MAXIMUM_BATCH} records. Completions are
+ * handed back to the game thread and run on its next pulse, so a logout can finish removing its
+ * Player once, and only once, the save has succeeded. A failed logout save is retried every pulse
+ * until it succeeds, keeping the Player online rather than losing its progress.
+ * </p>
+ * <p>
+ * Online Players are autosaved once per autosave interval. Each pulse visits an equal slice of
+ * the player slots, so saves are spread evenly over the interval rather than arriving at once,
+ * and a Player whose record has not changed since it was last saved, or who is logging out, is
+ * skipped.
+ * </p>
+ */
+public final class PersistenceService extends Service {
+
+  /**
+   * The interval between pulses, in milliseconds.
+   */
+  private static final long PULSE_INTERVAL = 600L;
+
+  /**
+   * The maximum amount of records saved at once.
+   */
+  private static final int MAXIMUM_BATCH = 32;
+
+  /**
+   * The Logger for this class.
+   */
+  private static final Logger logger = LogManager.getLogger(PersistenceService.class);
+
+  /**
+   * The saves waiting for the I/O thread.
+   */
+  private final Queue<PendingSave> pending = new ConcurrentLinkedQueue<>();
+
+  /**
+   * The saves completed by the I/O thread, waiting for the game thread.
+   */
+  private final Queue<PendingSave> completed = new ConcurrentLinkedQueue<>();
+
+  /**
+   * The latest record queued for each online Player, only accessed on the game thread.
+   */
+  private final Map<String, PlayerRecord> lastSaved = new HashMap<>();
+
+  /**
+   * The usernames of the Players whose logout saves have not completed, only accessed on the game
+   * thread.
+   */
+  private final Set<String> loggingOut = new HashSet<>();
+
+  /**
+   * Whether or not the I/O thread has been asked to flush the pending saves.
+   */
+  private final AtomicBoolean flushing = new AtomicBoolean();
+
+  /**
+   * The amount of records which could not be saved.
+   */
+  private final LongAdder failedSaves = new LongAdder();
+
+  /**
+   * The I/O thread.
+   */
+  private final ExecutorService executor = Executors.newSingleThreadExecutor(
+      ThreadFactoryUtil.create(this).setDaemon(true).build());
+
+  /**
+   * The World whose Players are autosaved.
+   */
+  private final World world;
+
+  /**
+   * The PlayerSerializer records are loaded and saved with.
+   */
+  private final PlayerSerializer serializer;
+
+  /**
+   * The amount of pulses in an autosave interval, or {@code 0} if autosaving is disabled.
+   */
+  private final int autosavePulses;
+
+  /**
+   * The index of the next player slot to autosave, starting from {@code 0}.
+   */
+  private int autosaveCursor;
+
+  /**
+   * Constructs a new {@link PersistenceService}.
+   *
+   * @param world The World whose Players are autosaved.
+   * @param serializer The PlayerSerializer records are loaded and saved with.
+   * @param autosaveInterval The interval in which every online Player is autosaved, in
+   *     milliseconds, or {@code 0} to disable autosaving.
+   */
+  public PersistenceService(World world, PlayerSerializer serializer, long autosaveInterval) {
+    super(PULSE_INTERVAL);
+    Preconditions.checkArgument(autosaveInterval >= 0, "Autosave interval may not be negative.");
+    this.world = Preconditions.checkNotNull(world, "World may not be null.");
+    this.serializer = Preconditions.checkNotNull(serializer, "PlayerSerializer may not be null.");
+    this.autosavePulses = (int) Math.max(autosaveInterval == 0 ? 0 : 1,
+        autosaveInterval / PULSE_INTERVAL);
+  }
+
+  /**
+   * Loads the saved state of the specified Player, if any, on the calling thread. The Player must
+   * not have been added to the World yet.
+   *
+   * @param player The Player to load.
+   * @throws Exception If the record of the Player could not be loaded.
+   */
+  public void load(Player player) throws Exception {
+    Optional<PlayerRecord> record = serializer.load(player.getUsername());
+    if (record.isPresent()) {
+      record.get().apply(player);
+    }
+  }
+
+  /**
+   * Saves the specified Player as it logs out, on the game thread.
+   *
+   * @param player The Player to save.
+   * @param onSaved Run on the game thread once the save has succeeded, which is retried until it
+   *     does.
+   */
+  public void save(Player player, Runnable onSaved) {
+    PlayerRecord record = PlayerRecord.of(player);
+    lastSaved.remove(record.getUsername());
+    loggingOut.add(record.getUsername());
+    enqueue(new PendingSave(record, onSaved));
+  }
+
+  @Override
+  public void execute() {
+    PendingSave save;
+    while ((save = completed.poll()) != null) {
+      save.complete();
+    }
+
+    if (autosavePulses > 0) {
+      autosave();
+    }
+  }
+
+  /**
+   * Autosaves the next slice of player slots whose records have changed.
+   */
+  private void autosave() {
+    MobRepository<Player> players = world.getPlayers();
+    int capacity = players.capacity();
+    int slice = (capacity + autosavePulses - 1) / autosavePulses;
+
+    for (int count = 0; count < slice; count++) {
+      Player player = players.get(autosaveCursor + 1);
+      autosaveCursor = (autosaveCursor + 1) % capacity;
+      if (player == null) {
+        continue;
+      }
+
+      if (loggingOut.contains(player.getUsername())) {
+        continue;
+      }
+
+      PlayerRecord record = PlayerRecord.of(player);
+      if (!record.equals(lastSaved.put(record.getUsername(), record))) {
+        enqueue(new PendingSave(record, null));
+      }
+    }
+  }
+
+  /**
+   * Queues the specified save and makes sure the I/O thread will flush it.
+   *
+   * @param save The save to queue.
+   */
+  private void enqueue(PendingSave save) {
+    pending.offer(save);
+    if (flushing.compareAndSet(false, true)) {
+      executor.execute(this::flush);
+    }
+  }
+
+  /**
+   * Saves pending records in batches until none remain, on the I/O thread.
+   */
+  private void flush() {
+    while (true) {
+      List<PendingSave> batch = new ArrayList<>(MAXIMUM_BATCH);
+      PendingSave save;
+      while (batch.size() < MAXIMUM_BATCH && (save = pending.poll()) != null) {
+        batch.add(save);
+      }
+
+      if (batch.isEmpty()) {
+        flushing.set(false);
+        // A save queued after our poll may have seen the flag still set, so check again.
+        if (pending.isEmpty() || !flushing.compareAndSet(false, true)) {
+          return;
+        }
+        continue;
+      }
+
+      saveBatch(batch);
+    }
+  }
+
+  /**
+   * Saves the specified batch, keeping only the latest record of each Player, then hands the
+   * saves back to the game thread.
+   *
+   * @param batch The batch of saves.
+   */
+  private void saveBatch(List<PendingSave> batch) {
+    Map<String, PlayerRecord> latest = new LinkedHashMap<>();
+    for (PendingSave save : batch) {
+      latest.put(save.record.getUsername(), save.record);
+    }
+
+    try {
+      serializer.saveAll(new ArrayList<>(latest.values()));
+    } catch (Exception cause) {
+      logger.error("Unable to save {} players.", latest.size(), cause);
+      failedSaves.add(latest.size());
+      for (PendingSave save : batch) {
+        save.failed = true;
+      }
+    }
+
+    completed.addAll(batch);
+  }
+
+  /**
+   * Gets the amount of saves waiting for the I/O thread.
+   *
+   * @return The amount of pending saves.
+   */
+  public int getPendingSaves() {
+    return pending.size();
+  }
+
+  /**
+   * Gets the amount of records which could not be saved.
+   *
+   * @return The amount of failed saves.
+   */
+  public long getFailedSaves() {
+    return failedSaves.sum();
+  }
+
+  /**
+   * A record waiting to be saved, and what to run on the game thread once it has been.
+   */
+  private final class PendingSave {
+
+    /**
+     * The record to save.
+     */
+    private final PlayerRecord record;
+
+    /**
+     * Run on the game thread once saved, or {@code null}.
+     */
+    private final Runnable onSaved;
+
+    /**
+     * Whether or not the save failed, written by the I/O thread before completion.
+     */
+    private boolean failed;
+
+    /**
+     * Constructs a new {@link PendingSave}.
+     *
+     * @param record The record to save.
+     * @param onSaved Run on the game thread once saved, or {@code null}.
+     */
+    PendingSave(PlayerRecord record, Runnable onSaved) {
+      this.record = record;
+      this.onSaved = onSaved;
+    }
+
+    /**
+     * Completes this save on the game thread. A failed logout is retried, a failed autosave is
+     * forgotten so the Player is saved again in the next autosave interval, and a successful
+     * logout forgets the Player entirely.
+     */
+    void complete() {
+      if (failed && onSaved != null) {
+        failed = false;
+        enqueue(this);
+        return;
+      }
+
+      if (failed) {
+        lastSaved.remove(record.getUsername(), record);
+      }
+
+      if (onSaved != null) {
+        loggingOut.remove(record.getUsername());
+        lastSaved.remove(record.getUsername());
+        onSaved.run();
+      }
+    }
+
+  }
+
+}
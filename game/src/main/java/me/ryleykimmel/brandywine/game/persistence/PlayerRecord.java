@@ -0,0 +1,307 @@
+package me.ryleykimmel.brandywine.game.persistence;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import me.ryleykimmel.brandywine.game.model.player.Appearance;
+import me.ryleykimmel.brandywine.game.model.player.Gender;
+import me.ryleykimmel.brandywine.game.model.player.Player;
+import me.ryleykimmel.brandywine.game.model.player.PlayerPrivileges;
+import me.ryleykimmel.brandywine.game.model.player.PlayerPrivileges.Privilege;
+import me.ryleykimmel.brandywine.game.model.skill.Skill;
+import me.ryleykimmel.brandywine.game.model.skill.SkillSet;
+
+/**
+ * An immutable snapshot of the persistent state of a {@link Player}.
+ * <p>
+ * Records are taken and applied on the game thread, and may be serialized on any thread. Two
+ * records are equal iff they hold the same state, which lets unchanged Players skip saving.
+ * </p>
+ */
+public final class PlayerRecord {
+
+  /**
+   * The amount of Appearance features.
+   */
+  public static final int FEATURES = Appearance.SKIN + 1;
+
+  /**
+   * The username of the Player.
+   */
+  private final String username;
+
+  /**
+   * The packed Position of the Player.
+   */
+  private final int position;
+
+  /**
+   * The Privileges of the Player, as a bit set of their ordinals.
+   */
+  private final int privileges;
+
+  /**
+   * The Gender value of the Player.
+   */
+  private final int gender;
+
+  /**
+   * The style of each Appearance feature.
+   */
+  private final int[] styles;
+
+  /**
+   * The color of each Appearance feature.
+   */
+  private final int[] colors;
+
+  /**
+   * The id of each Skill, in ascending order.
+   */
+  private final int[] skillIds;
+
+  /**
+   * The experience of each Skill, parallel to the ids.
+   */
+  private final double[] experience;
+
+  /**
+   * The current level of each Skill, parallel to the ids.
+   */
+  private final int[] currentLevels;
+
+  /**
+   * Constructs a new {@link PlayerRecord}. The arrays are not copied and must not be modified
+   * afterwards.
+   *
+   * @param username The username of the Player.
+   * @param position The packed Position of the Player.
+   * @param privileges The Privileges of the Player, as a bit set of their ordinals.
+   * @param gender The Gender value of the Player.
+   * @param styles The style of each Appearance feature.
+   * @param colors The color of each Appearance feature.
+   * @param skillIds The id of each Skill, in ascending order.
+   * @param experience The experience of each Skill, parallel to the ids.
+   * @param currentLevels The current level of each Skill, parallel to the ids.
+   */
+  public PlayerRecord(String username, int position, int privileges, int gender, int[] styles,
+      int[] colors, int[] skillIds, double[] experience, int[] currentLevels) {
+    Preconditions.checkArgument(styles.length == FEATURES && colors.length == FEATURES,
+        "Expected %s appearance features.", FEATURES);
+    Preconditions.checkArgument(experience.length == skillIds.length
+        && currentLevels.length == skillIds.length, "Skill arrays must be of equal length.");
+    this.username = Preconditions.checkNotNull(username, "Username may not be null.");
+    this.position = position;
+    this.privileges = privileges;
+    this.gender = gender;
+    this.styles = styles;
+    this.colors = colors;
+    this.skillIds = skillIds;
+    this.experience = experience;
+    this.currentLevels = currentLevels;
+  }
+
+  /**
+   * Takes a record of the specified Player, on the game thread.
+   *
+   * @param player The Player.
+   * @return The record, never {@code null}.
+   */
+  public static PlayerRecord of(Player player) {
+    PlayerPrivileges playerPrivileges = player.getPrivileges();
+    int privileges = 0;
+    for (Privilege privilege : Privilege.values()) {
+      if (playerPrivileges.has(privilege)) {
+        privileges |= 1 << privilege.ordinal();
+      }
+    }
+
+    Appearance appearance = player.getAppearance();
+    int[] styles = new int[FEATURES];
+    int[] colors = new int[FEATURES];
+    for (int feature = 0; feature < FEATURES; feature++) {
+      styles[feature] = appearance.getRawStyle(feature);
+      colors[feature] = appearance.getColor(feature);
+    }
+
+    List<Skill> skills = new ArrayList<>();
+    player.getSkills().execute(skills::add);
+    skills.sort((first, second) -> Integer.compare(first.getId(), second.getId()));
+
+    int[] skillIds = new int[skills.size()];
+    double[] experience = new double[skills.size()];
+    int[] currentLevels = new int[skills.size()];
+    for (int index = 0; index < skills.size(); index++) {
+      Skill skill = skills.get(index);
+      skillIds[index] = skill.getId();
+      experience[index] = skill.getExperience();
+      currentLevels[index] = skill.getCurrentLevel();
+    }
+
+    return new PlayerRecord(player.getUsername(), player.getPackedPosition(), privileges,
+        appearance.getGender().getValue(), styles, colors, skillIds, experience, currentLevels);
+  }
+
+  /**
+   * Applies this record to the specified Player, which has not been added to the World yet.
+   *
+   * @param player The Player.
+   */
+  public void apply(Player player) {
+    player.setInitialPosition(position);
+
+    PlayerPrivileges playerPrivileges = player.getPrivileges();
+    for (Privilege privilege : Privilege.values()) {
+      if ((privileges & 1 << privilege.ordinal()) != 0) {
+        playerPrivileges.assign(privilege);
+      }
+    }
+
+    Appearance appearance = player.getAppearance();
+    Gender playerGender = Gender.forValue(gender);
+    appearance.setGender(playerGender);
+    appearance.init(playerGender);
+    for (int feature = 0; feature < FEATURES; feature++) {
+      appearance.setStyle(feature, styles[feature]);
+      appearance.setColor(feature, colors[feature]);
+    }
+
+    SkillSet skills = player.getSkills();
+    for (int index = 0; index < skillIds.length; index++) {
+      skills.setExperience(skillIds[index], experience[index]);
+      skills.setCurrentLevel(skillIds[index], currentLevels[index]);
+    }
+
+    player.updateAppearance();
+  }
+
+  /**
+   * Gets the username of the Player.
+   *
+   * @return The username.
+   */
+  public String getUsername() {
+    return username;
+  }
+
+  /**
+   * Gets the packed Position of the Player.
+   *
+   * @return The packed Position.
+   */
+  public int getPosition() {
+    return position;
+  }
+
+  /**
+   * Gets the Privileges of the Player.
+   *
+   * @return The Privileges, as a bit set of their ordinals.
+   */
+  public int getPrivileges() {
+    return privileges;
+  }
+
+  /**
+   * Gets the Gender value of the Player.
+   *
+   * @return The Gender value.
+   */
+  public int getGender() {
+    return gender;
+  }
+
+  /**
+   * Gets the style of the specified Appearance feature.
+   *
+   * @param feature The id of the feature.
+   * @return The style of the feature.
+   */
+  public int getStyle(int feature) {
+    return styles[feature];
+  }
+
+  /**
+   * Gets the color of the specified Appearance feature.
+   *
+   * @param feature The id of the feature.
+   * @return The color of the feature.
+   */
+  public int getColor(int feature) {
+    return colors[feature];
+  }
+
+  /**
+   * Gets the amount of Skills in this record.
+   *
+   * @return The amount of Skills.
+   */
+  public int getSkillCount() {
+    return skillIds.length;
+  }
+
+  /**
+   * Gets the id of the Skill at the specified index.
+   *
+   * @param index The index, in ascending order of id.
+   * @return The id of the Skill.
+   */
+  public int getSkillId(int index) {
+    return skillIds[index];
+  }
+
+  /**
+   * Gets the experience of the Skill at the specified index.
+   *
+   * @param index The index, in ascending order of id.
+   * @return The experience of the Skill.
+   */
+  public double getExperience(int index) {
+    return experience[index];
+  }
+
+  /**
+   * Gets the current level of the Skill at the specified index.
+   *
+   * @param index The index, in ascending order of id.
+   * @return The current level of the Skill.
+   */
+  public int getCurrentLevel(int index) {
+    return currentLevels[index];
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+
+    if (!(obj instanceof PlayerRecord)) {
+      return false;
+    }
+
+    PlayerRecord other = (PlayerRecord) obj;
+    return position == other.position && privileges == other.privileges
+        && gender == other.gender && username.equals(other.username)
+        && Arrays.equals(styles, other.styles) && Arrays.equals(colors, other.colors)
+        && Arrays.equals(skillIds, other.skillIds) && Arrays.equals(experience, other.experience)
+        && Arrays.equals(currentLevels, other.currentLevels);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = username.hashCode();
+    result = 31 * result + position;
+    result = 31 * result + Arrays.hashCode(experience);
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this).add("username", username).add("position", position)
+        .add("skills", skillIds.length).toString();
+  }
+
+}
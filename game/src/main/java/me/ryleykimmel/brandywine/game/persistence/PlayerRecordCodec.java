@@ -0,0 +1,256 @@
+package me.ryleykimmel.brandywine.game.persistence;
+
+import com.google.common.base.Preconditions;
+import io.netty.buffer.ByteBuf;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import me.ryleykimmel.brandywine.common.util.ByteBufUtil;
+import me.ryleykimmel.brandywine.game.model.skill.SkillUtil;
+
+/**
+ * Encodes and decodes {@link PlayerRecord}s in a compact, versioned binary format.
+ * <p>
+ * A record is its format version followed by tagged fields. Each tag holds the field number and
+ * how the field is laid out, either as a single variable-length int or as a length-prefixed run
+ * of bytes, so a decoder skips fields it does not know. Fields may therefore be added without
+ * bumping the version, which is reserved for changing the meaning of existing fields.
+ * </p>
+ * <p>
+ * Skills are stored in ascending order of id as the gap from the previous id, their experience in
+ * tenths of a point as shown by the client, and their current level as the difference from the
+ * level their experience earns. A Player who has never trained encodes in about 100 bytes, and one
+ * who has maxed every skill in under 200.
+ * </p>
+ */
+public final class PlayerRecordCodec {
+
+  /**
+   * The current version of the format.
+   */
+  public static final int VERSION = 1;
+
+  /**
+   * The layout of a field held in a single variable-length int.
+   */
+  private static final int VARINT = 0;
+
+  /**
+   * The layout of a field held in a length-prefixed run of bytes.
+   */
+  private static final int LENGTH_DELIMITED = 2;
+
+  /**
+   * The amount of bits of a tag holding the layout of its field.
+   */
+  private static final int LAYOUT_BITS = 3;
+
+  /**
+   * The username, as UTF-8 bytes.
+   */
+  private static final int USERNAME = 1;
+
+  /**
+   * The packed Position.
+   */
+  private static final int POSITION = 2;
+
+  /**
+   * The Privileges bit set.
+   */
+  private static final int PRIVILEGES = 3;
+
+  /**
+   * The Gender value.
+   */
+  private static final int GENDER = 4;
+
+  /**
+   * The style and color of each Appearance feature.
+   */
+  private static final int APPEARANCE = 5;
+
+  /**
+   * The Skills.
+   */
+  private static final int SKILLS = 6;
+
+  /**
+   * Sole private constructor to discourage instantiation of this class.
+   */
+  private PlayerRecordCodec() {
+  }
+
+  /**
+   * Encodes the specified record.
+   *
+   * @param record The record to encode.
+   * @param buffer The ByteBuf to write to.
+   */
+  public static void encode(PlayerRecord record, ByteBuf buffer) {
+    ByteBufUtil.writeVarInt(buffer, VERSION);
+
+    byte[] username = record.getUsername().getBytes(StandardCharsets.UTF_8);
+    writeTag(buffer, USERNAME, LENGTH_DELIMITED);
+    ByteBufUtil.writeVarInt(buffer, username.length);
+    buffer.writeBytes(username);
+
+    writeTag(buffer, POSITION, VARINT);
+    ByteBufUtil.writeVarInt(buffer, record.getPosition());
+
+    writeTag(buffer, PRIVILEGES, VARINT);
+    ByteBufUtil.writeVarInt(buffer, record.getPrivileges());
+
+    writeTag(buffer, GENDER, VARINT);
+    ByteBufUtil.writeVarInt(buffer, record.getGender());
+
+    writeTag(buffer, APPEARANCE, LENGTH_DELIMITED);
+    int lengthIndex = beginLength(buffer);
+    for (int feature = 0; feature < PlayerRecord.FEATURES; feature++) {
+      ByteBufUtil.writeSignedVarInt(buffer, record.getStyle(feature));
+      ByteBufUtil.writeVarInt(buffer, record.getColor(feature));
+    }
+    endLength(buffer, lengthIndex);
+
+    writeTag(buffer, SKILLS, LENGTH_DELIMITED);
+    lengthIndex = beginLength(buffer);
+    int previousId = 0;
+    for (int index = 0; index < record.getSkillCount(); index++) {
+      int id = record.getSkillId(index);
+      int tenths = (int) Math.round(record.getExperience(index) * 10);
+
+      ByteBufUtil.writeVarInt(buffer, id - previousId);
+      ByteBufUtil.writeVarInt(buffer, tenths);
+      ByteBufUtil.writeSignedVarInt(buffer,
+          record.getCurrentLevel(index) - SkillUtil.levelOf(tenths / 10.0));
+      previousId = id;
+    }
+    endLength(buffer, lengthIndex);
+  }
+
+  /**
+   * Decodes a record.
+   *
+   * @param buffer The ByteBuf holding exactly one encoded record.
+   * @return The record, never {@code null}.
+   * @throws IllegalArgumentException If the record is of a newer version or is missing a field.
+   * @throws IndexOutOfBoundsException If the record is truncated.
+   */
+  public static PlayerRecord decode(ByteBuf buffer) {
+    int version = ByteBufUtil.readVarInt(buffer);
+    Preconditions.checkArgument(version <= VERSION, "Unsupported record version: %s.", version);
+
+    String username = null;
+    int position = 0;
+    int privileges = 0;
+    int gender = 0;
+    int[] styles = null;
+    int[] colors = null;
+    int[] skillIds = new int[0];
+    double[] experience = new double[0];
+    int[] currentLevels = new int[0];
+
+    while (buffer.isReadable()) {
+      int tag = ByteBufUtil.readVarInt(buffer);
+      int field = tag >>> LAYOUT_BITS;
+      int layout = tag & (1 << LAYOUT_BITS) - 1;
+
+      if (layout == VARINT) {
+        int value = ByteBufUtil.readVarInt(buffer);
+        if (field == POSITION) {
+          position = value;
+        } else if (field == PRIVILEGES) {
+          privileges = value;
+        } else if (field == GENDER) {
+          gender = value;
+        }
+        continue;
+      }
+
+      Preconditions.checkArgument(layout == LENGTH_DELIMITED, "Unknown field layout: %s.", layout);
+      int length = ByteBufUtil.readVarInt(buffer);
+      ByteBuf value = buffer.readSlice(length);
+
+      if (field == USERNAME) {
+        username = value.toString(StandardCharsets.UTF_8);
+      } else if (field == APPEARANCE) {
+        styles = new int[PlayerRecord.FEATURES];
+        colors = new int[PlayerRecord.FEATURES];
+        for (int feature = 0; feature < PlayerRecord.FEATURES; feature++) {
+          styles[feature] = ByteBufUtil.readSignedVarInt(value);
+          colors[feature] = ByteBufUtil.readVarInt(value);
+        }
+      } else if (field == SKILLS) {
+        // Every skill takes at least three bytes, so this bounds the count.
+        int[] ids = new int[length / 3];
+        double[] skillExperience = new double[ids.length];
+        int[] levels = new int[ids.length];
+
+        int count = 0;
+        int id = 0;
+        while (value.isReadable()) {
+          id += ByteBufUtil.readVarInt(value);
+          ids[count] = id;
+          skillExperience[count] = ByteBufUtil.readVarInt(value) / 10.0;
+          levels[count] = SkillUtil.levelOf(skillExperience[count])
+              + ByteBufUtil.readSignedVarInt(value);
+          count++;
+        }
+
+        skillIds = Arrays.copyOf(ids, count);
+        experience = Arrays.copyOf(skillExperience, count);
+        currentLevels = Arrays.copyOf(levels, count);
+      }
+    }
+
+    Preconditions.checkArgument(username != null, "Record is missing its username.");
+    Preconditions.checkArgument(styles != null, "Record is missing its appearance.");
+    return new PlayerRecord(username, position, privileges, gender, styles, colors, skillIds,
+        experience, currentLevels);
+  }
+
+  /**
+   * Writes the tag of a field.
+   *
+   * @param buffer The ByteBuf to write to.
+   * @param field The field number.
+   * @param layout The layout of the field.
+   */
+  private static void writeTag(ByteBuf buffer, int field, int layout) {
+    ByteBufUtil.writeVarInt(buffer, field << LAYOUT_BITS | layout);
+  }
+
+  /**
+   * Reserves a single byte for the length of a length-delimited field, which suffices for all but
+   * the longest fields.
+   *
+   * @param buffer The ByteBuf to write to.
+   * @return The index of the reserved byte.
+   */
+  private static int beginLength(ByteBuf buffer) {
+    int index = buffer.writerIndex();
+    buffer.writeByte(0);
+    return index;
+  }
+
+  /**
+   * Fills in the length of a length-delimited field begun by {@link #beginLength(ByteBuf)}.
+   *
+   * @param buffer The ByteBuf being written to.
+   * @param index The index of the reserved byte.
+   */
+  private static void endLength(ByteBuf buffer, int index) {
+    int length = buffer.writerIndex() - index - 1;
+    if (length < 128) {
+      buffer.setByte(index, length);
+      return;
+    }
+
+    // The length needs more than the reserved byte, so write the field again behind it.
+    byte[] field = new byte[length];
+    buffer.getBytes(index + 1, field);
+    buffer.writerIndex(index);
+    ByteBufUtil.writeVarInt(buffer, length);
+    buffer.writeBytes(field);
+  }
+
+}
@@ -0,0 +1,42 @@
+package me.ryleykimmel.brandywine.game.persistence;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Loads and saves {@link PlayerRecord}s. Implementations are called from a single I/O thread for
+ * saves and from authentication threads for loads, so they must be thread-safe.
+ */
+public interface PlayerSerializer {
+
+  /**
+   * Loads the record of the Player with the specified username.
+   *
+   * @param username The username of the Player.
+   * @return The record, or {@link Optional#empty()} if the Player has never been saved.
+   * @throws Exception If the record could not be loaded.
+   */
+  Optional<PlayerRecord> load(String username) throws Exception;
+
+  /**
+   * Saves the specified record, replacing any previous record of the same Player.
+   *
+   * @param record The record to save.
+   * @throws Exception If the record could not be saved.
+   */
+  void save(PlayerRecord record) throws Exception;
+
+  /**
+   * Saves the specified records. Implementations which can write several records at once more
+   * cheaply than one at a time should override this.
+   *
+   * @param records The records to save, at most one per Player.
+   * @throws Exception If any record could not be saved.
+   */
+  default void saveAll(List<PlayerRecord> records) throws Exception {
+    for (PlayerRecord record : records) {
+      save(record);
+    }
+  }
+
+}
@@ -0,0 +1,367 @@
+package me.ryleykimmel.brandywine.game.persistence.impl;
+
+import com.google.common.base.Preconditions;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import me.ryleykimmel.brandywine.game.persistence.PlayerRecord;
+import me.ryleykimmel.brandywine.game.persistence.PlayerRecordCodec;
+import me.ryleykimmel.brandywine.game.persistence.PlayerSerializer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * A {@link PlayerSerializer} which appends records to a single log file, for local deployments
+ * and testing.
+ * <p>
+ * Each entry is the length and CRC-32 of a record encoded by {@link PlayerRecordCodec}, followed
+ * by the record. Saving appends and forces a whole batch at once, and the offset of the latest
+ * entry of each Player is kept in memory, so a load is a single positioned read. When opened, the
+ * log is scanned to rebuild the offsets and is truncated at the first torn or corrupt entry.
+ * Once superseded entries outweigh live ones the log is compacted into a new file, which then
+ * atomically replaces it. If compaction fails the log is reopened as it was, and compaction is
+ * not attempted again until the log has grown by another {@link #MINIMUM_COMPACTION_SIZE}.
+ * </p>
+ */
+public final class LogPlayerSerializer implements PlayerSerializer, Closeable {
+
+  /**
+   * The length of an entry header: the record length and its CRC-32.
+   */
+  private static final int HEADER_LENGTH = Integer.BYTES * 2;
+
+  /**
+   * The size superseded entries must reach before the log is compacted, in bytes.
+   */
+  private static final long MINIMUM_COMPACTION_SIZE = 1 << 20;
+
+  /**
+   * The Logger for this class.
+   */
+  private static final Logger logger = LogManager.getLogger(LogPlayerSerializer.class);
+
+  /**
+   * The offset of the latest entry of each Player, keyed by lower case username.
+   */
+  private final Map<String, Long> offsets = new HashMap<>();
+
+  /**
+   * The path of the log.
+   */
+  private final Path path;
+
+  /**
+   * Moves a compacted log over the log.
+   */
+  private final LogMover mover;
+
+  /**
+   * The channel of the log.
+   */
+  private FileChannel channel;
+
+  /**
+   * The length of the log, in bytes.
+   */
+  private long size;
+
+  /**
+   * The total length of the superseded entries, in bytes.
+   */
+  private long garbage;
+
+  /**
+   * The length the log must reach before compaction is attempted again after a failure, in
+   * bytes.
+   */
+  private long retryCompactionAt;
+
+  /**
+   * Constructs a new {@link LogPlayerSerializer}, opening or creating the log at the specified
+   * path.
+   *
+   * @param path The path of the log.
+   * @throws IOException If the log could not be opened or read.
+   */
+  public LogPlayerSerializer(Path path) throws IOException {
+    this(path, (source, target) -> Files.move(source, target,
+        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE));
+  }
+
+  /**
+   * Constructs a new {@link LogPlayerSerializer}, opening or creating the log at the specified
+   * path and replacing it with the specified LogMover when compacted.
+   *
+   * @param path The path of the log.
+   * @param mover Moves a compacted log over the log.
+   * @throws IOException If the log could not be opened or read.
+   */
+  LogPlayerSerializer(Path path, LogMover mover) throws IOException {
+    this.path = Preconditions.checkNotNull(path, "Path may not be null.");
+    this.mover = Preconditions.checkNotNull(mover, "LogMover may not be null.");
+    Path parent = path.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    open();
+  }
+
+  @Override
+  public synchronized Optional<PlayerRecord> load(String username) throws IOException {
+    Long offset = offsets.get(keyOf(username));
+    if (offset == null) {
+      return Optional.empty();
+    }
+
+    ByteBuffer entry = readEntry(offset);
+    Preconditions.checkState(entry != null, "Entry of %s at %s is corrupt.", username, offset);
+    return Optional.of(PlayerRecordCodec.decode(Unpooled.wrappedBuffer(entry)));
+  }
+
+  @Override
+  public void save(PlayerRecord record) throws IOException {
+    saveAll(Collections.singletonList(record));
+  }
+
+  @Override
+  public synchronized void saveAll(List<PlayerRecord> records) throws IOException {
+    ByteBuf buffer = Unpooled.buffer(records.size() * 96);
+    long[] entryOffsets = new long[records.size()];
+
+    for (int index = 0; index < records.size(); index++) {
+      entryOffsets[index] = size + buffer.writerIndex();
+      writeEntry(records.get(index), buffer);
+    }
+
+    ByteBuffer bytes = buffer.nioBuffer();
+    long position = size;
+    while (bytes.hasRemaining()) {
+      position += channel.write(bytes, position);
+    }
+    channel.force(false);
+
+    size = position;
+    for (int index = 0; index < records.size(); index++) {
+      Long previous = offsets.put(keyOf(records.get(index).getUsername()), entryOffsets[index]);
+      if (previous != null) {
+        garbage += entryLength(previous);
+      }
+    }
+
+    if (garbage >= MINIMUM_COMPACTION_SIZE && garbage > size - garbage
+        && size >= retryCompactionAt) {
+      try {
+        compact();
+      } catch (IOException cause) {
+        // The records are already forced, so only the compaction is lost.
+        logger.error("Unable to compact {}.", path, cause);
+        retryCompactionAt = size + MINIMUM_COMPACTION_SIZE;
+      }
+    }
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    channel.close();
+  }
+
+  /**
+   * Gets the length of the log.
+   *
+   * @return The length of the log, in bytes.
+   */
+  public synchronized long getSize() {
+    return size;
+  }
+
+  /**
+   * Opens the log and rebuilds the offsets of the latest entries.
+   *
+   * @throws IOException If the log could not be opened or read.
+   */
+  private void open() throws IOException {
+    channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+        StandardOpenOption.WRITE);
+    offsets.clear();
+    size = 0;
+    garbage = 0;
+
+    long length = channel.size();
+    while (size < length) {
+      ByteBuffer entry = readEntry(size);
+      if (entry == null) {
+        logger.warn("Truncating {} at {} of {} bytes, the entry there is torn or corrupt.", path,
+            size, length);
+        channel.truncate(size);
+        break;
+      }
+
+      int entryLength = HEADER_LENGTH + entry.remaining();
+      String username = PlayerRecordCodec.decode(Unpooled.wrappedBuffer(entry)).getUsername();
+      Long previous = offsets.put(keyOf(username), size);
+      if (previous != null) {
+        garbage += entryLength(previous);
+      }
+      size += entryLength;
+    }
+  }
+
+  /**
+   * Rewrites the log with only the latest entry of each Player.
+   *
+   * @throws IOException If the log could not be rewritten.
+   */
+  private void compact() throws IOException {
+    Path compacted = path.resolveSibling(path.getFileName() + ".compact");
+    long before = size;
+    try {
+      try (FileChannel output = FileChannel.open(compacted, StandardOpenOption.CREATE,
+          StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+        for (long offset : offsets.values()) {
+          long length = entryLength(offset);
+          long copied = 0;
+          while (copied < length) {
+            copied += channel.transferTo(offset + copied, length - copied, output);
+          }
+        }
+        output.force(false);
+      }
+
+      channel.close();
+      try {
+        mover.move(compacted, path);
+      } finally {
+        // Reopen whichever log is now at the path, so a failed move leaves the old one usable.
+        open();
+      }
+    } catch (IOException cause) {
+      Files.deleteIfExists(compacted);
+      throw cause;
+    }
+    logger.info("Compacted {} from {} to {} bytes.", path, before, size);
+  }
+
+  /**
+   * Reads the record of the entry at the specified offset.
+   *
+   * @param offset The offset of the entry.
+   * @return The encoded record, or {@code null} if the entry is torn or corrupt.
+   * @throws IOException If the log could not be read.
+   */
+  private ByteBuffer readEntry(long offset) throws IOException {
+    ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+    if (!readFully(header, offset)) {
+      return null;
+    }
+
+    int length = header.getInt(0);
+    if (length <= 0 || offset + HEADER_LENGTH + length > channel.size()) {
+      return null;
+    }
+
+    ByteBuffer record = ByteBuffer.allocate(length);
+    if (!readFully(record, offset + HEADER_LENGTH)) {
+      return null;
+    }
+
+    CRC32 crc = new CRC32();
+    crc.update(record.array(), 0, length);
+    return (int) crc.getValue() == header.getInt(Integer.BYTES) ? record : null;
+  }
+
+  /**
+   * Gets the length of the entry at the specified offset, whose header has already been
+   * validated.
+   *
+   * @param offset The offset of the entry.
+   * @return The length of the entry, including its header.
+   * @throws IOException If the log could not be read.
+   */
+  private long entryLength(long offset) throws IOException {
+    ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+    readFully(length, offset);
+    return HEADER_LENGTH + length.getInt(0);
+  }
+
+  /**
+   * Reads from the log until the specified buffer is full.
+   *
+   * @param buffer The buffer to read into.
+   * @param offset The offset to read from.
+   * @return {@code true} iff the buffer was filled before the end of the log.
+   * @throws IOException If the log could not be read.
+   */
+  private boolean readFully(ByteBuffer buffer, long offset) throws IOException {
+    long position = offset;
+    while (buffer.hasRemaining()) {
+      int read = channel.read(buffer, position);
+      if (read < 0) {
+        return false;
+      }
+      position += read;
+    }
+    buffer.flip();
+    return true;
+  }
+
+  /**
+   * Writes an entry of the specified record.
+   *
+   * @param record The record.
+   * @param buffer The ByteBuf to write to.
+   */
+  private static void writeEntry(PlayerRecord record, ByteBuf buffer) {
+    int headerIndex = buffer.writerIndex();
+    buffer.writeZero(HEADER_LENGTH);
+    PlayerRecordCodec.encode(record, buffer);
+
+    int length = buffer.writerIndex() - headerIndex - HEADER_LENGTH;
+    CRC32 crc = new CRC32();
+    crc.update(buffer.array(), buffer.arrayOffset() + headerIndex + HEADER_LENGTH, length);
+
+    buffer.setInt(headerIndex, length);
+    buffer.setInt(headerIndex + Integer.BYTES, (int) crc.getValue());
+  }
+
+  /**
+   * Gets the key of the specified username, usernames are case-insensitive.
+   *
+   * @param username The username.
+   * @return The key.
+   */
+  private static String keyOf(String username) {
+    return username.toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * Moves a compacted log over the log.
+   */
+  @FunctionalInterface
+  interface LogMover {
+
+    /**
+     * Moves the specified compacted log over the specified log.
+     *
+     * @param source The path of the compacted log.
+     * @param target The path of the log.
+     * @throws IOException If the log could not be replaced.
+     */
+    void move(Path source, Path target) throws IOException;
+
+  }
+
+}
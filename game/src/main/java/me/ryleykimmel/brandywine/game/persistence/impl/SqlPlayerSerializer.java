@@ -0,0 +1,150 @@
+package me.ryleykimmel.brandywine.game.persistence.impl;
+
+import com.google.common.base.Preconditions;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import me.ryleykimmel.brandywine.game.persistence.PlayerRecord;
+import me.ryleykimmel.brandywine.game.persistence.PlayerSerializer;
+import org.sql2o.Connection;
+import org.sql2o.Query;
+import org.sql2o.Sql2o;
+import org.sql2o.data.Row;
+
+/**
+ * A {@link PlayerSerializer} which stores records in the {@code player_records} table.
+ * <p>
+ * Appearance and skills are stored as delimited text columns, {@code style:color} per feature and
+ * {@code id:experience:level} per skill. Batches are written as a single JDBC batch within one
+ * transaction.
+ * </p>
+ */
+public final class SqlPlayerSerializer implements PlayerSerializer {
+
+  /**
+   * Selects the record of a Player.
+   */
+  private static final String SELECT_RECORD = "SELECT username, position, privileges, gender, "
+      + "appearance, skills FROM player_records WHERE username = :username";
+
+  /**
+   * Inserts or replaces the record of a Player.
+   */
+  private static final String UPSERT_RECORD = "INSERT INTO player_records "
+      + "(username, position, privileges, gender, appearance, skills) "
+      + "VALUES (:username, :position, :privileges, :gender, :appearance, :skills) "
+      + "ON DUPLICATE KEY UPDATE position = VALUES(position), privileges = VALUES(privileges), "
+      + "gender = VALUES(gender), appearance = VALUES(appearance), skills = VALUES(skills)";
+
+  /**
+   * The Sql2o used to create JDBC {@link Connection}s.
+   */
+  private final Sql2o sql2o;
+
+  /**
+   * Constructs a new {@link SqlPlayerSerializer}.
+   *
+   * @param sql2o The Sql2o used to create JDBC {@link Connection}s.
+   */
+  public SqlPlayerSerializer(Sql2o sql2o) {
+    this.sql2o = Preconditions.checkNotNull(sql2o, "Sql2o may not be null.");
+  }
+
+  @Override
+  public Optional<PlayerRecord> load(String username) {
+    try (Connection connection = sql2o.open()) {
+      List<Row> rows = connection.createQuery(SELECT_RECORD)
+          .addParameter("username", username)
+          .executeAndFetchTable().rows();
+
+      if (rows.isEmpty()) {
+        return Optional.empty();
+      }
+
+      Row row = rows.get(0);
+      int[] styles = new int[PlayerRecord.FEATURES];
+      int[] colors = new int[PlayerRecord.FEATURES];
+      String[] features = row.getString("appearance").split(",");
+      for (int feature = 0; feature < PlayerRecord.FEATURES; feature++) {
+        String[] values = features[feature].split(":");
+        styles[feature] = Integer.parseInt(values[0]);
+        colors[feature] = Integer.parseInt(values[1]);
+      }
+
+      String skills = row.getString("skills");
+      String[] entries = skills.isEmpty() ? new String[0] : skills.split(",");
+      int[] skillIds = new int[entries.length];
+      double[] experience = new double[entries.length];
+      int[] currentLevels = new int[entries.length];
+      for (int index = 0; index < entries.length; index++) {
+        String[] values = entries[index].split(":");
+        skillIds[index] = Integer.parseInt(values[0]);
+        experience[index] = Double.parseDouble(values[1]);
+        currentLevels[index] = Integer.parseInt(values[2]);
+      }
+
+      return Optional.of(new PlayerRecord(row.getString("username"), row.getInteger("position"),
+          row.getInteger("privileges"), row.getInteger("gender"), styles, colors, skillIds,
+          experience, currentLevels));
+    }
+  }
+
+  @Override
+  public void save(PlayerRecord record) {
+    saveAll(Collections.singletonList(record));
+  }
+
+  @Override
+  public void saveAll(List<PlayerRecord> records) {
+    try (Connection connection = sql2o.beginTransaction()) {
+      Query upsert = connection.createQuery(UPSERT_RECORD);
+      for (PlayerRecord record : records) {
+        upsert.addParameter("username", record.getUsername())
+            .addParameter("position", record.getPosition())
+            .addParameter("privileges", record.getPrivileges())
+            .addParameter("gender", record.getGender())
+            .addParameter("appearance", appearanceOf(record))
+            .addParameter("skills", skillsOf(record))
+            .addToBatch();
+      }
+      upsert.executeBatch();
+      connection.commit();
+    }
+  }
+
+  /**
+   * Formats the appearance column of the specified record.
+   *
+   * @param record The record.
+   * @return The appearance column.
+   */
+  private static String appearanceOf(PlayerRecord record) {
+    StringBuilder builder = new StringBuilder();
+    for (int feature = 0; feature < PlayerRecord.FEATURES; feature++) {
+      if (feature > 0) {
+        builder.append(',');
+      }
+      builder.append(record.getStyle(feature)).append(':').append(record.getColor(feature));
+    }
+    return builder.toString();
+  }
+
+  /**
+   * Formats the skills column of the specified record.
+   *
+   * @param record The record.
+   * @return The skills column.
+   */
+  private static String skillsOf(PlayerRecord record) {
+    StringBuilder builder = new StringBuilder();
+    for (int index = 0; index < record.getSkillCount(); index++) {
+      if (index > 0) {
+        builder.append(',');
+      }
+      builder.append(record.getSkillId(index)).append(':').append(record.getExperience(index))
+          .append(':').append(record.getCurrentLevel(index));
+    }
+    return builder.toString();
+  }
+
+}
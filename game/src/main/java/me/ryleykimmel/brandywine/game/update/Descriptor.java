@@ -1,64 +1,65 @@
 package me.ryleykimmel.brandywine.game.update;
 
-import java.util.HashMap;
-import java.util.Map;
 import me.ryleykimmel.brandywine.game.model.Mob;
 import me.ryleykimmel.brandywine.network.frame.FrameBuilder;
 
 /**
  * Represents a Descriptor which encodes UpdateBlocks and other Descriptors.
+ * <p>
+ * Descriptors are pooled and reused across pulses: they are initialized with {@link #init(Mob)}
+ * and returned to their pool with {@link #recycle()} once they have been encoded.
+ * </p>
  *
  * @param <T> The Mob who owns this Descriptor.
  */
 public abstract class Descriptor<T extends Mob> {
 
   /**
-   * The Mob who owns this Descriptor.
+   * The UpdateBlocks of this Descriptor, indexed by mask bit.
    */
-  protected final T mob;
+  private final UpdateBlockSet blocks = new UpdateBlockSet();
 
   /**
-   * A Map of UpdateBlock types to UpdateBlocks.
-   */
-  private final Map<Class<? extends UpdateBlock>, UpdateBlock> blocks = new HashMap<>();
-
-  /**
-   * The update mask for this Descriptor.
+   * The Mob who owns this Descriptor.
    */
-  protected int mask = 0;
+  protected T mob;
 
   /**
-   * Constructs a new {@link Descriptor} with the specified Mob and Updater.
+   * Initializes this Descriptor for the specified Mob, appending all of its pending UpdateBlocks.
    *
    * @param mob The Mob who owns this Descriptor.
    */
-  public Descriptor(T mob) {
+  protected final void init(T mob) {
     this.mob = mob;
+    blocks.clear();
+    blocks.putAllIfAbsent(mob.getPendingUpdates());
+  }
 
-    // Append all of the mobs update blocks to this Descriptor.
-    mob.getPendingUpdates().forEach(this::addBlock);
+  /**
+   * Resets this Descriptor so that it retains no references before being recycled.
+   */
+  protected final void reset() {
+    mob = null;
+    blocks.clear();
   }
 
   /**
-   * Adds the specified UpdateBlock to this Descriptor.
+   * Adds the specified UpdateBlock to this Descriptor, unless an UpdateBlock with the same mask has
+   * already been added.
    *
    * @param block The UpdateBlock to add.
    */
   public final void addBlock(UpdateBlock block) {
-    blocks.putIfAbsent(block.getClass(), block);
-    mask |= block.getMask();
+    blocks.putIfAbsent(block);
   }
 
   /**
-   * Removes the specified UpdateBlock.
+   * Removes the UpdateBlock with the specified mask.
    *
-   * @param type The UpdateBlocks type.
+   * @param mask The UpdateBlocks mask.
    */
-  public final void removeBlock(Class<? extends UpdateBlock> type) {
-    UpdateBlock block = blocks.remove(type);
-    if (block != null) {
-      mask &= ~block.getMask();
-    }
+  public final void removeBlock(int mask) {
+    blocks.remove(mask);
   }
 
   /**
@@ -71,23 +72,31 @@ public abstract class Descriptor<T extends Mob> {
   }
 
   /**
-   * Clears this Descriptors UpdateBlock map.
+   * Clears this Descriptors UpdateBlocks.
    */
   public final void clear() {
     blocks.clear();
-    mask = 0;
   }
 
   /**
-   * Encodes an UpdateBlock.
+   * Gets the update mask for this Descriptor.
+   *
+   * @return The update mask.
+   */
+  protected final int getMask() {
+    return blocks.getMask();
+  }
+
+  /**
+   * Encodes an UpdateBlock, using its cached bytes if available.
    *
    * @param blockBuilder The UpdateBlocks FrameBuilder.
-   * @param type The UpdateBlocks type.
+   * @param mask The UpdateBlocks mask.
    */
-  public final void encodeBlock(FrameBuilder blockBuilder, Class<? extends UpdateBlock> type) {
-    UpdateBlock block = blocks.get(type);
+  public final void encodeBlock(FrameBuilder blockBuilder, int mask) {
+    UpdateBlock block = blocks.get(mask);
     if (block != null) {
-      block.encode(blockBuilder);
+      block.write(blockBuilder);
     }
   }
 
@@ -107,4 +116,10 @@ public abstract class Descriptor<T extends Mob> {
    */
   public abstract void encodeState(FrameBuilder builder, FrameBuilder blockBuilder);
 
+  /**
+   * Resets this Descriptor and returns it to its pool. This Descriptor must not be used again
+   * after it has been recycled.
+   */
+  public abstract void recycle();
+
 }
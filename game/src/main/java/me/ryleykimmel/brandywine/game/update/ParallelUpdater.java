@@ -1,58 +1,259 @@
 package me.ryleykimmel.brandywine.game.update;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Phaser;
-import me.ryleykimmel.brandywine.common.util.ThreadFactoryUtil;
+import com.google.common.base.Preconditions;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
 import me.ryleykimmel.brandywine.game.collect.MobRepository;
 import me.ryleykimmel.brandywine.game.model.npc.Npc;
 import me.ryleykimmel.brandywine.game.model.player.Player;
-import me.ryleykimmel.brandywine.game.update.task.PhasedUpdateTask;
 import me.ryleykimmel.brandywine.game.update.task.PlayerUpdateTask;
 import me.ryleykimmel.brandywine.game.update.task.PostPlayerUpdateTask;
 import me.ryleykimmel.brandywine.game.update.task.PrePlayerUpdateTask;
 import me.ryleykimmel.brandywine.game.update.task.UpdateTask;
 
 /**
- * An implementation of a {@link Updater} which runs in a thread-pool. A {@link Phaser} is used to ensure that updating is complete before moving on.
+ * An implementation of a {@link Updater} which runs in a work-stealing {@link ForkJoinPool}.
+ * <p>
+ * The {@link MobRepository} is split into contiguous index ranges, each range is a reusable task
+ * which runs an {@link UpdateTask} over every Player within it. Invoking every range and awaiting
+ * completion forms the only barrier between phases, so no tasks are allocated per Player or per
+ * pulse.
+ * </p>
+ * <p>
+ * A Player whose update fails does not stop the others from being updated. Once every phase has
+ * completed, the first failure is rethrown on the calling thread, with any others suppressed.
+ * </p>
  */
 public final class ParallelUpdater implements Updater {
 
   /**
-   * The Phaser used to control synchronization.
+   * The amount of repository indices within a single range.
    */
-  private final Phaser phaser = new Phaser(1);
+  private static final int RANGE_SIZE = 64;
 
   /**
-   * A fixed ExecutorService thread-pool used for executing UpdateTasks.
+   * The UpdateTask which performs pre-update logic.
    */
-  private final ExecutorService executor = Executors.newFixedThreadPool(
-      Runtime.getRuntime().availableProcessors(), ThreadFactoryUtil.create(this).build());
+  private final UpdateTask preUpdateTask;
+
+  /**
+   * The UpdateTask which updates Players.
+   */
+  private final UpdateTask updateTask;
+
+  /**
+   * The UpdateTask which performs post-update logic.
+   */
+  private final UpdateTask postUpdateTask;
+
+  /**
+   * The first failure of the current update, if any.
+   */
+  private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+  /**
+   * The ForkJoinPool used for executing ranges.
+   */
+  private final ForkJoinPool pool;
+
+  /**
+   * The task which invokes every range for the current phase.
+   */
+  private final PhaseAction phase = new PhaseAction();
+
+  /**
+   * The repository the ranges were last created for.
+   */
+  private MobRepository<Player> repository;
+
+  /**
+   * The UpdateTask being performed by the current phase.
+   */
+  private UpdateTask task;
+
+  /**
+   * Constructs a new {@link ParallelUpdater} with a thread for every available processor.
+   */
+  public ParallelUpdater() {
+    this(Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Constructs a new {@link ParallelUpdater} with the specified amount of threads.
+   *
+   * @param parallelism The amount of threads used for updating.
+   */
+  public ParallelUpdater(int parallelism) {
+    this(parallelism, new PrePlayerUpdateTask(), new PlayerUpdateTask(),
+        new PostPlayerUpdateTask());
+  }
+
+  /**
+   * Constructs a new {@link ParallelUpdater} with the specified amount of threads and UpdateTasks.
+   *
+   * @param parallelism The amount of threads used for updating.
+   * @param preUpdateTask The UpdateTask which performs pre-update logic.
+   * @param updateTask The UpdateTask which updates Players.
+   * @param postUpdateTask The UpdateTask which performs post-update logic.
+   */
+  ParallelUpdater(int parallelism, UpdateTask preUpdateTask, UpdateTask updateTask,
+      UpdateTask postUpdateTask) {
+    this.preUpdateTask = preUpdateTask;
+    this.updateTask = updateTask;
+    this.postUpdateTask = postUpdateTask;
+    pool = new ForkJoinPool(parallelism, new UpdateWorkerThreadFactory(), null, false);
+  }
 
   @Override
   public void update(MobRepository<Player> players, MobRepository<Npc> npcs) {
-    int playerCount = players.size();
+    if (repository != players) {
+      phase.partition(players);
+      repository = players;
+    }
 
-    phaser.bulkRegister(playerCount);
-    for (Player player : players) {
-      UpdateTask task = new PrePlayerUpdateTask(player);
-      executor.submit(new PhasedUpdateTask(phaser, task));
+    execute(preUpdateTask);
+    execute(updateTask);
+    execute(postUpdateTask);
+
+    RuntimeException cause = failure.getAndSet(null);
+    if (cause != null) {
+      throw cause;
     }
-    phaser.arriveAndAwaitAdvance();
+  }
 
-    phaser.bulkRegister(playerCount);
-    for (Player player : players) {
-      UpdateTask task = new PlayerUpdateTask(player);
-      executor.submit(new PhasedUpdateTask(phaser, task));
+  /**
+   * Executes the specified UpdateTask for every Player and waits until all of them have completed.
+   *
+   * @param task The UpdateTask to execute.
+   */
+  private void execute(UpdateTask task) {
+    this.task = task;
+    phase.reinitialize();
+    pool.invoke(phase);
+  }
+
+  /**
+   * Records the specified failure, suppressing it within the first failure of this update if
+   * there already is one.
+   *
+   * @param cause The failure.
+   */
+  private void fail(RuntimeException cause) {
+    if (!failure.compareAndSet(null, cause)) {
+      failure.get().addSuppressed(cause);
     }
-    phaser.arriveAndAwaitAdvance();
+  }
+
+  /**
+   * A RecursiveAction which forks every {@link RangeAction} and joins them.
+   */
+  private final class PhaseAction extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The ranges of the repository.
+     */
+    private RangeAction[] ranges = new RangeAction[0];
 
-    phaser.bulkRegister(playerCount);
-    for (Player player : players) {
-      UpdateTask task = new PostPlayerUpdateTask(player);
-      executor.submit(new PhasedUpdateTask(phaser, task));
+    /**
+     * Splits the specified repository into ranges of {@link ParallelUpdater#RANGE_SIZE} indices.
+     *
+     * @param players The repository to split.
+     */
+    void partition(MobRepository<Player> players) {
+      int capacity = players.capacity();
+      Preconditions.checkArgument(capacity > 0, "Repository capacity must be positive.");
+
+      RangeAction[] ranges = new RangeAction[(capacity + RANGE_SIZE - 1) / RANGE_SIZE];
+      for (int index = 0; index < ranges.length; index++) {
+        int start = index * RANGE_SIZE;
+        ranges[index] = new RangeAction(players, start, Math.min(start + RANGE_SIZE, capacity));
+      }
+
+      this.ranges = ranges;
     }
-    phaser.arriveAndAwaitAdvance();
+
+    @Override
+    protected void compute() {
+      for (RangeAction range : ranges) {
+        range.reinitialize();
+      }
+      invokeAll(ranges);
+    }
+
+  }
+
+  /**
+   * A RecursiveAction which performs the current UpdateTask for a contiguous range of indices.
+   */
+  private final class RangeAction extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The repository of Players.
+     */
+    private final MobRepository<Player> players;
+
+    /**
+     * The first index of this range, inclusive.
+     */
+    private final int start;
+
+    /**
+     * The last index of this range, exclusive.
+     */
+    private final int end;
+
+    /**
+     * Constructs a new {@link RangeAction}.
+     *
+     * @param players The repository of Players.
+     * @param start The first index of this range, inclusive.
+     * @param end The last index of this range, exclusive.
+     */
+    RangeAction(MobRepository<Player> players, int start, int end) {
+      this.players = players;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    protected void compute() {
+      UpdateTask task = ParallelUpdater.this.task;
+
+      for (int index = start; index < end; index++) {
+        Player player = players.get(index + 1);
+        if (player == null) {
+          continue;
+        }
+
+        try {
+          task.run(player);
+        } catch (RuntimeException cause) {
+          fail(new IllegalStateException("Error occurred while updating " + player + ".", cause));
+        }
+      }
+    }
+
+  }
+
+  /**
+   * A ForkJoinWorkerThreadFactory which names the threads of this updater.
+   */
+  private static final class UpdateWorkerThreadFactory implements ForkJoinWorkerThreadFactory {
+
+    @Override
+    public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+      ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+      thread.setName("ParallelUpdater-" + thread.getPoolIndex());
+      return thread;
+    }
+
   }
 
 }
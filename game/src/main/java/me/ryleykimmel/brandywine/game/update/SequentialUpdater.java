@@ -13,21 +13,33 @@ import me.ryleykimmel.brandywine.game.update.task.UpdateTask;
  */
 public final class SequentialUpdater implements Updater {
 
+  /**
+   * The UpdateTask which performs pre-update logic.
+   */
+  private final UpdateTask preUpdateTask = new PrePlayerUpdateTask();
+
+  /**
+   * The UpdateTask which updates Players.
+   */
+  private final UpdateTask updateTask = new PlayerUpdateTask();
+
+  /**
+   * The UpdateTask which performs post-update logic.
+   */
+  private final UpdateTask postUpdateTask = new PostPlayerUpdateTask();
+
   @Override
   public void update(MobRepository<Player> players, MobRepository<Npc> npcs) {
     for (Player player : players) {
-      UpdateTask task = new PrePlayerUpdateTask(player);
-      task.run();
+      preUpdateTask.run(player);
     }
 
     for (Player player : players) {
-      UpdateTask task = new PlayerUpdateTask(player);
-      task.run();
+      updateTask.run(player);
     }
 
     for (Player player : players) {
-      UpdateTask task = new PostPlayerUpdateTask(player);
-      task.run();
+      postUpdateTask.run(player);
     }
   }
 
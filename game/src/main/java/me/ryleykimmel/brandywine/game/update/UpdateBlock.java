@@ -1,9 +1,16 @@
 package me.ryleykimmel.brandywine.game.update;
 
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
 import me.ryleykimmel.brandywine.network.frame.FrameBuilder;
 
 /**
  * Represents an update block.
+ * <p>
+ * UpdateBlocks are immutable and independent of the viewer, so their encoded form may be
+ * {@link #cache() cached} once and shared by every viewer. A cached UpdateBlock lives as long as
+ * the UpdateBlock itself; a new UpdateBlock must be flagged for its bytes to change.
+ * </p>
  */
 public abstract class UpdateBlock {
 
@@ -12,6 +19,11 @@ public abstract class UpdateBlock {
    */
   private final int mask;
 
+  /**
+   * The cached encoded bytes of this UpdateBlock, or {@code null} if they have not been cached.
+   */
+  private volatile byte[] encoded;
+
   /**
    * Constructs a new {@link UpdateBlock} with the specified mask.
    *
@@ -30,6 +42,39 @@ public abstract class UpdateBlock {
     return mask;
   }
 
+  /**
+   * Encodes this UpdateBlock once and caches the encoded bytes, if they have not already been
+   * cached.
+   */
+  public final void cache() {
+    if (encoded != null) {
+      return;
+    }
+
+    FrameBuilder builder = new FrameBuilder(ByteBufAllocator.DEFAULT);
+    try {
+      encode(builder);
+      encoded = ByteBufUtil.getBytes(builder.getBuffer());
+    } finally {
+      builder.release();
+    }
+  }
+
+  /**
+   * Writes this UpdateBlock to the specified FrameBuilder, splicing in the cached bytes if this
+   * UpdateBlock has been cached and encoding it otherwise.
+   *
+   * @param builder The FrameBuilder to write this UpdateBlock to.
+   */
+  public final void write(FrameBuilder builder) {
+    byte[] bytes = encoded;
+    if (bytes != null) {
+      builder.putBytes(bytes);
+    } else {
+      encode(builder);
+    }
+  }
+
   /**
    * Encodes this UpdateBlock.
    *
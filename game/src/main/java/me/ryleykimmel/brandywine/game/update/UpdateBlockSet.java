@@ -0,0 +1,136 @@
+package me.ryleykimmel.brandywine.game.update;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * A fixed-size set of {@link UpdateBlock}s, where each UpdateBlock occupies the slot indexed by the
+ * single bit of its mask. At most one UpdateBlock per mask may be present at a time.
+ */
+public final class UpdateBlockSet {
+
+  /**
+   * The maximum amount of UpdateBlock slots, one per bit of a short update mask.
+   */
+  private static final int MAXIMUM_SLOTS = 16;
+
+  /**
+   * The UpdateBlocks within this set, indexed by their mask bit.
+   */
+  private final UpdateBlock[] blocks = new UpdateBlock[MAXIMUM_SLOTS];
+
+  /**
+   * The combined mask of every UpdateBlock within this set.
+   */
+  private int mask;
+
+  /**
+   * Gets the slot for the specified mask.
+   *
+   * @param mask The mask, must have exactly one bit set.
+   * @return The slot for the specified mask.
+   */
+  private static int slot(int mask) {
+    Preconditions.checkArgument(Integer.bitCount(mask) == 1 && mask < 1 << MAXIMUM_SLOTS,
+        "Mask must have exactly one bit set within the lower %s bits.", MAXIMUM_SLOTS);
+    return Integer.numberOfTrailingZeros(mask);
+  }
+
+  /**
+   * Places the specified UpdateBlock into this set, replacing any UpdateBlock with the same mask.
+   *
+   * @param block The UpdateBlock to place.
+   */
+  public void put(UpdateBlock block) {
+    int mask = block.getMask();
+    blocks[slot(mask)] = block;
+    this.mask |= mask;
+  }
+
+  /**
+   * Places the specified UpdateBlock into this set if no UpdateBlock with the same mask is present.
+   *
+   * @param block The UpdateBlock to place.
+   */
+  public void putIfAbsent(UpdateBlock block) {
+    int mask = block.getMask();
+    if ((this.mask & mask) == 0) {
+      put(block);
+    }
+  }
+
+  /**
+   * Places every UpdateBlock within the specified set into this set, skipping any mask which is
+   * already present.
+   *
+   * @param other The UpdateBlockSet to copy from.
+   */
+  public void putAllIfAbsent(UpdateBlockSet other) {
+    int missing = other.mask & ~mask;
+    while (missing != 0) {
+      int slot = Integer.numberOfTrailingZeros(missing);
+      blocks[slot] = other.blocks[slot];
+      missing &= missing - 1;
+    }
+    mask |= other.mask;
+  }
+
+  /**
+   * Gets the UpdateBlock with the specified mask.
+   *
+   * @param mask The mask of the UpdateBlock.
+   * @return The UpdateBlock, or {@code null} if it is not present.
+   */
+  public UpdateBlock get(int mask) {
+    return blocks[slot(mask)];
+  }
+
+  /**
+   * Removes the UpdateBlock with the specified mask, if present.
+   *
+   * @param mask The mask of the UpdateBlock.
+   */
+  public void remove(int mask) {
+    blocks[slot(mask)] = null;
+    this.mask &= ~mask;
+  }
+
+  /**
+   * {@link UpdateBlock#cache() Caches} the encoded bytes of every UpdateBlock within this set.
+   */
+  public void cacheAll() {
+    int remaining = mask;
+    while (remaining != 0) {
+      blocks[Integer.numberOfTrailingZeros(remaining)].cache();
+      remaining &= remaining - 1;
+    }
+  }
+
+  /**
+   * Removes every UpdateBlock from this set.
+   */
+  public void clear() {
+    while (mask != 0) {
+      blocks[Integer.numberOfTrailingZeros(mask)] = null;
+      mask &= mask - 1;
+    }
+  }
+
+  /**
+   * Tests whether or not this set is empty.
+   *
+   * @return {@code true} if and only if this set contains no UpdateBlocks.
+   */
+  public boolean isEmpty() {
+    return mask == 0;
+  }
+
+  /**
+   * Gets the combined mask of every UpdateBlock within this set.
+   *
+   * @return The combined mask.
+   */
+  public int getMask() {
+    return mask;
+  }
+
+}
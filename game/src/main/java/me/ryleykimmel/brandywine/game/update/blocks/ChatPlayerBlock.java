@@ -3,8 +3,6 @@ package me.ryleykimmel.brandywine.game.update.blocks;
 import me.ryleykimmel.brandywine.game.message.ChatMessage;
 import me.ryleykimmel.brandywine.game.model.player.Player;
 import me.ryleykimmel.brandywine.game.update.UpdateBlock;
-import me.ryleykimmel.brandywine.network.frame.DataTransformation;
-import me.ryleykimmel.brandywine.network.frame.DataType;
 import me.ryleykimmel.brandywine.network.frame.FrameBuilder;
 
 /**
@@ -15,7 +13,7 @@ public class ChatPlayerBlock extends UpdateBlock {
   /**
    * The mask of this UpdateBlock.
    */
-  private static final int MASK = 0x80;
+  public static final int MASK = 0x80;
 
   /**
    * The Player's privilege id.
@@ -52,12 +50,12 @@ public class ChatPlayerBlock extends UpdateBlock {
 
   @Override
   public void encode(FrameBuilder builder) {
-    builder.put(DataType.BYTE, chatMessage.getTextEffects());
-    builder.put(DataType.BYTE, chatMessage.getTextColor());
-    builder.put(DataType.BYTE, privilegeId);
+    builder.putByte(chatMessage.getTextEffects());
+    builder.putByte(chatMessage.getTextColor());
+    builder.putByte(privilegeId);
 
     byte[] bytes = chatMessage.getCompressedMessage();
-    builder.put(DataType.BYTE, DataTransformation.NEGATE, bytes.length);
+    builder.putByteNegate(bytes.length);
     builder.putBytesReverse(bytes);
   }
 
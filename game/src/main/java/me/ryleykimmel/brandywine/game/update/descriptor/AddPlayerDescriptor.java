@@ -1,5 +1,7 @@
 package me.ryleykimmel.brandywine.game.update.descriptor;
 
+import io.netty.util.Recycler;
+import io.netty.util.Recycler.Handle;
 import me.ryleykimmel.brandywine.game.collect.MobRepository;
 import me.ryleykimmel.brandywine.game.model.Position;
 import me.ryleykimmel.brandywine.game.model.player.Player;
@@ -11,44 +13,74 @@ import me.ryleykimmel.brandywine.network.frame.FrameBuilder;
  */
 public final class AddPlayerDescriptor extends PlayerDescriptor {
 
+  /**
+   * The Recycler which pools AddPlayerDescriptors.
+   */
+  private static final Recycler<AddPlayerDescriptor> RECYCLER =
+      new Recycler<AddPlayerDescriptor>() {
+        @Override
+        protected AddPlayerDescriptor newObject(Handle<AddPlayerDescriptor> handle) {
+          return new AddPlayerDescriptor(handle);
+        }
+      };
+
+  /**
+   * The Handle used to recycle this AddPlayerDescriptor.
+   */
+  private final Handle<AddPlayerDescriptor> handle;
+
   /**
    * The index within the {@link MobRepository} of our Player.
    */
-  private final int index;
+  private int index;
 
   /**
-   * The Position of the Player to be added.
+   * The packed Position of the Player to be added.
    */
-  private final Position otherPosition;
+  private int otherPosition;
 
   /**
-   * Our Player's Position at the time of adding.
+   * Our Player's packed Position at the time of adding.
    */
-  private final Position position;
+  private int position;
 
   /**
    * Constructs a new AddPlayerDescriptor.
    *
+   * @param handle The Handle used to recycle this AddPlayerDescriptor.
+   */
+  private AddPlayerDescriptor(Handle<AddPlayerDescriptor> handle) {
+    this.handle = handle;
+  }
+
+  /**
+   * Creates an AddPlayerDescriptor.
+   *
    * @param player The Player we are adding other Player's for.
-   * @param otherPosition The Position of the added Player.
+   * @param otherPosition The packed Position of the added Player.
+   * @return The AddPlayerDescriptor, never {@code null}.
    */
-  public AddPlayerDescriptor(Player player, Position otherPosition) {
-    this(player, player.getIndex(), player.getPosition(), otherPosition);
+  public static AddPlayerDescriptor create(Player player, int otherPosition) {
+    return create(player, player.getIndex(), player.getPackedPosition(), otherPosition);
   }
 
   /**
-   * Constructs a new AddPlayerDescriptor.
+   * Creates an AddPlayerDescriptor.
    *
    * @param player The Player we are adding other Player's for.
    * @param index The index within the {@link MobRepository} of our Player.
-   * @param position Our Player's Position at the time of adding.
-   * @param otherPosition The Position of the Player to be added.
+   * @param position Our Player's packed Position at the time of adding.
+   * @param otherPosition The packed Position of the Player to be added.
+   * @return The AddPlayerDescriptor, never {@code null}.
    */
-  public AddPlayerDescriptor(Player player, int index, Position position, Position otherPosition) {
-    super(player);
-    this.index = index;
-    this.position = position;
-    this.otherPosition = otherPosition;
+  public static AddPlayerDescriptor create(Player player, int index, int position,
+      int otherPosition) {
+    AddPlayerDescriptor descriptor = RECYCLER.get();
+    descriptor.init(player);
+    descriptor.index = index;
+    descriptor.position = position;
+    descriptor.otherPosition = otherPosition;
+    return descriptor;
   }
 
   @Override
@@ -57,8 +89,14 @@ public final class AddPlayerDescriptor extends PlayerDescriptor {
     builder.putBits(1, isBlockUpdatedRequired() ? 1 : 0);
     builder.putBits(1, 1);
 
-    builder.putBits(5, position.getDeltaY(otherPosition));
-    builder.putBits(5, position.getDeltaX(otherPosition));
+    builder.putBits(5, Position.getY(position) - Position.getY(otherPosition));
+    builder.putBits(5, Position.getX(position) - Position.getX(otherPosition));
+  }
+
+  @Override
+  public void recycle() {
+    reset();
+    handle.recycle(this);
   }
 
 }
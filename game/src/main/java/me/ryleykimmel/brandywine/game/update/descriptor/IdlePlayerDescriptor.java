@@ -1,5 +1,7 @@
 package me.ryleykimmel.brandywine.game.update.descriptor;
 
+import io.netty.util.Recycler;
+import io.netty.util.Recycler.Handle;
 import me.ryleykimmel.brandywine.game.model.player.Player;
 import me.ryleykimmel.brandywine.game.update.PlayerDescriptor;
 import me.ryleykimmel.brandywine.network.frame.FrameBuilder;
@@ -9,13 +11,41 @@ import me.ryleykimmel.brandywine.network.frame.FrameBuilder;
  */
 public final class IdlePlayerDescriptor extends PlayerDescriptor {
 
+  /**
+   * The Recycler which pools IdlePlayerDescriptors.
+   */
+  private static final Recycler<IdlePlayerDescriptor> RECYCLER =
+      new Recycler<IdlePlayerDescriptor>() {
+        @Override
+        protected IdlePlayerDescriptor newObject(Handle<IdlePlayerDescriptor> handle) {
+          return new IdlePlayerDescriptor(handle);
+        }
+      };
+
+  /**
+   * The Handle used to recycle this IdlePlayerDescriptor.
+   */
+  private final Handle<IdlePlayerDescriptor> handle;
+
   /**
    * Constructs a new IdlePlayerDescriptor.
    *
+   * @param handle The Handle used to recycle this IdlePlayerDescriptor.
+   */
+  private IdlePlayerDescriptor(Handle<IdlePlayerDescriptor> handle) {
+    this.handle = handle;
+  }
+
+  /**
+   * Creates an IdlePlayerDescriptor.
+   *
    * @param player The Player who is idle.
+   * @return The IdlePlayerDescriptor, never {@code null}.
    */
-  public IdlePlayerDescriptor(Player player) {
-    super(player);
+  public static IdlePlayerDescriptor create(Player player) {
+    IdlePlayerDescriptor descriptor = RECYCLER.get();
+    descriptor.init(player);
+    return descriptor;
   }
 
   @Override
@@ -28,4 +58,10 @@ public final class IdlePlayerDescriptor extends PlayerDescriptor {
     }
   }
 
+  @Override
+  public void recycle() {
+    reset();
+    handle.recycle(this);
+  }
+
 }
@@ -1,5 +1,7 @@
 package me.ryleykimmel.brandywine.game.update.descriptor;
 
+import io.netty.util.Recycler;
+import io.netty.util.Recycler.Handle;
 import me.ryleykimmel.brandywine.game.model.player.Player;
 import me.ryleykimmel.brandywine.game.update.PlayerDescriptor;
 import me.ryleykimmel.brandywine.network.frame.FrameBuilder;
@@ -9,14 +11,42 @@ import me.ryleykimmel.brandywine.network.frame.FrameBuilder;
  */
 public final class RemovePlayerDescriptor extends PlayerDescriptor {
 
+  /**
+   * The Recycler which pools RemovePlayerDescriptors.
+   */
+  private static final Recycler<RemovePlayerDescriptor> RECYCLER =
+      new Recycler<RemovePlayerDescriptor>() {
+        @Override
+        protected RemovePlayerDescriptor newObject(Handle<RemovePlayerDescriptor> handle) {
+          return new RemovePlayerDescriptor(handle);
+        }
+      };
+
+  /**
+   * The Handle used to recycle this RemovePlayerDescriptor.
+   */
+  private final Handle<RemovePlayerDescriptor> handle;
+
   /**
    * Constructs a new RemovePlayerDescriptor.
    *
+   * @param handle The Handle used to recycle this RemovePlayerDescriptor.
+   */
+  private RemovePlayerDescriptor(Handle<RemovePlayerDescriptor> handle) {
+    this.handle = handle;
+  }
+
+  /**
+   * Creates a RemovePlayerDescriptor.
+   *
    * @param player The Player we are removing.
+   * @return The RemovePlayerDescriptor, never {@code null}.
    */
-  public RemovePlayerDescriptor(Player player) {
-    super(player);
-    clear();
+  public static RemovePlayerDescriptor create(Player player) {
+    RemovePlayerDescriptor descriptor = RECYCLER.get();
+    descriptor.init(player);
+    descriptor.clear();
+    return descriptor;
   }
 
   @Override
@@ -25,4 +55,10 @@ public final class RemovePlayerDescriptor extends PlayerDescriptor {
     builder.putBits(2, 3);
   }
 
+  @Override
+  public void recycle() {
+    reset();
+    handle.recycle(this);
+  }
+
 }
@@ -1,5 +1,7 @@
 package me.ryleykimmel.brandywine.game.update.descriptor;
 
+import io.netty.util.Recycler;
+import io.netty.util.Recycler.Handle;
 import me.ryleykimmel.brandywine.game.model.Direction;
 import me.ryleykimmel.brandywine.game.model.player.Player;
 import me.ryleykimmel.brandywine.game.update.PlayerDescriptor;
@@ -10,36 +12,66 @@ import me.ryleykimmel.brandywine.network.frame.FrameBuilder;
  */
 public final class RunPlayerDescriptor extends PlayerDescriptor {
 
+  /**
+   * The Recycler which pools RunPlayerDescriptors.
+   */
+  private static final Recycler<RunPlayerDescriptor> RECYCLER =
+      new Recycler<RunPlayerDescriptor>() {
+        @Override
+        protected RunPlayerDescriptor newObject(Handle<RunPlayerDescriptor> handle) {
+          return new RunPlayerDescriptor(handle);
+        }
+      };
+
+  /**
+   * The Handle used to recycle this RunPlayerDescriptor.
+   */
+  private final Handle<RunPlayerDescriptor> handle;
+
   /**
    * The first Direction of movement.
    */
-  private final Direction firstDirection;
+  private Direction firstDirection;
 
   /**
    * The second Direction of movement.
    */
-  private final Direction secondDirection;
+  private Direction secondDirection;
 
   /**
    * Constructs a new RunPlayerDescriptor.
    *
+   * @param handle The Handle used to recycle this RunPlayerDescriptor.
+   */
+  private RunPlayerDescriptor(Handle<RunPlayerDescriptor> handle) {
+    this.handle = handle;
+  }
+
+  /**
+   * Creates a RunPlayerDescriptor.
+   *
    * @param player The Player who is running.
+   * @return The RunPlayerDescriptor, never {@code null}.
    */
-  public RunPlayerDescriptor(Player player) {
-    this(player, player.getFirstDirection(), player.getSecondDirection());
+  public static RunPlayerDescriptor create(Player player) {
+    return create(player, player.getFirstDirection(), player.getSecondDirection());
   }
 
   /**
-   * Constructs a new RunPlayerDescriptor.
+   * Creates a RunPlayerDescriptor.
    *
    * @param player The Player who is running.
    * @param firstDirection The first Direction of movement.
    * @param secondDirection The second Direction of movement.
+   * @return The RunPlayerDescriptor, never {@code null}.
    */
-  public RunPlayerDescriptor(Player player, Direction firstDirection, Direction secondDirection) {
-    super(player);
-    this.firstDirection = firstDirection;
-    this.secondDirection = secondDirection;
+  public static RunPlayerDescriptor create(Player player, Direction firstDirection,
+      Direction secondDirection) {
+    RunPlayerDescriptor descriptor = RECYCLER.get();
+    descriptor.init(player);
+    descriptor.firstDirection = firstDirection;
+    descriptor.secondDirection = secondDirection;
+    return descriptor;
   }
 
   @Override
@@ -51,4 +83,10 @@ public final class RunPlayerDescriptor extends PlayerDescriptor {
     builder.putBits(1, isBlockUpdatedRequired() ? 1 : 0);
   }
 
+  @Override
+  public void recycle() {
+    reset();
+    handle.recycle(this);
+  }
+
 }
@@ -1,5 +1,7 @@
 package me.ryleykimmel.brandywine.game.update.descriptor;
 
+import io.netty.util.Recycler;
+import io.netty.util.Recycler.Handle;
 import me.ryleykimmel.brandywine.game.model.Position;
 import me.ryleykimmel.brandywine.game.model.player.Player;
 import me.ryleykimmel.brandywine.game.update.PlayerDescriptor;
@@ -10,46 +12,76 @@ import me.ryleykimmel.brandywine.network.frame.FrameBuilder;
  */
 public final class TeleportPlayerDescriptor extends PlayerDescriptor {
 
+  /**
+   * The Recycler which pools TeleportPlayerDescriptors.
+   */
+  private static final Recycler<TeleportPlayerDescriptor> RECYCLER =
+      new Recycler<TeleportPlayerDescriptor>() {
+        @Override
+        protected TeleportPlayerDescriptor newObject(Handle<TeleportPlayerDescriptor> handle) {
+          return new TeleportPlayerDescriptor(handle);
+        }
+      };
+
+  /**
+   * The Handle used to recycle this TeleportPlayerDescriptor.
+   */
+  private final Handle<TeleportPlayerDescriptor> handle;
+
   /**
    * A flag denoting whether or not the map region has changed.
    */
-  private final boolean mapRegionChanged;
+  private boolean mapRegionChanged;
 
   /**
-   * The Position of our Player before teleporting.
+   * The packed Position of our Player before teleporting.
    */
-  private final Position position;
+  private int position;
 
   /**
-   * The last known region of our Player.
+   * The packed last known region of our Player.
    */
-  private final Position lastKnownRegion;
+  private int lastKnownRegion;
 
   /**
    * Constructs a new TeleportPlayerDescriptor.
    *
+   * @param handle The Handle used to recycle this TeleportPlayerDescriptor.
+   */
+  private TeleportPlayerDescriptor(Handle<TeleportPlayerDescriptor> handle) {
+    this.handle = handle;
+  }
+
+  /**
+   * Creates a TeleportPlayerDescriptor.
+   *
    * @param player The Player who is teleporting.
-   * @param position The Position of our Player before teleporting.
-   * @param lastKnownRegion The last known region of our Player.
+   * @param position The packed Position of our Player before teleporting.
+   * @param lastKnownRegion The packed last known region of our Player.
+   * @return The TeleportPlayerDescriptor, never {@code null}.
    */
-  public TeleportPlayerDescriptor(Player player, Position position, Position lastKnownRegion) {
-    this(player, player.hasMapRegionChanged(), position, lastKnownRegion);
+  public static TeleportPlayerDescriptor create(Player player, int position,
+      int lastKnownRegion) {
+    return create(player, player.hasMapRegionChanged(), position, lastKnownRegion);
   }
 
   /**
-   * Constructs a new TeleportPlayerDescriptor.
+   * Creates a TeleportPlayerDescriptor.
    *
    * @param player The Player who is teleporting.
    * @param mapRegionChanged A flag denoting whether or not the map region has changed.
-   * @param position The Position of our Player before teleporting.
-   * @param lastKnownRegion The last known region of our Player.
+   * @param position The packed Position of our Player before teleporting.
+   * @param lastKnownRegion The packed last known region of our Player.
+   * @return The TeleportPlayerDescriptor, never {@code null}.
    */
-  public TeleportPlayerDescriptor(Player player, boolean mapRegionChanged, Position position,
-      Position lastKnownRegion) {
-    super(player);
-    this.mapRegionChanged = mapRegionChanged;
-    this.position = position;
-    this.lastKnownRegion = lastKnownRegion;
+  public static TeleportPlayerDescriptor create(Player player, boolean mapRegionChanged,
+      int position, int lastKnownRegion) {
+    TeleportPlayerDescriptor descriptor = RECYCLER.get();
+    descriptor.init(player);
+    descriptor.mapRegionChanged = mapRegionChanged;
+    descriptor.position = position;
+    descriptor.lastKnownRegion = lastKnownRegion;
+    return descriptor;
   }
 
   @Override
@@ -57,13 +89,19 @@ public final class TeleportPlayerDescriptor extends PlayerDescriptor {
     builder.putBits(1, 1);
     builder.putBits(2, 3);
 
-    builder.putBits(2, position.getHeight());
+    builder.putBits(2, Position.getHeight(position));
 
     builder.putBits(1, mapRegionChanged ? 0 : 1);
     builder.putBits(1, isBlockUpdatedRequired() ? 1 : 0);
 
-    builder.putBits(7, position.getLocalY(lastKnownRegion));
-    builder.putBits(7, position.getLocalX(lastKnownRegion));
+    builder.putBits(7, Position.getLocalY(position, lastKnownRegion));
+    builder.putBits(7, Position.getLocalX(position, lastKnownRegion));
+  }
+
+  @Override
+  public void recycle() {
+    reset();
+    handle.recycle(this);
   }
 
 }
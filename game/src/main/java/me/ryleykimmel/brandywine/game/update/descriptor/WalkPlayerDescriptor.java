@@ -1,5 +1,7 @@
 package me.ryleykimmel.brandywine.game.update.descriptor;
 
+import io.netty.util.Recycler;
+import io.netty.util.Recycler.Handle;
 import me.ryleykimmel.brandywine.game.model.Direction;
 import me.ryleykimmel.brandywine.game.model.player.Player;
 import me.ryleykimmel.brandywine.game.update.PlayerDescriptor;
@@ -8,31 +10,60 @@ import me.ryleykimmel.brandywine.network.frame.FrameBuilder;
 /**
  * A PlayerDescriptor which encodes the walking movement of a Player.
  */
-public class WalkPlayerDescriptor extends PlayerDescriptor {
+public final class WalkPlayerDescriptor extends PlayerDescriptor {
+
+  /**
+   * The Recycler which pools WalkPlayerDescriptors.
+   */
+  private static final Recycler<WalkPlayerDescriptor> RECYCLER =
+      new Recycler<WalkPlayerDescriptor>() {
+        @Override
+        protected WalkPlayerDescriptor newObject(Handle<WalkPlayerDescriptor> handle) {
+          return new WalkPlayerDescriptor(handle);
+        }
+      };
+
+  /**
+   * The Handle used to recycle this WalkPlayerDescriptor.
+   */
+  private final Handle<WalkPlayerDescriptor> handle;
 
   /**
    * The Direction of movement.
    */
-  private final Direction direction;
+  private Direction direction;
 
   /**
    * Constructs a new WalkPlayerDescriptor.
    *
+   * @param handle The Handle used to recycle this WalkPlayerDescriptor.
+   */
+  private WalkPlayerDescriptor(Handle<WalkPlayerDescriptor> handle) {
+    this.handle = handle;
+  }
+
+  /**
+   * Creates a WalkPlayerDescriptor.
+   *
    * @param player The Player who is moving.
+   * @return The WalkPlayerDescriptor, never {@code null}.
    */
-  public WalkPlayerDescriptor(Player player) {
-    this(player, player.getFirstDirection());
+  public static WalkPlayerDescriptor create(Player player) {
+    return create(player, player.getFirstDirection());
   }
 
   /**
-   * Constructs a new WalkPlayerDescriptor.
+   * Creates a WalkPlayerDescriptor.
    *
    * @param player The Player who is moving.
    * @param direction The Direction of movement.
+   * @return The WalkPlayerDescriptor, never {@code null}.
    */
-  public WalkPlayerDescriptor(Player player, Direction direction) {
-    super(player);
-    this.direction = direction;
+  public static WalkPlayerDescriptor create(Player player, Direction direction) {
+    WalkPlayerDescriptor descriptor = RECYCLER.get();
+    descriptor.init(player);
+    descriptor.direction = direction;
+    return descriptor;
   }
 
   @Override
@@ -43,4 +74,10 @@ public class WalkPlayerDescriptor extends PlayerDescriptor {
     builder.putBits(1, isBlockUpdatedRequired() ? 1 : 0);
   }
 
+  @Override
+  public void recycle() {
+    reset();
+    handle.recycle(this);
+  }
+
 }
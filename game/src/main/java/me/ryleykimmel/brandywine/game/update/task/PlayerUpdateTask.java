@@ -4,9 +4,6 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Stream;
-import me.ryleykimmel.brandywine.game.area.Region;
-import me.ryleykimmel.brandywine.game.area.RegionCoordinates;
 import me.ryleykimmel.brandywine.game.area.RegionRepository;
 import me.ryleykimmel.brandywine.game.message.PlayerUpdateMessage;
 import me.ryleykimmel.brandywine.game.model.Direction;
@@ -14,7 +11,6 @@ import me.ryleykimmel.brandywine.game.model.EntityType;
 import me.ryleykimmel.brandywine.game.model.Position;
 import me.ryleykimmel.brandywine.game.model.player.Player;
 import me.ryleykimmel.brandywine.game.update.PlayerDescriptor;
-import me.ryleykimmel.brandywine.game.update.blocks.AppearancePlayerBlock;
 import me.ryleykimmel.brandywine.game.update.blocks.ChatPlayerBlock;
 import me.ryleykimmel.brandywine.game.update.descriptor.AddPlayerDescriptor;
 import me.ryleykimmel.brandywine.game.update.descriptor.IdlePlayerDescriptor;
@@ -39,56 +35,48 @@ public final class PlayerUpdateTask implements UpdateTask {
   private static final int MAXIMUM_ADDITIONS_PER_PULSE = 20;
 
   /**
-   * The Player we are updating.
+   * A reusable List of nearby Players for each updater thread, as this task is shared between them.
    */
-  private final Player player;
-
-  /**
-   * Constructs a new {@link PlayerUpdateTask} with the specified Player and surrounding players.
-   *
-   * @param player The Player we are updating.
-   */
-  public PlayerUpdateTask(Player player) {
-    this.player = player;
-  }
+  private static final ThreadLocal<List<Player>> NEARBY_PLAYERS =
+      ThreadLocal.withInitial(ArrayList::new);
 
   /**
    * Creates a PlayerDescriptor based upon the specified Player's current state (walking, running, teleporting, etc).
    *
    * @param player The Player to create the descriptor for.
-   * @param position the Position.
-   * @param lastKnownRegion The last known region.
+   * @param position the packed Position.
+   * @param lastKnownRegion The packed last known region.
    * @return The new PlayerDescriptor.
    * @throws IllegalStateException If the PlayerDescriptor was unable to be created.
    */
-  private PlayerDescriptor createStateDescriptor(Player player, Position position,
-      Position lastKnownRegion) {
+  private PlayerDescriptor createStateDescriptor(Player player, int position,
+      int lastKnownRegion) {
     if (player.isTeleporting()) {
-      return new TeleportPlayerDescriptor(player, position, lastKnownRegion);
+      return TeleportPlayerDescriptor.create(player, position, lastKnownRegion);
     }
 
     if (player.getFirstDirection() == Direction.NONE
         && player.getSecondDirection() == Direction.NONE) {
-      return new IdlePlayerDescriptor(player);
+      return IdlePlayerDescriptor.create(player);
     }
 
     if (player.getFirstDirection() != Direction.NONE
         && player.getSecondDirection() == Direction.NONE) {
-      return new WalkPlayerDescriptor(player);
+      return WalkPlayerDescriptor.create(player);
     }
 
     if (player.getFirstDirection() != Direction.NONE
         && player.getSecondDirection() != Direction.NONE) {
-      return new RunPlayerDescriptor(player);
+      return RunPlayerDescriptor.create(player);
     }
 
     throw new IllegalStateException("Unable to create state descriptor for player: " + player);
   }
 
   @Override
-  public void run() {
-    Position lastKnownRegion = player.getLastKnownRegion();
-    Position position = player.getPosition();
+  public void run(Player player) {
+    int lastKnownRegion = player.getLastKnownRegion().pack();
+    int position = player.getPackedPosition();
     int viewingDistance = player.getViewingDistance();
     int[] tickets = player.getAppearanceTickets();
 
@@ -96,58 +84,55 @@ public final class PlayerUpdateTask implements UpdateTask {
 
     // Remove chat player block from our self descriptor -- we don't want to update chat for
     // ourselves twice!
-    descriptor.removeBlock(ChatPlayerBlock.class);
+    descriptor.removeBlock(ChatPlayerBlock.MASK);
 
-    List<PlayerDescriptor> descriptors = new ArrayList<>();
     Set<Player> localPlayers = player.getLocalPlayers();
     int localPlayerCount = localPlayers.size();
 
+    PlayerUpdateMessage message = PlayerUpdateMessage.create(lastKnownRegion, position,
+        localPlayerCount, descriptor);
+
     for (Iterator<Player> it = localPlayers.iterator(); it.hasNext(); ) {
       Player other = it.next();
       if (removeable(position, viewingDistance, other)) {
         it.remove();
-        descriptors.add(new RemovePlayerDescriptor(other));
+        message.addDescriptor(RemovePlayerDescriptor.create(other));
       } else {
         PlayerDescriptor otherDescriptor = createStateDescriptor(other, position, lastKnownRegion);
         if (!hasCachedAppearance(tickets, other)) {
-          otherDescriptor.addBlock(AppearancePlayerBlock.create(other));
+          otherDescriptor.addBlock(other.getAppearanceBlock());
         }
-        descriptors.add(otherDescriptor);
+        message.addDescriptor(otherDescriptor);
       }
     }
 
-    RegionRepository repository = player.getWorld().getRegionRepository();
-    Region current = repository.fromPosition(position);
-
-    Set<RegionCoordinates> regions = current.getSurrounding();
-    regions.add(current.getCoordinates());
-
-    Stream<Player> players = regions.stream().map(repository::get)
-        .flatMap(region -> region.getEntities(EntityType.PLAYER));
-
-    Iterator<Player> iterator = players.iterator();
-    int added = 0;
-
-    while (iterator.hasNext()) {
-      if (localPlayers.size() >= MAXIMUM_LOCAL_PLAYERS) {
-        player.flagExcessivePlayers();
-        break;
-      } else if (added >= MAXIMUM_ADDITIONS_PER_PULSE) {
-        break;
-      }
+    List<Player> nearby = NEARBY_PLAYERS.get();
+    try {
+      RegionRepository repository = player.getWorld().getRegionRepository();
+      repository.collectEntities(EntityType.PLAYER, position, viewingDistance, nearby);
+
+      int added = 0;
+      for (int index = 0, size = nearby.size(); index < size; index++) {
+        if (localPlayers.size() >= MAXIMUM_LOCAL_PLAYERS) {
+          player.flagExcessivePlayers();
+          break;
+        } else if (added >= MAXIMUM_ADDITIONS_PER_PULSE) {
+          break;
+        }
 
-      Player other = iterator.next();
+        Player other = nearby.get(index);
 
-      if (!player.equals(other) && position.isWithinDistance(other.getPosition(), viewingDistance)
-          && !localPlayers.contains(other)) {
-        localPlayers.add(other);
-        descriptors.add(new AddPlayerDescriptor(other, position));
-        added++;
+        if (!player.equals(other) && !localPlayers.contains(other)) {
+          localPlayers.add(other);
+          message.addDescriptor(AddPlayerDescriptor.create(other, position));
+          added++;
+        }
       }
+    } finally {
+      nearby.clear();
     }
 
-    player.write(new PlayerUpdateMessage(lastKnownRegion, position, localPlayerCount, descriptor,
-        descriptors));
+    player.write(message);
   }
 
   /**
@@ -172,19 +157,17 @@ public final class PlayerUpdateTask implements UpdateTask {
   /**
    * Returns whether or not the specified {@link Player} should be removed.
    *
-   * @param position The {@link Position} of the Player being updated.
+   * @param position The packed {@link Position} of the Player being updated.
    * @param distance The viewing distance.
    * @param other The Player being tested.
    * @return {@code true} iff the specified Player should be removed.
    */
-  private boolean removeable(Position position, int distance, Player other) {
+  private boolean removeable(int position, int distance, Player other) {
     if (other.isTeleporting() || !other.isActive()) {
       return true;
     }
 
-    Position otherPosition = other.getPosition();
-    return otherPosition.getLongestDelta(position) > distance || !otherPosition
-        .isWithinDistance(position, distance);
+    return !Position.isWithinDistance(other.getPackedPosition(), position, distance);
   }
 
 }
@@ -7,22 +7,8 @@ import me.ryleykimmel.brandywine.game.model.player.Player;
  */
 public final class PostPlayerUpdateTask implements UpdateTask {
 
-  /**
-   * The Player we are performing post-update logic for.
-   */
-  private final Player player;
-
-  /**
-   * Constructs a new {@link PostPlayerUpdateTask} with the specified Player.
-   *
-   * @param player The Player we are performing post-update logic for.
-   */
-  public PostPlayerUpdateTask(Player player) {
-    this.player = player;
-  }
-
   @Override
-  public void run() {
+  public void run(Player player) {
     player.reset();
 
     if (player.isExcessivePlayersSet()) {
@@ -10,22 +10,8 @@ import me.ryleykimmel.brandywine.game.model.player.Player;
  */
 public final class PrePlayerUpdateTask implements UpdateTask {
 
-  /**
-   * The Player we are performing pre-update logic for.
-   */
-  private final Player player;
-
-  /**
-   * Constructs a new {@link PrePlayerUpdateTask} with the specified Player.
-   *
-   * @param player The Player we are performing pre-update logic for.
-   */
-  public PrePlayerUpdateTask(Player player) {
-    this.player = player;
-  }
-
   @Override
-  public void run() {
+  public void run(Player player) {
     player.getSession().dequeueReceivedMessages();
     player.getMovementQueue().pulse();
 
@@ -33,24 +19,28 @@ public final class PrePlayerUpdateTask implements UpdateTask {
       player.resetViewingDistance();
     }
 
-    if (isRegionChangeRequired()) {
+    if (isRegionChangeRequired(player)) {
       Position position = player.getPosition();
       player.setLastKnownRegion(position);
       player.write(new RebuildRegionMessage(position));
     }
+
+    // Encode our pending update blocks once, so every viewer may share the same bytes.
+    player.getPendingUpdates().cacheAll();
   }
 
   /**
    * Determines if a region change is required for the specified Player.
    *
+   * @param player The Player to test.
    * @return {@code true} if a region change is required and the region needs rebuilt, otherwise {@code false}.
    */
-  private boolean isRegionChangeRequired() {
-    Position lastKnownRegion = player.getLastKnownRegion();
-    Position position = player.getPosition();
+  private boolean isRegionChangeRequired(Player player) {
+    int lastKnownRegion = player.getLastKnownRegion().pack();
+    int position = player.getPackedPosition();
 
-    int deltaX = position.getLocalX(lastKnownRegion);
-    int deltaY = position.getLocalY(lastKnownRegion);
+    int deltaX = Position.getLocalX(position, lastKnownRegion);
+    int deltaY = Position.getLocalY(position, lastKnownRegion);
 
     return deltaX <= Position.MAX_DISTANCE
         || deltaX >= Region.VIEWPORT_WIDTH - Position.MAX_DISTANCE - 1
@@ -1,10 +1,22 @@
 package me.ryleykimmel.brandywine.game.update.task;
 
+import me.ryleykimmel.brandywine.game.model.player.Player;
 import me.ryleykimmel.brandywine.game.update.Updater;
 
 /**
  * Represents some task that may be performed by some {@link Updater}.
+ * <p>
+ * UpdateTasks are stateless and may be shared between threads, every invocation is given the {@link Player} being updated.
+ * </p>
  */
-public interface UpdateTask extends Runnable {
+@FunctionalInterface
+public interface UpdateTask {
+
+  /**
+   * Performs this task for the specified Player.
+   *
+   * @param player The Player being updated.
+   */
+  void run(Player player);
 
 }
@@ -1,32 +1,69 @@
 package me.ryleykimmel.brandywine.service;
 
 import com.google.common.base.MoreObjects;
-import com.google.common.base.Stopwatch;
+import com.google.common.base.Preconditions;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import me.ryleykimmel.brandywine.game.GamePulseHandler;
+import me.ryleykimmel.brandywine.network.stats.LatencyHistogram;
 
 /**
  * Represents a Service that is executed every {@code n} milliseconds.
+ * <p>
+ * Every Service declares a time budget for a single execution. Executions are timed into a
+ * {@link LatencyHistogram}, and those which exceed the budget are counted, so a Service which
+ * eats into the time of the others can be found.
+ * </p>
+ * <p>
+ * Every Service also declares an affinity group. Services of the same group are pulsed one after
+ * another in registration order, while different groups are pulsed concurrently. Services which
+ * touch the World belong to the {@link #GAME_AFFINITY game group}, pulsed on the game thread.
+ * </p>
  */
 public abstract class Service {
 
   /**
-   * The delay (number of intervals) until this Service is executed.
+   * The default budget of a single execution, in milliseconds.
+   */
+  public static final long DEFAULT_BUDGET = 5L;
+
+  /**
+   * The affinity group of Services pulsed on the game thread, and the default group.
+   */
+  public static final String GAME_AFFINITY = "game";
+
+  /**
+   * The amount of game pulses between executions of this Service.
    */
   private final int delay;
 
   /**
-   * This Service's interval, cached for debugging purposes.
+   * This Service's interval, in milliseconds.
    */
   private final long interval;
 
   /**
-   * This Services internal Stopwatch, used for debugging purposes.
+   * This Service's budget for a single execution, in nanoseconds.
+   */
+  private final long budget;
+
+  /**
+   * This Service's affinity group.
+   */
+  private final String affinity;
+
+  /**
+   * The time each execution of this Service took, in nanoseconds.
    */
-  private final Stopwatch stopwatch = Stopwatch.createUnstarted();
+  private final LatencyHistogram durations = new LatencyHistogram();
 
   /**
-   * The current delay until this Service is executed.
+   * The amount of executions which exceeded the budget.
+   */
+  private final LongAdder budgetOverruns = new LongAdder();
+
+  /**
+   * The amount of game pulses until this Service is next executed.
    */
   private int currentDelay;
 
@@ -38,35 +75,60 @@ public abstract class Service {
   }
 
   /**
-   * Constructs a new {@link Service} with the specified interval.
+   * Constructs a new {@link Service} with the specified interval and the {@link #DEFAULT_BUDGET default budget}.
    *
    * @param interval The interval, in milliseconds representing how often this Service will be executed.
    */
   public Service(long interval) {
+    this(interval, DEFAULT_BUDGET);
+  }
+
+  /**
+   * Constructs a new {@link Service} with the specified interval and budget.
+   *
+   * @param interval The interval, in milliseconds representing how often this Service will be executed.
+   * @param budget The time a single execution of this Service is expected to take at most, in milliseconds.
+   */
+  public Service(long interval, long budget) {
+    this(interval, budget, GAME_AFFINITY);
+  }
+
+  /**
+   * Constructs a new {@link Service} with the specified interval, budget and affinity group.
+   *
+   * @param interval The interval, in milliseconds representing how often this Service will be executed.
+   * @param budget The time a single execution of this Service is expected to take at most, in milliseconds.
+   * @param affinity The affinity group of this Service, may not be {@code null}.
+   */
+  public Service(long interval, long budget, String affinity) {
     this.interval = interval;
+    this.budget = TimeUnit.MILLISECONDS.toNanos(budget);
+    this.affinity = Preconditions.checkNotNull(affinity, "Affinity may not be null.");
 
-    delay = (int) (interval / GamePulseHandler.PULSE_DELAY);
-    currentDelay = Math.max(1, delay);
+    delay = (int) Math.max(1, interval / GamePulseHandler.PULSE_DELAY);
+    currentDelay = delay;
   }
 
   /**
-   * Pulses this Service, counting down the {@code currentDelay} until it reaches <tt>0</tt> then executes this Service.
+   * Pulses this Service, counting down the {@code currentDelay} and executing this Service every {@code delay} pulses.
    *
-   * @return How long this Service took to pulse this iteration, in milliseconds.
+   * @return How long this Service took to pulse this iteration, in nanoseconds.
    */
   public final long pulse() {
-    try {
-      stopwatch.start();
+    if (--currentDelay > 0) {
+      return 0;
+    }
+    currentDelay = delay;
 
-      if (currentDelay-- == 0) {
-        execute();
-        currentDelay = delay;
-      }
+    long start = System.nanoTime();
+    execute();
+    long elapsed = System.nanoTime() - start;
 
-      return stopwatch.elapsed(TimeUnit.MILLISECONDS);
-    } finally {
-      stopwatch.reset();
+    durations.record(elapsed);
+    if (elapsed > budget) {
+      budgetOverruns.increment();
     }
+    return elapsed;
   }
 
   /**
@@ -78,6 +140,42 @@ public abstract class Service {
     return interval;
   }
 
+  /**
+   * Gets this Service's budget for a single execution.
+   *
+   * @return This Service's budget, in nanoseconds.
+   */
+  public final long getBudget() {
+    return budget;
+  }
+
+  /**
+   * Gets this Service's affinity group.
+   *
+   * @return This Service's affinity group, never {@code null}.
+   */
+  public final String getAffinity() {
+    return affinity;
+  }
+
+  /**
+   * Gets the time each execution of this Service took.
+   *
+   * @return The LatencyHistogram of execution times, in nanoseconds.
+   */
+  public final LatencyHistogram getDurations() {
+    return durations;
+  }
+
+  /**
+   * Gets the amount of executions of this Service which exceeded its budget.
+   *
+   * @return The amount of budget overruns.
+   */
+  public final long getBudgetOverruns() {
+    return budgetOverruns.sum();
+  }
+
   @Override
   public final String toString() {
     return MoreObjects.toStringHelper(this).toString();
@@ -1,21 +1,31 @@
 package me.ryleykimmel.brandywine.service;
 
 import com.google.common.base.Preconditions;
-import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableList;
 import io.netty.util.internal.StringUtil;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 /**
  * A representation of registered {@link Service}s.
+ * <p>
+ * Services are pulsed in the order they were registered, so a Service may rely on the Services
+ * registered before it having been pulsed first.
+ * </p>
  */
 public final class ServiceSet {
 
   /**
-   * A mapping of registered Services.
+   * A mapping of registered Services, in registration order.
    */
-  private final Map<Class<? extends Service>, Service> services = new HashMap<>();
+  private final Map<Class<? extends Service>, Service> services = new LinkedHashMap<>();
+
+  /**
+   * The registered Services in registration order, rebuilt on registration rather than copied
+   * every pulse.
+   */
+  private volatile ImmutableList<Service> ordered = ImmutableList.of();
 
   /**
    * Gets a Service from its type.
@@ -31,22 +41,24 @@ public final class ServiceSet {
   }
 
   /**
-   * Registers the specified Service.
+   * Registers the specified Service. Registering a Service of a type which is already registered
+   * replaces the previous Service in its place.
    *
    * @param service The Service to register, may not be {@code null}.
    */
   public void register(Service service) {
     Preconditions.checkNotNull(service, "Service may not be null.");
     services.put(service.getClass(), service);
+    ordered = ImmutableList.copyOf(services.values());
   }
 
   /**
-   * Gets an immutable shallow-copy {@link Set} of all {@link Service}s.
+   * Gets an immutable {@link List} of all {@link Service}s, in registration order.
    *
-   * @return An immutable {@link Set} of Services.
+   * @return An immutable {@link List} of Services.
    */
-  public Set<Service> getServices() {
-    return ImmutableSet.copyOf(services.values());
+  public List<Service> getServices() {
+    return ordered;
   }
 
 }
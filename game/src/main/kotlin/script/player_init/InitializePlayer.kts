@@ -10,7 +10,7 @@
 //import me.ryleykimmel.brandywine.network.frame.codec.CipheredFrameCodec
 //import me.ryleykimmel.brandywine.network.frame.codec.FrameCodec
 //import me.ryleykimmel.brandywine.network.frame.codec.FrameMessageCodec
-//import me.ryleykimmel.brandywine.network.isaac.IsaacRandomPair
+//import me.ryleykimmel.brandywine.network.isaac.IsaacCipherPair
 //import script.message.MessageRegistrar
 //import sun.audio.AudioPlayer.player
 //
@@ -18,7 +18,7 @@
 //on { InitializePlayerEvent::class }.then {
 //    val session = player.session
 //    val pipeline = session.channel.pipeline()
-//    pipeline.replace(FrameCodec::class.java, "ciphered_frame_codec", CipheredFrameCodec(session, MessageRegistrar.gameMetadata, IsaacRandomPair.fromSeed(player.credentials.sessionKeys)))
+//    pipeline.replace(FrameCodec::class.java, "ciphered_frame_codec", CipheredFrameCodec(session, MessageRegistrar.gameMetadata, IsaacCipherPair.fromSeed(player.credentials.sessionKeys)))
 //    pipeline.replace(FrameMessageCodec::class.java, "message_codec", FrameMessageCodec(MessageRegistrar.gameMetadata))
 //
 //    player.lastKnownRegion = player.position
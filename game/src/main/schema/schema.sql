@@ -1,16 +1,24 @@
 CREATE TABLE `players` (
   `id` int(11) NOT NULL AUTO_INCREMENT,
   `username` varchar(12) NOT NULL,
-  `password` varchar(20) NOT NULL,
+  `password` varchar(128) NOT NULL,
   PRIMARY KEY (`id`),
-  UNIQUE KEY `id_username` (`id`, `username`)
+  UNIQUE KEY `username` (`username`)
 ) ENGINE=InnoDB  DEFAULT CHARSET=utf8;
 
-CREATE TABLE `failed_logins` (
-  `id` int(11) NOT NULL AUTO_INCREMENT,
-  `count` int(11) NOT NULL DEFAULT '1',
-  `timestamp` int(11) NOT NULL,
-  `remote_addr` varchar(20) NOT NULL,
-  PRIMARY KEY (`id`),
-  UNIQUE KEY `id_addr` (`id`, `remote_addr`)
+CREATE TABLE `login_failures` (
+  `subject` varchar(64) NOT NULL,
+  `count` int(11) NOT NULL,
+  `last_failure` bigint(20) NOT NULL,
+  PRIMARY KEY (`subject`)
+) ENGINE=InnoDB  DEFAULT CHARSET=utf8;
+
+CREATE TABLE `player_records` (
+  `username` varchar(12) NOT NULL,
+  `position` int(11) NOT NULL,
+  `privileges` int(11) NOT NULL,
+  `gender` tinyint(4) NOT NULL,
+  `appearance` varchar(128) NOT NULL,
+  `skills` varchar(1024) NOT NULL,
+  PRIMARY KEY (`username`)
 ) ENGINE=InnoDB  DEFAULT CHARSET=utf8;
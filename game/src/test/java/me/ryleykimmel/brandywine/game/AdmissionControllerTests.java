@@ -0,0 +1,46 @@
+package me.ryleykimmel.brandywine.game;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Tests the {@link AdmissionController} class.
+ */
+@RunWith(JUnit4.class)
+public final class AdmissionControllerTests {
+
+  /**
+   * Tests that the limit is the amount of admissions which fit in the remaining time, within the
+   * minimum and maximum.
+   */
+  @Test
+  public void limit() {
+    AdmissionController controller = new AdmissionController(10, 2_000, 1_000);
+
+    assertThat(controller.limit(500_000)).isEqualTo(500);
+    assertThat(controller.limit(5_000)).isEqualTo(10);
+    assertThat(controller.limit(-5_000)).isEqualTo(10);
+    assertThat(controller.limit(50_000_000)).isEqualTo(2_000);
+  }
+
+  /**
+   * Tests that the estimated cost follows the measured cost of each batch.
+   */
+  @Test
+  public void record() {
+    AdmissionController controller = new AdmissionController(10, 2_000, 100_000);
+    for (int batch = 0; batch < 100; batch++) {
+      controller.record(200, 200 * 1_000);
+    }
+
+    assertThat(controller.getCost()).isLessThan(1_100L);
+    assertThat(controller.limit(500_000)).isAtLeast(450);
+
+    controller.record(0, 1_000_000);
+    assertThat(controller.getCost()).isLessThan(1_100L);
+  }
+
+}
@@ -0,0 +1,67 @@
+package me.ryleykimmel.brandywine.game;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import me.ryleykimmel.brandywine.service.ServiceSet;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Tests the {@link GameLoop} class.
+ */
+@RunWith(JUnit4.class)
+public final class GameLoopTests {
+
+  /**
+   * The time between pulses, in nanoseconds.
+   */
+  private static final long PERIOD = TimeUnit.MILLISECONDS.toNanos(GamePulseHandler.PULSE_DELAY);
+
+  /**
+   * Tests that deadlines stay on the grid, regardless of how late a pulse completes.
+   */
+  @Test
+  public void noDrift() {
+    GameLoop loop = createLoop(5);
+    assertThat(loop.nextDeadline(0, PERIOD / 2)).isEqualTo(PERIOD);
+    assertThat(loop.nextDeadline(PERIOD, PERIOD + PERIOD * 3 / 2)).isEqualTo(PERIOD * 2);
+    assertThat(loop.getSkippedPulses()).isEqualTo(0L);
+  }
+
+  /**
+   * Tests that missed pulses are caught up, up to the catch-up limit, and skipped beyond it.
+   */
+  @Test
+  public void catchUp() {
+    GameLoop loop = createLoop(5);
+    assertThat(loop.nextDeadline(0, PERIOD * 4 + 1)).isEqualTo(PERIOD);
+    assertThat(loop.getSkippedPulses()).isEqualTo(0L);
+
+    assertThat(loop.nextDeadline(0, PERIOD * 10 + 1)).isEqualTo(PERIOD * 5);
+    assertThat(loop.getSkippedPulses()).isEqualTo(4L);
+  }
+
+  /**
+   * Tests that a catch-up limit of zero skips every missed pulse.
+   */
+  @Test
+  public void skip() {
+    GameLoop loop = createLoop(0);
+    assertThat(loop.nextDeadline(0, PERIOD * 3 + PERIOD / 2)).isEqualTo(PERIOD * 3);
+    assertThat(loop.getSkippedPulses()).isEqualTo(2L);
+  }
+
+  /**
+   * Creates a GameLoop with no Services.
+   *
+   * @param maximumCatchUp The maximum amount of missed pulses to catch up.
+   * @return The GameLoop.
+   */
+  private static GameLoop createLoop(int maximumCatchUp) {
+    return new GameLoop(new GamePulseHandler(new ServiceSet()), GamePulseHandler.PULSE_DELAY,
+        maximumCatchUp);
+  }
+
+}
@@ -0,0 +1,101 @@
+package me.ryleykimmel.brandywine.game;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import me.ryleykimmel.brandywine.service.Service;
+import me.ryleykimmel.brandywine.service.ServiceSet;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Tests the {@link GamePulseHandler} class.
+ */
+@RunWith(JUnit4.class)
+public final class GamePulseHandlerTests {
+
+  /**
+   * Tests that the game group runs on the calling thread while another group runs concurrently,
+   * in registration order within each group, and that a pulse waits for every group.
+   *
+   * @throws InterruptedException If interrupted while stopping the executor.
+   */
+  @Test
+  public void affinityGroups() throws InterruptedException {
+    List<String> executions = new CopyOnWriteArrayList<>();
+    CountDownLatch gamePulsed = new CountDownLatch(1);
+
+    ServiceSet services = new ServiceSet();
+    services.register(new Service(GamePulseHandler.PULSE_DELAY, Service.DEFAULT_BUDGET, "other") {
+      @Override
+      public void execute() {
+        // Only completes if the game group runs at the same time.
+        try {
+          assertThat(gamePulsed.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException cause) {
+          throw new IllegalStateException(cause);
+        }
+        executions.add("other");
+      }
+    });
+    services.register(new RecordingService(executions, "first"));
+    services.register(new Service() {
+      @Override
+      public void execute() {
+        executions.add("second:" + Thread.currentThread().getName());
+        gamePulsed.countDown();
+      }
+    });
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      new GamePulseHandler(services, executor).run();
+    } finally {
+      executor.shutdown();
+      executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    assertThat(executions).containsExactly("first", "second:" + Thread.currentThread().getName(),
+        "other").inOrder();
+  }
+
+  /**
+   * A Service in the game group which records its executions.
+   */
+  private static final class RecordingService extends Service {
+
+    /**
+     * The executions of every Service.
+     */
+    private final List<String> executions;
+
+    /**
+     * The name recorded for each execution.
+     */
+    private final String name;
+
+    /**
+     * Constructs a new {@link RecordingService}.
+     *
+     * @param executions The executions of every Service.
+     * @param name The name recorded for each execution.
+     */
+    RecordingService(List<String> executions, String name) {
+      this.executions = executions;
+      this.name = name;
+    }
+
+    @Override
+    public void execute() {
+      executions.add(name);
+    }
+
+  }
+
+}
@@ -0,0 +1,70 @@
+package me.ryleykimmel.brandywine.game.area;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Tests the {@link RegionRepository} class.
+ */
+@RunWith(JUnit4.class)
+public final class RegionRepositoryTests {
+
+  /**
+   * The x and y coordinate of the last Region of the first chunk, whose central coordinate is
+   * {@code 63}.
+   */
+  private static final int CHUNK_EDGE = 57;
+
+  /**
+   * The x and y coordinate of the last Region of the map.
+   */
+  private static final int MAP_EDGE = 64 * 64 - 7;
+
+  /**
+   * Tests that Regions on either side of a chunk boundary are distinct, keep their coordinates and
+   * are only created on request.
+   */
+  @Test
+  public void chunkBoundary() {
+    RegionRepository repository = new RegionRepository();
+    assertThat(repository.getIfPresent(CHUNK_EDGE, CHUNK_EDGE)).isNull();
+
+    Region last = repository.get(CHUNK_EDGE, CHUNK_EDGE);
+    Region nextX = repository.get(CHUNK_EDGE + 1, CHUNK_EDGE);
+    Region nextY = repository.get(CHUNK_EDGE, CHUNK_EDGE + 1);
+
+    assertThat(last.getCoordinates()).isEqualTo(new RegionCoordinates(CHUNK_EDGE, CHUNK_EDGE));
+    assertThat(nextX.getCoordinates()).isEqualTo(new RegionCoordinates(CHUNK_EDGE + 1, CHUNK_EDGE));
+    assertThat(nextY.getCoordinates()).isEqualTo(new RegionCoordinates(CHUNK_EDGE, CHUNK_EDGE + 1));
+    assertThat(repository.get(CHUNK_EDGE, CHUNK_EDGE)).isSameAs(last);
+    assertThat(repository.getIfPresent(CHUNK_EDGE + 1, CHUNK_EDGE)).isSameAs(nextX);
+    assertThat(repository.getIfPresent(CHUNK_EDGE + 1, CHUNK_EDGE + 1)).isNull();
+    assertThat(repository.getRegions()).containsExactly(last, nextX, nextY);
+  }
+
+  /**
+   * Tests that the corners of the map are indexed and that no Region is found beyond them.
+   */
+  @Test
+  public void mapCorners() {
+    RegionRepository repository = new RegionRepository();
+
+    assertThat(repository.get(-6, -6).getCoordinates()).isEqualTo(new RegionCoordinates(-6, -6));
+    assertThat(repository.get(MAP_EDGE, MAP_EDGE).getCoordinates())
+        .isEqualTo(new RegionCoordinates(MAP_EDGE, MAP_EDGE));
+    assertThat(repository.getIfPresent(-7, -6)).isNull();
+    assertThat(repository.getIfPresent(MAP_EDGE, MAP_EDGE + 1)).isNull();
+  }
+
+  /**
+   * Tests that a Region beyond the map cannot be created.
+   */
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void outsideMap() {
+    new RegionRepository().get(MAP_EDGE + 1, 0);
+  }
+
+}
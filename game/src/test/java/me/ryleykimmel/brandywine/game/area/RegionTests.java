@@ -0,0 +1,73 @@
+package me.ryleykimmel.brandywine.game.area;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.powermock.api.mockito.PowerMockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import me.ryleykimmel.brandywine.game.event.EventConsumerChainSet;
+import me.ryleykimmel.brandywine.game.model.EntityType;
+import me.ryleykimmel.brandywine.game.model.Position;
+import me.ryleykimmel.brandywine.game.model.World;
+import me.ryleykimmel.brandywine.game.model.player.Player;
+import me.ryleykimmel.brandywine.game.model.player.PlayerCredentials;
+import me.ryleykimmel.brandywine.game.update.SequentialUpdater;
+import me.ryleykimmel.brandywine.network.Session;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.powermock.core.classloader.annotations.PowerMockIgnore;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+/**
+ * Tests the {@link Region} class.
+ */
+@RunWith(PowerMockRunner.class)
+@PrepareForTest(Session.class)
+@PowerMockIgnore("javax.management.*")
+public final class RegionTests {
+
+  /**
+   * Tests that a Player moving across a Region boundary is moved between the Regions, and that
+   * moving within a Region leaves it in place.
+   */
+  @Test
+  public void moveBetweenRegions() {
+    World world = new World(new EventConsumerChainSet(), new SequentialUpdater());
+    RegionRepository repository = world.getRegionRepository();
+    Player player = new Player(mock(Session.class),
+        new PlayerCredentials(0, "alice", "secret", new int[4]), world);
+    player.setInitialPosition(Position.pack(3222, 3218, 0));
+    assertThat(world.addPlayer(player)).isTrue();
+
+    Region from = repository.fromPosition(new Position(3222, 3218));
+    assertThat(from.contains(player)).isTrue();
+
+    player.setPosition(Position.pack(3223, 3218, 0));
+    assertThat(from.contains(player)).isTrue();
+
+    player.setPosition(Position.pack(3224, 3218, 0));
+    Region to = repository.fromPosition(new Position(3224, 3218));
+    assertThat(to).isNotSameAs(from);
+    assertThat(from.contains(player)).isFalse();
+    assertThat(to.contains(player)).isTrue();
+
+    List<Player> found = new ArrayList<>();
+    repository.collectEntities(EntityType.PLAYER, Position.pack(3220, 3218, 0), 4, found);
+    assertThat(found).containsExactly(player);
+  }
+
+  /**
+   * Tests that an Entity outside of a Region cannot be added to it.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void addOutside() {
+    World world = new World(new EventConsumerChainSet(), new SequentialUpdater());
+    Player player = new Player(mock(Session.class),
+        new PlayerCredentials(0, "alice", "secret", new int[4]), world);
+    player.setInitialPosition(Position.pack(3224, 3218, 0));
+
+    world.getRegionRepository().fromPosition(new Position(3222, 3218)).addEntity(player);
+  }
+
+}
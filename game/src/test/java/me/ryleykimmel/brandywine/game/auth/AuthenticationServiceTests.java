@@ -0,0 +1,134 @@
+package me.ryleykimmel.brandywine.game.auth;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.powermock.api.mockito.PowerMockito.mock;
+import static org.powermock.api.mockito.PowerMockito.when;
+
+import io.netty.channel.ChannelFuture;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import me.ryleykimmel.brandywine.game.GameService;
+import me.ryleykimmel.brandywine.game.event.EventConsumerChainSet;
+import me.ryleykimmel.brandywine.game.message.LoginResponseMessage;
+import me.ryleykimmel.brandywine.game.model.World;
+import me.ryleykimmel.brandywine.game.model.player.PlayerCredentials;
+import me.ryleykimmel.brandywine.game.update.SequentialUpdater;
+import me.ryleykimmel.brandywine.network.ResponseCode;
+import me.ryleykimmel.brandywine.network.Session;
+import me.ryleykimmel.brandywine.network.message.Message;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.powermock.core.classloader.annotations.PowerMockIgnore;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+/**
+ * Tests the {@link AuthenticationService} class.
+ */
+@RunWith(PowerMockRunner.class)
+@PrepareForTest(Session.class)
+@PowerMockIgnore("javax.management.*")
+public final class AuthenticationServiceTests {
+
+  /**
+   * The maximum amount of requests authenticated at once.
+   */
+  private static final int CONCURRENCY = 2;
+
+  /**
+   * The maximum amount of queued requests.
+   */
+  private static final int QUEUE_LIMIT = 2;
+
+  /**
+   * Tests that no more than the concurrency limit of requests are authenticated at once, that
+   * requests beyond the queue limit are turned away as offline, and that queued requests are
+   * authenticated in order as earlier ones complete.
+   *
+   * @throws InterruptedException If interrupted while waiting for an authentication.
+   */
+  @Test
+  public void boundedConcurrency() throws InterruptedException {
+    Semaphore started = new Semaphore(0);
+    Semaphore completions = new Semaphore(0);
+    AtomicInteger inFlight = new AtomicInteger();
+    AtomicInteger maximumInFlight = new AtomicInteger();
+    List<String> authenticated = new CopyOnWriteArrayList<>();
+
+    AuthenticationStrategy strategy = player -> {
+      maximumInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+      authenticated.add(player.getCredentials().getUsername());
+      started.release();
+      try {
+        completions.acquireUninterruptibly();
+      } finally {
+        inFlight.decrementAndGet();
+      }
+      return ResponseCode.STATUS_INVALID_CREDENTIALS;
+    };
+
+    World world = new World(new EventConsumerChainSet(), new SequentialUpdater());
+    AuthenticationService service = new AuthenticationService(new GameService(world), strategy,
+        CONCURRENCY, QUEUE_LIMIT, false);
+
+    int requests = CONCURRENCY + QUEUE_LIMIT + 1;
+    Session[] sessions = new Session[requests];
+    for (int index = 0; index < requests; index++) {
+      sessions[index] = createSession();
+      service.submit(new AuthenticationRequest(sessions[index],
+          new PlayerCredentials(0, "user" + index, "secret", new int[4])));
+    }
+
+    assertThat(started.tryAcquire(CONCURRENCY, 5, TimeUnit.SECONDS)).isTrue();
+    assertThat(authenticated).containsExactly("user0", "user1");
+    assertThat(service.getActiveRequests()).isEqualTo(CONCURRENCY);
+    assertThat(service.getQueuedRequests()).isEqualTo(QUEUE_LIMIT);
+    assertThat(service.getShedRequests()).isEqualTo(1);
+    assertThat(getResponse(sessions[requests - 1]))
+        .isEqualTo(ResponseCode.STATUS_LOGIN_SERVER_OFFLINE);
+
+    completions.release();
+    assertThat(started.tryAcquire(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(authenticated).containsExactly("user0", "user1", "user2");
+
+    completions.release(requests);
+    for (int index = 0; index < requests - 1; index++) {
+      assertThat(getResponse(sessions[index])).isEqualTo(ResponseCode.STATUS_INVALID_CREDENTIALS);
+    }
+
+    assertThat(authenticated).containsExactly("user0", "user1", "user2", "user3");
+    assertThat(authenticated.subList(2, 4)).containsExactly("user2", "user3").inOrder();
+    assertThat(maximumInFlight.get()).isEqualTo(CONCURRENCY);
+  }
+
+  /**
+   * Creates a mock Session whose writes complete with a mock ChannelFuture.
+   *
+   * @return The Session.
+   */
+  private static Session createSession() {
+    Session session = mock(Session.class);
+    when(session.writeAndFlush(any(Message.class))).thenReturn(mock(ChannelFuture.class));
+    return session;
+  }
+
+  /**
+   * Waits for the response written to the specified Session.
+   *
+   * @param session The Session.
+   * @return The ResponseCode written.
+   */
+  private static ResponseCode getResponse(Session session) {
+    ArgumentCaptor<Message> message = ArgumentCaptor.forClass(Message.class);
+    verify(session, timeout(5_000)).writeAndFlush(message.capture());
+    return ((LoginResponseMessage) message.getValue()).getResponse();
+  }
+
+}
@@ -0,0 +1,63 @@
+package me.ryleykimmel.brandywine.game.auth;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.Collections;
+import java.util.List;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Tests the {@link LoginThrottler} class.
+ */
+@RunWith(JUnit4.class)
+public final class LoginThrottlerTests {
+
+  /**
+   * Tests that a subject is throttled only while all of its latest failed logins are within the
+   * window.
+   */
+  @Test
+  public void slidingWindow() {
+    LoginThrottler throttler = new LoginThrottler(3, 1_000L);
+
+    throttler.recordFailure("10.0.0.1", "alice", 0);
+    throttler.recordFailure("10.0.0.1", "alice", 500);
+    assertThat(throttler.isThrottled("10.0.0.1", "bob", 600)).isFalse();
+
+    throttler.recordFailure("10.0.0.1", "alice", 900);
+    assertThat(throttler.isThrottled("10.0.0.1", "bob", 950)).isTrue();
+    assertThat(throttler.isThrottled("10.0.0.2", "Alice", 950)).isTrue();
+
+    // The failure at 0 has left the window, the other two remain.
+    assertThat(throttler.isThrottled("10.0.0.1", "alice", 1_000)).isFalse();
+
+    throttler.recordFailure("10.0.0.1", "alice", 1_100);
+    assertThat(throttler.isThrottled("10.0.0.1", "alice", 1_400)).isTrue();
+    assertThat(throttler.isThrottled("10.0.0.1", "alice", 1_500)).isFalse();
+  }
+
+  /**
+   * Tests that expired subjects are evicted and that restored failed logins throttle as before.
+   */
+  @Test
+  public void evictAndRestore() {
+    LoginThrottler throttler = new LoginThrottler(2, 1_000L);
+    throttler.recordFailure("10.0.0.1", "alice", 0);
+    throttler.recordFailure("10.0.0.2", "bob", 800);
+
+    assertThat(throttler.evictExpired(1_000)).isEqualTo(2);
+    assertThat(throttler.evictExpired(1_800)).isEqualTo(0);
+
+    long now = System.currentTimeMillis();
+    throttler.restore(Collections.singletonList(new LoginFailures("address:10.0.0.3", 2, now)));
+    assertThat(throttler.isThrottled("10.0.0.3", "carol", now)).isTrue();
+
+    List<LoginFailures> snapshot = throttler.snapshot();
+    assertThat(snapshot).hasSize(1);
+    assertThat(snapshot.get(0).getSubject()).isEqualTo("address:10.0.0.3");
+    assertThat(snapshot.get(0).getCount()).isEqualTo(2);
+  }
+
+}
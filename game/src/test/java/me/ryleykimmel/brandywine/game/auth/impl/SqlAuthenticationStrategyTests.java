@@ -0,0 +1,157 @@
+package me.ryleykimmel.brandywine.game.auth.impl;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.powermock.api.mockito.PowerMockito.mock;
+import static org.powermock.api.mockito.PowerMockito.when;
+
+import com.lambdaworks.crypto.SCryptUtil;
+import com.zaxxer.hikari.HikariDataSource;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import me.ryleykimmel.brandywine.common.util.DataSourceUtil;
+import me.ryleykimmel.brandywine.game.auth.LoginThrottler;
+import me.ryleykimmel.brandywine.game.model.player.Player;
+import me.ryleykimmel.brandywine.game.model.player.PlayerCredentials;
+import me.ryleykimmel.brandywine.network.ResponseCode;
+import me.ryleykimmel.brandywine.network.Session;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.powermock.core.classloader.annotations.PowerMockIgnore;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.sql2o.Connection;
+import org.sql2o.Sql2o;
+
+/**
+ * Tests the {@link SqlAuthenticationStrategy} class against an in-memory H2 database in MySQL
+ * mode.
+ */
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({Player.class, Session.class})
+@PowerMockIgnore({"javax.management.*", "javax.sql.*", "org.h2.*", "com.zaxxer.*"})
+public final class SqlAuthenticationStrategyTests {
+
+  /**
+   * The path of the schema, relative to the game module.
+   */
+  private static final String SCHEMA = "src/main/schema/schema.sql";
+
+  /**
+   * The pooled DataSource of the in-memory database.
+   */
+  private HikariDataSource dataSource;
+
+  /**
+   * The strategy under test.
+   */
+  private SqlAuthenticationStrategy strategy;
+
+  /**
+   * Creates the schema and a single player, {@code alice} with the password {@code secret}.
+   *
+   * @throws IOException If the schema could not be read.
+   */
+  @Before
+  public void setUp() throws IOException {
+    dataSource = DataSourceUtil.createPooled("test-sql",
+        "jdbc:h2:mem:authentication;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "", 2);
+    Sql2o sql2o = new Sql2o(dataSource);
+
+    String schema = new String(Files.readAllBytes(Paths.get(SCHEMA)), StandardCharsets.UTF_8);
+    try (Connection connection = sql2o.open()) {
+      connection.createQuery("DROP ALL OBJECTS").executeUpdate();
+      for (String statement : schema.split(";")) {
+        if (!statement.trim().isEmpty()) {
+          connection.createQuery(statement).executeUpdate();
+        }
+      }
+
+      // Cheap scrypt parameters, SCryptUtil#check reads them back from the hash.
+      connection
+          .createQuery("INSERT INTO players (username, password) VALUES (:username, :password)")
+          .addParameter("username", "alice")
+          .addParameter("password", SCryptUtil.scrypt("secret", 16, 1, 1))
+          .executeUpdate();
+    }
+
+    strategy = new SqlAuthenticationStrategy(sql2o, new LoginThrottler(5, 60_000L));
+  }
+
+  /**
+   * Closes the pool.
+   */
+  @After
+  public void tearDown() {
+    dataSource.close();
+  }
+
+  /**
+   * Tests that the correct password is accepted and assigns the database id.
+   */
+  @Test
+  public void correctPassword() {
+    Player player = createPlayer("alice", "secret", "10.0.0.1");
+    assertThat(strategy.authenticate(player)).isEqualTo(ResponseCode.STATUS_OK);
+    verify(player).setDatabaseId(1);
+  }
+
+  /**
+   * Tests that an unregistered username is accepted without a database id.
+   */
+  @Test
+  public void unknownUsername() {
+    Player player = createPlayer("bob", "secret", "10.0.0.1");
+    assertThat(strategy.authenticate(player)).isEqualTo(ResponseCode.STATUS_OK);
+    verify(player, never()).setDatabaseId(anyInt());
+  }
+
+  /**
+   * Tests that five wrong passwords throttle both the address and the username, and that throttled
+   * logins are refused without touching the database.
+   */
+  @Test
+  public void tooManyFailedLogins() {
+    for (int attempt = 0; attempt < 5; attempt++) {
+      assertThat(strategy.authenticate(createPlayer("alice", "wrong", "10.0.0.1")))
+          .isEqualTo(ResponseCode.STATUS_INVALID_CREDENTIALS);
+    }
+
+    dataSource.close();
+    assertThat(strategy.authenticate(createPlayer("alice", "secret", "10.0.0.1")))
+        .isEqualTo(ResponseCode.STATUS_TOO_MANY_LOGINS);
+    assertThat(strategy.authenticate(createPlayer("ALICE", "secret", "10.0.0.2")))
+        .isEqualTo(ResponseCode.STATUS_TOO_MANY_LOGINS);
+    assertThat(strategy.authenticate(createPlayer("bob", "secret", "10.0.0.1")))
+        .isEqualTo(ResponseCode.STATUS_TOO_MANY_LOGINS);
+    assertThat(strategy.authenticate(createPlayer("bob", "secret", "10.0.0.2")))
+        .isEqualTo(ResponseCode.STATUS_LOGIN_SERVER_OFFLINE);
+  }
+
+  /**
+   * Creates a mock Player with the specified credentials, connected from the specified address.
+   *
+   * @param username The username of the Player.
+   * @param password The password of the Player.
+   * @param address The address the Player is connected from.
+   * @return The mock Player.
+   */
+  private static Player createPlayer(String username, String password, String address) {
+    Session session = mock(Session.class);
+    when(session.getRemoteAddress()).thenReturn(new InetSocketAddress(address, 43594));
+
+    Player player = mock(Player.class);
+    when(player.getCredentials())
+        .thenReturn(new PlayerCredentials(0, username, password, new int[4]));
+    when(player.getSession()).thenReturn(session);
+    return player;
+  }
+
+}
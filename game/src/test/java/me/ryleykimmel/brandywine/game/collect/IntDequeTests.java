@@ -0,0 +1,109 @@
+package me.ryleykimmel.brandywine.game.collect;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.NoSuchElementException;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Tests the {@link IntDeque} class.
+ */
+@RunWith(JUnit4.class)
+public final class IntDequeTests {
+
+  /**
+   * Tests that values are polled in insertion order once the head has wrapped around the end of
+   * the backing array.
+   */
+  @Test
+  public void wrapAround() {
+    IntDeque deque = new IntDeque();
+    for (int value = 0; value < 12; value++) {
+      deque.addLast(value);
+    }
+    for (int value = 0; value < 10; value++) {
+      assertThat(deque.pollFirst()).isEqualTo(value);
+    }
+    for (int value = 12; value < 20; value++) {
+      deque.addLast(value);
+    }
+
+    assertThat(deque.size()).isEqualTo(10);
+    assertThat(deque.get(0)).isEqualTo(10);
+    assertThat(deque.peekLast()).isEqualTo(19);
+    for (int value = 10; value < 20; value++) {
+      assertThat(deque.pollFirst()).isEqualTo(value);
+    }
+    assertThat(deque.isEmpty()).isTrue();
+  }
+
+  /**
+   * Tests that growing a wrapped IntDeque keeps its values in order.
+   */
+  @Test
+  public void grow() {
+    IntDeque deque = new IntDeque();
+    for (int value = 0; value < 8; value++) {
+      deque.addLast(value);
+    }
+    for (int value = 0; value < 8; value++) {
+      deque.pollFirst();
+    }
+    for (int value = 0; value < 100; value++) {
+      deque.addLast(value);
+    }
+
+    assertThat(deque.size()).isEqualTo(100);
+    for (int index = 0; index < 100; index++) {
+      assertThat(deque.get(index)).isEqualTo(index);
+    }
+    assertThat(deque.peekLast()).isEqualTo(99);
+  }
+
+  /**
+   * Tests that clearing an IntDeque empties it and that it may be reused.
+   */
+  @Test
+  public void clear() {
+    IntDeque deque = new IntDeque();
+    deque.addLast(1);
+    deque.addLast(2);
+    deque.clear();
+
+    assertThat(deque.isEmpty()).isTrue();
+    deque.addLast(3);
+    assertThat(deque.pollFirst()).isEqualTo(3);
+  }
+
+  /**
+   * Tests that polling an empty IntDeque fails.
+   */
+  @Test(expected = NoSuchElementException.class)
+  public void pollEmpty() {
+    IntDeque deque = new IntDeque();
+    deque.addLast(1);
+    deque.pollFirst();
+    deque.pollFirst();
+  }
+
+  /**
+   * Tests that peeking into an empty IntDeque fails.
+   */
+  @Test(expected = NoSuchElementException.class)
+  public void peekEmpty() {
+    new IntDeque().peekLast();
+  }
+
+  /**
+   * Tests that getting a value beyond the size fails, even within the backing array.
+   */
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void getOutOfBounds() {
+    IntDeque deque = new IntDeque();
+    deque.addLast(1);
+    deque.get(1);
+  }
+
+}
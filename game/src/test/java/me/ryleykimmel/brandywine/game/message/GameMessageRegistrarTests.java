@@ -0,0 +1,55 @@
+package me.ryleykimmel.brandywine.game.message;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.powermock.api.mockito.PowerMockito.mock;
+import static org.powermock.api.mockito.PowerMockito.when;
+
+import me.ryleykimmel.brandywine.game.event.EventConsumerChainSet;
+import me.ryleykimmel.brandywine.game.model.World;
+import me.ryleykimmel.brandywine.game.update.SequentialUpdater;
+import me.ryleykimmel.brandywine.network.MessageQueue;
+import me.ryleykimmel.brandywine.network.QueuedMessageReceivedListener;
+import me.ryleykimmel.brandywine.network.Session;
+import me.ryleykimmel.brandywine.network.frame.FrameMetadataSet;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.powermock.core.classloader.annotations.PowerMockIgnore;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+/**
+ * Tests the {@link GameMessageRegistrar} class.
+ */
+@RunWith(PowerMockRunner.class)
+@PrepareForTest(Session.class)
+@PowerMockIgnore("javax.management.*")
+public final class GameMessageRegistrarTests {
+
+  /**
+   * Tests that when a client clicks faster than its movement is handled, the last offered path
+   * is the one handled, in the place of the first.
+   */
+  @Test
+  public void latestMovementWins() {
+    FrameMetadataSet metadata =
+        new GameMessageRegistrar(new World(new EventConsumerChainSet(), new SequentialUpdater()))
+            .build();
+    Session session = mock(Session.class);
+    when(session.getFrameMetadataSet()).thenReturn(metadata);
+
+    MessageQueue queue = new MessageQueue(16);
+    QueuedMessageReceivedListener listener = new QueuedMessageReceivedListener(queue);
+
+    MovementMessage last = new MovementMessage(new int[] {3}, true);
+    ChatMessage chat = new ChatMessage("hi", new byte[0], 0, 0);
+    listener.messageReceived(session, new MovementMessage(new int[] {1}, false));
+    listener.messageReceived(session, chat);
+    listener.messageReceived(session, new MovementMessage(new int[] {2}, false));
+    listener.messageReceived(session, last);
+
+    assertThat(queue.poll()).isSameAs(last);
+    assertThat(queue.poll()).isSameAs(chat);
+    assertThat(queue.poll()).isNull();
+  }
+
+}
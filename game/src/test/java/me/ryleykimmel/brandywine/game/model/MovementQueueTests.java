@@ -0,0 +1,110 @@
+package me.ryleykimmel.brandywine.game.model;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.powermock.api.mockito.PowerMockito.mock;
+
+import me.ryleykimmel.brandywine.game.event.EventConsumerChainSet;
+import me.ryleykimmel.brandywine.game.model.player.Player;
+import me.ryleykimmel.brandywine.game.model.player.PlayerCredentials;
+import me.ryleykimmel.brandywine.game.update.SequentialUpdater;
+import me.ryleykimmel.brandywine.network.Session;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.powermock.core.classloader.annotations.PowerMockIgnore;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+/**
+ * Tests the {@link MovementQueue} class.
+ */
+@RunWith(PowerMockRunner.class)
+@PrepareForTest(Session.class)
+@PowerMockIgnore("javax.management.*")
+public final class MovementQueueTests {
+
+  /**
+   * The Player who owns the queue.
+   */
+  private Player player;
+
+  /**
+   * The MovementQueue under test.
+   */
+  private MovementQueue queue;
+
+  /**
+   * Adds a Player to a new World, standing at {@code (3222, 3218)}.
+   */
+  @Before
+  public void setup() {
+    World world = new World(new EventConsumerChainSet(), new SequentialUpdater());
+    player = new Player(mock(Session.class),
+        new PlayerCredentials(0, "alice", "secret", new int[4]), world);
+    player.setInitialPosition(Position.pack(3222, 3218, 0));
+    assertThat(world.addPlayer(player)).isTrue();
+    queue = player.getMovementQueue();
+  }
+
+  /**
+   * Tests that a step is interpolated into single tiles, walked one tile per pulse and run two.
+   */
+  @Test
+  public void walkAndRun() {
+    queue.addFirstStep(Position.pack(3222, 3218, 0));
+    queue.addStep(Position.pack(3225, 3221, 0));
+    assertThat(queue.size()).isEqualTo(3);
+
+    queue.pulse();
+    assertThat(player.getPackedPosition()).isEqualTo(Position.pack(3223, 3219, 0));
+    assertThat(player.getFirstDirection()).isEqualTo(Direction.NORTH_EAST);
+    assertThat(player.getSecondDirection()).isEqualTo(Direction.NONE);
+
+    queue.setRunning(true);
+    queue.pulse();
+    assertThat(player.getPackedPosition()).isEqualTo(Position.pack(3225, 3221, 0));
+    assertThat(player.getSecondDirection()).isEqualTo(Direction.NORTH_EAST);
+    assertThat(queue.size()).isEqualTo(0);
+
+    queue.pulse();
+    assertThat(player.getPackedPosition()).isEqualTo(Position.pack(3225, 3221, 0));
+    assertThat(player.getFirstDirection()).isEqualTo(Direction.NONE);
+  }
+
+  /**
+   * Tests that a first step onto a previously visited point backtracks through the visited
+   * points rather than cutting across.
+   */
+  @Test
+  public void backtrack() {
+    queue.addFirstStep(Position.pack(3222, 3218, 0));
+    queue.addStep(Position.pack(3222, 3221, 0));
+    for (int pulse = 0; pulse < 3; pulse++) {
+      queue.pulse();
+    }
+    assertThat(player.getPackedPosition()).isEqualTo(Position.pack(3222, 3221, 0));
+
+    queue.addFirstStep(Position.pack(3222, 3219, 0));
+    assertThat(queue.size()).isEqualTo(2);
+
+    queue.pulse();
+    assertThat(player.getPackedPosition()).isEqualTo(Position.pack(3222, 3220, 0));
+    queue.pulse();
+    assertThat(player.getPackedPosition()).isEqualTo(Position.pack(3222, 3219, 0));
+  }
+
+  /**
+   * Tests that clearing the queue stops the Mob.
+   */
+  @Test
+  public void clear() {
+    queue.addFirstStep(Position.pack(3222, 3218, 0));
+    queue.addStep(Position.pack(3230, 3218, 0));
+    queue.clear();
+    queue.pulse();
+
+    assertThat(queue.size()).isEqualTo(0);
+    assertThat(player.getPackedPosition()).isEqualTo(Position.pack(3222, 3218, 0));
+  }
+
+}
@@ -0,0 +1,194 @@
+package me.ryleykimmel.brandywine.game.persistence;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.powermock.api.mockito.PowerMockito.mock;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import me.ryleykimmel.brandywine.game.event.EventConsumerChainSet;
+import me.ryleykimmel.brandywine.game.model.Position;
+import me.ryleykimmel.brandywine.game.model.World;
+import me.ryleykimmel.brandywine.game.model.player.Player;
+import me.ryleykimmel.brandywine.game.model.player.PlayerCredentials;
+import me.ryleykimmel.brandywine.game.model.skill.Skill;
+import me.ryleykimmel.brandywine.game.persistence.impl.LogPlayerSerializer;
+import me.ryleykimmel.brandywine.game.update.SequentialUpdater;
+import me.ryleykimmel.brandywine.network.Session;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.powermock.core.classloader.annotations.PowerMockIgnore;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+/**
+ * Tests the {@link PersistenceService} class.
+ */
+@RunWith(PowerMockRunner.class)
+@PrepareForTest(Session.class)
+@PowerMockIgnore("javax.management.*")
+public final class PersistenceServiceTests {
+
+  /**
+   * The temporary folder holding the log players are saved to.
+   */
+  @Rule
+  public final TemporaryFolder folder = new TemporaryFolder();
+
+  /**
+   * Tests that a logout completes only on a pulse after the save, and that the saved Player is
+   * loaded back unchanged.
+   *
+   * @throws Exception If the Player could not be saved or loaded.
+   */
+  @Test
+  public void saveAndLoad() throws Exception {
+    World world = new World(new EventConsumerChainSet(), new SequentialUpdater());
+    LogPlayerSerializer serializer = new LogPlayerSerializer(folder.newFile().toPath());
+    PersistenceService service = new PersistenceService(world, serializer, 0);
+
+    Player player = createPlayer(world);
+    player.setInitialPosition(new Position(3222, 3218, 1).pack());
+    player.getSkills().setExperience(Skill.ATTACK, 1_000);
+    player.getSkills().setCurrentLevel(Skill.ATTACK, 3);
+
+    AtomicBoolean removed = new AtomicBoolean();
+    service.save(player, () -> removed.set(true));
+    assertThat(removed.get()).isFalse();
+
+    long deadline = System.currentTimeMillis() + 5_000;
+    while (!removed.get() && System.currentTimeMillis() < deadline) {
+      service.execute();
+      Thread.sleep(5);
+    }
+    assertThat(removed.get()).isTrue();
+
+    Optional<PlayerRecord> record = serializer.load("ALICE");
+    assertThat(record.isPresent()).isTrue();
+    assertThat(record.get()).isEqualTo(PlayerRecord.of(player));
+
+    Player loaded = createPlayer(world);
+    service.load(loaded);
+    assertThat(PlayerRecord.of(loaded)).isEqualTo(PlayerRecord.of(player));
+    assertThat(loaded.getSkills().getCurrentLevel(Skill.ATTACK)).isEqualTo(3);
+  }
+
+  /**
+   * Tests that a Player autosaved while its logout save is pending is not saved again, so only the
+   * logout record is written.
+   *
+   * @throws Exception If interrupted while waiting for the save.
+   */
+  @Test
+  public void autosaveDuringLogout() throws Exception {
+    World world = new World(new EventConsumerChainSet(), new SequentialUpdater());
+    CountDownLatch saving = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    List<PlayerRecord> saved = new CopyOnWriteArrayList<>();
+    PersistenceService service = new PersistenceService(world, new PlayerSerializer() {
+      @Override
+      public Optional<PlayerRecord> load(String username) {
+        return Optional.empty();
+      }
+
+      @Override
+      public void save(PlayerRecord record) throws InterruptedException {
+        saving.countDown();
+        release.await();
+        saved.add(record);
+      }
+    }, 600);
+
+    Player player = createPlayer(world);
+    assertThat(world.addPlayer(player)).isTrue();
+
+    AtomicBoolean removed = new AtomicBoolean();
+    service.save(player, () -> {
+      world.finalizePlayerRemoval(player);
+      removed.set(true);
+    });
+    assertThat(saving.await(5, TimeUnit.SECONDS)).isTrue();
+
+    player.getSkills().setExperience(Skill.ATTACK, 1_000);
+    service.execute();
+    release.countDown();
+
+    long deadline = System.currentTimeMillis() + 5_000;
+    while (!removed.get() && System.currentTimeMillis() < deadline) {
+      service.execute();
+      Thread.sleep(5);
+    }
+    assertThat(removed.get()).isTrue();
+
+    // Give a redundant autosave, had one been queued, the chance to be written.
+    Thread.sleep(50);
+    assertThat(service.getPendingSaves()).isEqualTo(0);
+    assertThat(saved).hasSize(1);
+  }
+
+  /**
+   * Tests that a failed logout save is retried, keeping the Player online until a save succeeds.
+   *
+   * @throws Exception If interrupted while waiting for the save.
+   */
+  @Test
+  public void retryFailedLogout() throws Exception {
+    World world = new World(new EventConsumerChainSet(), new SequentialUpdater());
+    AtomicInteger attempts = new AtomicInteger();
+    List<PlayerRecord> saved = new CopyOnWriteArrayList<>();
+    PersistenceService service = new PersistenceService(world, new PlayerSerializer() {
+      @Override
+      public Optional<PlayerRecord> load(String username) {
+        return Optional.empty();
+      }
+
+      @Override
+      public void save(PlayerRecord record) throws IOException {
+        if (attempts.incrementAndGet() <= 2) {
+          throw new IOException("Disk unavailable.");
+        }
+        saved.add(record);
+      }
+    }, 0);
+
+    Player player = createPlayer(world);
+    assertThat(world.addPlayer(player)).isTrue();
+
+    AtomicBoolean removed = new AtomicBoolean();
+    service.save(player, () -> {
+      assertThat(saved).containsExactly(PlayerRecord.of(player));
+      world.finalizePlayerRemoval(player);
+      removed.set(true);
+    });
+
+    long deadline = System.currentTimeMillis() + 5_000;
+    while (!removed.get() && System.currentTimeMillis() < deadline) {
+      assertThat(world.isOnline(player)).isTrue();
+      service.execute();
+      Thread.sleep(5);
+    }
+    assertThat(removed.get()).isTrue();
+    assertThat(world.isOnline(player)).isFalse();
+    assertThat(attempts.get()).isEqualTo(3);
+    assertThat(service.getFailedSaves()).isEqualTo(2L);
+  }
+
+  /**
+   * Creates a Player named {@code alice} over a mock Session.
+   *
+   * @param world The World of the Player.
+   * @return The Player.
+   */
+  private static Player createPlayer(World world) {
+    return new Player(mock(Session.class), new PlayerCredentials(0, "alice", "secret", new int[4]),
+        world);
+  }
+
+}
@@ -0,0 +1,126 @@
+package me.ryleykimmel.brandywine.game.persistence;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.nio.charset.StandardCharsets;
+import me.ryleykimmel.brandywine.common.util.ByteBufUtil;
+import me.ryleykimmel.brandywine.game.model.Position;
+import me.ryleykimmel.brandywine.game.model.skill.Skill;
+import me.ryleykimmel.brandywine.game.model.skill.SkillUtil;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Tests the {@link PlayerRecordCodec} class.
+ */
+@RunWith(JUnit4.class)
+public final class PlayerRecordCodecTests {
+
+  /**
+   * The amount of Skills a Player has.
+   */
+  private static final int SKILLS = 21;
+
+  /**
+   * Tests that a Player who has never trained round-trips and stays compact.
+   */
+  @Test
+  public void untrained() {
+    PlayerRecord record = createRecord(0);
+    ByteBuf buffer = encode(record);
+
+    assertThat(buffer.readableBytes()).isLessThan(128);
+    assertThat(PlayerRecordCodec.decode(buffer)).isEqualTo(record);
+  }
+
+  /**
+   * Tests that a Player with every Skill maxed round-trips, which needs a multi-byte field length.
+   */
+  @Test
+  public void maxed() {
+    PlayerRecord record = createRecord(Skill.MAXIMUM_EXPERIENCE);
+    ByteBuf buffer = encode(record);
+
+    assertThat(buffer.readableBytes()).isLessThan(200);
+    assertThat(PlayerRecordCodec.decode(buffer)).isEqualTo(record);
+  }
+
+  /**
+   * Tests that experience keeps the tenth of a point the client shows.
+   */
+  @Test
+  public void fractionalExperience() {
+    PlayerRecord record = createRecord(1_234.5);
+    assertThat(PlayerRecordCodec.decode(encode(record))).isEqualTo(record);
+  }
+
+  /**
+   * Tests that a field this version does not know is skipped.
+   */
+  @Test
+  public void skipsUnknownFields() {
+    PlayerRecord record = createRecord(0);
+    ByteBuf buffer = encode(record);
+
+    ByteBufUtil.writeVarInt(buffer, 15 << 3);
+    ByteBufUtil.writeVarInt(buffer, 300);
+
+    byte[] unknown = "unknown".getBytes(StandardCharsets.UTF_8);
+    ByteBufUtil.writeVarInt(buffer, 16 << 3 | 2);
+    ByteBufUtil.writeVarInt(buffer, unknown.length);
+    buffer.writeBytes(unknown);
+
+    assertThat(PlayerRecordCodec.decode(buffer)).isEqualTo(record);
+  }
+
+  /**
+   * Tests that a record of a newer version is rejected.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsNewerVersions() {
+    ByteBuf buffer = Unpooled.buffer();
+    ByteBufUtil.writeVarInt(buffer, PlayerRecordCodec.VERSION + 1);
+    PlayerRecordCodec.decode(buffer);
+  }
+
+  /**
+   * Encodes the specified record.
+   *
+   * @param record The record.
+   * @return The ByteBuf holding the encoded record.
+   */
+  private static ByteBuf encode(PlayerRecord record) {
+    ByteBuf buffer = Unpooled.buffer();
+    PlayerRecordCodec.encode(record, buffer);
+    return buffer;
+  }
+
+  /**
+   * Creates the record of a Player with the specified experience in every Skill, and current
+   * levels at the levels earned except for a boosted first Skill.
+   *
+   * @param experience The experience of each Skill.
+   * @return The record.
+   */
+  static PlayerRecord createRecord(double experience) {
+    int[] styles = {0, 10, 18, 26, 33, 36, 42, -1};
+    int[] colors = {7, 8, 9, 5, 0, 0, 0, 0};
+
+    int[] skillIds = new int[SKILLS];
+    double[] skillExperience = new double[SKILLS];
+    int[] currentLevels = new int[SKILLS];
+    for (int id = 0; id < SKILLS; id++) {
+      skillIds[id] = id;
+      skillExperience[id] = experience;
+      currentLevels[id] = SkillUtil.levelOf(experience);
+    }
+    currentLevels[0] += 5;
+
+    return new PlayerRecord("alice", new Position(3222, 3218, 1).pack(), 1, 0, styles, colors,
+        skillIds, skillExperience, currentLevels);
+  }
+
+}
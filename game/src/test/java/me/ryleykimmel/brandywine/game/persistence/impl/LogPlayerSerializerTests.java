@@ -0,0 +1,177 @@
+package me.ryleykimmel.brandywine.game.persistence.impl;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import me.ryleykimmel.brandywine.game.persistence.PlayerRecord;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Tests the {@link LogPlayerSerializer} class.
+ */
+@RunWith(JUnit4.class)
+public final class LogPlayerSerializerTests {
+
+  /**
+   * The temporary folder holding the log.
+   */
+  @Rule
+  public final TemporaryFolder folder = new TemporaryFolder();
+
+  /**
+   * Tests that the latest record of each Player survives reopening the log.
+   *
+   * @throws IOException If the log could not be written or read.
+   */
+  @Test
+  public void reopen() throws IOException {
+    Path path = folder.newFile().toPath();
+    try (LogPlayerSerializer serializer = new LogPlayerSerializer(path)) {
+      serializer.save(createRecord("alice", 1));
+      serializer.save(createRecord("bob", 2));
+      serializer.save(createRecord("Alice", 3));
+    }
+
+    try (LogPlayerSerializer serializer = new LogPlayerSerializer(path)) {
+      assertThat(serializer.load("ALICE")).isEqualTo(Optional.of(createRecord("Alice", 3)));
+      assertThat(serializer.load("bob")).isEqualTo(Optional.of(createRecord("bob", 2)));
+      assertThat(serializer.load("carol").isPresent()).isFalse();
+    }
+  }
+
+  /**
+   * Tests that a torn entry at the end of the log is truncated, leaving earlier entries intact.
+   *
+   * @throws IOException If the log could not be written or read.
+   */
+  @Test
+  public void truncatesTornEntry() throws IOException {
+    Path path = folder.newFile().toPath();
+    long intact;
+    try (LogPlayerSerializer serializer = new LogPlayerSerializer(path)) {
+      serializer.save(createRecord("alice", 1));
+      intact = serializer.getSize();
+      serializer.save(createRecord("alice", 2));
+    }
+
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+      channel.truncate(channel.size() - 1);
+    }
+
+    try (LogPlayerSerializer serializer = new LogPlayerSerializer(path)) {
+      assertThat(serializer.getSize()).isEqualTo(intact);
+      assertThat(serializer.load("alice")).isEqualTo(Optional.of(createRecord("alice", 1)));
+    }
+  }
+
+  /**
+   * Tests that a corrupt entry is truncated rather than loaded.
+   *
+   * @throws IOException If the log could not be written or read.
+   */
+  @Test
+  public void truncatesCorruptEntry() throws IOException {
+    Path path = folder.newFile().toPath();
+    try (LogPlayerSerializer serializer = new LogPlayerSerializer(path)) {
+      serializer.save(createRecord("alice", 1));
+    }
+
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+      channel.write(ByteBuffer.wrap(new byte[] {0x7f}), channel.size() - 1);
+    }
+
+    try (LogPlayerSerializer serializer = new LogPlayerSerializer(path)) {
+      assertThat(serializer.getSize()).isEqualTo(0L);
+      assertThat(serializer.load("alice").isPresent()).isFalse();
+    }
+  }
+
+  /**
+   * Tests that superseded entries are compacted away once they outweigh live ones.
+   *
+   * @throws IOException If the log could not be written or read.
+   */
+  @Test
+  public void compacts() throws IOException {
+    Path path = folder.newFile().toPath();
+    try (LogPlayerSerializer serializer = new LogPlayerSerializer(path)) {
+      for (int privileges = 0; privileges < 30_000; privileges++) {
+        serializer.save(createRecord("alice", privileges));
+      }
+      serializer.save(createRecord("bob", 1));
+
+      assertThat(serializer.getSize()).isLessThan(1L << 20);
+      assertThat(serializer.load("alice")).isEqualTo(Optional.of(createRecord("alice", 29_999)));
+      assertThat(serializer.load("bob")).isEqualTo(Optional.of(createRecord("bob", 1)));
+    }
+  }
+
+  /**
+   * Tests that a compaction whose move fails leaves the log usable and removes the compacted
+   * file, and that a later compaction still succeeds.
+   *
+   * @throws IOException If the log could not be written or read.
+   */
+  @Test
+  public void failedCompactionMove() throws IOException {
+    Path path = folder.newFile().toPath();
+    Path compacted = path.resolveSibling(path.getFileName() + ".compact");
+    AtomicInteger moves = new AtomicInteger();
+    LogPlayerSerializer.LogMover mover = (source, target) -> {
+      if (moves.getAndIncrement() == 0) {
+        throw new AtomicMoveNotSupportedException(source.toString(), target.toString(), "test");
+      }
+      Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+    };
+
+    try (LogPlayerSerializer serializer = new LogPlayerSerializer(path, mover)) {
+      int privileges = 0;
+      while (moves.get() == 0) {
+        serializer.save(createRecord("alice", privileges++));
+      }
+      assertThat(Files.exists(compacted)).isFalse();
+      assertThat(serializer.load("alice"))
+          .isEqualTo(Optional.of(createRecord("alice", privileges - 1)));
+
+      serializer.save(createRecord("bob", 1));
+      assertThat(serializer.load("bob")).isEqualTo(Optional.of(createRecord("bob", 1)));
+
+      while (moves.get() == 1) {
+        serializer.save(createRecord("alice", privileges++));
+      }
+      assertThat(serializer.getSize()).isLessThan(1L << 20);
+      assertThat(serializer.load("alice"))
+          .isEqualTo(Optional.of(createRecord("alice", privileges - 1)));
+    }
+
+    try (LogPlayerSerializer serializer = new LogPlayerSerializer(path)) {
+      assertThat(serializer.load("bob")).isEqualTo(Optional.of(createRecord("bob", 1)));
+    }
+  }
+
+  /**
+   * Creates a record of an untrained Player.
+   *
+   * @param username The username of the Player.
+   * @param privileges The Privileges bit set of the Player, to tell records apart.
+   * @return The record.
+   */
+  private static PlayerRecord createRecord(String username, int privileges) {
+    return new PlayerRecord(username, 0, privileges, 0, new int[PlayerRecord.FEATURES],
+        new int[PlayerRecord.FEATURES], new int[] {3}, new double[] {1_154}, new int[] {10});
+  }
+
+}
@@ -0,0 +1,126 @@
+package me.ryleykimmel.brandywine.game.update;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.powermock.api.mockito.PowerMockito.mock;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import me.ryleykimmel.brandywine.game.collect.MobRepository;
+import me.ryleykimmel.brandywine.game.model.player.Player;
+import me.ryleykimmel.brandywine.game.update.task.UpdateTask;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+/**
+ * Tests the {@link ParallelUpdater} class.
+ */
+@RunWith(PowerMockRunner.class)
+@PrepareForTest(Player.class)
+public final class ParallelUpdaterTests {
+
+  /**
+   * The capacity of the repository, spanning several ranges with a partial last range.
+   */
+  private static final int CAPACITY = 200;
+
+  /**
+   * Tests that every phase runs exactly once for every Player, with each phase completing before
+   * the next begins.
+   */
+  @Test
+  public void updatesEveryPlayerOnce() {
+    MobRepository<Player> players = createPlayers(CAPACITY - 3);
+    Map<Player, AtomicInteger> pre = new ConcurrentHashMap<>();
+    Map<Player, AtomicInteger> update = new ConcurrentHashMap<>();
+    Map<Player, AtomicInteger> post = new ConcurrentHashMap<>();
+    AtomicInteger ordering = new AtomicInteger();
+
+    ParallelUpdater updater = new ParallelUpdater(4, counting(pre, null, null),
+        counting(update, pre, ordering), counting(post, update, ordering));
+    for (int pulse = 0; pulse < 2; pulse++) {
+      updater.update(players, new MobRepository<>(1));
+    }
+
+    for (Player player : players) {
+      assertThat(pre.get(player).get()).isEqualTo(2);
+      assertThat(update.get(player).get()).isEqualTo(2);
+      assertThat(post.get(player).get()).isEqualTo(2);
+    }
+    assertThat(pre).hasSize(CAPACITY - 3);
+    assertThat(ordering.get()).isEqualTo(0);
+  }
+
+  /**
+   * Tests that a failing Player does not stop the others from being updated, and that every
+   * failure is rethrown on the calling thread once, not again on the next update.
+   */
+  @Test
+  public void surfacesFailures() {
+    MobRepository<Player> players = createPlayers(CAPACITY);
+    Player first = players.get(1);
+    Player last = players.get(CAPACITY);
+    AtomicInteger updated = new AtomicInteger();
+    AtomicBoolean failing = new AtomicBoolean(true);
+
+    ParallelUpdater updater = new ParallelUpdater(4, player -> {
+    }, player -> {
+      if (failing.get() && (player == first || player == last)) {
+        throw new UnsupportedOperationException(String.valueOf(player == first));
+      }
+      updated.incrementAndGet();
+    }, player -> {
+    });
+
+    try {
+      updater.update(players, new MobRepository<>(1));
+      throw new AssertionError("Expected the failures to be rethrown.");
+    } catch (IllegalStateException cause) {
+      assertThat(cause).hasCauseThat().isInstanceOf(UnsupportedOperationException.class);
+      assertThat(cause.getSuppressed()).hasLength(1);
+    }
+    assertThat(updated.get()).isEqualTo(CAPACITY - 2);
+
+    updated.set(0);
+    failing.set(false);
+    updater.update(players, new MobRepository<>(1));
+    assertThat(updated.get()).isEqualTo(CAPACITY);
+  }
+
+  /**
+   * Creates a repository with the specified amount of mock Players.
+   *
+   * @param count The amount of Players.
+   * @return The MobRepository.
+   */
+  private static MobRepository<Player> createPlayers(int count) {
+    MobRepository<Player> players = new MobRepository<>(CAPACITY);
+    for (int index = 0; index < count; index++) {
+      assertThat(players.add(mock(Player.class))).isTrue();
+    }
+    return players;
+  }
+
+  /**
+   * Creates an UpdateTask which counts its runs for each Player.
+   *
+   * @param counts The runs of each Player.
+   * @param previous The runs of each Player in the previous phase, or {@code null}.
+   * @param ordering Counts runs which started before the previous phase of the Player completed,
+   *     or {@code null}.
+   * @return The UpdateTask.
+   */
+  private static UpdateTask counting(Map<Player, AtomicInteger> counts,
+      Map<Player, AtomicInteger> previous, AtomicInteger ordering) {
+    return player -> {
+      int run = counts.computeIfAbsent(player, key -> new AtomicInteger()).incrementAndGet();
+      if (previous != null && previous.get(player).get() != run) {
+        ordering.incrementAndGet();
+      }
+    };
+  }
+
+}
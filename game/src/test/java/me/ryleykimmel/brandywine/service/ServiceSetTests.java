@@ -0,0 +1,79 @@
+package me.ryleykimmel.brandywine.service;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Tests the {@link ServiceSet} and {@link Service} classes.
+ */
+@RunWith(JUnit4.class)
+public final class ServiceSetTests {
+
+  /**
+   * Tests that Services are pulsed in registration order.
+   */
+  @Test
+  public void registrationOrder() {
+    ServiceSet services = new ServiceSet();
+    FirstService first = new FirstService();
+    SecondService second = new SecondService();
+    services.register(second);
+    services.register(first);
+
+    assertThat(services.getServices()).containsExactly(second, first).inOrder();
+  }
+
+  /**
+   * Tests that a Service is executed exactly once every interval.
+   */
+  @Test
+  public void interval() {
+    FirstService service = new FirstService();
+    for (int pulse = 0; pulse < 60; pulse++) {
+      service.pulse();
+    }
+
+    assertThat(service.executions.get()).isEqualTo(10);
+    assertThat(service.getDurations().getCount()).isEqualTo(10L);
+  }
+
+  /**
+   * A Service executed every 600 milliseconds.
+   */
+  private static final class FirstService extends Service {
+
+    /**
+     * The amount of executions.
+     */
+    private final AtomicInteger executions = new AtomicInteger();
+
+    /**
+     * Constructs a new {@link FirstService}.
+     */
+    FirstService() {
+      super(600L);
+    }
+
+    @Override
+    public void execute() {
+      executions.incrementAndGet();
+    }
+
+  }
+
+  /**
+   * A Service executed every pulse.
+   */
+  private static final class SecondService extends Service {
+
+    @Override
+    public void execute() {
+    }
+
+  }
+
+}
@@ -0,0 +1,230 @@
+package me.ryleykimmel.brandywine.network;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler.Sharable;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.concurrent.Promise;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures connection throughput and per-packet round trip latency of each {@link Transport}
+ * against an echo server on the loopback interface. Transports which are unavailable on the
+ * running platform fail their setup, select the others with {@code -p transport=NIO,...}.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoopbackTransportBenchmark {
+
+  /**
+   * The Transport being measured.
+   */
+  @Param({"EPOLL", "NIO"})
+  public Transport transport;
+
+  /**
+   * The size of each packet in bytes, roughly that of a busy player update.
+   */
+  @Param({"64", "1024"})
+  public int packetSize;
+
+  /**
+   * The EventLoopGroup of the echo server.
+   */
+  private EventLoopGroup serverGroup;
+
+  /**
+   * The EventLoopGroup of the clients.
+   */
+  private EventLoopGroup clientGroup;
+
+  /**
+   * The bootstrap of the clients.
+   */
+  private Bootstrap bootstrap;
+
+  /**
+   * The bound address of the echo server.
+   */
+  private SocketAddress address;
+
+  /**
+   * The client Channel used to measure round trips.
+   */
+  private Channel client;
+
+  /**
+   * The handler of the round trip client.
+   */
+  private final RoundTripHandler roundTrips = new RoundTripHandler();
+
+  /**
+   * The packet sent each round trip.
+   */
+  private ByteBuf packet;
+
+  /**
+   * Starts the echo server and connects the round trip client.
+   *
+   * @throws InterruptedException If interrupted while binding or connecting.
+   */
+  @Setup
+  public void setup() throws InterruptedException {
+    if (!transport.isAvailable()) {
+      throw new IllegalStateException(transport + " is unavailable on this platform.");
+    }
+
+    serverGroup = transport.newEventLoopGroup(1, "benchmark-server");
+    clientGroup = transport.newEventLoopGroup(1, "benchmark-client");
+
+    Channel server = new ServerBootstrap()
+        .channel(transport.getServerChannelClass())
+        .group(serverGroup)
+        .childOption(ChannelOption.TCP_NODELAY, true)
+        .childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+        .childHandler(new EchoHandler())
+        .bind(new InetSocketAddress("127.0.0.1", 0))
+        .sync()
+        .channel();
+    address = server.localAddress();
+
+    bootstrap = new Bootstrap()
+        .channel(transport.getChannelClass())
+        .group(clientGroup)
+        .option(ChannelOption.TCP_NODELAY, true)
+        .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+        .handler(new IdleHandler());
+
+    client = bootstrap.clone().handler(roundTrips).connect(address).sync().channel();
+    packet = Unpooled.unreleasableBuffer(Unpooled.directBuffer(packetSize).writeZero(packetSize));
+  }
+
+  /**
+   * Closes every Channel and shuts down both EventLoopGroups.
+   */
+  @TearDown
+  public void tearDown() {
+    clientGroup.shutdownGracefully(0, 1, TimeUnit.SECONDS).syncUninterruptibly();
+    serverGroup.shutdownGracefully(0, 1, TimeUnit.SECONDS).syncUninterruptibly();
+  }
+
+  /**
+   * Sends a single packet and waits for it to be echoed back in full.
+   *
+   * @throws InterruptedException If interrupted while waiting.
+   */
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public void roundTrip() throws InterruptedException {
+    Promise<Void> echoed = roundTrips.expect(client, packetSize);
+    client.writeAndFlush(packet.duplicate(), client.voidPromise());
+    echoed.sync();
+  }
+
+  /**
+   * Opens and closes a single connection.
+   *
+   * @throws InterruptedException If interrupted while connecting or closing.
+   */
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  public void connect() throws InterruptedException {
+    bootstrap.connect(address).sync().channel().close().sync();
+  }
+
+  /**
+   * Does nothing, for clients which only connect.
+   */
+  @Sharable
+  private static final class IdleHandler extends ChannelInboundHandlerAdapter {
+
+  }
+
+  /**
+   * Echoes every received byte back to the sender.
+   */
+  @Sharable
+  private static final class EchoHandler extends ChannelInboundHandlerAdapter {
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+      ctx.write(msg, ctx.voidPromise());
+    }
+
+    @Override
+    public void channelReadComplete(ChannelHandlerContext ctx) {
+      ctx.flush();
+    }
+
+  }
+
+  /**
+   * Completes a Promise once an expected amount of bytes has been echoed back.
+   */
+  private static final class RoundTripHandler extends ChannelInboundHandlerAdapter {
+
+    /**
+     * The Promise completed once the expected bytes have arrived.
+     */
+    private volatile Promise<Void> promise;
+
+    /**
+     * The amount of bytes yet to arrive, only accessed by the event loop.
+     */
+    private int remaining;
+
+    /**
+     * Expects the specified amount of bytes to be echoed back.
+     *
+     * @param channel The Channel the bytes will arrive on.
+     * @param bytes The amount of bytes.
+     * @return The Promise completed once every byte has arrived.
+     */
+    Promise<Void> expect(Channel channel, int bytes) {
+      Promise<Void> promise = channel.eventLoop().newPromise();
+      channel.eventLoop().execute(() -> {
+        remaining = bytes;
+        this.promise = promise;
+      });
+      return promise;
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+      remaining -= ((ByteBuf) msg).readableBytes();
+      ReferenceCountUtil.release(msg);
+
+      if (remaining <= 0) {
+        promise.trySuccess(null);
+      }
+    }
+
+  }
+
+}
@@ -0,0 +1,149 @@
+package me.ryleykimmel.brandywine.network.frame;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link FrameBuilder#putBits(int, int)} against the original read-modify-write bit
+ * encoder, using the bit fields of a player update for the specified amount of local players.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PutBitsBenchmark {
+
+  /**
+   * The bit fields of a single local player: a walking player followed by an added player.
+   */
+  private static final int[] SHAPE = {1, 2, 3, 1, 11, 1, 1, 5, 5};
+
+  /**
+   * The ByteBufAllocator used by both encoders.
+   */
+  private final ByteBufAllocator allocator = PooledByteBufAllocator.DEFAULT;
+
+  /**
+   * The amount of local players being updated.
+   */
+  @Param({"16", "255"})
+  public int players;
+
+  /**
+   * The amount of bits of each value.
+   */
+  private int[] amounts;
+
+  /**
+   * The values to encode.
+   */
+  private int[] values;
+
+  /**
+   * Generates the workload.
+   */
+  @Setup
+  public void setup() {
+    Random random = new Random(players);
+    amounts = new int[players * SHAPE.length];
+    values = new int[amounts.length];
+
+    for (int index = 0; index < amounts.length; index++) {
+      amounts[index] = SHAPE[index % SHAPE.length];
+      values[index] = random.nextInt(1 << amounts[index]);
+    }
+  }
+
+  /**
+   * Encodes the workload with the accumulating {@link FrameBuilder}.
+   *
+   * @return The encoded length, to defeat dead code elimination.
+   */
+  @Benchmark
+  public int accumulator() {
+    FrameBuilder builder = new FrameBuilder(allocator);
+    try {
+      builder.switchToBitAccess();
+      for (int index = 0; index < amounts.length; index++) {
+        builder.putBits(amounts[index], values[index]);
+      }
+      builder.switchToByteAccess();
+      return builder.getLength();
+    } finally {
+      builder.release();
+    }
+  }
+
+  /**
+   * Encodes the workload with the original read-modify-write encoder.
+   *
+   * @return The encoded length, to defeat dead code elimination.
+   */
+  @Benchmark
+  public int readModifyWrite() {
+    ByteBuf buffer = allocator.buffer();
+    try {
+      int bitIndex = 0;
+      for (int index = 0; index < amounts.length; index++) {
+        bitIndex = putBits(buffer, bitIndex, amounts[index], values[index]);
+      }
+      buffer.writerIndex((bitIndex + 7) >> 3);
+      return buffer.readableBytes();
+    } finally {
+      buffer.release();
+    }
+  }
+
+  /**
+   * The original read-modify-write bit encoder of {@link FrameBuilder#putBits(int, int)}.
+   *
+   * @param buffer The ByteBuf to write to.
+   * @param bitIndex The current bit index.
+   * @param amount The number of bits to write.
+   * @param value The value.
+   * @return The next bit index.
+   */
+  private static int putBits(ByteBuf buffer, int bitIndex, int amount, int value) {
+    int bytePos = bitIndex >> 3;
+    int bitOffset = 8 - (bitIndex & 7);
+    int next = bitIndex + amount;
+
+    buffer.ensureWritable(bytePos - buffer.writerIndex() + 1 + (amount + 7) / 8);
+
+    for (; amount > bitOffset; bitOffset = 8) {
+      int tmp = buffer.getByte(bytePos);
+      tmp &= ~FrameBuffer.BIT_MASKS[bitOffset];
+      tmp |= (value >> (amount - bitOffset)) & FrameBuffer.BIT_MASKS[bitOffset];
+      buffer.setByte(bytePos++, tmp);
+      amount -= bitOffset;
+    }
+
+    int tmp = buffer.getByte(bytePos);
+    if (amount == bitOffset) {
+      tmp &= ~FrameBuffer.BIT_MASKS[bitOffset];
+      tmp |= value & FrameBuffer.BIT_MASKS[bitOffset];
+    } else {
+      tmp &= ~(FrameBuffer.BIT_MASKS[amount] << (bitOffset - amount));
+      tmp |= (value & FrameBuffer.BIT_MASKS[amount]) << (bitOffset - amount);
+    }
+    buffer.setByte(bytePos, tmp);
+    return next;
+  }
+
+}
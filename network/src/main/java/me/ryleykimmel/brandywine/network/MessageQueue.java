@@ -0,0 +1,280 @@
+package me.ryleykimmel.brandywine.network;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import me.ryleykimmel.brandywine.network.message.Message;
+
+/**
+ * A bounded, lock-free queue of received {@link Message}s, which may be offered to by many threads
+ * but polled by only one thread at a time.
+ * <p>
+ * Messages are stored in a ring buffer whose slots are claimed by producers with a single compare
+ * and set, and published once written. The consumer never blocks a producer: a slot which has
+ * been claimed but not yet published simply appears empty until the next poll. Besides the total
+ * capacity, the amount of queued Messages of each opcode may be limited so a single kind of
+ * Message cannot crowd out the others.
+ * </p>
+ * <p>
+ * Messages of an opcode where only the latest matters, such as movement, may instead be
+ * {@link #offerLatest offered latest wins}: at most one is queued, and offering another replaces
+ * the queued Message in its place rather than being dropped.
+ * </p>
+ */
+public final class MessageQueue {
+
+  /**
+   * The amount of distinct opcodes.
+   */
+  private static final int OPCODES = 256;
+
+  /**
+   * Queued in place of a Message offered latest wins, which is swapped in once polled.
+   */
+  private static final Message LATEST = new Message() {
+  };
+
+  /**
+   * The queued Messages, indexed by their sequence masked to the capacity.
+   */
+  private final AtomicReferenceArray<Message> messages;
+
+  /**
+   * The opcodes of the queued Messages, published along with the Message in the same slot.
+   */
+  private final int[] opcodes;
+
+  /**
+   * The latest Message offered latest wins of each opcode, which has not been polled yet.
+   */
+  private final AtomicReferenceArray<Message> latest = new AtomicReferenceArray<>(OPCODES);
+
+  /**
+   * The amount of queued Messages of each opcode.
+   */
+  private final AtomicIntegerArray queuedByOpcode = new AtomicIntegerArray(OPCODES);
+
+  /**
+   * The sequence of the next slot to be claimed by a producer.
+   */
+  private final AtomicLong producerIndex = new AtomicLong();
+
+  /**
+   * The sequence of the next slot to be polled by the consumer, only written by the consumer.
+   */
+  private final AtomicLong consumerIndex = new AtomicLong();
+
+  /**
+   * The amount of Messages dropped because this queue or their opcode was full.
+   */
+  private final AtomicLong droppedMessages = new AtomicLong();
+
+  /**
+   * The largest amount of queued Messages since the peak was last reset.
+   */
+  private final AtomicInteger peakSize = new AtomicInteger();
+
+  /**
+   * The mask applied to a sequence to find its slot.
+   */
+  private final int mask;
+
+  /**
+   * Constructs a new {@link MessageQueue}.
+   *
+   * @param capacity The maximum amount of queued Messages, must be a power of two.
+   */
+  public MessageQueue(int capacity) {
+    Preconditions.checkArgument(capacity > 0 && Integer.bitCount(capacity) == 1,
+        "Capacity must be a positive power of two.");
+    this.messages = new AtomicReferenceArray<>(capacity);
+    this.opcodes = new int[capacity];
+    this.mask = capacity - 1;
+  }
+
+  /**
+   * Offers a Message to this queue. Safe to call from any thread.
+   *
+   * @param message The Message to queue.
+   * @param opcode The opcode of the Message.
+   * @param limit The maximum amount of queued Messages with the same opcode.
+   * @return {@code true} if the Message was queued, {@code false} if it was dropped because this
+   *     queue or its opcode was full.
+   */
+  public boolean offer(Message message, int opcode, int limit) {
+    Preconditions.checkNotNull(message, "Message may not be null.");
+
+    if (queuedByOpcode.incrementAndGet(opcode) > limit) {
+      return drop(opcode);
+    }
+    return enqueue(message, opcode);
+  }
+
+  /**
+   * Offers a Message to this queue, replacing the queued Message of the same opcode offered this
+   * way, if any. The latest Message is polled in the place of the first. Safe to call from any
+   * thread.
+   *
+   * @param message The Message to queue.
+   * @param opcode The opcode of the Message.
+   * @return {@code true} if the Message was queued, {@code false} if it was dropped because this
+   *     queue was full.
+   */
+  public boolean offerLatest(Message message, int opcode) {
+    Preconditions.checkNotNull(message, "Message may not be null.");
+
+    if (latest.getAndSet(opcode, message) != null) {
+      return true; // replaced the queued Message, whose place is already taken
+    }
+
+    queuedByOpcode.incrementAndGet(opcode);
+    if (enqueue(LATEST, opcode)) {
+      return true;
+    }
+
+    latest.set(opcode, null);
+    return false;
+  }
+
+  /**
+   * Claims a slot for the specified Message and publishes it, or drops it if this queue is full.
+   * The count of its opcode must already have been incremented.
+   *
+   * @param message The Message to queue.
+   * @param opcode The opcode of the Message.
+   * @return {@code true} if the Message was queued, {@code false} if it was dropped.
+   */
+  private boolean enqueue(Message message, int opcode) {
+    long index;
+    do {
+      index = producerIndex.get();
+      if (index - consumerIndex.get() >= messages.length()) {
+        return drop(opcode);
+      }
+    } while (!producerIndex.compareAndSet(index, index + 1));
+
+    int slot = (int) index & mask;
+    opcodes[slot] = opcode;
+    messages.lazySet(slot, message); // publishes the opcode along with the Message
+
+    int size = size();
+    if (size > peakSize.get()) {
+      peakSize.accumulateAndGet(size, Math::max);
+    }
+    return true;
+  }
+
+  /**
+   * Records a Message of the specified opcode as dropped.
+   *
+   * @param opcode The opcode of the dropped Message.
+   * @return {@code false}, for convenience.
+   */
+  private boolean drop(int opcode) {
+    queuedByOpcode.decrementAndGet(opcode);
+    droppedMessages.incrementAndGet();
+    return false;
+  }
+
+  /**
+   * Polls the eldest published Message from this queue. Must only be called by one thread at a
+   * time.
+   *
+   * @return The eldest Message, or {@code null} if no Message has been published.
+   */
+  public Message poll() {
+    while (true) {
+      long index = consumerIndex.get();
+      int slot = (int) index & mask;
+
+      Message message = messages.get(slot);
+      if (message == null) {
+        return null;
+      }
+
+      int opcode = opcodes[slot];
+      messages.lazySet(slot, null);
+      consumerIndex.lazySet(index + 1); // frees the slot for producers
+      queuedByOpcode.decrementAndGet(opcode);
+
+      if (message == LATEST) {
+        message = latest.getAndSet(opcode, null);
+        if (message == null) {
+          continue; // dropped by a producer which found this queue full
+        }
+      }
+      return message;
+    }
+  }
+
+  /**
+   * Gets the amount of Messages in this queue, including those claimed but not yet published.
+   *
+   * @return The amount of queued Messages.
+   */
+  public int size() {
+    long consumer = consumerIndex.get();
+    return (int) Math.max(0, Math.min(producerIndex.get() - consumer, messages.length()));
+  }
+
+  /**
+   * Gets the amount of queued Messages of the specified opcode.
+   *
+   * @param opcode The opcode.
+   * @return The amount of queued Messages with the opcode.
+   */
+  public int size(int opcode) {
+    return Math.max(0, queuedByOpcode.get(opcode));
+  }
+
+  /**
+   * Gets the maximum amount of Messages this queue may contain.
+   *
+   * @return The capacity of this queue.
+   */
+  public int getCapacity() {
+    return messages.length();
+  }
+
+  /**
+   * Gets the amount of Messages dropped since this queue was created.
+   *
+   * @return The amount of dropped Messages.
+   */
+  public long getDroppedMessages() {
+    return droppedMessages.get();
+  }
+
+  /**
+   * Gets the largest amount of queued Messages since the peak was last reset.
+   *
+   * @return The peak size of this queue.
+   */
+  public int getPeakSize() {
+    return peakSize.get();
+  }
+
+  /**
+   * Gets the largest amount of queued Messages since the peak was last reset, and resets it to
+   * the current size.
+   *
+   * @return The peak size of this queue before it was reset.
+   */
+  public int getAndResetPeakSize() {
+    return peakSize.getAndSet(size());
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("size", size())
+        .add("capacity", getCapacity())
+        .add("peak", getPeakSize())
+        .add("dropped", getDroppedMessages())
+        .toString();
+  }
+
+}
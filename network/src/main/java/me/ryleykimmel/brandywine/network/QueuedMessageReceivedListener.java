@@ -1,9 +1,7 @@
 package me.ryleykimmel.brandywine.network;
 
-import static me.ryleykimmel.brandywine.network.Session.MAXIMUM_QUEUED_MESSAGES;
-
 import io.netty.util.internal.StringUtil;
-import java.util.Queue;
+import me.ryleykimmel.brandywine.network.frame.FrameMetadataSet;
 import me.ryleykimmel.brandywine.network.message.Message;
 import me.ryleykimmel.brandywine.network.message.MessageReceivedListener;
 import org.apache.logging.log4j.LogManager;
@@ -11,6 +9,13 @@ import org.apache.logging.log4j.Logger;
 
 /**
  * Listens for Messages and queues them to be handled later.
+ * <p>
+ * Messages which do not fit within the {@link MessageQueue}, or exceed the queue limit of their
+ * opcode, are dropped, while Messages of a latest only opcode replace the queued one. Once the
+ * queue fills past {@link Session#PAUSE_QUEUED_MESSAGES} the Session stops reading from its
+ * SocketChannel until the queue has been drained, so a flooding client is held back by TCP rather
+ * than by dropping its Messages.
+ * </p>
  */
 public final class QueuedMessageReceivedListener implements MessageReceivedListener {
 
@@ -20,27 +25,35 @@ public final class QueuedMessageReceivedListener implements MessageReceivedListe
   private static final Logger logger = LogManager.getLogger(QueuedMessageReceivedListener.class);
 
   /**
-   * A {@link Queue} of {@link Message}'s. Capped at {@link Session#MAXIMUM_QUEUED_MESSAGES}.
+   * The MessageQueue received Messages are offered to.
    */
-  private final Queue<Message> messages;
+  private final MessageQueue messages;
 
   /**
    * Constructs a new {@link QueuedMessageReceivedListener}.
    *
-   * @param messages A {@link Queue} of {@link Message}'s
+   * @param messages The MessageQueue received Messages are offered to.
    */
-  public QueuedMessageReceivedListener(Queue<Message> messages) {
+  public QueuedMessageReceivedListener(MessageQueue messages) {
     this.messages = messages;
   }
 
   @Override
   public void messageReceived(Session session, Message message) {
-    if (messages.size() >= MAXIMUM_QUEUED_MESSAGES) {
+    FrameMetadataSet metadata = session.getFrameMetadataSet();
+    int opcode = metadata.getMetadata(message.getClass()).getOpcode();
+
+    boolean queued = metadata.isLatestOnly(opcode) ? messages.offerLatest(message, opcode)
+        : messages.offer(message, opcode, metadata.getQueueLimit(opcode));
+    if (!queued) {
       logger.warn("Maximum messages queued for session: {}, dropping next message: {}",
           session, StringUtil.simpleClassName(message));
-    } else {
-      messages.add(message);
+      return;
+    }
+
+    if (messages.size() >= Session.PAUSE_QUEUED_MESSAGES) {
+      session.pauseReading();
     }
   }
 
-}
\ No newline at end of file
+}
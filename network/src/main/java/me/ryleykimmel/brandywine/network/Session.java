@@ -4,13 +4,13 @@ import com.google.common.base.MoreObjects;
 import com.google.common.base.Preconditions;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelOutboundBuffer;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.util.AttributeKey;
 import java.net.InetSocketAddress;
 import java.security.SecureRandom;
-import java.util.ArrayDeque;
-import java.util.Queue;
 import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
 import me.ryleykimmel.brandywine.network.frame.FrameMetadataSet;
 import me.ryleykimmel.brandywine.network.message.Message;
 import me.ryleykimmel.brandywine.network.message.MessageReceivedListener;
@@ -35,7 +35,13 @@ public final class Session {
   /**
    * The maximum amount of queued {@link Message}'s any single Session can contain at once.
    */
-  static final int MAXIMUM_QUEUED_MESSAGES = 50;
+  static final int MAXIMUM_QUEUED_MESSAGES = 64;
+
+  /**
+   * The amount of queued {@link Message}'s at which a Session stops reading from its SocketChannel,
+   * leaving room for the Messages already read but not yet decoded.
+   */
+  static final int PAUSE_QUEUED_MESSAGES = MAXIMUM_QUEUED_MESSAGES * 3 / 4;
 
   /**
    * The Logger for this class.
@@ -53,9 +59,14 @@ public final class Session {
   private final long id = RANDOM.nextLong();
 
   /**
-   * An {@link ArrayDeque} of {@link Message}'s. Capped at {@link Session#MAXIMUM_QUEUED_MESSAGES}.
+   * A {@link MessageQueue} of received {@link Message}'s. Capped at {@link Session#MAXIMUM_QUEUED_MESSAGES}.
+   */
+  private final MessageQueue receivedMessages = new MessageQueue(MAXIMUM_QUEUED_MESSAGES);
+
+  /**
+   * Whether or not reading from the SocketChannel has been paused until the received Messages are dequeued.
    */
-  private final Queue<Message> receivedMessages = new ArrayDeque<>(MAXIMUM_QUEUED_MESSAGES);
+  private final AtomicBoolean readingPaused = new AtomicBoolean();
 
   /**
    * Represents a {@link MessageReceivedListener} which queues {@link Message}s so they can be dealt with later.
@@ -160,6 +171,18 @@ public final class Session {
     channel.flush();
   }
 
+  /**
+   * Gets the amount of bytes written to the SocketChannel which have not yet been sent, the
+   * largest share of the pooled memory held by this Session. These bytes stay allocated for as
+   * long as the remote end reads slower than this Session writes.
+   *
+   * @return The amount of pending write bytes, or {@code 0} if the SocketChannel has closed.
+   */
+  public long getPendingWriteBytes() {
+    ChannelOutboundBuffer buffer = channel.unsafe().outboundBuffer();
+    return buffer == null ? 0 : buffer.totalPendingWriteBytes();
+  }
+
   /**
    * Queues a received Message from the SocketChannel.
    *
@@ -170,7 +193,8 @@ public final class Session {
   }
 
   /**
-   * Handles all pending {@link Message}'s in the {@link Session#receivedMessages} queue.
+   * Handles all pending {@link Message}'s in the {@link Session#receivedMessages} queue, resuming
+   * reading from the SocketChannel if it was paused. Must only be called by one thread at a time.
    */
   public void dequeueReceivedMessages() {
     Message message;
@@ -181,6 +205,28 @@ public final class Session {
         logger.error("Uncaught exception while handling message: " + message, cause);
       }
     }
+
+    if (readingPaused.compareAndSet(true, false)) {
+      channel.config().setAutoRead(true);
+    }
+  }
+
+  /**
+   * Stops reading from the SocketChannel until the received Messages have been dequeued.
+   */
+  void pauseReading() {
+    if (readingPaused.compareAndSet(false, true)) {
+      channel.config().setAutoRead(false);
+    }
+  }
+
+  /**
+   * Gets the {@link MessageQueue} of received Messages, for its queue depth statistics.
+   *
+   * @return The MessageQueue of received Messages.
+   */
+  public MessageQueue getReceivedMessages() {
+    return receivedMessages;
   }
 
   /**
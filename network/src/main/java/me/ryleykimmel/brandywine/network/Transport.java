@@ -0,0 +1,172 @@
+package me.ryleykimmel.brandywine.network;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.kqueue.KQueue;
+import io.netty.channel.kqueue.KQueueEventLoopGroup;
+import io.netty.channel.kqueue.KQueueServerSocketChannel;
+import io.netty.channel.kqueue.KQueueSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.ServerSocketChannel;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import java.util.Arrays;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * The socket transports a Server may be bootstrapped with, in order of preference. Native
+ * transports are only {@link #isAvailable() available} on the platforms their libraries are built
+ * for, {@link #NIO} is available everywhere.
+ */
+public enum Transport {
+
+  /**
+   * The native Linux epoll transport.
+   */
+  EPOLL {
+    @Override
+    public boolean isAvailable() {
+      return Epoll.isAvailable();
+    }
+
+    @Override
+    public EventLoopGroup newEventLoopGroup(int threads, String name) {
+      return new EpollEventLoopGroup(threads, new DefaultThreadFactory(name));
+    }
+
+    @Override
+    public Class<? extends ServerSocketChannel> getServerChannelClass() {
+      return EpollServerSocketChannel.class;
+    }
+
+    @Override
+    public Class<? extends SocketChannel> getChannelClass() {
+      return EpollSocketChannel.class;
+    }
+  },
+
+  /**
+   * The native BSD and macOS kqueue transport.
+   */
+  KQUEUE {
+    @Override
+    public boolean isAvailable() {
+      return KQueue.isAvailable();
+    }
+
+    @Override
+    public EventLoopGroup newEventLoopGroup(int threads, String name) {
+      return new KQueueEventLoopGroup(threads, new DefaultThreadFactory(name));
+    }
+
+    @Override
+    public Class<? extends ServerSocketChannel> getServerChannelClass() {
+      return KQueueServerSocketChannel.class;
+    }
+
+    @Override
+    public Class<? extends SocketChannel> getChannelClass() {
+      return KQueueSocketChannel.class;
+    }
+  },
+
+  /**
+   * The portable Java NIO transport.
+   */
+  NIO {
+    @Override
+    public boolean isAvailable() {
+      return true;
+    }
+
+    @Override
+    public EventLoopGroup newEventLoopGroup(int threads, String name) {
+      return new NioEventLoopGroup(threads, new DefaultThreadFactory(name));
+    }
+
+    @Override
+    public Class<? extends ServerSocketChannel> getServerChannelClass() {
+      return NioServerSocketChannel.class;
+    }
+
+    @Override
+    public Class<? extends SocketChannel> getChannelClass() {
+      return NioSocketChannel.class;
+    }
+  };
+
+  /**
+   * The Logger for this class.
+   */
+  private static final Logger logger = LogManager.getLogger(Transport.class);
+
+  /**
+   * Gets the most preferred Transport which is available on this platform.
+   *
+   * @return The most preferred available Transport, never {@code null}.
+   */
+  public static Transport best() {
+    return Arrays.stream(values()).filter(Transport::isAvailable).findFirst().orElse(NIO);
+  }
+
+  /**
+   * Selects the Transport with the specified name, falling back to the {@link #best() best}
+   * available Transport if the name is {@code null} or the named Transport is unavailable.
+   *
+   * @param name The case-insensitive name of the Transport, may be {@code null}.
+   * @return The selected Transport, never {@code null}.
+   * @throws IllegalArgumentException If no Transport has the specified name.
+   */
+  public static Transport select(String name) {
+    if (name == null) {
+      return best();
+    }
+
+    Transport transport = valueOf(name.toUpperCase());
+    if (transport.isAvailable()) {
+      return transport;
+    }
+
+    Transport fallback = best();
+    logger.warn("{} transport is unavailable on this platform, falling back to {}.", transport,
+        fallback);
+    return fallback;
+  }
+
+  /**
+   * Tests whether or not this Transport is available on this platform.
+   *
+   * @return {@code true} if and only if this Transport may be used.
+   */
+  public abstract boolean isAvailable();
+
+  /**
+   * Creates a new EventLoopGroup for this Transport.
+   *
+   * @param threads The amount of event loop threads, or {@code 0} for the Netty default.
+   * @param name The name prefix of the event loop threads.
+   * @return The new EventLoopGroup, never {@code null}.
+   */
+  public abstract EventLoopGroup newEventLoopGroup(int threads, String name);
+
+  /**
+   * Gets the server channel class of this Transport.
+   *
+   * @return The server channel class.
+   */
+  public abstract Class<? extends ServerSocketChannel> getServerChannelClass();
+
+  /**
+   * Gets the client channel class of this Transport.
+   *
+   * @return The client channel class.
+   */
+  public abstract Class<? extends SocketChannel> getChannelClass();
+
+}
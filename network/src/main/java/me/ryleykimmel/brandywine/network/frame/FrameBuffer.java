@@ -48,7 +48,7 @@ abstract class FrameBuffer implements ReferenceCounted {
    */
   public final void switchToByteAccess() {
     checkBitAccess();
-    buffer.writerIndex((bitIndex + 7) >> 3);
+    onByteAccess();
     mode = AccessMode.BYTE_ACCESS;
   }
 
@@ -57,10 +57,25 @@ abstract class FrameBuffer implements ReferenceCounted {
    */
   public final void switchToBitAccess() {
     checkByteAccess();
-    bitIndex = buffer.readerIndex() << 3;
+    onBitAccess();
     mode = AccessMode.BIT_ACCESS;
   }
 
+  /**
+   * Called when this FrameBuffer leaves {@link AccessMode#BIT_ACCESS}, moving the backing ByteBuf
+   * past the last partially accessed byte.
+   */
+  void onByteAccess() {
+    buffer.writerIndex((bitIndex + 7) >> 3);
+  }
+
+  /**
+   * Called when this FrameBuffer enters {@link AccessMode#BIT_ACCESS}, positioning the bit index.
+   */
+  void onBitAccess() {
+    bitIndex = buffer.readerIndex() << 3;
+  }
+
   /**
    * Returns the backing ByteBuf for this FrameBuffer.
    *
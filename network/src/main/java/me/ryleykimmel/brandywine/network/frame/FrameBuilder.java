@@ -22,6 +22,27 @@ public final class FrameBuilder extends FrameBuffer implements Builder<Frame> {
    */
   private final ByteBufAllocator allocator;
 
+  /**
+   * The writer index of the backing ByteBuf at which this builders content begins.
+   */
+  private final int offset;
+
+  /**
+   * Whether or not this builder appends to a ByteBuf it does not own.
+   */
+  private final boolean appending;
+
+  /**
+   * The bits which have been put but not yet written to the backing ByteBuf, right-aligned. Any
+   * bits above the lowest {@link #bitCount} bits are insignificant.
+   */
+  private long bits;
+
+  /**
+   * The amount of significant bits within {@link #bits}.
+   */
+  private int bitCount;
+
   /**
    * Constructs a new {@link FrameBuilder} with the specified FrameMetadata and ByteBufAllocator.
    *
@@ -32,6 +53,27 @@ public final class FrameBuilder extends FrameBuffer implements Builder<Frame> {
     super(allocator.buffer());
     this.metadata = metadata;
     this.allocator = allocator;
+    this.offset = 0;
+    this.appending = false;
+  }
+
+  /**
+   * Constructs a new <strong>appending</strong> {@link FrameBuilder} which writes directly after the
+   * current writer index of the specified ByteBuf, rather than into a ByteBuf of its own.
+   * <p>
+   * Appending FrameBuilders cannot be built, the content they write belongs to the specified
+   * ByteBuf.
+   * </p>
+   *
+   * @param metadata The metadata for the Frame.
+   * @param buffer The ByteBuf to append to.
+   */
+  public FrameBuilder(FrameMetadata metadata, ByteBuf buffer) {
+    super(buffer);
+    this.metadata = metadata;
+    this.allocator = buffer.alloc();
+    this.offset = buffer.writerIndex();
+    this.appending = true;
   }
 
   /**
@@ -49,6 +91,7 @@ public final class FrameBuilder extends FrameBuffer implements Builder<Frame> {
   @Override
   public Frame build() {
     Preconditions.checkNotNull(metadata, "Raw frame builders cannot be built.");
+    Preconditions.checkState(!appending, "Appending frame builders cannot be built.");
     checkByteAccess();
     return new Frame(metadata, buffer);
   }
@@ -60,7 +103,7 @@ public final class FrameBuilder extends FrameBuffer implements Builder<Frame> {
    */
   public int getLength() {
     checkByteAccess();
-    return buffer.writerIndex();
+    return buffer.writerIndex() - offset;
   }
 
   /**
@@ -172,8 +215,150 @@ public final class FrameBuilder extends FrameBuffer implements Builder<Frame> {
     put(type, order, DataTransformation.NONE, value);
   }
 
+  /**
+   * Writes a single byte if and only if this buffer is in {@link AccessMode#BYTE_ACCESS byte access}.
+   *
+   * @param value The value of the number.
+   */
+  public void putByte(int value) {
+    checkByteAccess();
+    buffer.writeByte(value);
+  }
+
+  /**
+   * Writes a single byte with the {@link DataTransformation#ADD add} DataTransformation if and only if this buffer is in {@link AccessMode#BYTE_ACCESS byte access}.
+   *
+   * @param value The value of the number.
+   */
+  public void putByteAdd(int value) {
+    checkByteAccess();
+    buffer.writeByte(value + 128);
+  }
+
+  /**
+   * Writes a single byte with the {@link DataTransformation#NEGATE negate} DataTransformation if and only if this buffer is in {@link AccessMode#BYTE_ACCESS byte access}.
+   *
+   * @param value The value of the number.
+   */
+  public void putByteNegate(int value) {
+    checkByteAccess();
+    buffer.writeByte(-value);
+  }
+
+  /**
+   * Writes a single byte with the {@link DataTransformation#SUBTRACT subtract} DataTransformation if and only if this buffer is in {@link AccessMode#BYTE_ACCESS byte access}.
+   *
+   * @param value The value of the number.
+   */
+  public void putByteSubtract(int value) {
+    checkByteAccess();
+    buffer.writeByte(128 - value);
+  }
+
+  /**
+   * Writes a single short in the {@link DataOrder#BIG big} DataOrder if and only if this buffer is in {@link AccessMode#BYTE_ACCESS byte access}.
+   *
+   * @param value The value of the number.
+   */
+  public void putShort(int value) {
+    checkByteAccess();
+    buffer.writeShort(value);
+  }
+
+  /**
+   * Writes a single short in the {@link DataOrder#BIG big} DataOrder with the {@link DataTransformation#ADD add} DataTransformation if and only if this buffer is in {@link AccessMode#BYTE_ACCESS byte access}.
+   *
+   * @param value The value of the number.
+   */
+  public void putShortAdd(int value) {
+    checkByteAccess();
+    buffer.writeByte(value >> 8);
+    buffer.writeByte(value + 128);
+  }
+
+  /**
+   * Writes a single short in the {@link DataOrder#LITTLE little} DataOrder if and only if this buffer is in {@link AccessMode#BYTE_ACCESS byte access}.
+   *
+   * @param value The value of the number.
+   */
+  public void putShortLE(int value) {
+    checkByteAccess();
+    buffer.writeShortLE(value);
+  }
+
+  /**
+   * Writes a single short in the {@link DataOrder#LITTLE little} DataOrder with the {@link DataTransformation#ADD add} DataTransformation if and only if this buffer is in {@link AccessMode#BYTE_ACCESS byte access}.
+   *
+   * @param value The value of the number.
+   */
+  public void putShortLEAdd(int value) {
+    checkByteAccess();
+    buffer.writeByte(value + 128);
+    buffer.writeByte(value >> 8);
+  }
+
+  /**
+   * Writes a single int in the {@link DataOrder#BIG big} DataOrder if and only if this buffer is in {@link AccessMode#BYTE_ACCESS byte access}.
+   *
+   * @param value The value of the number.
+   */
+  public void putInt(int value) {
+    checkByteAccess();
+    buffer.writeInt(value);
+  }
+
+  /**
+   * Writes a single int in the {@link DataOrder#LITTLE little} DataOrder if and only if this buffer is in {@link AccessMode#BYTE_ACCESS byte access}.
+   *
+   * @param value The value of the number.
+   */
+  public void putIntLE(int value) {
+    checkByteAccess();
+    buffer.writeIntLE(value);
+  }
+
+  /**
+   * Writes a single int in the {@link DataOrder#MIDDLE middle} DataOrder if and only if this buffer is in {@link AccessMode#BYTE_ACCESS byte access}.
+   *
+   * @param value The value of the number.
+   */
+  public void putIntMiddle(int value) {
+    checkByteAccess();
+    buffer.writeByte(value >> 8);
+    buffer.writeByte(value);
+    buffer.writeByte(value >> 24);
+    buffer.writeByte(value >> 16);
+  }
+
+  /**
+   * Writes a single int in the {@link DataOrder#INVERSED_MIDDLE inversed middle} DataOrder if and only if this buffer is in {@link AccessMode#BYTE_ACCESS byte access}.
+   *
+   * @param value The value of the number.
+   */
+  public void putIntInversedMiddle(int value) {
+    checkByteAccess();
+    buffer.writeByte(value >> 16);
+    buffer.writeByte(value >> 24);
+    buffer.writeByte(value);
+    buffer.writeByte(value >> 8);
+  }
+
+  /**
+   * Writes a single long in the {@link DataOrder#BIG big} DataOrder if and only if this buffer is in {@link AccessMode#BYTE_ACCESS byte access}.
+   *
+   * @param value The value of the number.
+   */
+  public void putLong(long value) {
+    checkByteAccess();
+    buffer.writeLong(value);
+  }
+
   /**
    * Writes the specified amount of bits with the specified value, if and only if this buffer is in {@link AccessMode#BIT_ACCESS bit access}.
+   * <p>
+   * Bits are accumulated within a 64-bit register and written to the backing ByteBuf a whole long
+   * at a time, rather than reading and rewriting the backing ByteBuf for every call.
+   * </p>
    *
    * @param amount The number of bits to write.
    * @param value The value.
@@ -182,33 +367,38 @@ public final class FrameBuilder extends FrameBuffer implements Builder<Frame> {
     Assertions.checkWithin(1, 32, amount, "Number of bits must be between 1 and 32 inclusive.");
     checkBitAccess();
 
-    int bytePos = bitIndex >> 3;
-    int bitOffset = 8 - (bitIndex & 7);
-    bitIndex += amount;
-
-    int requiredSpace = bytePos - buffer.writerIndex() + 1;
-    requiredSpace += (amount + 7) / 8;
-    buffer.ensureWritable(requiredSpace);
+    long masked = value & (1L << amount) - 1;
+    int free = Long.SIZE - bitCount;
 
-    for (; amount > bitOffset; bitOffset = 8) {
-      int tmp = buffer.getByte(bytePos);
-      tmp &= ~BIT_MASKS[bitOffset];
-      tmp |= (value >> (amount - bitOffset)) & BIT_MASKS[bitOffset];
-      buffer.setByte(bytePos++, tmp);
-      amount -= bitOffset;
+    if (amount < free) {
+      bits = bits << amount | masked;
+      bitCount += amount;
+    } else {
+      int remaining = amount - free;
+      buffer.writeLong(bits << free | masked >>> remaining);
+      bits = masked;
+      bitCount = remaining;
     }
+  }
 
-    int tmp = buffer.getByte(bytePos);
+  @Override
+  void onBitAccess() {
+    bits = 0;
+    bitCount = 0;
+  }
 
-    if (amount == bitOffset) {
-      tmp &= ~BIT_MASKS[bitOffset];
-      tmp |= value & BIT_MASKS[bitOffset];
-    } else {
-      tmp &= ~(BIT_MASKS[amount] << (bitOffset - amount));
-      tmp |= (value & BIT_MASKS[amount]) << (bitOffset - amount);
+  @Override
+  void onByteAccess() {
+    if (bitCount == 0) {
+      return;
     }
 
-    buffer.setByte(bytePos, tmp);
+    long aligned = bits << Long.SIZE - bitCount;
+    for (int remaining = bitCount; remaining > 0; remaining -= Byte.SIZE) {
+      buffer.writeByte((int) (aligned >>> Long.SIZE - Byte.SIZE));
+      aligned <<= Byte.SIZE;
+    }
+    bitCount = 0;
   }
 
   /**
@@ -252,7 +442,7 @@ public final class FrameBuilder extends FrameBuffer implements Builder<Frame> {
       putBytes(bytes);
     } else {
       for (byte value : bytes) {
-        put(DataType.BYTE, transformation, value);
+        putByte(transformation, value);
       }
     }
   }
@@ -291,11 +481,37 @@ public final class FrameBuilder extends FrameBuffer implements Builder<Frame> {
       putBytesReverse(bytes);
     } else {
       for (int i = bytes.length - 1; i >= 0; i--) {
-        put(DataType.BYTE, transformation, bytes[i]);
+        putByte(transformation, bytes[i]);
       }
     }
   }
 
+  /**
+   * Writes a single byte and performs the specified DataTransformation.
+   *
+   * @param transformation The DataTransformation to perform on the byte.
+   * @param value The value of the byte.
+   */
+  private void putByte(DataTransformation transformation, int value) {
+    switch (transformation) {
+      case ADD:
+        putByteAdd(value);
+        break;
+
+      case SUBTRACT:
+        putByteSubtract(value);
+        break;
+
+      case NEGATE:
+        putByteNegate(value);
+        break;
+
+      default:
+        putByte(value);
+        break;
+    }
+  }
+
   /**
    * Writes a single smart if and only if this buffer is in {@link AccessMode#BYTE_ACCESS byte access}.
    *
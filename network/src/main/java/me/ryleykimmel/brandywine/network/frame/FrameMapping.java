@@ -86,6 +86,28 @@ public final class FrameMapping<T extends Message> {
     return new FrameMapping<>(messageClass, codec, listener, new FrameMetadata(opcode, length));
   }
 
+  /**
+   * Create a new {@link FrameMapping} for a variable length Frame with a maximum length.
+   *
+   * @param messageClass The MessageCodec this FrameMapping is mapped to.
+   * @param codec The Message class this FrameMapping is mapped to.
+   * @param listener The MessageListener this FrameMapping is mapped to.
+   * @param opcode The opcode of the Frame.
+   * @param length The length, in bytes, of the Frame.
+   * @param maximumLength The maximum length, in bytes, of the Frame.
+   * @param <T> The Message type.
+   * @return A newly constructed {@link FrameMapping}, never {@code null}.
+   */
+  public static <T extends Message> FrameMapping<T> create(Class<T> messageClass,
+      MessageCodec<T> codec,
+      MessageListener<T> listener,
+      int opcode,
+      int length,
+      int maximumLength) {
+    return new FrameMapping<>(messageClass, codec, listener,
+        new FrameMetadata(opcode, length, maximumLength));
+  }
+
   /**
    * Gets the MessageCodec this FrameMapping is mapped to.
    *
@@ -113,6 +135,15 @@ public final class FrameMapping<T extends Message> {
     return Optional.ofNullable(listener);
   }
 
+  /**
+   * Gets the MessageListener this FrameMapping is mapped to, without wrapping it.
+   *
+   * @return The MessageListener this FrameMapping is mapped to, or {@code null} if there is none.
+   */
+  MessageListener<T> listener() {
+    return listener;
+  }
+
   /**
    * Gets the FrameMetadata this FrameMapping is mapped to.
    *
@@ -25,6 +25,16 @@ public final class FrameMetadata {
    */
   public static final int VARIABLE_SHORT_LENGTH = -2;
 
+  /**
+   * The maximum length of a variable byte Frame.
+   */
+  public static final int MAXIMUM_VARIABLE_BYTE_LENGTH = 0xFF;
+
+  /**
+   * The maximum length of a variable short Frame.
+   */
+  public static final int MAXIMUM_VARIABLE_SHORT_LENGTH = 0xFFFF;
+
   /**
    * The opcode of the Frame.
    */
@@ -35,6 +45,12 @@ public final class FrameMetadata {
    */
   private final int length;
 
+  /**
+   * The maximum length of the Frame, which for variable length Frames may be less than their
+   * length prefix allows.
+   */
+  private final int maximumLength;
+
   /**
    * Constructs a new {@link FrameMetadata}.
    *
@@ -43,12 +59,49 @@ public final class FrameMetadata {
    * FrameMetadata#VARIABLE_SHORT_LENGTH}.
    */
   public FrameMetadata(int opcode, int length) {
+    this(opcode, length, getMaximumLength(length));
+  }
+
+  /**
+   * Constructs a new {@link FrameMetadata}.
+   *
+   * @param opcode The identifier. Must be greater than zero and less than {@link FrameMetadata#MAXIMUM_OPCODE},
+   * @param length The length of the Frame. Must be either greater than or equal to zero or one of: {@link FrameMetadata#VARIABLE_BYTE_LENGTH} or {@link
+   * FrameMetadata#VARIABLE_SHORT_LENGTH}.
+   * @param maximumLength The maximum length of the Frame. Must equal the length of a fixed length Frame, or be within what the length prefix of a variable length Frame
+   * allows.
+   */
+  public FrameMetadata(int opcode, int length, int maximumLength) {
     Assertions.checkWithin(0, MAXIMUM_OPCODE, opcode, "Invalid opcode: " + opcode);
     if (length < 0) {
       Preconditions.checkArgument(length == VARIABLE_BYTE_LENGTH || length == VARIABLE_SHORT_LENGTH, "Invalid length: " + length);
     }
+    Preconditions.checkArgument(maximumLength >= 0 && maximumLength <= getMaximumLength(length),
+        "Invalid maximum length: " + maximumLength + " for length: " + length);
+    Preconditions.checkArgument(length < 0 || maximumLength == length,
+        "Maximum length of a fixed length frame must equal its length.");
     this.opcode = opcode;
     this.length = length;
+    this.maximumLength = maximumLength;
+  }
+
+  /**
+   * Gets the largest maximum length allowed for the specified length.
+   *
+   * @param length The length of the Frame.
+   * @return The largest maximum length.
+   */
+  private static int getMaximumLength(int length) {
+    switch (length) {
+      case VARIABLE_BYTE_LENGTH:
+        return MAXIMUM_VARIABLE_BYTE_LENGTH;
+
+      case VARIABLE_SHORT_LENGTH:
+        return MAXIMUM_VARIABLE_SHORT_LENGTH;
+
+      default:
+        return length;
+    }
   }
 
   /**
@@ -69,6 +122,15 @@ public final class FrameMetadata {
     return length;
   }
 
+  /**
+   * Gets the maximum length of this Frame.
+   *
+   * @return The maximum length of this Frame.
+   */
+  public int getMaximumLength() {
+    return maximumLength;
+  }
+
   /**
    * Tests whether or not the represented Frame has a variable length.
    *
@@ -83,19 +145,21 @@ public final class FrameMetadata {
     return MoreObjects.toStringHelper(this)
         .add("opcode", opcode)
         .add("length", length)
+        .add("maximumLength", maximumLength)
         .toString();
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(opcode, length);
+    return Objects.hash(opcode, length, maximumLength);
   }
 
   @Override
   public boolean equals(Object obj) {
     if (obj instanceof FrameMetadata) {
       FrameMetadata other = (FrameMetadata) obj;
-      return other.opcode == opcode && other.length == length;
+      return other.opcode == opcode && other.length == length
+          && other.maximumLength == maximumLength;
     }
 
     return false;
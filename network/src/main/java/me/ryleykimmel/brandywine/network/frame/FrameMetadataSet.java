@@ -2,6 +2,7 @@ package me.ryleykimmel.brandywine.network.frame;
 
 import com.google.common.base.Preconditions;
 import io.netty.buffer.ByteBufAllocator;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -9,21 +10,65 @@ import me.ryleykimmel.brandywine.network.Session;
 import me.ryleykimmel.brandywine.network.message.Message;
 import me.ryleykimmel.brandywine.network.message.MessageCodec;
 import me.ryleykimmel.brandywine.network.message.MessageListener;
+import me.ryleykimmel.brandywine.network.stats.MessageStatistics;
 
 /**
  * A collection of FrameMetadata for upstream and downstream Frames.
+ * <p>
+ * Frames are dispatched by opcode through a flat table, and Messages by type through a
+ * {@link ClassValue} which caches the mapping of each type on the class itself. Neither lookup
+ * boxes or allocates. A Message type registered under several opcodes is decoded by the mapping
+ * of each opcode, and encoded and handled by the mapping registered last.
+ * </p>
  */
 public final class FrameMetadataSet {
 
   /**
-   * A mapping of Message types to Frames.
+   * The amount of distinct opcodes.
    */
-  private final Map<Class<? extends Message>, FrameMapping<? extends Message>> framesByType = new HashMap<>();
+  private static final int OPCODES = 256;
+
+  /**
+   * A mapping of Message types to Frames, as registered.
+   */
+  private final Map<Class<?>, FrameMapping<?>> registeredTypes = new HashMap<>();
+
+  /**
+   * A mapping of Message types to Frames, cached per type from {@link #registeredTypes}.
+   */
+  private final ClassValue<FrameMapping<?>> framesByType = new ClassValue<FrameMapping<?>>() {
+    @Override
+    protected FrameMapping<?> computeValue(Class<?> type) {
+      return registeredTypes.get(type);
+    }
+  };
 
   /**
    * A mapping of opcodes to Frames.
    */
-  private final Map<Integer, FrameMapping<? extends Message>> framesByOpcode = new HashMap<>();
+  private final FrameMapping<?>[] framesByOpcode = new FrameMapping<?>[OPCODES];
+
+  /**
+   * The maximum amount of queued Messages of each opcode, unlimited unless specified.
+   */
+  private final int[] queueLimits = new int[OPCODES];
+
+  /**
+   * Whether or not only the latest queued Message of each opcode is kept.
+   */
+  private final boolean[] latestOnly = new boolean[OPCODES];
+
+  /**
+   * The statistics of every Message decoded, encoded and handled by this set.
+   */
+  private final MessageStatistics statistics = new MessageStatistics();
+
+  /**
+   * Constructs a new {@link FrameMetadataSet}.
+   */
+  public FrameMetadataSet() {
+    Arrays.fill(queueLimits, Integer.MAX_VALUE);
+  }
 
   /**
    * Delegate for {@link FrameMetadataSet#register(FrameMapping)}.
@@ -43,6 +88,26 @@ public final class FrameMetadataSet {
     register(FrameMapping.create(message, codec, listener, opcode, length));
   }
 
+  /**
+   * Delegate for {@link FrameMetadataSet#register(FrameMapping)}.
+   *
+   * @param message The MessageCodec this FrameMapping is mapped to.
+   * @param codec The Message class this FrameMapping is mapped to.
+   * @param listener The MessageListener this FrameMapping is mapped to.
+   * @param opcode The opcode of the Frame.
+   * @param length The length, in bytes, of the Frame.
+   * @param maximumLength The maximum length, in bytes, of the Frame.
+   * @param <T> The Message type.
+   */
+  public <T extends Message> void register(Class<T> message,
+      MessageCodec<T> codec,
+      MessageListener<T> listener,
+      int opcode,
+      int length,
+      int maximumLength) {
+    register(FrameMapping.create(message, codec, listener, opcode, length, maximumLength));
+  }
+
   /**
    * Delegate for {@link FrameMetadataSet#register(FrameMapping)}.
    *
@@ -66,9 +131,57 @@ public final class FrameMetadataSet {
    */
   public <T extends Message> void register(FrameMapping<T> mapping) {
     Preconditions.checkNotNull(mapping, "FrameMapping may not be null.");
-    FrameMetadata metadata = mapping.getMetadata();
-    framesByType.put(mapping.getMessageClass(), mapping);
-    framesByOpcode.put(metadata.getOpcode(), mapping);
+    int opcode = mapping.getMetadata().getOpcode();
+    Preconditions.checkArgument(opcode >= 0 && opcode < OPCODES, "Opcode out of range: " + opcode);
+
+    registeredTypes.put(mapping.getMessageClass(), mapping);
+    framesByType.remove(mapping.getMessageClass());
+    framesByOpcode[opcode] = mapping;
+  }
+
+  /**
+   * Limits the amount of queued Messages of the specified type within a single Session. Message
+   * types registered under several opcodes share one limit.
+   *
+   * @param message The Message type, must already be registered.
+   * @param limit The maximum amount of queued Messages of the type.
+   * @param <T> The Message type.
+   */
+  public <T extends Message> void setQueueLimit(Class<T> message, int limit) {
+    Preconditions.checkArgument(limit > 0, "Queue limit must be positive.");
+    queueLimits[getMetadata(message).getOpcode()] = limit;
+  }
+
+  /**
+   * Gets the maximum amount of queued Messages of the specified opcode within a single Session.
+   *
+   * @param opcode The opcode.
+   * @return The queue limit of the opcode, {@link Integer#MAX_VALUE} if unlimited.
+   */
+  public int getQueueLimit(int opcode) {
+    return queueLimits[opcode];
+  }
+
+  /**
+   * Keeps only the latest queued Message of the specified type within a single Session, so a newer
+   * Message replaces a queued one rather than being dropped. Message types registered under several
+   * opcodes share one queued Message.
+   *
+   * @param message The Message type, must already be registered.
+   * @param <T> The Message type.
+   */
+  public <T extends Message> void setLatestOnly(Class<T> message) {
+    latestOnly[getMetadata(message).getOpcode()] = true;
+  }
+
+  /**
+   * Tests whether or not only the latest queued Message of the specified opcode is kept.
+   *
+   * @param opcode The opcode.
+   * @return {@code true} if a newer Message replaces a queued one, otherwise {@code false}.
+   */
+  public boolean isLatestOnly(int opcode) {
+    return latestOnly[opcode];
   }
 
   /**
@@ -77,12 +190,19 @@ public final class FrameMetadataSet {
    * @param frame The Frame to decode.
    * @return The decoded Message, never {@code null}.
    */
-  @SuppressWarnings("unchecked")
   public <T extends Message> T decode(Frame frame) {
-    MessageCodec<T> codec = (MessageCodec<T>) getMapping(frame.getOpcode()).map(FrameMapping::getCodec).orElseThrow(
-        () -> new NullPointerException("No FrameMapping found for opcode: " + frame.getOpcode()));
+    FrameMapping<T> mapping = lookup(frame.getOpcode());
+    if (mapping == null) {
+      throw new NullPointerException("No FrameMapping found for opcode: " + frame.getOpcode());
+    }
+    MessageCodec<T> codec = mapping.getCodec();
     FrameReader reader = new FrameReader(frame);
-    return codec.decode(reader);
+
+    long start = System.nanoTime();
+    T message = codec.decode(reader);
+    statistics.decoded(frame.getOpcode(), message.getClass(), frame.getLength(),
+        System.nanoTime() - start);
+    return message;
   }
 
   /**
@@ -92,29 +212,94 @@ public final class FrameMetadataSet {
    * @param allocator The ByteBufAllocator, for allocating ByteBufs.
    * @return The encoded Message, as a Frame. Never {@code null}.
    */
-  @SuppressWarnings("unchecked")
   public <T extends Message> Frame encode(T message, ByteBufAllocator allocator) {
-    FrameMapping<T> mapping = (FrameMapping<T>) getMapping(message.getClass()).orElseThrow(
-        () -> new NullPointerException("No FrameMapping found for message: " + message.getClass().getSimpleName()));
+    FrameMapping<T> mapping = lookupEncoder(message);
     FrameMetadata metadata = mapping.getMetadata();
     FrameBuilder builder = new FrameBuilder(metadata, allocator);
+
+    long start = System.nanoTime();
     mapping.getCodec().encode(message, builder);
+    statistics.encoded(metadata.getOpcode(), message.getClass(), builder.getLength(),
+        System.nanoTime() - start);
     return builder.build();
   }
 
+  /**
+   * Encodes the specified Message into the specified FrameBuilder.
+   *
+   * @param message The Message to encode.
+   * @param builder The FrameBuilder to encode the Message into.
+   */
+  public <T extends Message> void encode(T message, FrameBuilder builder) {
+    FrameMapping<T> mapping = lookupEncoder(message);
+
+    long start = System.nanoTime();
+    mapping.getCodec().encode(message, builder);
+    statistics.encoded(mapping.getMetadata().getOpcode(), message.getClass(), builder.getLength(),
+        System.nanoTime() - start);
+  }
+
   /**
    * Handles a decoded Message.
    *
    * @param message The decoded Message.
    * @param session The Session that received the Message.
    */
-  @SuppressWarnings("unchecked")
   public <T extends Message> void handle(T message, Session session) {
-    FrameMapping<T> mapping = (FrameMapping<T>) getMapping(message.getClass()).orElse(null);
-    if (mapping == null) {
+    FrameMapping<T> mapping = lookup(message.getClass());
+    if (mapping == null || mapping.listener() == null) {
       return;
     }
-    mapping.getListener().ifPresent(listener -> listener.handle(session, message));
+
+    long start = System.nanoTime();
+    mapping.listener().handle(session, message);
+    statistics.handled(message.getClass(), System.nanoTime() - start);
+  }
+
+  /**
+   * Looks up the FrameMapping to encode the specified Message with.
+   *
+   * @param message The Message to encode.
+   * @return The FrameMapping of the Message, never {@code null}.
+   * @throws NullPointerException If the Message type has no FrameMapping.
+   */
+  private <T extends Message> FrameMapping<T> lookupEncoder(T message) {
+    FrameMapping<T> mapping = lookup(message.getClass());
+    if (mapping == null) {
+      throw new NullPointerException("No FrameMapping found for message: " + message.getClass().getSimpleName());
+    }
+    return mapping;
+  }
+
+  /**
+   * Looks up the FrameMapping for a Message type, without allocating.
+   *
+   * @param type The Message type.
+   * @return The FrameMapping for the specified type, or {@code null} if there is none.
+   */
+  @SuppressWarnings("unchecked")
+  private <T extends Message> FrameMapping<T> lookup(Class<?> type) {
+    return (FrameMapping<T>) framesByType.get(type);
+  }
+
+  /**
+   * Looks up the FrameMapping for an opcode, without allocating.
+   *
+   * @param opcode The opcode.
+   * @return The FrameMapping for the specified opcode, or {@code null} if there is none.
+   */
+  @SuppressWarnings("unchecked")
+  private <T extends Message> FrameMapping<T> lookup(int opcode) {
+    return opcode >= 0 && opcode < OPCODES ? (FrameMapping<T>) framesByOpcode[opcode] : null;
+  }
+
+  /**
+   * Gets the statistics of every Message decoded, encoded and handled by this set.
+   *
+   * @return The MessageStatistics of this set.
+   */
+  public MessageStatistics getStatistics() {
+    return statistics;
   }
 
   /**
@@ -124,8 +309,11 @@ public final class FrameMetadataSet {
    * @return The FrameMetadata for the specified Message.
    */
   public <T extends Message> FrameMetadata getMetadata(Class<T> clazz) {
-    return getMapping(clazz).orElseThrow(
-        () -> new IllegalArgumentException("Mapping for " + clazz.getSimpleName() + " not found.")).getMetadata();
+    FrameMapping<T> mapping = lookup(clazz);
+    if (mapping == null) {
+      throw new IllegalArgumentException("Mapping for " + clazz.getSimpleName() + " not found.");
+    }
+    return mapping.getMetadata();
   }
 
   /**
@@ -135,8 +323,11 @@ public final class FrameMetadataSet {
    * @return The FrameMetadata for the specified opcode.
    */
   public FrameMetadata getMetadata(int opcode) {
-    return getMapping(opcode).orElseThrow(
-        () -> new IllegalArgumentException("Mapping for " + opcode + " not found.")).getMetadata();
+    FrameMapping<?> mapping = lookup(opcode);
+    if (mapping == null) {
+      throw new IllegalArgumentException("Mapping for " + opcode + " not found.");
+    }
+    return mapping.getMetadata();
   }
 
   /**
@@ -145,9 +336,8 @@ public final class FrameMetadataSet {
    * @param clazz The Message type.
    * @return The FrameMapping for the specified Message.
    */
-  @SuppressWarnings("unchecked")
   public <T extends Message> Optional<FrameMapping<T>> getMapping(Class<T> clazz) {
-    return Optional.ofNullable((FrameMapping<T>) framesByType.get(clazz));
+    return Optional.ofNullable(lookup(clazz));
   }
 
   /**
@@ -156,9 +346,8 @@ public final class FrameMetadataSet {
    * @param opcode The opcode.
    * @return The FrameMapping for the specified opcode.
    */
-  @SuppressWarnings("unchecked")
   public <T extends Message> Optional<FrameMapping<T>> getMapping(int opcode) {
-    return Optional.ofNullable((FrameMapping<T>) framesByOpcode.get(opcode));
+    return Optional.ofNullable(lookup(opcode));
   }
 
   /**
@@ -168,7 +357,7 @@ public final class FrameMetadataSet {
    * @return {@code true} iff the opcode has a FrameMapping.
    */
   public boolean hasMapping(int opcode) {
-    return framesByOpcode.containsKey(opcode);
+    return lookup(opcode) != null;
   }
 
   /**
@@ -178,7 +367,7 @@ public final class FrameMetadataSet {
    * @return {@code true} iff the Message has a FrameMapping.
    */
   public <T extends Message> boolean hasMapping(Class<T> clazz) {
-    return framesByType.containsKey(clazz);
+    return lookup(clazz) != null;
   }
 
 }
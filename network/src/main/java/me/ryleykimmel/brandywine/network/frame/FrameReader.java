@@ -103,13 +103,8 @@ public final class FrameReader extends FrameBuffer {
    */
   public long getSigned(DataType type, DataOrder order, DataTransformation transformation) {
     long longValue = get(type, order, transformation);
-    if (type != DataType.LONG) {
-      int max = (int) (Math.pow(2, type.getBytes() * 8 - 1) - 1);
-      if (longValue > max) {
-        longValue -= (max + 1) * 2;
-      }
-    }
-    return longValue;
+    int shift = Long.SIZE - type.getBytes() * Byte.SIZE;
+    return longValue << shift >> shift;
   }
 
   /**
@@ -243,6 +238,138 @@ public final class FrameReader extends FrameBuffer {
     return longValue;
   }
 
+  /**
+   * Reads a single signed byte if and only if this buffer is in {@link AccessMode#BYTE_ACCESS byte access}.
+   *
+   * @return The read number.
+   */
+  public int getSignedByte() {
+    checkByteAccess();
+    return buffer.readByte();
+  }
+
+  /**
+   * Reads a single unsigned byte if and only if this buffer is in {@link AccessMode#BYTE_ACCESS byte access}.
+   *
+   * @return The read number.
+   */
+  public int getUnsignedByte() {
+    checkByteAccess();
+    return buffer.readUnsignedByte();
+  }
+
+  /**
+   * Reads a single unsigned byte with the {@link DataTransformation#ADD add} DataTransformation if and only if this buffer is in {@link AccessMode#BYTE_ACCESS byte access}.
+   *
+   * @return The read number.
+   */
+  public int getUnsignedByteAdd() {
+    checkByteAccess();
+    return buffer.readByte() - 128 & 0xFF;
+  }
+
+  /**
+   * Reads a single unsigned byte with the {@link DataTransformation#NEGATE negate} DataTransformation if and only if this buffer is in {@link AccessMode#BYTE_ACCESS byte access}.
+   *
+   * @return The read number.
+   */
+  public int getUnsignedByteNegate() {
+    checkByteAccess();
+    return -buffer.readByte() & 0xFF;
+  }
+
+  /**
+   * Reads a single unsigned byte with the {@link DataTransformation#SUBTRACT subtract} DataTransformation if and only if this buffer is in {@link AccessMode#BYTE_ACCESS byte access}.
+   *
+   * @return The read number.
+   */
+  public int getUnsignedByteSubtract() {
+    checkByteAccess();
+    return 128 - buffer.readByte() & 0xFF;
+  }
+
+  /**
+   * Reads a single signed short in the {@link DataOrder#BIG big} DataOrder if and only if this buffer is in {@link AccessMode#BYTE_ACCESS byte access}.
+   *
+   * @return The read number.
+   */
+  public int getSignedShort() {
+    checkByteAccess();
+    return buffer.readShort();
+  }
+
+  /**
+   * Reads a single unsigned short in the {@link DataOrder#BIG big} DataOrder if and only if this buffer is in {@link AccessMode#BYTE_ACCESS byte access}.
+   *
+   * @return The read number.
+   */
+  public int getUnsignedShort() {
+    checkByteAccess();
+    return buffer.readUnsignedShort();
+  }
+
+  /**
+   * Reads a single unsigned short in the {@link DataOrder#BIG big} DataOrder with the {@link DataTransformation#ADD add} DataTransformation if and only if this buffer is in {@link AccessMode#BYTE_ACCESS byte access}.
+   *
+   * @return The read number.
+   */
+  public int getUnsignedShortAdd() {
+    checkByteAccess();
+    int high = buffer.readUnsignedByte();
+    return high << 8 | buffer.readByte() - 128 & 0xFF;
+  }
+
+  /**
+   * Reads a single unsigned short in the {@link DataOrder#LITTLE little} DataOrder if and only if this buffer is in {@link AccessMode#BYTE_ACCESS byte access}.
+   *
+   * @return The read number.
+   */
+  public int getUnsignedShortLE() {
+    checkByteAccess();
+    return buffer.readUnsignedShortLE();
+  }
+
+  /**
+   * Reads a single unsigned short in the {@link DataOrder#LITTLE little} DataOrder with the {@link DataTransformation#ADD add} DataTransformation if and only if this buffer is in {@link AccessMode#BYTE_ACCESS byte access}.
+   *
+   * @return The read number.
+   */
+  public int getUnsignedShortLEAdd() {
+    checkByteAccess();
+    int low = buffer.readByte() - 128 & 0xFF;
+    return buffer.readUnsignedByte() << 8 | low;
+  }
+
+  /**
+   * Reads a single int in the {@link DataOrder#BIG big} DataOrder if and only if this buffer is in {@link AccessMode#BYTE_ACCESS byte access}.
+   *
+   * @return The read number.
+   */
+  public int getInt() {
+    checkByteAccess();
+    return buffer.readInt();
+  }
+
+  /**
+   * Reads a single int in the {@link DataOrder#LITTLE little} DataOrder if and only if this buffer is in {@link AccessMode#BYTE_ACCESS byte access}.
+   *
+   * @return The read number.
+   */
+  public int getIntLE() {
+    checkByteAccess();
+    return buffer.readIntLE();
+  }
+
+  /**
+   * Reads a single long in the {@link DataOrder#BIG big} DataOrder if and only if this buffer is in {@link AccessMode#BYTE_ACCESS byte access}.
+   *
+   * @return The read number.
+   */
+  public long getLong() {
+    checkByteAccess();
+    return buffer.readLong();
+  }
+
   /**
    * Reads the specified amount of bits if and only if this buffer is in {@link AccessMode#BIT_ACCESS bit access}.
    *
@@ -295,7 +422,7 @@ public final class FrameReader extends FrameBuffer {
     byte[] bytes = new byte[length];
 
     for (int i = 0; i < length && buffer.isReadable(); i++) {
-      bytes[i] = (byte) getSigned(DataType.BYTE, transformation);
+      bytes[i] = (byte) getByte(transformation);
     }
 
     return bytes;
@@ -324,12 +451,34 @@ public final class FrameReader extends FrameBuffer {
     byte[] bytes = new byte[length];
 
     for (int i = length - 1; i >= 0 && buffer.isReadable(); i--) {
-      bytes[i] = (byte) getSigned(DataType.BYTE, transformation);
+      bytes[i] = (byte) getByte(transformation);
     }
 
     return bytes;
   }
 
+  /**
+   * Reads a single byte and reverses the specified DataTransformation.
+   *
+   * @param transformation The DataTransformation to reverse.
+   * @return The read byte.
+   */
+  private int getByte(DataTransformation transformation) {
+    switch (transformation) {
+      case ADD:
+        return getUnsignedByteAdd();
+
+      case SUBTRACT:
+        return getUnsignedByteSubtract();
+
+      case NEGATE:
+        return getUnsignedByteNegate();
+
+      default:
+        return getSignedByte();
+    }
+  }
+
   /**
    * Gets the amount of remaining readable bytes.
    *
@@ -2,73 +2,297 @@ package me.ryleykimmel.brandywine.network.frame.codec;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.concurrent.PromiseNotifier;
+import java.util.ArrayList;
 import java.util.List;
 import me.ryleykimmel.brandywine.network.Session;
 import me.ryleykimmel.brandywine.network.frame.Frame;
+import me.ryleykimmel.brandywine.network.frame.FrameBuilder;
 import me.ryleykimmel.brandywine.network.frame.FrameMetadata;
 import me.ryleykimmel.brandywine.network.frame.FrameMetadataSet;
-import me.ryleykimmel.brandywine.network.isaac.IsaacRandom;
-import me.ryleykimmel.brandywine.network.isaac.IsaacRandomPair;
+import me.ryleykimmel.brandywine.network.isaac.IsaacCipher;
+import me.ryleykimmel.brandywine.network.isaac.IsaacCipherPair;
+import me.ryleykimmel.brandywine.network.message.Message;
 
 /**
  * A ciphered codec for encoding and decoding Frames.
+ * <p>
+ * Outgoing Frames, and Messages passed on by a {@link FrameMessageCodec coalescing
+ * FrameMessageCodec}, are held until the Channel is flushed. The whole batch is then ciphered
+ * with a single bulk read of the keystream and encoded into one ByteBuf, Messages being encoded
+ * in place with their lengths set once known.
+ * </p>
+ * <p>
+ * Opcodes are only ciphered once the whole batch is encoded, so a Frame or Message which fails to
+ * encode fails only its own promise and consumes no key, keeping the keystream in step with the
+ * client for the rest of the batch.
+ * </p>
  */
 public final class CipheredFrameCodec extends FrameCodec {
 
   /**
    * The Isaac cipher pair.
    */
-  private final IsaacRandomPair randomPair;
+  private final IsaacCipherPair cipherPair;
+
+  /**
+   * The Frames and Messages written since the last flush.
+   */
+  private final List<Object> pending = new ArrayList<>();
+
+  /**
+   * The promises of the Frames and Messages written since the last flush, in the same order.
+   */
+  private final List<ChannelPromise> pendingPromises = new ArrayList<>();
+
+  /**
+   * The keystream for the encoded Frames and Messages, grown as needed.
+   */
+  private int[] keys = new int[IsaacCipher.SIZE];
+
+  /**
+   * The indices of the opcodes of the encoded Frames and Messages, grown along with the keys.
+   */
+  private int[] opcodeIndices = new int[IsaacCipher.SIZE];
+
+  /**
+   * The amount of bytes encoded by the last flush, used to size the ByteBuf of the next flush.
+   */
+  private int lastFlushSize;
 
   /**
    * Constructs a new {@link CipheredFrameCodec}.
    *
    * @param session The Session for this CipheredFrameCodec.
-   * @param randomPair The Isaac cipher pair.
+   * @param cipherPair The Isaac cipher pair.
    */
-  public CipheredFrameCodec(Session session, IsaacRandomPair randomPair) {
+  public CipheredFrameCodec(Session session, IsaacCipherPair cipherPair) {
     super(session);
-    this.randomPair = randomPair;
+    this.cipherPair = cipherPair;
   }
 
   @Override
-  protected void encode(ChannelHandlerContext ctx, Frame frame, ByteBuf buffer) {
+  public void write(ChannelHandlerContext ctx, Object message, ChannelPromise promise)
+      throws Exception {
+    if (!(message instanceof Frame) && !(message instanceof Message)) {
+      super.write(ctx, message, promise);
+      return;
+    }
+
     if (session.isClosed()) {
+      ReferenceCountUtil.release(message);
+      promise.trySuccess();
       return;
     }
 
-    IsaacRandom random = randomPair.getEncodingRandom();
-    FrameMetadataSet metadataSet = session.getFrameMetadataSet();
-    FrameMetadata metadata = metadataSet.getMetadata(frame.getOpcode());
+    pending.add(message);
+    pendingPromises.add(promise);
+  }
 
-    buffer.writeByte(frame.getOpcode() + random.nextInt() & 0xFF);
+  @Override
+  public void flush(ChannelHandlerContext ctx) {
+    int count = pending.size();
+    if (count == 0) {
+      ctx.flush();
+      return;
+    }
 
-    if (metadata.hasVariableLength()) {
-      int length = metadata.getLength(), actual = frame.getLength();
+    FrameMetadataSet metadataSet = session.getFrameMetadataSet();
+    if (keys.length < count) {
+      keys = new int[Math.max(count, keys.length << 1)];
+      opcodeIndices = new int[keys.length];
+    }
 
-      switch (length) {
-        case FrameMetadata.VARIABLE_BYTE_LENGTH:
-          buffer.writeByte(actual);
-          break;
+    int capacity = 0;
+    for (int index = 0; index < count; index++) {
+      Object message = pending.get(index);
+      if (message instanceof Frame) {
+        Frame frame = (Frame) message;
+        capacity += Byte.BYTES + getLengthBytes(frame.getMetadata()) + frame.getLength();
+      }
+    }
 
-        case FrameMetadata.VARIABLE_SHORT_LENGTH:
-          buffer.writeShort(actual);
-          break;
+    ByteBuf buffer = ctx.alloc().ioBuffer(Math.max(capacity, lastFlushSize));
+    int encoded = 0;
+    int kept = 0;
+    try {
+      for (int index = 0; index < count; index++) {
+        Object message = pending.get(index);
+        ChannelPromise messagePromise = pendingPromises.get(index);
+        int opcodeIndex = buffer.writerIndex();
+        try {
+          if (message instanceof Frame) {
+            encode((Frame) message, 0, buffer);
+          } else {
+            encode((Message) message, 0, metadataSet, buffer);
+          }
+        } catch (Exception cause) {
+          buffer.writerIndex(opcodeIndex);
+          messagePromise.tryFailure(cause);
+          continue;
+        }
 
-        default:
-          throw new UnsupportedOperationException(length + " is not a supported variable length.");
+        opcodeIndices[encoded++] = opcodeIndex;
+        if (!messagePromise.isVoid()) {
+          pendingPromises.set(kept++, messagePromise);
+        }
       }
+    } catch (Throwable cause) {
+      buffer.release();
+      failPending(cause);
+      throw cause;
+    }
+    releasePending();
+
+    // Only the encoded Frames and Messages take a key, so failures leave the keystream in step.
+    cipherPair.getEncodingCipher().fill(keys, 0, encoded);
+    for (int index = 0; index < encoded; index++) {
+      int opcodeIndex = opcodeIndices[index];
+      buffer.setByte(opcodeIndex, buffer.getByte(opcodeIndex) + keys[index]);
+    }
+    lastFlushSize = buffer.readableBytes();
+
+    ChannelPromise promise = ctx.voidPromise();
+    if (kept > 0) {
+      promise = ctx.newPromise();
+      promise.addListener(new PromiseNotifier<>(
+          pendingPromises.subList(0, kept).toArray(new ChannelPromise[0])));
     }
+    pendingPromises.clear();
 
-    buffer.writeBytes(frame.content());
+    ctx.write(buffer, promise);
+    ctx.flush();
+  }
+
+  @Override
+  public void handlerRemoved(ChannelHandlerContext ctx) throws Exception {
+    failPending(new IllegalStateException("CipheredFrameCodec removed before flushing."));
+    super.handlerRemoved(ctx);
+  }
+
+  /**
+   * Encodes the specified Frame, ciphering its opcode with the specified key.
+   *
+   * @param frame The Frame to encode.
+   * @param key The key of the opcode.
+   * @param buffer The ByteBuf to encode into.
+   */
+  private static void encode(Frame frame, int key, ByteBuf buffer) {
+    FrameMetadata metadata = frame.getMetadata();
+    int lengthIndex = writeHeader(metadata, key, buffer);
+
+    ByteBuf content = frame.content();
+    buffer.writeBytes(content, content.readerIndex(), content.readableBytes());
+
+    setLength(metadata, lengthIndex, frame.getLength(), buffer);
+  }
+
+  /**
+   * Encodes the specified Message directly into the specified ByteBuf, ciphering its opcode with
+   * the specified key.
+   *
+   * @param message The Message to encode.
+   * @param key The key of the opcode.
+   * @param metadataSet The FrameMetadataSet of the Session.
+   * @param buffer The ByteBuf to encode into.
+   */
+  private static void encode(Message message, int key, FrameMetadataSet metadataSet,
+      ByteBuf buffer) {
+    FrameMetadata metadata = metadataSet.getMetadata(message.getClass());
+    int lengthIndex = writeHeader(metadata, key, buffer);
+
+    FrameBuilder builder = new FrameBuilder(metadata, buffer);
+    metadataSet.encode(message, builder);
+
+    setLength(metadata, lengthIndex, builder.getLength(), buffer);
+  }
+
+  /**
+   * Writes the ciphered opcode of a Frame, and reserves space for its length if it is variable.
+   *
+   * @param metadata The FrameMetadata of the Frame.
+   * @param key The key of the opcode.
+   * @param buffer The ByteBuf to write to.
+   * @return The index of the reserved length.
+   */
+  private static int writeHeader(FrameMetadata metadata, int key, ByteBuf buffer) {
+    buffer.writeByte(metadata.getOpcode() + key & 0xFF);
+
+    int lengthIndex = buffer.writerIndex();
+    buffer.writeZero(getLengthBytes(metadata));
+    return lengthIndex;
+  }
+
+  /**
+   * Sets the reserved length of a Frame, if it is variable.
+   *
+   * @param metadata The FrameMetadata of the Frame.
+   * @param index The index of the reserved length.
+   * @param actual The actual length of the Frame.
+   * @param buffer The ByteBuf to set the length within.
+   */
+  private static void setLength(FrameMetadata metadata, int index, int actual, ByteBuf buffer) {
+    if (!metadata.hasVariableLength()) {
+      return;
+    }
+
+    int length = metadata.getLength();
+    switch (length) {
+      case FrameMetadata.VARIABLE_BYTE_LENGTH:
+        buffer.setByte(index, actual);
+        break;
+
+      case FrameMetadata.VARIABLE_SHORT_LENGTH:
+        buffer.setShort(index, actual);
+        break;
+
+      default:
+        throw new UnsupportedOperationException(length + " is not a supported variable length.");
+    }
+  }
+
+  /**
+   * Gets the amount of bytes used to encode the length of a Frame.
+   *
+   * @param metadata The FrameMetadata of the Frame.
+   * @return The amount of bytes, {@code 0} if the Frame has a fixed length.
+   */
+  private static int getLengthBytes(FrameMetadata metadata) {
+    return metadata.hasVariableLength() ? -metadata.getLength() : 0;
+  }
+
+  /**
+   * Releases every pending Frame and discards every pending Message.
+   */
+  private void releasePending() {
+    for (Object message : pending) {
+      ReferenceCountUtil.release(message);
+    }
+    pending.clear();
+  }
+
+  /**
+   * Releases every pending Frame and Message and fails every pending promise with the specified
+   * cause.
+   *
+   * @param cause The cause of the failure.
+   */
+  private void failPending(Throwable cause) {
+    releasePending();
+    for (ChannelPromise promise : pendingPromises) {
+      promise.tryFailure(cause);
+    }
+    pendingPromises.clear();
   }
 
   @Override
   protected void decodeOpcode(ByteBuf buffer, List<Object> out) {
-    IsaacRandom random = randomPair.getDecodingRandom();
+    IsaacCipher cipher = cipherPair.getDecodingCipher();
     FrameMetadataSet metadataSet = session.getFrameMetadataSet();
 
-    int opcode = buffer.readUnsignedByte() - random.nextInt() & 0xFF;
+    int opcode = buffer.readUnsignedByte() - cipher.nextInt() & 0xFF;
 
     if (!metadataSet.hasMapping(opcode)) {
       logger.error("Frame opcode {} does not exist, closing session...", opcode);
@@ -90,30 +314,36 @@ public final class CipheredFrameCodec extends FrameCodec {
 
   @Override
   protected void decodeLength(ByteBuf buffer, List<Object> out) {
-    int expected = Math.abs(metadata.getLength());
+    int expected = -metadata.getLength();
     if (!buffer.isReadable(expected)) {
-      logger.error("Not enough bytes available to read frame {}'s length, closing session...", metadata);
-      session.close();
       return;
     }
 
-    payloadLength = 0;
-    for (int i = 0; i < expected; i++) {
-      payloadLength |= buffer.readUnsignedByte() << 8 * (expected - 1 - i);
+    payloadLength = metadata.getLength() == FrameMetadata.VARIABLE_BYTE_LENGTH
+        ? buffer.readUnsignedByte() : buffer.readUnsignedShort();
+
+    if (payloadLength > metadata.getMaximumLength()) {
+      logger.error("Frame {} length {} exceeds its maximum, closing session...", metadata,
+          payloadLength);
+      session.close();
+      return;
     }
 
-    checkpoint(State.DECODE_PAYLOAD);
+    if (payloadLength == 0) {
+      out.add(new Frame(metadata));
+      checkpoint(State.DECODE_OPCODE);
+    } else {
+      checkpoint(State.DECODE_PAYLOAD);
+    }
   }
 
   @Override
   protected void decodePayload(ByteBuf buffer, List<Object> out) {
     if (!buffer.isReadable(payloadLength)) {
-      logger.error("Not enough bytes available to decode frame {}'s payload, closing session...", metadata);
-      session.close();
       return;
     }
 
-    out.add(new Frame(metadata, buffer.readBytes(payloadLength)));
+    out.add(new Frame(metadata, buffer.readRetainedSlice(payloadLength)));
     checkpoint(State.DECODE_OPCODE);
   }
 
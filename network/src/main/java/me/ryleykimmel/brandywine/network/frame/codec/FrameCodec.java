@@ -62,6 +62,7 @@ public class FrameCodec extends ByteToMessageCodec<Frame> {
   @Override
   protected void decode(ChannelHandlerContext ctx, ByteBuf buffer, List<Object> out) {
     if (session.isClosed()) {
+      buffer.skipBytes(buffer.readableBytes());
       return;
     }
 
@@ -82,13 +83,17 @@ public class FrameCodec extends ByteToMessageCodec<Frame> {
 
   /**
    * Decodes the opcode of some Frame.
+   * <p>
+   * Each decode method returns without reading anything while the bytes it needs have not yet
+   * arrived, and is called again once more bytes are received.
+   * </p>
    *
    * @param buffer The Buffer to decode from.
    * @param out The List which decoded Frames are to be added.
    */
   protected void decodeOpcode(ByteBuf buffer, List<Object> out) {
     int opcode = buffer.readUnsignedByte();
-    out.add(new Frame(session.getFrameMetadataSet().getMetadata(opcode), buffer.readBytes(buffer.readableBytes())));
+    out.add(new Frame(session.getFrameMetadataSet().getMetadata(opcode), buffer.readRetainedSlice(buffer.readableBytes())));
   }
 
   /**
@@ -1,8 +1,5 @@
 package me.ryleykimmel.brandywine.network.frame.codec;
 
-import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufAllocator;
-import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.MessageToMessageCodec;
 import java.util.List;
@@ -22,9 +19,9 @@ public final class FrameMessageCodec extends MessageToMessageCodec<Frame, Messag
   protected final Session session;
 
   /**
-   * A {@link PooledByteBufAllocator} responsible for allocating {@link ByteBuf buffers}.
+   * Whether or not outgoing Messages are passed on unencoded, to be coalesced by a later handler.
    */
-  private final ByteBufAllocator allocator = new PooledByteBufAllocator();
+  private final boolean coalescing;
 
   /**
    * Constructs a new {@link FrameMessageCodec}.
@@ -32,7 +29,25 @@ public final class FrameMessageCodec extends MessageToMessageCodec<Frame, Messag
    * @param session The Session for this FrameMessageCodec.
    */
   public FrameMessageCodec(Session session) {
+    this(session, false);
+  }
+
+  /**
+   * Constructs a new {@link FrameMessageCodec}.
+   *
+   * @param session The Session for this FrameMessageCodec.
+   * @param coalescing Whether or not outgoing Messages are passed on unencoded, so that a later
+   * handler such as the {@link CipheredFrameCodec} may encode every Message written between two
+   * flushes into a single ByteBuf.
+   */
+  public FrameMessageCodec(Session session, boolean coalescing) {
     this.session = session;
+    this.coalescing = coalescing;
+  }
+
+  @Override
+  public boolean acceptOutboundMessage(Object message) throws Exception {
+    return !coalescing && super.acceptOutboundMessage(message);
   }
 
   @Override
@@ -42,7 +57,7 @@ public final class FrameMessageCodec extends MessageToMessageCodec<Frame, Messag
     }
 
     FrameMetadataSet metadata = session.getFrameMetadataSet();
-    out.add(metadata.encode(message, allocator));
+    out.add(metadata.encode(message, ctx.alloc()));
   }
 
   @Override
@@ -0,0 +1,66 @@
+package me.ryleykimmel.brandywine.network.isaac;
+
+import java.util.Arrays;
+
+/**
+ * A pair of two {@link IsaacCipher} keystream generators used as a stream cipher. One takes the role of an encoder for this endpoint, the other takes the role of a decoder for
+ * this endpoint.
+ */
+public final class IsaacCipherPair {
+
+  /**
+   * The IsaacCipher used to decode data.
+   */
+  private final IsaacCipher decodingCipher;
+
+  /**
+   * The IsaacCipher used to encode data.
+   */
+  private final IsaacCipher encodingCipher;
+
+  /**
+   * Constructs a new {@link IsaacCipherPair} with the specified encoding and decoding cipher.
+   *
+   * @param encodingCipher The IsaacCipher used for encoding.
+   * @param decodingCipher The IsaacCipher used for decoding.
+   */
+  private IsaacCipherPair(IsaacCipher encodingCipher, IsaacCipher decodingCipher) {
+    this.encodingCipher = encodingCipher;
+    this.decodingCipher = decodingCipher;
+  }
+
+  /**
+   * Constructs a new IsaacCipherPair from the specified seed.
+   *
+   * @param seed The seed to construct the IsaacCipherPair from.
+   * @return A new IsaacCipherPair, never {@code null}.
+   */
+  public static IsaacCipherPair fromSeed(int[] seed) {
+    int[] copy = seed.clone();
+
+    IsaacCipher decodingCipher = new IsaacCipher(copy);
+    Arrays.setAll(copy, index -> copy[index] += 50);
+    IsaacCipher encodingCipher = new IsaacCipher(copy);
+
+    return new IsaacCipherPair(encodingCipher, decodingCipher);
+  }
+
+  /**
+   * Gets the IsaacCipher used for decoding.
+   *
+   * @return The IsaacCipher used for decoding.
+   */
+  public IsaacCipher getDecodingCipher() {
+    return decodingCipher;
+  }
+
+  /**
+   * Gets the IsaacCipher used for encoding.
+   *
+   * @return The IsaacCipher used for encoding.
+   */
+  public IsaacCipher getEncodingCipher() {
+    return encodingCipher;
+  }
+
+}
@@ -4,9 +4,11 @@ import java.lang.annotation.Documented;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import javax.inject.Qualifier;
+import me.ryleykimmel.brandywine.network.frame.FrameMetadataSet;
 
 /**
- * A Qualifier representing a game message implementation of {@link MessageRegistrar}.
+ * A Qualifier representing a game message implementation of {@link MessageRegistrar}, or the
+ * {@link FrameMetadataSet} it builds.
  */
 @Qualifier
 @Retention(RetentionPolicy.RUNTIME)
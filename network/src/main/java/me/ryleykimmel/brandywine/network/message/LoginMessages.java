@@ -3,9 +3,11 @@ package me.ryleykimmel.brandywine.network.message;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import javax.inject.Qualifier;
+import me.ryleykimmel.brandywine.network.frame.FrameMetadataSet;
 
 /**
- * A Qualifier representing a login message implementation of {@link MessageRegistrar}.
+ * A Qualifier representing a login message implementation of {@link MessageRegistrar}, or the
+ * {@link FrameMetadataSet} it builds.
  */
 @Qualifier
 @Retention(RetentionPolicy.RUNTIME)
@@ -0,0 +1,139 @@
+package me.ryleykimmel.brandywine.network.stats;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of latencies in nanoseconds, which may be recorded to by many threads without
+ * contention.
+ * <p>
+ * Latencies are counted in buckets of powers of two, so percentiles are reported as the upper
+ * bound of their bucket: within a factor of two of the true value, which is plenty to tell a
+ * microsecond handler from a millisecond one.
+ * </p>
+ */
+public final class LatencyHistogram {
+
+  /**
+   * The amount of buckets. Bucket {@code n} counts latencies of {@code n} significant bits, so the
+   * last bucket counts every latency of {@code 2^(BUCKETS - 2)} nanoseconds (about 4.6 minutes)
+   * or more.
+   */
+  private static final int BUCKETS = 40;
+
+  /**
+   * The amount of latencies recorded in each bucket.
+   */
+  private final LongAdder[] buckets = new LongAdder[BUCKETS];
+
+  /**
+   * The sum of every recorded latency.
+   */
+  private final LongAdder total = new LongAdder();
+
+  /**
+   * The largest recorded latency.
+   */
+  private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+  /**
+   * Constructs a new {@link LatencyHistogram}.
+   */
+  public LatencyHistogram() {
+    for (int index = 0; index < BUCKETS; index++) {
+      buckets[index] = new LongAdder();
+    }
+  }
+
+  /**
+   * Records a latency.
+   *
+   * @param nanos The latency in nanoseconds.
+   */
+  public void record(long nanos) {
+    long latency = Math.max(0, nanos);
+    int bucket = Math.min(BUCKETS - 1, Long.SIZE - Long.numberOfLeadingZeros(latency));
+    buckets[bucket].increment();
+    total.add(latency);
+    max.accumulate(latency);
+  }
+
+  /**
+   * Gets the amount of recorded latencies.
+   *
+   * @return The amount of recorded latencies.
+   */
+  public long getCount() {
+    long count = 0;
+    for (LongAdder bucket : buckets) {
+      count += bucket.sum();
+    }
+    return count;
+  }
+
+  /**
+   * Gets the sum of every recorded latency.
+   *
+   * @return The total latency in nanoseconds.
+   */
+  public long getTotal() {
+    return total.sum();
+  }
+
+  /**
+   * Gets the mean recorded latency.
+   *
+   * @return The mean latency in nanoseconds, or {@code 0} if none have been recorded.
+   */
+  public long getMean() {
+    long count = getCount();
+    return count == 0 ? 0 : getTotal() / count;
+  }
+
+  /**
+   * Gets the largest recorded latency.
+   *
+   * @return The largest latency in nanoseconds.
+   */
+  public long getMax() {
+    return max.get();
+  }
+
+  /**
+   * Gets the latency which the specified fraction of recorded latencies do not exceed.
+   *
+   * @param percentile The fraction, between {@code 0} and {@code 1}.
+   * @return The upper bound of the bucket containing the percentile in nanoseconds, at most the
+   *     largest recorded latency.
+   */
+  public long getPercentile(double percentile) {
+    long[] counts = new long[BUCKETS];
+    long count = 0;
+    for (int index = 0; index < BUCKETS; index++) {
+      counts[index] = buckets[index].sum();
+      count += counts[index];
+    }
+
+    long rank = (long) Math.ceil(percentile * count);
+    long seen = 0;
+    for (int index = 0; index < BUCKETS; index++) {
+      seen += counts[index];
+      if (seen >= rank && seen > 0) {
+        return Math.min(getMax(), (1L << index) - 1);
+      }
+    }
+    return getMax();
+  }
+
+  /**
+   * Resets this histogram. Latencies recorded concurrently may or may not be kept.
+   */
+  public void reset() {
+    for (LongAdder bucket : buckets) {
+      bucket.reset();
+    }
+    total.reset();
+    max.reset();
+  }
+
+}
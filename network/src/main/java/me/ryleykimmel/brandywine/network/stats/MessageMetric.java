@@ -0,0 +1,154 @@
+package me.ryleykimmel.brandywine.network.stats;
+
+import com.google.common.base.MoreObjects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The counts, bytes and latencies of a single kind of Message operation, such as decoding one
+ * opcode or handling one Message type.
+ */
+public final class MessageMetric {
+
+  /**
+   * The opcode of this metric, or {@code -1} if it is not for a single opcode.
+   */
+  private final int opcode;
+
+  /**
+   * The simple name of the Message type of this metric.
+   */
+  private final String messageType;
+
+  /**
+   * The amount of operations.
+   */
+  private final LongAdder count = new LongAdder();
+
+  /**
+   * The amount of bytes decoded or encoded.
+   */
+  private final LongAdder bytes = new LongAdder();
+
+  /**
+   * The latency of each operation.
+   */
+  private final LatencyHistogram latency = new LatencyHistogram();
+
+  /**
+   * Constructs a new {@link MessageMetric}.
+   *
+   * @param opcode The opcode of this metric, or {@code -1} if it is not for a single opcode.
+   * @param messageType The simple name of the Message type of this metric.
+   */
+  MessageMetric(int opcode, String messageType) {
+    this.opcode = opcode;
+    this.messageType = messageType;
+  }
+
+  /**
+   * Records a single operation.
+   *
+   * @param length The amount of bytes decoded or encoded.
+   * @param nanos The latency of the operation in nanoseconds.
+   */
+  void record(int length, long nanos) {
+    count.increment();
+    bytes.add(length);
+    latency.record(nanos);
+  }
+
+  /**
+   * Resets this metric.
+   */
+  void reset() {
+    count.reset();
+    bytes.reset();
+    latency.reset();
+  }
+
+  /**
+   * Gets the opcode of this metric.
+   *
+   * @return The opcode, or {@code -1} if this metric is not for a single opcode.
+   */
+  public int getOpcode() {
+    return opcode;
+  }
+
+  /**
+   * Gets the simple name of the Message type of this metric.
+   *
+   * @return The Message type.
+   */
+  public String getMessageType() {
+    return messageType;
+  }
+
+  /**
+   * Gets the amount of operations.
+   *
+   * @return The amount of operations.
+   */
+  public long getCount() {
+    return count.sum();
+  }
+
+  /**
+   * Gets the amount of bytes decoded or encoded.
+   *
+   * @return The amount of bytes.
+   */
+  public long getBytes() {
+    return bytes.sum();
+  }
+
+  /**
+   * Gets the total latency of every operation.
+   *
+   * @return The total latency in nanoseconds.
+   */
+  public long getTotalNanos() {
+    return latency.getTotal();
+  }
+
+  /**
+   * Gets the mean latency of an operation.
+   *
+   * @return The mean latency in nanoseconds.
+   */
+  public long getMeanNanos() {
+    return latency.getMean();
+  }
+
+  /**
+   * Gets the 99th percentile latency of an operation.
+   *
+   * @return The 99th percentile latency in nanoseconds.
+   */
+  public long getP99Nanos() {
+    return latency.getPercentile(0.99);
+  }
+
+  /**
+   * Gets the largest latency of an operation.
+   *
+   * @return The largest latency in nanoseconds.
+   */
+  public long getMaxNanos() {
+    return latency.getMax();
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("opcode", opcode)
+        .add("type", messageType)
+        .add("count", getCount())
+        .add("bytes", getBytes())
+        .add("mean_ns", getMeanNanos())
+        .add("p99_ns", getP99Nanos())
+        .add("max_ns", getMaxNanos())
+        .toString();
+  }
+
+}
@@ -0,0 +1,201 @@
+package me.ryleykimmel.brandywine.network.stats;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Records how often, how many bytes and how long the Messages of a FrameMetadataSet take to decode
+ * and encode, per opcode, and to handle, per Message type.
+ * <p>
+ * Every metric is striped so the network and update threads may record concurrently without
+ * contending. Handling which takes longer than the {@link #setSlowHandlerThreshold slow handler
+ * threshold} is logged as it happens.
+ * </p>
+ */
+public final class MessageStatistics implements MessageStatisticsMXBean {
+
+  /**
+   * The amount of distinct opcodes.
+   */
+  private static final int OPCODES = 256;
+
+  /**
+   * The default slow handler threshold, in milliseconds.
+   */
+  private static final long DEFAULT_SLOW_HANDLER_THRESHOLD = 10;
+
+  /**
+   * The Logger for this class.
+   */
+  private static final Logger logger = LogManager.getLogger(MessageStatistics.class);
+
+  /**
+   * The decode metric of each opcode, created when the opcode is first decoded.
+   */
+  private final AtomicReferenceArray<MessageMetric> decoded = new AtomicReferenceArray<>(OPCODES);
+
+  /**
+   * The encode metric of each opcode, created when the opcode is first encoded.
+   */
+  private final AtomicReferenceArray<MessageMetric> encoded = new AtomicReferenceArray<>(OPCODES);
+
+  /**
+   * The handle metric of each Message type, created when the type is first handled.
+   */
+  private final Map<Class<?>, MessageMetric> handled = new ConcurrentHashMap<>();
+
+  /**
+   * The amount of Messages whose handling took longer than the slow handler threshold.
+   */
+  private final LongAdder slowHandled = new LongAdder();
+
+  /**
+   * The slow handler threshold, in nanoseconds.
+   */
+  private volatile long slowHandlerThreshold =
+      TimeUnit.MILLISECONDS.toNanos(DEFAULT_SLOW_HANDLER_THRESHOLD);
+
+  /**
+   * Records a decoded Frame.
+   *
+   * @param opcode The opcode of the Frame.
+   * @param type The type of the decoded Message.
+   * @param length The length of the Frame, in bytes.
+   * @param nanos The time taken to decode the Frame, in nanoseconds.
+   */
+  public void decoded(int opcode, Class<?> type, int length, long nanos) {
+    getMetric(decoded, opcode, type).record(length, nanos);
+  }
+
+  /**
+   * Records an encoded Message.
+   *
+   * @param opcode The opcode of the Message.
+   * @param type The type of the Message.
+   * @param length The length of the encoded Frame, in bytes.
+   * @param nanos The time taken to encode the Message, in nanoseconds.
+   */
+  public void encoded(int opcode, Class<?> type, int length, long nanos) {
+    getMetric(encoded, opcode, type).record(length, nanos);
+  }
+
+  /**
+   * Records a handled Message, logging it if it was slow.
+   *
+   * @param type The type of the Message.
+   * @param nanos The time taken to handle the Message, in nanoseconds.
+   */
+  public void handled(Class<?> type, long nanos) {
+    MessageMetric metric = handled.get(type);
+    if (metric == null) {
+      metric = handled.computeIfAbsent(type, key -> new MessageMetric(-1, key.getSimpleName()));
+    }
+    metric.record(0, nanos);
+
+    if (nanos > slowHandlerThreshold) {
+      slowHandled.increment();
+      logger.warn("Slow handler for {} took {} ms.", type.getSimpleName(),
+          TimeUnit.NANOSECONDS.toMillis(nanos));
+    }
+  }
+
+  /**
+   * Gets the metric of an opcode, creating it if absent.
+   *
+   * @param metrics The metrics, indexed by opcode.
+   * @param opcode The opcode.
+   * @param type The Message type of the opcode.
+   * @return The metric of the opcode, never {@code null}.
+   */
+  private static MessageMetric getMetric(AtomicReferenceArray<MessageMetric> metrics, int opcode,
+      Class<?> type) {
+    MessageMetric metric = metrics.get(opcode);
+    if (metric == null) {
+      metrics.compareAndSet(opcode, null, new MessageMetric(opcode, type.getSimpleName()));
+      metric = metrics.get(opcode);
+    }
+    return metric;
+  }
+
+  /**
+   * Sets the time after which handling a Message is considered slow.
+   *
+   * @param threshold The threshold.
+   * @param unit The unit of the threshold.
+   */
+  public void setSlowHandlerThreshold(long threshold, TimeUnit unit) {
+    slowHandlerThreshold = unit.toNanos(threshold);
+  }
+
+  /**
+   * Registers this MessageStatistics with the platform MBeanServer.
+   *
+   * @param name The name distinguishing this MessageStatistics from others, such as
+   *     {@code "game"}.
+   */
+  public void register(String name) {
+    try {
+      ObjectName objectName =
+          new ObjectName("me.ryleykimmel.brandywine:type=MessageStatistics,name=" + name);
+      ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+    } catch (JMException cause) {
+      logger.warn("Unable to register " + name + " message statistics with JMX.", cause);
+    }
+  }
+
+  @Override
+  public List<MessageMetric> getDecoded() {
+    return toList(decoded);
+  }
+
+  @Override
+  public List<MessageMetric> getEncoded() {
+    return toList(encoded);
+  }
+
+  @Override
+  public List<MessageMetric> getHandled() {
+    return new ArrayList<>(handled.values());
+  }
+
+  @Override
+  public long getSlowHandled() {
+    return slowHandled.sum();
+  }
+
+  @Override
+  public void reset() {
+    getDecoded().forEach(MessageMetric::reset);
+    getEncoded().forEach(MessageMetric::reset);
+    handled.values().forEach(MessageMetric::reset);
+    slowHandled.reset();
+  }
+
+  /**
+   * Lists the present metrics, ordered by opcode.
+   *
+   * @param metrics The metrics, indexed by opcode.
+   * @return The present metrics.
+   */
+  private static List<MessageMetric> toList(AtomicReferenceArray<MessageMetric> metrics) {
+    List<MessageMetric> present = new ArrayList<>();
+    for (int opcode = 0; opcode < OPCODES; opcode++) {
+      MessageMetric metric = metrics.get(opcode);
+      if (metric != null) {
+        present.add(metric);
+      }
+    }
+    return present;
+  }
+
+}
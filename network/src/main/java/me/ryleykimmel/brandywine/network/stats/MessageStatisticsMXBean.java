@@ -0,0 +1,43 @@
+package me.ryleykimmel.brandywine.network.stats;
+
+import java.util.List;
+
+/**
+ * The JMX view of {@link MessageStatistics}.
+ */
+public interface MessageStatisticsMXBean {
+
+  /**
+   * Gets the metric of every opcode which has been decoded.
+   *
+   * @return The decode metrics, ordered by opcode.
+   */
+  List<MessageMetric> getDecoded();
+
+  /**
+   * Gets the metric of every opcode which has been encoded.
+   *
+   * @return The encode metrics, ordered by opcode.
+   */
+  List<MessageMetric> getEncoded();
+
+  /**
+   * Gets the metric of every Message type which has been handled.
+   *
+   * @return The handle metrics, in no particular order.
+   */
+  List<MessageMetric> getHandled();
+
+  /**
+   * Gets the amount of Messages whose handling took longer than the slow handler threshold.
+   *
+   * @return The amount of slow handled Messages.
+   */
+  long getSlowHandled();
+
+  /**
+   * Resets every metric.
+   */
+  void reset();
+
+}
@@ -0,0 +1,170 @@
+package me.ryleykimmel.brandywine.network;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import me.ryleykimmel.brandywine.network.message.Message;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Tests the {@link MessageQueue} class.
+ */
+@RunWith(JUnit4.class)
+public final class MessageQueueTests {
+
+  /**
+   * The opcode of the Messages offered by each test.
+   */
+  private static final int OPCODE = 4;
+
+  /**
+   * Tests that Messages are polled in the order they were offered, and that Messages beyond the
+   * capacity are dropped.
+   */
+  @Test
+  public void boundedFifo() {
+    MessageQueue queue = new MessageQueue(4);
+    List<Message> offered = new ArrayList<>();
+
+    for (int index = 0; index < 6; index++) {
+      Message message = new TestMessage(index);
+      if (queue.offer(message, OPCODE, Integer.MAX_VALUE)) {
+        offered.add(message);
+      }
+    }
+
+    assertThat(offered).hasSize(4);
+    assertThat(queue.size()).isEqualTo(4);
+    assertThat(queue.getDroppedMessages()).isEqualTo(2L);
+    assertThat(queue.getPeakSize()).isEqualTo(4);
+
+    for (Message message : offered) {
+      assertThat(queue.poll()).isSameAs(message);
+    }
+    assertThat(queue.poll()).isNull();
+    assertThat(queue.size(OPCODE)).isEqualTo(0);
+  }
+
+  /**
+   * Tests that Messages beyond the limit of their opcode are dropped while other opcodes are still
+   * queued, and that polling frees the opcode.
+   */
+  @Test
+  public void opcodeLimit() {
+    MessageQueue queue = new MessageQueue(8);
+
+    assertThat(queue.offer(new TestMessage(0), OPCODE, 2)).isTrue();
+    assertThat(queue.offer(new TestMessage(1), OPCODE, 2)).isTrue();
+    assertThat(queue.offer(new TestMessage(2), OPCODE, 2)).isFalse();
+    assertThat(queue.offer(new TestMessage(3), OPCODE + 1, 2)).isTrue();
+    assertThat(queue.size(OPCODE)).isEqualTo(2);
+
+    queue.poll();
+    assertThat(queue.offer(new TestMessage(4), OPCODE, 2)).isTrue();
+    assertThat(queue.getDroppedMessages()).isEqualTo(1L);
+  }
+
+  /**
+   * Tests that a Message offered latest wins replaces the queued one, which is polled in the place
+   * of the first, while other Messages keep their order.
+   */
+  @Test
+  public void latestWins() {
+    MessageQueue queue = new MessageQueue(8);
+    Message first = new TestMessage(0);
+    Message last = new TestMessage(3);
+    Message other = new TestMessage(4);
+
+    assertThat(queue.offerLatest(first, OPCODE)).isTrue();
+    assertThat(queue.offer(other, OPCODE + 1, Integer.MAX_VALUE)).isTrue();
+    assertThat(queue.offerLatest(new TestMessage(2), OPCODE)).isTrue();
+    assertThat(queue.offerLatest(last, OPCODE)).isTrue();
+    assertThat(queue.size(OPCODE)).isEqualTo(1);
+
+    assertThat(queue.poll()).isSameAs(last);
+    assertThat(queue.poll()).isSameAs(other);
+    assertThat(queue.poll()).isNull();
+
+    assertThat(queue.offerLatest(first, OPCODE)).isTrue();
+    assertThat(queue.poll()).isSameAs(first);
+    assertThat(queue.getDroppedMessages()).isEqualTo(0L);
+  }
+
+  /**
+   * Tests that every Message offered by several concurrent producers is polled exactly once.
+   *
+   * @throws InterruptedException If interrupted while waiting for the producers.
+   */
+  @Test
+  public void concurrentProducers() throws InterruptedException {
+    int producers = 4;
+    int perProducer = 20_000;
+    MessageQueue queue = new MessageQueue(64);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Thread> threads = new ArrayList<>();
+
+    for (int producer = 0; producer < producers; producer++) {
+      int first = producer * perProducer;
+      Thread thread = new Thread(() -> {
+        try {
+          start.await();
+        } catch (InterruptedException cause) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+
+        for (int index = first; index < first + perProducer; index++) {
+          TestMessage message = new TestMessage(index);
+          while (!queue.offer(message, OPCODE, Integer.MAX_VALUE)) {
+            Thread.yield();
+          }
+        }
+      });
+      thread.start();
+      threads.add(thread);
+    }
+
+    Set<Integer> received = new HashSet<>();
+    start.countDown();
+    while (received.size() < producers * perProducer) {
+      Message message = queue.poll();
+      if (message != null) {
+        assertThat(received.add(((TestMessage) message).id)).isTrue();
+      }
+    }
+
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertThat(queue.poll()).isNull();
+    assertThat(queue.size(OPCODE)).isEqualTo(0);
+  }
+
+  /**
+   * A Message which only carries an identifier.
+   */
+  private static final class TestMessage extends Message {
+
+    /**
+     * The identifier of this Message.
+     */
+    private final int id;
+
+    /**
+     * Constructs a new {@link TestMessage}.
+     *
+     * @param id The identifier of this Message.
+     */
+    TestMessage(int id) {
+      this.id = id;
+    }
+
+  }
+
+}
@@ -0,0 +1,207 @@
+package me.ryleykimmel.brandywine.network.frame;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import java.util.Random;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Tests the {@link FrameBuilder} class.
+ */
+@RunWith(JUnit4.class)
+public final class FrameBuilderTests {
+
+  /**
+   * The expected exception rule.
+   */
+  @Rule
+  public final ExpectedException thrown = ExpectedException.none();
+
+  /**
+   * Tests that {@link FrameBuilder#putBits(int, int)} produces the same bytes as the original
+   * read-modify-write bit encoder, for every amount of bits.
+   */
+  @Test
+  public void putBitsEveryAmount() {
+    int[] amounts = new int[32 * 3];
+    int[] values = new int[amounts.length];
+    for (int index = 0; index < amounts.length; index++) {
+      amounts[index] = index % 32 + 1;
+      values[index] = -1 - index;
+    }
+
+    assertThat(putBits(amounts, values)).isEqualTo(referencePutBits(amounts, values));
+  }
+
+  /**
+   * Tests that {@link FrameBuilder#putBits(int, int)} produces the same bytes as the original
+   * read-modify-write bit encoder, for a player update shaped workload.
+   */
+  @Test
+  public void putBitsUpdateWorkload() {
+    Random random = new Random(2048);
+    int[] shape = {1, 2, 3, 1, 11, 1, 1, 5, 5, 8, 7, 7};
+
+    int[] amounts = new int[4096];
+    int[] values = new int[amounts.length];
+    for (int index = 0; index < amounts.length; index++) {
+      amounts[index] = shape[index % shape.length];
+      values[index] = random.nextInt();
+    }
+
+    assertThat(putBits(amounts, values)).isEqualTo(referencePutBits(amounts, values));
+  }
+
+  /**
+   * Tests that leaving bit access with no bits written writes nothing.
+   */
+  @Test
+  public void putNoBits() {
+    FrameBuilder builder = new FrameBuilder(UnpooledByteBufAllocator.DEFAULT);
+    try {
+      builder.switchToBitAccess();
+      builder.switchToByteAccess();
+      assertThat(builder.getLength()).isEqualTo(0);
+    } finally {
+      builder.release();
+    }
+  }
+
+  /**
+   * Tests that the primitive put methods produce the same bytes as their generic counterparts.
+   */
+  @Test
+  public void primitivePutsMatchGeneric() {
+    int[] values = {0, 1, -1, 127, 128, 255, 0x1234, 0xFFFF, 0x12345678, Integer.MIN_VALUE};
+
+    for (int value : values) {
+      FrameBuilder primitive = new FrameBuilder(UnpooledByteBufAllocator.DEFAULT);
+      FrameBuilder generic = new FrameBuilder(UnpooledByteBufAllocator.DEFAULT);
+      try {
+        primitive.putByte(value);
+        primitive.putByteAdd(value);
+        primitive.putByteNegate(value);
+        primitive.putByteSubtract(value);
+        primitive.putShort(value);
+        primitive.putShortAdd(value);
+        primitive.putShortLE(value);
+        primitive.putShortLEAdd(value);
+        primitive.putInt(value);
+        primitive.putIntLE(value);
+        primitive.putIntMiddle(value);
+        primitive.putIntInversedMiddle(value);
+        primitive.putLong(value * 31L);
+
+        generic.put(DataType.BYTE, value);
+        generic.put(DataType.BYTE, DataTransformation.ADD, value);
+        generic.put(DataType.BYTE, DataTransformation.NEGATE, value);
+        generic.put(DataType.BYTE, DataTransformation.SUBTRACT, value);
+        generic.put(DataType.SHORT, value);
+        generic.put(DataType.SHORT, DataTransformation.ADD, value);
+        generic.put(DataType.SHORT, DataOrder.LITTLE, value);
+        generic.put(DataType.SHORT, DataOrder.LITTLE, DataTransformation.ADD, value);
+        generic.put(DataType.INT, value);
+        generic.put(DataType.INT, DataOrder.LITTLE, value);
+        generic.put(DataType.INT, DataOrder.MIDDLE, value);
+        generic.put(DataType.INT, DataOrder.INVERSED_MIDDLE, value);
+        generic.put(DataType.LONG, value * 31L);
+
+        assertThat(ByteBufUtil.getBytes(primitive.getBuffer()))
+            .isEqualTo(ByteBufUtil.getBytes(generic.getBuffer()));
+      } finally {
+        primitive.release();
+        generic.release();
+      }
+    }
+  }
+
+  /**
+   * Tests failure of {@link FrameBuilder#putBits(int, int)} outside of bit access.
+   */
+  @Test
+  public void failPutBitsByteAccess() {
+    FrameBuilder builder = new FrameBuilder(UnpooledByteBufAllocator.DEFAULT);
+    try {
+      thrown.expect(IllegalArgumentException.class);
+      builder.putBits(1, 1);
+    } finally {
+      builder.release();
+    }
+  }
+
+  /**
+   * Puts the specified bits using a {@link FrameBuilder}.
+   *
+   * @param amounts The amount of bits of each value.
+   * @param values The values.
+   * @return The encoded bytes.
+   */
+  private static byte[] putBits(int[] amounts, int[] values) {
+    FrameBuilder builder = new FrameBuilder(UnpooledByteBufAllocator.DEFAULT);
+    try {
+      builder.switchToBitAccess();
+      for (int index = 0; index < amounts.length; index++) {
+        builder.putBits(amounts[index], values[index]);
+      }
+      builder.switchToByteAccess();
+      return ByteBufUtil.getBytes(builder.getBuffer());
+    } finally {
+      builder.release();
+    }
+  }
+
+  /**
+   * Puts the specified bits using the original read-modify-write bit encoder, into a zeroed buffer.
+   *
+   * @param amounts The amount of bits of each value.
+   * @param values The values.
+   * @return The encoded bytes.
+   */
+  private static byte[] referencePutBits(int[] amounts, int[] values) {
+    ByteBuf buffer = Unpooled.buffer();
+    int bitIndex = 0;
+
+    for (int index = 0; index < amounts.length; index++) {
+      int amount = amounts[index];
+      int value = values[index];
+
+      int bytePos = bitIndex >> 3;
+      int bitOffset = 8 - (bitIndex & 7);
+      bitIndex += amount;
+
+      buffer.ensureWritable(bytePos - buffer.writerIndex() + 1 + (amount + 7) / 8);
+
+      for (; amount > bitOffset; bitOffset = 8) {
+        int tmp = buffer.getByte(bytePos);
+        tmp &= ~FrameBuffer.BIT_MASKS[bitOffset];
+        tmp |= (value >> (amount - bitOffset)) & FrameBuffer.BIT_MASKS[bitOffset];
+        buffer.setByte(bytePos++, tmp);
+        amount -= bitOffset;
+      }
+
+      int tmp = buffer.getByte(bytePos);
+      if (amount == bitOffset) {
+        tmp &= ~FrameBuffer.BIT_MASKS[bitOffset];
+        tmp |= value & FrameBuffer.BIT_MASKS[bitOffset];
+      } else {
+        tmp &= ~(FrameBuffer.BIT_MASKS[amount] << (bitOffset - amount));
+        tmp |= (value & FrameBuffer.BIT_MASKS[amount]) << (bitOffset - amount);
+      }
+      buffer.setByte(bytePos, tmp);
+    }
+
+    buffer.writerIndex((bitIndex + 7) >> 3);
+    byte[] bytes = ByteBufUtil.getBytes(buffer);
+    buffer.release();
+    return bytes;
+  }
+
+}
@@ -0,0 +1,96 @@
+package me.ryleykimmel.brandywine.network.frame;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import io.netty.buffer.Unpooled;
+import java.util.ArrayList;
+import java.util.List;
+import me.ryleykimmel.brandywine.network.message.Message;
+import me.ryleykimmel.brandywine.network.message.MessageCodec;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Tests the dispatch of the {@link FrameMetadataSet} class.
+ */
+@RunWith(JUnit4.class)
+public final class FrameMetadataSetTests {
+
+  /**
+   * Tests that a Message type registered under several opcodes is decoded by the mapping of each
+   * opcode, and encoded and handled by the mapping registered last.
+   */
+  @Test
+  public void multipleOpcodes() {
+    List<Integer> handled = new ArrayList<>();
+    OpcodeMessageCodec codec = new OpcodeMessageCodec();
+
+    FrameMetadataSet metadata = new FrameMetadataSet();
+    metadata.register(OpcodeMessage.class, codec, (session, message) -> handled.add(1), 164, 1);
+    metadata.register(OpcodeMessage.class, codec, (session, message) -> handled.add(2), 98, 1);
+
+    for (int opcode : new int[] {164, 98}) {
+      Frame frame = new Frame(metadata.getMetadata(opcode), Unpooled.buffer().writeByte(0));
+      OpcodeMessage message = metadata.decode(frame);
+      frame.release();
+
+      assertThat(message.opcode).isEqualTo(opcode);
+      metadata.handle(message, null);
+    }
+
+    assertThat(handled).containsExactly(2, 2).inOrder();
+    assertThat(metadata.getMetadata(OpcodeMessage.class).getOpcode()).isEqualTo(98);
+    assertThat(metadata.hasMapping(97)).isFalse();
+    assertThat(metadata.hasMapping(256)).isFalse();
+  }
+
+  /**
+   * Tests that registering a Message type after it has been looked up replaces the cached mapping.
+   */
+  @Test
+  public void registerAfterLookup() {
+    FrameMetadataSet metadata = new FrameMetadataSet();
+    assertThat(metadata.hasMapping(OpcodeMessage.class)).isFalse();
+
+    metadata.register(OpcodeMessage.class, new OpcodeMessageCodec(), 4, 1);
+    assertThat(metadata.hasMapping(OpcodeMessage.class)).isTrue();
+
+    metadata.register(OpcodeMessage.class, new OpcodeMessageCodec(), 5, 1);
+    assertThat(metadata.getMetadata(OpcodeMessage.class).getOpcode()).isEqualTo(5);
+  }
+
+  /**
+   * A Message which records the opcode it was decoded from.
+   */
+  private static final class OpcodeMessage extends Message {
+
+    /**
+     * The opcode this Message was decoded from.
+     */
+    private final int opcode;
+
+    /**
+     * Constructs a new {@link OpcodeMessage}.
+     *
+     * @param opcode The opcode this Message was decoded from.
+     */
+    OpcodeMessage(int opcode) {
+      this.opcode = opcode;
+    }
+
+  }
+
+  /**
+   * A MessageCodec which decodes an {@link OpcodeMessage}.
+   */
+  private static final class OpcodeMessageCodec extends MessageCodec<OpcodeMessage> {
+
+    @Override
+    public OpcodeMessage decode(FrameReader reader) {
+      return new OpcodeMessage(reader.getOpcode());
+    }
+
+  }
+
+}
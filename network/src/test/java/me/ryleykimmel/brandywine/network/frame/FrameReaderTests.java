@@ -0,0 +1,88 @@
+package me.ryleykimmel.brandywine.network.frame;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Tests the {@link FrameReader} class.
+ */
+@RunWith(JUnit4.class)
+public final class FrameReaderTests {
+
+  /**
+   * Tests that the primitive get methods read the same values as their generic counterparts.
+   */
+  @Test
+  public void primitiveGetsMatchGeneric() {
+    byte[] bytes = new byte[256];
+    for (int index = 0; index < bytes.length; index++) {
+      bytes[index] = (byte) (index * 37 + 11);
+    }
+
+    FrameReader primitive = reader(bytes);
+    FrameReader generic = reader(bytes);
+    try {
+      while (primitive.readableBytes() >= 28) {
+        assertThat((long) primitive.getSignedByte()).isEqualTo(generic.getSigned(DataType.BYTE));
+        assertThat((long) primitive.getUnsignedByte())
+            .isEqualTo(generic.getUnsigned(DataType.BYTE));
+        assertThat((long) primitive.getUnsignedByteAdd())
+            .isEqualTo(generic.getUnsigned(DataType.BYTE, DataTransformation.ADD));
+        assertThat((long) primitive.getUnsignedByteNegate())
+            .isEqualTo(generic.getUnsigned(DataType.BYTE, DataTransformation.NEGATE));
+        assertThat((long) primitive.getUnsignedByteSubtract())
+            .isEqualTo(generic.getUnsigned(DataType.BYTE, DataTransformation.SUBTRACT));
+        assertThat((long) primitive.getSignedShort()).isEqualTo(generic.getSigned(DataType.SHORT));
+        assertThat((long) primitive.getUnsignedShort())
+            .isEqualTo(generic.getUnsigned(DataType.SHORT));
+        assertThat((long) primitive.getUnsignedShortAdd())
+            .isEqualTo(generic.getUnsigned(DataType.SHORT, DataTransformation.ADD));
+        assertThat((long) primitive.getUnsignedShortLE())
+            .isEqualTo(generic.getUnsigned(DataType.SHORT, DataOrder.LITTLE));
+        assertThat((long) primitive.getUnsignedShortLEAdd()).isEqualTo(
+            generic.getUnsigned(DataType.SHORT, DataOrder.LITTLE, DataTransformation.ADD));
+        assertThat((long) primitive.getInt()).isEqualTo(generic.getSigned(DataType.INT));
+        assertThat((long) primitive.getIntLE())
+            .isEqualTo(generic.getSigned(DataType.INT, DataOrder.LITTLE));
+        assertThat(primitive.getLong()).isEqualTo(generic.getSigned(DataType.LONG));
+      }
+    } finally {
+      primitive.release();
+      generic.release();
+    }
+  }
+
+  /**
+   * Tests that {@link FrameReader#getSigned(DataType)} sign extends negative values of every
+   * width.
+   */
+  @Test
+  public void getSignedNegative() {
+    FrameReader reader = reader(new byte[] {-1, -2, -1, -1, -1, -1, -3, -128});
+    try {
+      assertThat(reader.getSigned(DataType.BYTE)).isEqualTo(-1L);
+      assertThat(reader.getSigned(DataType.SHORT)).isEqualTo(-257L);
+      assertThat(reader.getSigned(DataType.INT)).isEqualTo(-3L);
+      assertThat(reader.getSigned(DataType.BYTE)).isEqualTo(-128L);
+    } finally {
+      reader.release();
+    }
+  }
+
+  /**
+   * Creates a FrameReader over a copy of the specified bytes.
+   *
+   * @param bytes The bytes to read.
+   * @return The FrameReader.
+   */
+  private static FrameReader reader(byte[] bytes) {
+    ByteBuf payload = Unpooled.copiedBuffer(bytes);
+    return new FrameReader(new Frame(null, payload));
+  }
+
+}
@@ -0,0 +1,170 @@
+package me.ryleykimmel.brandywine.network.frame.codec;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.Mockito.mock;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.channel.socket.SocketChannel;
+import me.ryleykimmel.brandywine.network.Session;
+import me.ryleykimmel.brandywine.network.frame.Frame;
+import me.ryleykimmel.brandywine.network.frame.FrameMetadata;
+import me.ryleykimmel.brandywine.network.frame.FrameMetadataSet;
+import me.ryleykimmel.brandywine.network.isaac.IsaacCipher;
+import me.ryleykimmel.brandywine.network.isaac.IsaacCipherPair;
+import me.ryleykimmel.brandywine.network.message.Message;
+import me.ryleykimmel.brandywine.network.message.MessageCodec;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Tests the encoding and decoding of the {@link CipheredFrameCodec} class.
+ */
+@RunWith(JUnit4.class)
+public final class CipheredFrameCodecTests {
+
+  /**
+   * The seed of the cipher pair.
+   */
+  private static final int[] SEED = {1, 2, 3, 4};
+
+  /**
+   * The opcode of the fixed length test Frame.
+   */
+  private static final int FIXED_OPCODE = 10;
+
+  /**
+   * The opcode of the variable byte length test Frame.
+   */
+  private static final int VARIABLE_OPCODE = 20;
+
+  /**
+   * The maximum length of the variable byte length test Frame.
+   */
+  private static final int VARIABLE_MAXIMUM_LENGTH = 8;
+
+  /**
+   * The Session being decoded for.
+   */
+  private Session session;
+
+  /**
+   * The Channel containing the codec under test.
+   */
+  private EmbeddedChannel channel;
+
+  /**
+   * The cipher the remote end encodes opcodes with.
+   */
+  private IsaacCipher remoteCipher;
+
+  /**
+   * Creates the codec under test.
+   */
+  @Before
+  public void setup() {
+    FrameMetadataSet metadataSet = new FrameMetadataSet();
+    metadataSet.register(FixedMessage.class, new MessageCodec<FixedMessage>() {
+    }, FIXED_OPCODE, 3);
+    metadataSet.register(VariableMessage.class, new MessageCodec<VariableMessage>() {
+    }, null, VARIABLE_OPCODE, FrameMetadata.VARIABLE_BYTE_LENGTH, VARIABLE_MAXIMUM_LENGTH);
+
+    session = new Session(mock(SocketChannel.class), metadataSet, metadataSet);
+    channel = new EmbeddedChannel(new CipheredFrameCodec(session, IsaacCipherPair.fromSeed(SEED)));
+    remoteCipher = IsaacCipherPair.fromSeed(SEED).getDecodingCipher();
+  }
+
+  /**
+   * Tests that Frames split across many reads are accumulated rather than rejected.
+   */
+  @Test
+  public void decodeFragmented() {
+    ByteBuf bytes = Unpooled.buffer();
+    bytes.writeByte(FIXED_OPCODE + remoteCipher.nextInt()).writeBytes(new byte[] {1, 2, 3});
+    bytes.writeByte(VARIABLE_OPCODE + remoteCipher.nextInt()).writeByte(2)
+        .writeBytes(new byte[] {4, 5});
+
+    while (bytes.isReadable()) {
+      channel.writeInbound(bytes.readRetainedSlice(1));
+    }
+    bytes.release();
+
+    Frame fixed = channel.readInbound();
+    Frame variable = channel.readInbound();
+    assertThat(session.isClosed()).isFalse();
+    assertThat(ByteBufUtil.getBytes(fixed.content())).isEqualTo(new byte[] {1, 2, 3});
+    assertThat(ByteBufUtil.getBytes(variable.content())).isEqualTo(new byte[] {4, 5});
+    fixed.release();
+    variable.release();
+  }
+
+  /**
+   * Tests that a variable length Frame longer than its maximum closes the Session before its
+   * payload is buffered.
+   */
+  @Test
+  public void rejectOversize() {
+    ByteBuf bytes = Unpooled.buffer();
+    bytes.writeByte(VARIABLE_OPCODE + remoteCipher.nextInt())
+        .writeByte(VARIABLE_MAXIMUM_LENGTH + 1);
+
+    channel.writeInbound(bytes);
+
+    assertThat(session.isClosed()).isTrue();
+    assertThat(channel.<Object>readInbound()).isNull();
+  }
+
+  /**
+   * Tests that a Message which fails to encode in the middle of a flush fails only its own promise,
+   * and that the Frames around it are written ciphered with consecutive keys.
+   */
+  @Test
+  public void flushSkipsUnencodable() {
+    FrameMetadata metadata = session.getFrameMetadataSet().getMetadata(VARIABLE_OPCODE);
+    IsaacCipher clientCipher = IsaacCipherPair.fromSeed(SEED).getEncodingCipher();
+
+    ChannelPromise first = channel.newPromise();
+    ChannelPromise unencodable = channel.newPromise();
+    ChannelPromise last = channel.newPromise();
+    channel.write(new Frame(metadata, Unpooled.wrappedBuffer(new byte[] {1})), first);
+    channel.write(new FixedMessage(), unencodable);
+    channel.write(new Frame(metadata, Unpooled.wrappedBuffer(new byte[] {2, 3})), last);
+    channel.flush();
+
+    assertThat(first.isSuccess()).isTrue();
+    assertThat(last.isSuccess()).isTrue();
+    assertThat(unencodable.cause()).isInstanceOf(IllegalStateException.class);
+    assertThat(channel.isOpen()).isTrue();
+
+    ByteBuf bytes = channel.readOutbound();
+    assertThat(bytes.readUnsignedByte() - clientCipher.nextInt() & 0xFF)
+        .isEqualTo(VARIABLE_OPCODE);
+    assertThat(bytes.readUnsignedByte()).isEqualTo(1);
+    assertThat(bytes.readByte()).isEqualTo((byte) 1);
+    assertThat(bytes.readUnsignedByte() - clientCipher.nextInt() & 0xFF)
+        .isEqualTo(VARIABLE_OPCODE);
+    assertThat(bytes.readUnsignedByte()).isEqualTo(2);
+    assertThat(ByteBufUtil.getBytes(bytes)).isEqualTo(new byte[] {2, 3});
+    bytes.release();
+  }
+
+  /**
+   * A fixed length test Message.
+   */
+  private static final class FixedMessage extends Message {
+
+  }
+
+  /**
+   * A variable length test Message.
+   */
+  private static final class VariableMessage extends Message {
+
+  }
+
+}
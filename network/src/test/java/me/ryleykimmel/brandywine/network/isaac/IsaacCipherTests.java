@@ -0,0 +1,81 @@
+package me.ryleykimmel.brandywine.network.isaac;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Tests the {@link IsaacCipher} class against the reference {@link IsaacRandom}.
+ */
+@RunWith(JUnit4.class)
+public final class IsaacCipherTests {
+
+  /**
+   * The seed used by each test.
+   */
+  private static final int[] SEED = {0x12345678, -559038737, 0, 42};
+
+  /**
+   * The amount of keys compared by each test, spanning several rounds of results.
+   */
+  private static final int KEYS = IsaacCipher.SIZE * 5 + 17;
+
+  /**
+   * Tests that {@link IsaacCipher#nextInt()} produces the same keystream as the reference.
+   */
+  @Test
+  public void nextIntMatchesReference() {
+    IsaacRandom reference = new IsaacRandom(SEED.clone());
+    IsaacCipher cipher = new IsaacCipher(SEED.clone());
+
+    for (int index = 0; index < KEYS; index++) {
+      assertThat(cipher.nextInt()).isEqualTo(reference.nextInt());
+    }
+  }
+
+  /**
+   * Tests that {@link IsaacCipher#fill(int[], int, int)} produces the same keystream as the
+   * reference, for batches which straddle rounds and interleave with single keys.
+   */
+  @Test
+  public void fillMatchesReference() {
+    IsaacRandom reference = new IsaacRandom(SEED.clone());
+    IsaacCipher cipher = new IsaacCipher(SEED.clone());
+
+    int[] keys = new int[KEYS];
+    int offset = 0;
+    for (int batch = 1; offset < KEYS; batch = batch * 3 + 1) {
+      int length = Math.min(batch, KEYS - offset);
+      cipher.fill(keys, offset, length);
+      offset += length;
+
+      if (offset < KEYS) {
+        keys[offset++] = cipher.nextInt();
+      }
+    }
+
+    for (int key : keys) {
+      assertThat(key).isEqualTo(reference.nextInt());
+    }
+  }
+
+  /**
+   * Tests that {@link IsaacCipher#nextBytes(byte[])} produces the low-order byte of each key of the
+   * reference keystream.
+   */
+  @Test
+  public void nextBytesMatchesReference() {
+    IsaacRandom reference = new IsaacRandom(SEED.clone());
+    IsaacCipher cipher = new IsaacCipher(SEED.clone());
+
+    byte[] bytes = new byte[KEYS];
+    cipher.nextBytes(bytes);
+
+    for (byte key : bytes) {
+      assertThat(key).isEqualTo((byte) reference.nextInt());
+    }
+  }
+
+}
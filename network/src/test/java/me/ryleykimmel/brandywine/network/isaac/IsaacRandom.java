@@ -18,6 +18,10 @@ import java.util.Random;
  * <p>
  * This class has been changed to be more conformant to Java and javadoc conventions.
  * </p>
+ * <p>
+ * This is the original {@link Random} based implementation, kept as a reference to verify {@link
+ * IsaacCipher} against.
+ * </p>
  *
  * @author Bob Jenkins
  */
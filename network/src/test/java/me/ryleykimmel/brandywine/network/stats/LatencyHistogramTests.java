@@ -0,0 +1,48 @@
+package me.ryleykimmel.brandywine.network.stats;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.collect.Range;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Tests the {@link LatencyHistogram} class.
+ */
+@RunWith(JUnit4.class)
+public final class LatencyHistogramTests {
+
+  /**
+   * Tests that percentiles are reported within a factor of two of the recorded latencies.
+   */
+  @Test
+  public void percentiles() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (int latency = 1; latency <= 1_000; latency++) {
+      histogram.record(latency);
+    }
+
+    assertThat(histogram.getCount()).isEqualTo(1_000L);
+    assertThat(histogram.getMean()).isEqualTo(500L);
+    assertThat(histogram.getMax()).isEqualTo(1_000L);
+    assertThat(histogram.getPercentile(0.5)).isIn(Range.closed(500L, 1_000L));
+    assertThat(histogram.getPercentile(0.99)).isEqualTo(1_000L);
+    assertThat(histogram.getPercentile(0.0)).isEqualTo(1L);
+  }
+
+  /**
+   * Tests that resetting discards every recorded latency.
+   */
+  @Test
+  public void reset() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(42);
+    histogram.reset();
+
+    assertThat(histogram.getCount()).isEqualTo(0L);
+    assertThat(histogram.getMax()).isEqualTo(0L);
+    assertThat(histogram.getPercentile(0.99)).isEqualTo(0L);
+  }
+
+}